@@ -0,0 +1,95 @@
+package com.momentum.releaser.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.momentum.releaser.domain.issue.application.IssueBoardColumns;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueInfoResponseDTO;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
+import com.momentum.releaser.redis.issue.IssueStatus;
+
+/**
+ * 7.4 프로젝트별 모든 이슈 조회에서 이슈 보드를 상태별로 나누고 정렬하는 시간을 비교하는 벤치마크
+ * 이전 방식은 상태마다 전체 이슈를 거르고, 비교할 때마다 순서 목록(IssueStatus)을 처음부터 훑었다.
+ * 이전 방식이 이슈마다 실행하던 조회는 데이터베이스가 필요하므로 여기서는 분류와 정렬 비용만 비교한다.
+ * ./gradlew jmh 로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IssueBoardBenchmark {
+
+    @Param({"2000"})
+    private int issueCount;
+
+    private List<IssueInfoResponseDTO> issues;
+    private Map<LifeCycle, List<Long>> board;
+    private List<IssueStatus> issueStatusList;
+
+    @Setup
+    public void setUp() {
+        LifeCycle[] lifeCycles = LifeCycle.values();
+
+        issues = new ArrayList<>(issueCount);
+        board = new EnumMap<>(LifeCycle.class);
+        for (LifeCycle lifeCycle : lifeCycles) {
+            board.put(lifeCycle, new ArrayList<>());
+        }
+
+        // 이슈 상태를 번갈아 가며 생성하고, 보드 순서는 이슈 식별 번호의 역순으로 둔다.
+        for (long issueId = 1; issueId <= issueCount; issueId++) {
+            LifeCycle lifeCycle = lifeCycles[(int) (issueId % lifeCycles.length)];
+            issues.add(new IssueInfoResponseDTO(
+                    issueId, issueId, "issueTitle", "issueContent", null, issueId, "memberName", null, "FIXED", null,
+                    'N', lifeCycle.toString(), 'Y', ReleaseDeployStatus.PLANNING
+            ));
+            board.get(lifeCycle).add(0, issueId);
+        }
+
+        // 이전 방식의 순서 목록 (OrderIssue 에 저장되던 형태)
+        issueStatusList = new ArrayList<>(issueCount);
+        board.forEach((lifeCycle, issueIds) -> {
+            for (int i = 0; i < issueIds.size(); i++) {
+                issueStatusList.add(new IssueStatus(issueIds.get(i), lifeCycle.toString(), i));
+            }
+        });
+    }
+
+    @Benchmark
+    public Map<LifeCycle, List<IssueInfoResponseDTO>> boardColumnsLinearScan() {
+        Map<LifeCycle, List<IssueInfoResponseDTO>> columns = new EnumMap<>(LifeCycle.class);
+        for (LifeCycle lifeCycle : LifeCycle.values()) {
+            columns.put(lifeCycle, issues.stream()
+                    .filter(issue -> lifeCycle.toString().equalsIgnoreCase(issue.getLifeCycle()))
+                    .sorted(Comparator.comparingInt(issue -> {
+                        IssueStatus status = issueStatusList.stream()
+                                .filter(result -> result.getIssueId().equals(issue.getIssueId()))
+                                .findFirst()
+                                .orElse(null);
+                        return status != null ? status.getIndex() : Integer.MAX_VALUE;
+                    }))
+                    .collect(Collectors.toList()));
+        }
+        return columns;
+    }
+
+    @Benchmark
+    public Map<LifeCycle, List<IssueInfoResponseDTO>> boardColumnsIndexed() {
+        return IssueBoardColumns.group(issues, board);
+    }
+}
@@ -0,0 +1,85 @@
+package com.momentum.releaser.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.redis.issue.IssueRankRedisRepository;
+
+/**
+ * 여러 사용자가 같은 보드의 이슈를 동시에 옮길 때 IssueRankRedisRepository.move 의 처리량을 측정하는 벤치마크
+ * 실제 Redis가 필요하므로 ./gradlew jmh -PredisBenchmark 로 실행한다. (REDIS_HOST, REDIS_PORT로 접속 정보 변경)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class IssueRankBenchmark {
+
+    private static final Long PROJECT_ID = -1L;
+    private static final int ISSUE_COUNT = 30;
+    private static final LifeCycle[] LIFE_CYCLES = LifeCycle.values();
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private IssueRankRedisRepository issueRankRedisRepository;
+
+    @Setup
+    public void setUp() {
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        issueRankRedisRepository = new IssueRankRedisRepository(redisTemplate);
+
+        // 모든 이슈를 시작 전 상태에 둔다.
+        deleteBoard();
+        List<Long> issueIds = LongStream.rangeClosed(1, ISSUE_COUNT).boxed().collect(Collectors.toList());
+        issueRankRedisRepository.saveAll(PROJECT_ID, "NOT_STARTED", issueIds);
+    }
+
+    @TearDown
+    public void tearDown() {
+        deleteBoard();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public Long concurrentMove() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return issueRankRedisRepository.move(PROJECT_ID,
+                LIFE_CYCLES[random.nextInt(LIFE_CYCLES.length)].toString(),
+                (long) random.nextInt(1, ISSUE_COUNT + 1),
+                random.nextInt(ISSUE_COUNT));
+    }
+
+    private void deleteBoard() {
+        Set<String> keys = new HashSet<>();
+        for (LifeCycle lifeCycle : LIFE_CYCLES) {
+            keys.add("issue-rank:" + PROJECT_ID + ":" + lifeCycle);
+        }
+        keys.add("issue-rank:" + PROJECT_ID + ":revision");
+        keys.add("issue-rank:" + PROJECT_ID + ":changes");
+        redisTemplate.delete(keys);
+    }
+}
@@ -0,0 +1,90 @@
+package com.momentum.releaser.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetProjectDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetUserProjectDataDTO;
+import com.momentum.releaser.domain.project.mapper.ProjectMapper;
+import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.domain.user.dto.AuthRequestDto.UserInfoReqestDTO;
+import com.momentum.releaser.domain.user.dto.AuthResponseDto.UserInfoResponseDTO;
+import com.momentum.releaser.domain.user.mapper.UserMapper;
+
+/**
+ * ModelMapper 에서 MapStruct 로 옮긴 매핑의 연산당 시간과 할당량을 비교하는 벤치마크
+ * ModelMapper 는 제거하기 전 SpringConfig 에 등록했던 설정(private 필드 접근, 필드 이름 매칭)을 그대로 사용한다.
+ * ./gradlew jmh 로 실행하며, gc 프로파일러의 gc.alloc.rate.norm 값이 연산당 할당량(바이트)이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    private ModelMapper modelMapper;
+
+    private UserInfoReqestDTO signUpRequest;
+    private User user;
+    private GetUserProjectDataDTO userProject;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
+                .setFieldMatchingEnabled(true);
+
+        signUpRequest = new UserInfoReqestDTO("testUser", "testUser@releaser.com", "password1!");
+        user = new User("testUser", "testUser@releaser.com", null, 'Y');
+        userProject = new GetUserProjectDataDTO(1L, "project Title", "project Content", "project Team", "https://img", 'L');
+
+        // 첫 호출에서 만들어지는 TypeMap 생성 비용은 측정에서 제외한다.
+        modelMapper.map(signUpRequest, User.class);
+        modelMapper.map(user, UserInfoResponseDTO.class);
+        modelMapper.map(userProject, GetProjectDataDTO.class);
+    }
+
+    // 2.1 회원가입 - 요청 DTO -> User
+
+    @Benchmark
+    public User signUpRequestToUserModelMapper() {
+        return modelMapper.map(signUpRequest, User.class);
+    }
+
+    @Benchmark
+    public User signUpRequestToUserMapStruct() {
+        return UserMapper.INSTANCE.toUser(signUpRequest);
+    }
+
+    // 2.1 회원가입 - User -> 응답 DTO
+
+    @Benchmark
+    public UserInfoResponseDTO userToUserInfoModelMapper() {
+        return modelMapper.map(user, UserInfoResponseDTO.class);
+    }
+
+    @Benchmark
+    public UserInfoResponseDTO userToUserInfoMapStruct() {
+        return UserMapper.INSTANCE.toUserInfoResponseDTO(user);
+    }
+
+    // 3.4 프로젝트 조회 - 프로젝트 목록 한 건
+
+    @Benchmark
+    public GetProjectDataDTO userProjectToProjectDataModelMapper() {
+        return modelMapper.map(userProject, GetProjectDataDTO.class);
+    }
+
+    @Benchmark
+    public GetProjectDataDTO userProjectToProjectDataMapStruct() {
+        return ProjectMapper.INSTANCE.toGetProjectData(userProject);
+    }
+}
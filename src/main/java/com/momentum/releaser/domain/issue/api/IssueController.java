@@ -5,18 +5,25 @@ import static com.momentum.releaser.domain.issue.dto.IssueResponseDto.*;
 
 import java.util.List;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.Pattern;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 
 import com.momentum.releaser.domain.issue.application.IssueService;
+import com.momentum.releaser.domain.issue.domain.IssueTransferFormat;
 import com.momentum.releaser.domain.issue.dto.IssueRequestDto.IssueInfoRequestDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.ConnectionIssuesResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.DoneIssuesResponseDTO;
@@ -72,12 +79,14 @@ public class IssueController {
     /**
      * 7.3 이슈 제거
      *
-     * @param issueId 이슈 식별 번호
+     * @param issueId       이슈 식별 번호
+     * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
      * @return String "이슈가 삭제되었습니다."
      */
     @PostMapping("/{issueId}/delete")
-    public BaseResponse<String> issueRemove(@PathVariable @Min(value = 1, message = "이슈 식별 번호는 1 이상의 숫자여야 합니다.") Long issueId) {
-        return new BaseResponse<>(issueService.removeIssue(issueId));
+    public BaseResponse<String> issueRemove(@PathVariable @Min(value = 1, message = "이슈 식별 번호는 1 이상의 숫자여야 합니다.") Long issueId,
+                                           @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return new BaseResponse<>(issueService.removeIssue(issueId, userPrincipal.getEmail()));
     }
 
     /**
@@ -141,8 +150,9 @@ public class IssueController {
     /**
      * 7.8 이슈 상태 변경
      *
-     * @param issueId   이슈 식별 번호
-     * @param lifeCycle 변경할 이슈 상태 (NOT_STARTED, IN_PROGRESS, DONE 중 하나)
+     * @param issueId       이슈 식별 번호
+     * @param lifeCycle     변경할 이슈 상태 (NOT_STARTED, IN_PROGRESS, DONE 중 하나)
+     * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
      * @return String "이슈 상태 변경이 완료되었습니다."
      */
     @PatchMapping("/{issueId}")
@@ -150,8 +160,102 @@ public class IssueController {
                                                      @RequestParam(name = "index") Integer index,
                                                      @RequestParam(name = "status")
                                                      @Pattern(regexp = "(?i)^(NOT_STARTED|IN_PROGRESS|DONE)$", message = "상태는 NOT_STARTED, IN_PROGRESS, DONE 중 하나여야 합니다.")
-                                                     String lifeCycle) {
-        return new BaseResponse<>(issueService.modifyIssueLifeCycle(issueId, index, lifeCycle));
+                                                     String lifeCycle,
+                                                     @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return new BaseResponse<>(issueService.modifyIssueLifeCycle(issueId, index, lifeCycle, userPrincipal.getEmail()));
+    }
+
+    /**
+     * 7.9 이슈 보드 변경 사항 조회
+     *
+     * @param projectId     프로젝트 식별 번호
+     * @param sinceRevision 마지막으로 반영한 보드 리비전 (없거나 너무 오래된 경우 보드 전체를 반환)
+     * @return IssueChangesResponseDTO 주어진 리비전 이후 변경된 이슈와 이슈 순서
+     */
+    @GetMapping("/project/{projectId}/changes")
+    public BaseResponse<IssueChangesResponseDTO> issueChangeList(@PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+                                                                 @RequestParam(required = false) @Min(value = 0, message = "리비전은 0 이상의 숫자여야 합니다.") Long sinceRevision) {
+        return new BaseResponse<>(issueService.findIssueChanges(projectId, sinceRevision));
+    }
+
+    /**
+     * 7.10 이슈 일괄 변경
+     *
+     * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
+     * @param projectId     프로젝트 식별 번호
+     * @param bulkReq       순서대로 적용할 이슈 변경 작업 목록
+     * @return String "이슈 일괄 변경이 완료되었습니다."
+     */
+    @PostMapping("/project/{projectId}/bulk")
+    public BaseResponse<String> issuesModify(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                             @PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+                                             @Valid @RequestBody IssueBulkRequestDTO bulkReq) {
+        return new BaseResponse<>(issueService.modifyIssues(userPrincipal.getEmail(), projectId, bulkReq));
+    }
+
+    /**
+     * 7.11 이슈 가져오기
+     * 요청 본문(CSV 또는 NDJSON)을 읽으면서 저장하고, 배치마다 진행 상황을 NDJSON 한 줄로 응답한다.
+     *
+     * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
+     * @param projectId     프로젝트 식별 번호
+     * @param format        가져오기 형식 (CSV, NDJSON)
+     * @param request       요청 본문을 읽을 HTTP 요청
+     * @return StreamingResponseBody 진행 상황 (마지막 줄의 doneYN 이 'Y')
+     */
+    @PostMapping("/project/{projectId}/import")
+    public ResponseEntity<StreamingResponseBody> issuesImport(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                              @PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+                                                              @RequestParam(defaultValue = "CSV") String format,
+                                                              HttpServletRequest request) {
+
+        IssueTransferFormat importFormat = IssueTransferFormat.of(format);
+        issueService.checkIssueTransfer(userPrincipal.getEmail(), projectId);
+
+        StreamingResponseBody body = outputStream -> issueService.importIssues(projectId, importFormat, request.getInputStream(), outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(IssueTransferFormat.NDJSON.contentType()))
+                .body(body);
+    }
+
+    /**
+     * 7.12 이슈 내보내기
+     *
+     * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
+     * @param projectId     프로젝트 식별 번호
+     * @param format        내보내기 형식 (CSV, NDJSON)
+     * @return StreamingResponseBody 이슈 목록 파일
+     */
+    @GetMapping("/project/{projectId}/export")
+    public ResponseEntity<StreamingResponseBody> issuesExport(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                              @PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+                                                              @RequestParam(defaultValue = "CSV") String format) {
+
+        IssueTransferFormat exportFormat = IssueTransferFormat.of(format);
+        issueService.checkIssueTransfer(userPrincipal.getEmail(), projectId);
+
+        StreamingResponseBody body = outputStream -> issueService.exportIssues(projectId, exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"issues-" + projectId + "." + exportFormat.extension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * 7.13 이슈 흐름 통계 조회
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param weeks     조회할 최근 주의 수 (이번 주 포함, 1~52)
+     * @return IssueFlowResponseDTO 이슈 상태별 이슈 수, IN_PROGRESS 평균 시간, 주별 완료 이슈 수
+     */
+    @GetMapping("/project/{projectId}/flow")
+    public BaseResponse<IssueFlowResponseDTO> issueFlowDetails(@PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+                                                               @RequestParam(defaultValue = "12")
+                                                               @Min(value = 1, message = "조회할 주의 수는 1 이상이어야 합니다.")
+                                                               @Max(value = 52, message = "조회할 주의 수는 52 이하여야 합니다.") int weeks) {
+        return new BaseResponse<>(issueService.findIssueFlow(projectId, weeks));
     }
 
     /**
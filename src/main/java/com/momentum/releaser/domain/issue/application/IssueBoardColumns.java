@@ -0,0 +1,53 @@
+package com.momentum.releaser.domain.issue.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueInfoResponseDTO;
+import com.momentum.releaser.global.util.LongIntMap;
+
+/**
+ * 이슈 보드 조회 결과를 이슈 상태별로 나누고 보드 순서대로 정렬하는 클래스
+ * 보드 순서를 이슈 식별 번호로 색인해 두므로, 정렬할 때 이슈마다 순서 목록을 다시 훑지 않는다.
+ */
+public final class IssueBoardColumns {
+
+    private IssueBoardColumns() {
+    }
+
+    /**
+     * 이슈를 상태별로 나누고 보드 순서대로 정렬한다. 보드에 순서가 없는 이슈는 각 상태의 맨 뒤에 둔다.
+     *
+     * @param issues 프로젝트의 모든 이슈
+     * @param board  이슈 상태별 보드 순서 (이슈 상태 -> 순서대로 정렬된 이슈 식별 번호 목록)
+     * @return Map 이슈 상태별로 정렬된 이슈 목록
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public static Map<LifeCycle, List<IssueInfoResponseDTO>> group(List<IssueInfoResponseDTO> issues, Map<LifeCycle, List<Long>> board) {
+        // 이슈 식별 번호 -> 해당 상태 안에서의 순서 (이슈는 하나의 상태에만 속하므로 하나의 맵으로 충분하다.)
+        LongIntMap issueIndexes = new LongIntMap(board.values().stream().mapToInt(List::size).sum());
+        for (List<Long> orderedIssueIds : board.values()) {
+            for (int i = 0; i < orderedIssueIds.size(); i++) {
+                issueIndexes.put(orderedIssueIds.get(i), i);
+            }
+        }
+
+        Map<LifeCycle, List<IssueInfoResponseDTO>> columns = new EnumMap<>(LifeCycle.class);
+        for (LifeCycle lifeCycle : LifeCycle.values()) {
+            columns.put(lifeCycle, new ArrayList<>());
+        }
+        for (IssueInfoResponseDTO issue : issues) {
+            columns.get(LifeCycle.valueOf(issue.getLifeCycle())).add(issue);
+        }
+
+        // 정렬은 안정 정렬이므로, 순서가 같은 이슈는 조회된 순서를 유지한다.
+        Comparator<IssueInfoResponseDTO> byIndex = Comparator.comparingInt(issue -> issueIndexes.getOrDefault(issue.getIssueId(), Integer.MAX_VALUE));
+        columns.values().forEach(column -> column.sort(byIndex));
+        return columns;
+    }
+}
@@ -0,0 +1,193 @@
+package com.momentum.releaser.domain.issue.application;
+
+import static com.momentum.releaser.global.config.BaseResponseStatus.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueDetailsPartsDataDTO;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.OpinionInfoResponseDTO;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetMembersDataDTO;
+import com.momentum.releaser.domain.user.dao.UserRepository;
+import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.global.exception.CustomException;
+
+/**
+ * 이슈 상세 화면에 필요한 조회 쿼리를 queryExecutor 에서 동시에 실행하는 클래스
+ * 사용자, 프로젝트 멤버 목록, 이슈 의견은 서로 관계가 없으므로 응답 시간이 각 조회 시간의 합이 아니라 가장 느린 조회 시간이 된다.
+ * 조회한 사용자의 멤버 정보와 담당자 존재 여부는 프로젝트 멤버 목록에서 찾으므로 별도로 조회하지 않는다.
+ * 요청 스레드가 커넥션을 가진 채로 다른 조회를 기다리면 커넥션 풀이 고갈될 수 있으므로, 이슈도 queryExecutor 에서 짧은 트랜잭션으로 조회하고
+ * 대기열이 가득 차 맡기지 못한 조회는 맡긴 조회가 모두 끝난 뒤에 요청 스레드에서 차례로 실행한다.
+ */
+@Component
+public class IssueDetailsLoader {
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final IssueRepository issueRepository;
+    private final ExecutorService queryExecutor;
+    private final TransactionTemplate shortTransaction;
+
+    public IssueDetailsLoader(UserRepository userRepository, ProjectRepository projectRepository, IssueRepository issueRepository,
+                              @Qualifier("queryExecutor") ExecutorService queryExecutor, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.issueRepository = issueRepository;
+        this.queryExecutor = queryExecutor;
+        this.shortTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 이슈 상세 화면의 구성 요소를 동시에 조회한다.
+     * 이슈와 사용자를 먼저 조회하고, 이슈의 프로젝트가 필요한 멤버 목록과 이슈 의견은 이슈를 조회한 뒤에 조회한다.
+     *
+     * @param issueId 조회할 이슈 식별 번호
+     * @param email   사용자 이메일
+     * @return IssueDetailsPartsDataDTO 이슈, 조회한 사용자의 멤버 정보, 프로젝트 멤버 목록, 이슈 의견 목록과 구성 요소별 조회 시간
+     * @throws CustomException 이슈나 사용자가 없거나 프로젝트 멤버가 아닌 경우
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public IssueDetailsPartsDataDTO load(Long issueId, String email) {
+        QueryBatch batch = new QueryBatch();
+
+        CompletableFuture<Issue> issueFuture = batch.supply("issue", () -> findIssue(issueId));
+        CompletableFuture<User> userFuture = batch.supply("user",
+                () -> userRepository.findOneByEmail(email).orElseThrow(() -> new CustomException(NOT_EXISTS_USER)));
+
+        Issue issue = batch.join(issueFuture);
+        CompletableFuture<List<GetMembersDataDTO>> membersFuture = batch.supply("members",
+                () -> projectRepository.getMemberList(issue.getProject()));
+        CompletableFuture<List<OpinionInfoResponseDTO>> opinionsFuture = batch.supply("opinions",
+                () -> issueRepository.getIssueOpinion(issue));
+
+        User user = batch.join(userFuture);
+        List<GetMembersDataDTO> members = batch.join(membersFuture);
+        List<OpinionInfoResponseDTO> opinions = batch.join(opinionsFuture);
+
+        // 사용자가 프로젝트 멤버인지 확인
+        GetMembersDataDTO member = members.stream()
+                .filter(m -> Objects.equals(m.getUserId(), user.getUserId()))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(NOT_EXISTS_PROJECT_MEMBER));
+
+        return IssueDetailsPartsDataDTO.builder()
+                .issue(issue)
+                .member(member)
+                .members(members)
+                .opinions(opinions)
+                .timings(new LinkedHashMap<>(batch.timings))
+                .build();
+    }
+
+    /**
+     * 이슈의 편집 상태를 짧은 트랜잭션으로 변경한다. (모든 조회가 끝난 뒤 요청 스레드에서 호출한다.)
+     *
+     * @param issueId 이슈 식별 번호
+     * @param edit    변경할 편집 상태
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public void updateIssueEdit(Long issueId, char edit) {
+        shortTransaction.executeWithoutResult(status ->
+                issueRepository.findById(issueId).ifPresent(issue -> issue.updateIssueEdit(edit)));
+    }
+
+    /**
+     * 이슈를 짧은 트랜잭션으로 조회하고, 트랜잭션 밖에서 응답을 만들 때 필요한 연관 엔티티를 미리 불러온다.
+     */
+    private Issue findIssue(Long issueId) {
+        return shortTransaction.execute(status -> {
+            Issue issue = issueRepository.findById(issueId).orElseThrow(() -> new CustomException(NOT_EXISTS_ISSUE));
+            Hibernate.initialize(issue.getIssueNum());
+            Hibernate.initialize(issue.getRelease());
+            return issue;
+        });
+    }
+
+    /**
+     * 한 번의 이슈 상세 조회에서 queryExecutor 에 맡긴 조회와, 대기열이 가득 차 요청 스레드에서 실행할 조회
+     * 한 번이라도 맡기지 못했다면 이후의 조회도 모두 요청 스레드에서 실행하여, 요청 스레드가 커넥션을 가진 채로 다른 조회를 기다리지 않도록 한다.
+     */
+    private final class QueryBatch {
+        private final Map<String, Long> timings = new ConcurrentHashMap<>();
+        private final List<CompletableFuture<?>> submitted = new ArrayList<>();
+        private final List<Runnable> deferred = new ArrayList<>();
+        private boolean inline;
+
+        /**
+         * 조회를 queryExecutor 에 맡기고, 걸린 시간을 구성 요소 이름으로 기록한다.
+         */
+        <T> CompletableFuture<T> supply(String part, Supplier<T> query) {
+            Supplier<T> timedQuery = () -> {
+                long start = System.nanoTime();
+                try {
+                    return query.get();
+                } finally {
+                    timings.put(part, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+            };
+
+            if (!inline) {
+                try {
+                    CompletableFuture<T> future = CompletableFuture.supplyAsync(timedQuery, queryExecutor);
+                    submitted.add(future);
+                    return future;
+                } catch (RejectedExecutionException e) {
+                    inline = true;
+                }
+            }
+
+            CompletableFuture<T> future = new CompletableFuture<>();
+            deferred.add(() -> {
+                try {
+                    future.complete(timedQuery.get());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+            return future;
+        }
+
+        /**
+         * 조회 결과를 기다리고, 조회 중 발생한 예외는 감싸지 않은 채로 다시 던진다.
+         * 아직 실행하지 않은 조회를 기다리는 경우, 맡긴 조회가 모두 끝난 뒤 남은 조회를 요청 스레드에서 차례로 실행한다.
+         */
+        <T> T join(CompletableFuture<T> future) {
+            if (!future.isDone() && !deferred.isEmpty()) {
+                CompletableFuture.allOf(submitted.toArray(new CompletableFuture[0])).handle((result, e) -> null).join();
+                List<Runnable> queries = new ArrayList<>(deferred);
+                deferred.clear();
+                queries.forEach(Runnable::run);
+            }
+
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+}
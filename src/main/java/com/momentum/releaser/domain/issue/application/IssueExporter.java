@@ -0,0 +1,101 @@
+package com.momentum.releaser.domain.issue.application;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysema.commons.lang.CloseableIterator;
+
+import com.momentum.releaser.domain.issue.domain.IssueTransferFormat;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueTransferDataDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로젝트의 이슈를 CSV, NDJSON 형식으로 출력 스트림에 바로 써 내려가는 클래스
+ * 커서에서 읽은 이슈를 한 건씩 쓰기 때문에, 프로젝트 크기와 상관없이 이슈를 메모리에 모아 두지 않는다.
+ * 열 구성은 가져오기(IssueImporter)와 같으므로, 내보낸 파일을 그대로 다른 프로젝트로 가져올 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IssueExporter {
+
+    private static final String CSV_HEADER = "issue_num,title,content,summary,tag,end_date,life_cycle,manager_email";
+
+    // 이슈를 이 개수만큼 쓸 때마다 flush 하여 클라이언트가 바로 받을 수 있도록 한다.
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이슈 커서를 읽으면서 요청된 형식으로 출력한다.
+     *
+     * @param issues       이슈 번호 순서대로 정렬된 이슈 커서 (메서드 종료 시 닫힌다.)
+     * @param format       내보내기 형식
+     * @param outputStream 응답 출력 스트림
+     * @throws IOException 출력 스트림에 쓰지 못한 경우
+     * @author chaeanna
+     * @date 2023-08-30
+     */
+    public void export(CloseableIterator<IssueTransferDataDTO> issues, IssueTransferFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        try {
+            if (format == IssueTransferFormat.CSV) {
+                writer.write(CSV_HEADER + "\n");
+            }
+
+            int count = 0;
+            while (issues.hasNext()) {
+                IssueTransferDataDTO issue = issues.next();
+
+                if (format == IssueTransferFormat.CSV) {
+                    writeCsvLine(writer, issue);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(issue));
+                    writer.write("\n");
+                }
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        } finally {
+            issues.close();
+        }
+
+        writer.flush();
+    }
+
+    private void writeCsvLine(Writer writer, IssueTransferDataDTO issue) throws IOException {
+        writer.write(String.join(",",
+                issue.getIssueNum() == null ? "" : String.valueOf(issue.getIssueNum()),
+                escape(issue.getTitle()),
+                escape(issue.getContent()),
+                escape(issue.getSummary()),
+                escape(issue.getTag()),
+                escape(issue.getEndDate()),
+                escape(issue.getLifeCycle()),
+                escape(issue.getManagerEmail())));
+        writer.write("\n");
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 내부 따옴표는 두 번 쓴다. (RFC 4180)
+     */
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
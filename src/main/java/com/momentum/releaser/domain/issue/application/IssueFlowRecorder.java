@@ -0,0 +1,183 @@
+package com.momentum.releaser.domain.issue.application;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.domain.issue.dao.IssueFlowStatRepository;
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.dao.IssueThroughputRepository;
+import com.momentum.releaser.domain.issue.dao.IssueTransitionRepository;
+import com.momentum.releaser.domain.issue.domain.IssueFlowStat;
+import com.momentum.releaser.domain.issue.domain.IssueThroughput;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueTransitionDataDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이슈 상태 변경 기록을 남기고, 프로젝트별 이슈 흐름 통계에 변화량을 반영하는 클래스
+ * 상태 변경 기록은 추가만 하며, 통계는 상태 변경 한 건당 상수 시간으로 갱신하므로 조회 시 기록 전체를 집계하지 않는다.
+ * 이슈 변경과 같은 트랜잭션 안에서 호출해야 통계와 이슈 상태가 어긋나지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IssueFlowRecorder {
+
+    private final IssueTransitionRepository issueTransitionRepository;
+    private final IssueFlowStatRepository issueFlowStatRepository;
+    private final IssueThroughputRepository issueThroughputRepository;
+    private final IssueRepository issueRepository;
+
+    /**
+     * 상태 변경 기록을 한 번에 저장하고, 통계 변화량을 모아서 반영한다.
+     *
+     * @param projectId   프로젝트 식별 번호
+     * @param transitions 같은 프로젝트의 상태 변경 기록
+     * @author chaeanna
+     * @date 2023-08-31
+     */
+    public void record(Long projectId, List<IssueTransitionDataDTO> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        issueTransitionRepository.saveAllTransitions(projectId, transitions);
+
+        FlowDelta delta = new FlowDelta();
+        transitions.forEach(delta::add);
+
+        applyCounts(projectId, delta);
+        delta.throughput.forEach((weekStart, done) -> issueFlowStatRepository.addThroughput(projectId, weekStart, done));
+    }
+
+    /**
+     * 상태 변경 한 건을 기록한다.
+     *
+     * @param projectId  프로젝트 식별 번호
+     * @param transition 상태 변경 기록
+     * @author chaeanna
+     * @date 2023-08-31
+     */
+    public void record(Long projectId, IssueTransitionDataDTO transition) {
+        record(projectId, List.of(transition));
+    }
+
+    /**
+     * 프로젝트의 이슈 흐름 통계를 조회한다. 아직 통계가 없는 프로젝트는 현재 이슈 상태로 만든다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return IssueFlowStat 이슈 흐름 통계
+     * @author chaeanna
+     * @date 2023-08-31
+     */
+    public IssueFlowStat findStat(Long projectId) {
+        return issueFlowStatRepository.findById(projectId).orElseGet(insertBaseline(projectId));
+    }
+
+    /**
+     * 주어진 주부터의 주별 완료 이슈 수를 조회한다. (완료된 이슈가 없는 주는 포함되지 않는다.)
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param weekStart 조회를 시작할 주의 월요일
+     * @return List 주 순서대로 정렬된 주별 완료 이슈 수
+     * @author chaeanna
+     * @date 2023-08-31
+     */
+    public List<IssueThroughput> findThroughput(Long projectId, LocalDate weekStart) {
+        return issueThroughputRepository.findByProjectIdAndWeekStartGreaterThanEqualOrderByWeekStartAsc(projectId, weekStart);
+    }
+
+    /**
+     * 날짜가 속한 주의 월요일
+     */
+    public static LocalDate weekStart(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    /**
+     * 통계 행에 변화량을 더한다.
+     * 통계 행이 없으면 현재 이슈 상태로 만드는데, 이 트랜잭션의 이슈 변경이 이미 반영된 개수이므로 이슈 수 변화량은 더하지 않는다.
+     * 다른 요청이 먼저 행을 만든 경우에는 변화량을 다시 더한다.
+     */
+    private void applyCounts(Long projectId, FlowDelta delta) {
+        if (updateCounts(projectId, delta) > 0) {
+            return;
+        }
+
+        // 현재 이슈 상태를 세기 전에 이 트랜잭션의 이슈 변경을 데이터베이스에 반영한다.
+        issueRepository.flush();
+        if (issueFlowStatRepository.insertIfAbsent(projectId, delta.inProgressSeconds, delta.inProgressExits) == 0) {
+            updateCounts(projectId, delta);
+        }
+    }
+
+    private int updateCounts(Long projectId, FlowDelta delta) {
+        return issueFlowStatRepository.addCounts(projectId, delta.notStarted, delta.inProgress, delta.done,
+                delta.inProgressSeconds, delta.inProgressExits);
+    }
+
+    private Supplier<IssueFlowStat> insertBaseline(Long projectId) {
+        return () -> {
+            issueFlowStatRepository.insertIfAbsent(projectId, 0, 0);
+            return issueFlowStatRepository.findById(projectId)
+                    .orElseGet(() -> IssueFlowStat.builder().projectId(projectId).build());
+        };
+    }
+
+    /**
+     * 상태 변경 기록 여러 건의 통계 변화량
+     */
+    private static final class FlowDelta {
+        private long notStarted;
+        private long inProgress;
+        private long done;
+        private long inProgressSeconds;
+        private long inProgressExits;
+        private final Map<LocalDate, Long> throughput = new TreeMap<>();
+
+        void add(IssueTransitionDataDTO transition) {
+            LifeCycle from = transition.getFromLifeCycle();
+            LifeCycle to = transition.getToLifeCycle();
+            if (from == to) {
+                return;
+            }
+
+            count(from, -1);
+            count(to, 1);
+
+            // IN_PROGRESS 상태가 된 시각을 아는 경우에만 머문 시간에 포함한다.
+            if (from == LifeCycle.IN_PROGRESS && transition.getEnteredDate() != null) {
+                inProgressSeconds += Math.max(0, Duration.between(transition.getEnteredDate(), transition.getTransitionedDate()).getSeconds());
+                inProgressExits++;
+            }
+
+            if (to == LifeCycle.DONE) {
+                throughput.merge(weekStart(transition.getTransitionedDate().toLocalDate()), 1L, Long::sum);
+            }
+        }
+
+        private void count(LifeCycle lifeCycle, int amount) {
+            if (lifeCycle == null) {
+                return;
+            }
+            switch (lifeCycle) {
+                case NOT_STARTED:
+                    notStarted += amount;
+                    break;
+                case IN_PROGRESS:
+                    inProgress += amount;
+                    break;
+                case DONE:
+                    done += amount;
+                    break;
+            }
+        }
+    }
+}
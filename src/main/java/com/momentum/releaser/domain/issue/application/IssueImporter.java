@@ -0,0 +1,533 @@
+package com.momentum.releaser.domain.issue.application;
+
+import static org.springframework.util.StringUtils.hasText;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.domain.IssueTransferFormat;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueImportDataDTO;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueTransitionDataDTO;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueImportErrorResponseDTO;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueImportProgressResponseDTO;
+import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.global.config.AppProperties;
+import com.momentum.releaser.redis.issue.IssueBoardOperation;
+import com.momentum.releaser.redis.issue.IssueRankRedisRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CSV, NDJSON 형식의 이슈 목록을 요청 본문에서 한 행씩 읽으면서 저장하는 클래스
+ * 검증을 통과한 행을 app.jdbc.batch-size 개씩 모아 배치마다 하나의 트랜잭션으로 저장하므로, 파일 크기와 상관없이 메모리에는 배치 한 개와 생성된 이슈 식별 번호만 남는다.
+ * 배치를 저장할 때마다 진행 상황을 NDJSON 한 줄로 응답에 쓰고, 이미 커밋된 배치는 이후 배치가 실패해도 유지된다.
+ */
+@Slf4j
+@Component
+public class IssueImporter {
+
+    private static final int MAX_TITLE_LENGTH = 45;
+    private static final int MAX_CONTENT_LENGTH = 500;
+
+    // Redis 스크립트 하나가 너무 오래 실행되지 않도록 보드에 추가할 이슈를 나누는 단위
+    private static final int BOARD_APPEND_CHUNK_SIZE = 1000;
+
+    private final IssueRepository issueRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final IssueNumAllocator issueNumAllocator;
+    private final IssueRankRedisRepository issueRankRedisRepository;
+    private final IssueFlowRecorder issueFlowRecorder;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
+    private final TransactionTemplate batchTransaction;
+
+    public IssueImporter(IssueRepository issueRepository, ProjectMemberRepository projectMemberRepository,
+                         IssueNumAllocator issueNumAllocator, IssueRankRedisRepository issueRankRedisRepository,
+                         IssueFlowRecorder issueFlowRecorder, ObjectMapper objectMapper, AppProperties appProperties, PlatformTransactionManager transactionManager) {
+        this.issueRepository = issueRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.issueNumAllocator = issueNumAllocator;
+        this.issueRankRedisRepository = issueRankRedisRepository;
+        this.issueFlowRecorder = issueFlowRecorder;
+        this.objectMapper = objectMapper;
+        this.appProperties = appProperties;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 입력 스트림의 이슈를 읽어 프로젝트에 저장하고, 배치마다 진행 상황을 출력 스트림에 쓴다.
+     * 이슈 번호는 배치 크기만큼 한 번에 예약하고, 저장한 이슈는 모든 배치가 끝난 뒤 상태별로 보드 맨 뒤에 한 번에 추가한다.
+     *
+     * @param project      이슈를 가져올 프로젝트
+     * @param format       가져오기 형식
+     * @param inputStream  요청 본문 입력 스트림
+     * @param outputStream 응답 출력 스트림
+     * @return IssueImportProgressResponseDTO 마지막 진행 상황 (응답의 마지막 줄과 같다.)
+     * @throws IOException 입력 스트림을 읽거나 출력 스트림에 쓰지 못한 경우
+     * @author chaeanna
+     * @date 2023-08-30
+     */
+    public IssueImportProgressResponseDTO importIssues(Project project, IssueTransferFormat format,
+                                                       InputStream inputStream, OutputStream outputStream) throws IOException {
+        Long projectId = project.getProjectId();
+        int batchSize = appProperties.getJdbc().getBatchSize();
+
+        IssueRowReader rowReader = createReader(format, new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        // 담당자 이메일 -> 프로젝트 멤버 식별 번호 (행마다 조회하지 않도록 한 번에 가져온다.)
+        Map<String, Long> memberIds = projectMemberRepository.findWithUserByProject(project).stream()
+                .collect(Collectors.toMap(member -> member.getUser().getEmail(), ProjectMember::getMemberId, (first, second) -> first));
+
+        ImportProgress progress = new ImportProgress();
+        Batch batch = new Batch(batchSize);
+        Map<LifeCycle, List<Long>> importedIssueIds = new EnumMap<>(LifeCycle.class);
+
+        try {
+            while (true) {
+                Map<String, String> fields;
+                try {
+                    fields = rowReader.next();
+                } catch (IllegalArgumentException e) {
+                    progress.fail(++progress.processed, e.getMessage());
+                    continue;
+                }
+
+                if (fields == null) {
+                    break;
+                }
+
+                long row = ++progress.processed;
+                try {
+                    batch.add(row, toImportData(fields, memberIds));
+                } catch (IllegalArgumentException e) {
+                    progress.fail(row, e.getMessage());
+                }
+
+                if (batch.size() >= batchSize) {
+                    boolean saved = saveBatch(projectId, batch, progress, importedIssueIds);
+                    writeProgress(writer, progress, 'N');
+                    if (!saved) {
+                        break;
+                    }
+                }
+            }
+
+            saveBatch(projectId, batch, progress, importedIssueIds);
+        } finally {
+            // 응답을 쓰다가 연결이 끊겨도 이미 커밋된 이슈는 보드에 보여야 한다.
+            appendToBoard(projectId, importedIssueIds);
+        }
+
+        IssueImportProgressResponseDTO result = writeProgress(writer, progress, 'Y');
+        log.info("importIssues/projectId: {}, processed: {}, imported: {}, failed: {}",
+                projectId, result.getProcessed(), result.getImported(), result.getFailed());
+        return result;
+    }
+
+    /**
+     * 모아 둔 배치를 하나의 트랜잭션으로 저장한다.
+     * 저장하지 못한 경우 배치의 모든 행을 실패로 기록하고 false 를 반환한다.
+     */
+    private boolean saveBatch(Long projectId, Batch batch, ImportProgress progress, Map<LifeCycle, List<Long>> importedIssueIds) {
+        if (batch.size() == 0) {
+            return true;
+        }
+
+        try {
+            long firstIssueNum = issueNumAllocator.allocateRange(projectId, batch.size());
+            List<Long> issueIds = batchTransaction.execute(status -> {
+                List<Long> savedIds = issueRepository.saveAllImported(projectId, batch.issues, firstIssueNum);
+
+                // 가져온 이슈의 생성을 같은 트랜잭션에서 상태 변경 기록과 흐름 통계에 반영 (작업한 멤버는 알 수 없다.)
+                LocalDateTime now = LocalDateTime.now();
+                List<IssueTransitionDataDTO> transitions = new ArrayList<>(savedIds.size());
+                for (int i = 0; i < savedIds.size(); i++) {
+                    transitions.add(IssueTransitionDataDTO.builder()
+                            .issueId(savedIds.get(i))
+                            .toLifeCycle(batch.issues.get(i).getLifeCycle())
+                            .transitionedDate(now)
+                            .build());
+                }
+                issueFlowRecorder.record(projectId, transitions);
+                return savedIds;
+            });
+
+            for (int i = 0; i < issueIds.size(); i++) {
+                importedIssueIds.computeIfAbsent(batch.issues.get(i).getLifeCycle(), lifeCycle -> new ArrayList<>()).add(issueIds.get(i));
+            }
+            progress.imported += issueIds.size();
+            return true;
+        } catch (RuntimeException e) {
+            log.error("saveBatch/projectId: {}, rows: {}-{}", projectId, batch.rows.get(0), batch.rows.get(batch.size() - 1), e);
+            batch.rows.forEach(row -> progress.fail(row, "이슈를 저장하지 못했습니다."));
+            return false;
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * 가져온 이슈를 상태별로 보드 맨 뒤에 가져온 순서대로 추가한다.
+     */
+    private void appendToBoard(Long projectId, Map<LifeCycle, List<Long>> importedIssueIds) {
+        List<IssueBoardOperation> operations = new ArrayList<>();
+
+        for (Map.Entry<LifeCycle, List<Long>> entry : importedIssueIds.entrySet()) {
+            for (Long issueId : entry.getValue()) {
+                operations.add(IssueBoardOperation.append(issueId, entry.getKey().toString()));
+
+                if (operations.size() == BOARD_APPEND_CHUNK_SIZE) {
+                    issueRankRedisRepository.apply(projectId, operations);
+                    operations = new ArrayList<>();
+                }
+            }
+        }
+
+        if (!operations.isEmpty()) {
+            issueRankRedisRepository.apply(projectId, operations);
+        }
+    }
+
+    /**
+     * 진행 상황을 NDJSON 한 줄로 쓰고 바로 flush 하여 클라이언트가 받을 수 있도록 한다.
+     */
+    private IssueImportProgressResponseDTO writeProgress(Writer writer, ImportProgress progress, char doneYN) throws IOException {
+        IssueImportProgressResponseDTO progressRes = progress.toResponse(doneYN);
+        writer.write(objectMapper.writeValueAsString(progressRes));
+        writer.write("\n");
+        writer.flush();
+        return progressRes;
+    }
+
+    /**
+     * 읽은 행을 이슈 생성 요청(IssueInfoRequestDTO)과 같은 조건으로 검증한다.
+     *
+     * @throws IllegalArgumentException 검증에 실패한 경우 (메시지는 응답의 실패 사유로 사용한다.)
+     */
+    private IssueImportDataDTO toImportData(Map<String, String> fields, Map<String, Long> memberIds) {
+        String title = fields.get("title");
+        if (!hasText(title)) {
+            throw new IllegalArgumentException("이슈명을 입력해주세요.");
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("이슈명은 " + MAX_TITLE_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String content = fields.get("content");
+        if (!hasText(content)) {
+            throw new IllegalArgumentException("이슈 설명을 입력해주세요.");
+        }
+        if (content.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("이슈 설명은 " + MAX_CONTENT_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String tag = fields.get("tag");
+        if (!hasText(tag)) {
+            throw new IllegalArgumentException("태그를 선택해주세요.");
+        }
+
+        Long memberId = null;
+        String managerEmail = fields.get("managerEmail");
+        if (hasText(managerEmail)) {
+            memberId = memberIds.get(managerEmail.trim());
+            if (memberId == null) {
+                throw new IllegalArgumentException("프로젝트 멤버가 아닌 담당자입니다. (managerEmail: " + managerEmail.trim() + ")");
+            }
+        }
+
+        String summary = fields.get("summary");
+        String lifeCycle = fields.get("lifeCycle");
+
+        return IssueImportDataDTO.builder()
+                .title(title)
+                .content(content)
+                .summary(hasText(summary) ? summary : null)
+                .tag(parseEnum(Tag.class, tag, "태그는 DEPRECATED, CHANGED, NEW, FEATURE, FIXED 중 하나여야 합니다."))
+                .endDate(parseDate(fields.get("endDate")))
+                .lifeCycle(hasText(lifeCycle)
+                        ? parseEnum(LifeCycle.class, lifeCycle, "상태는 NOT_STARTED, IN_PROGRESS, DONE 중 하나여야 합니다.")
+                        : LifeCycle.NOT_STARTED)
+                .memberId(memberId)
+                .build();
+    }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> enumType, String value, String message) {
+        try {
+            return Enum.valueOf(enumType, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * yyyy-MM-dd 형식의 마감일을 서버 시간대의 자정으로 변환한다. (내보내기도 서버 시간대로 출력한다.)
+     */
+    private Date parseDate(String value) {
+        if (!hasText(value)) {
+            throw new IllegalArgumentException("마감일을 입력해주세요.");
+        }
+
+        try {
+            return Date.from(LocalDate.parse(value.trim()).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("마감일은 yyyy-MM-dd 형식이어야 합니다.");
+        }
+    }
+
+    private IssueRowReader createReader(IssueTransferFormat format, BufferedReader reader) {
+        switch (format) {
+            case NDJSON:
+                return new NdjsonRowReader(reader, objectMapper);
+            case CSV:
+            default:
+                return new CsvRowReader(reader);
+        }
+    }
+
+    /**
+     * 형식별로 한 행을 읽어 필드 이름 -> 값으로 반환하는 방법
+     * 필드 이름은 IssueTransferDataDTO 의 필드 이름(title, endDate, managerEmail 등)을 사용한다.
+     */
+    private interface IssueRowReader {
+
+        /**
+         * @return Map 다음 행 (더 이상 없으면 null)
+         * @throws IllegalArgumentException 행의 형식이 올바르지 않은 경우 (해당 행만 건너뛴다.)
+         */
+        Map<String, String> next() throws IOException;
+    }
+
+    /**
+     * 첫 줄을 헤더로 사용하고, 헤더의 열 이름(issue_num, end_date 등)을 필드 이름으로 바꾼다.
+     * 따옴표로 감싼 값 안의 쉼표, 줄바꿈과 두 번 쓴 따옴표를 처리한다. (RFC 4180)
+     */
+    private static class CsvRowReader implements IssueRowReader {
+
+        private final BufferedReader reader;
+        private List<String> fieldNames;
+
+        CsvRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            if (fieldNames == null) {
+                List<String> header = readRecord();
+                if (header == null) {
+                    return null;
+                }
+                fieldNames = header.stream().map(CsvRowReader::toFieldName).collect(Collectors.toList());
+            }
+
+            List<String> values = readRecord();
+            if (values == null) {
+                return null;
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < fieldNames.size() && i < values.size(); i++) {
+                fields.put(fieldNames.get(i), values.get(i));
+            }
+            return fields;
+        }
+
+        /**
+         * 한 행의 값 목록을 읽는다. 빈 줄은 건너뛰고, 더 이상 읽을 행이 없으면 null 을 반환한다.
+         */
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            while (c == '\r' || c == '\n') {
+                c = reader.read();
+            }
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+                    }
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c == '"') {
+                            value.append('"');
+                            c = reader.read();
+                        } else {
+                            quoted = false;
+                        }
+                        continue;
+                    }
+                    value.append((char) c);
+                } else if (c == '"' && value.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    // \r\n 의 \n 은 다음 행을 읽을 때 빈 줄로 건너뛴다.
+                    values.add(value.toString());
+                    return values;
+                } else {
+                    value.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        /**
+         * issue_num -> issueNum (엑셀에서 저장한 파일의 BOM 은 제거한다.)
+         */
+        private static String toFieldName(String column) {
+            String name = column.replace("\uFEFF", "").trim();
+            StringBuilder fieldName = new StringBuilder(name.length());
+            boolean upper = false;
+
+            for (char c : name.toCharArray()) {
+                if (c == '_') {
+                    upper = true;
+                } else {
+                    fieldName.append(upper ? Character.toUpperCase(c) : c);
+                    upper = false;
+                }
+            }
+            return fieldName.toString();
+        }
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나씩 읽는다. 빈 줄은 건너뛴다.
+     */
+    private static class NdjsonRowReader implements IssueRowReader {
+
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+
+        NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+            }
+            if (!node.isObject()) {
+                throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            node.fields().forEachRemaining(field ->
+                    fields.put(field.getKey(), field.getValue().isNull() ? null : field.getValue().asText()));
+            return fields;
+        }
+    }
+
+    /**
+     * 저장을 기다리는 이슈와 각 이슈의 행 번호
+     */
+    private static final class Batch {
+        private final int batchSize;
+        private List<IssueImportDataDTO> issues;
+        private List<Long> rows;
+
+        Batch(int batchSize) {
+            this.batchSize = batchSize;
+            clear();
+        }
+
+        void add(long row, IssueImportDataDTO issue) {
+            rows.add(row);
+            issues.add(issue);
+        }
+
+        int size() {
+            return issues.size();
+        }
+
+        // 저장한 목록을 재사용하지 않고 새로 만든다.
+        void clear() {
+            issues = new ArrayList<>(batchSize);
+            rows = new ArrayList<>(batchSize);
+        }
+    }
+
+    /**
+     * 지금까지의 진행 상황과 마지막으로 응답한 이후 실패한 행
+     */
+    private static final class ImportProgress {
+        private long processed;
+        private long imported;
+        private long failed;
+        private List<IssueImportErrorResponseDTO> errors = new ArrayList<>();
+
+        void fail(long row, String message) {
+            failed++;
+            errors.add(IssueImportErrorResponseDTO.builder()
+                    .row(row)
+                    .message(message)
+                    .build());
+        }
+
+        IssueImportProgressResponseDTO toResponse(char doneYN) {
+            IssueImportProgressResponseDTO progressRes = IssueImportProgressResponseDTO.builder()
+                    .processed(processed)
+                    .imported(imported)
+                    .failed(failed)
+                    .doneYN(doneYN)
+                    .errors(errors)
+                    .build();
+            errors = new ArrayList<>();
+            return progressRes;
+        }
+    }
+}
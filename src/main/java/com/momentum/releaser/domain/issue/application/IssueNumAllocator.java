@@ -0,0 +1,121 @@
+package com.momentum.releaser.domain.issue.application;
+
+import static com.momentum.releaser.global.config.BaseResponseStatus.FAILED_TO_ALLOCATE_ISSUE_NUM;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.momentum.releaser.domain.issue.dao.IssueNumSequenceRepository;
+import com.momentum.releaser.global.config.AppProperties;
+import com.momentum.releaser.global.exception.CustomException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트별 이슈 번호를 묶음 단위로 예약해 두고 애플리케이션 메모리에서 발급한다.
+ * 예약은 이슈 생성과 별도의 트랜잭션으로 커밋되므로, 이슈 생성이 롤백되거나 애플리케이션이 종료되면 사용하지 않은 번호는 건너뛴다.
+ * 서버가 여러 대라면 서버마다 다른 묶음을 사용하므로, 번호는 중복되지 않지만 생성 순서와 다를 수 있다.
+ */
+@Slf4j
+@Component
+public class IssueNumAllocator {
+
+    private final IssueNumSequenceRepository issueNumSequenceRepository;
+    private final AppProperties appProperties;
+    private final TransactionTemplate reservationTransaction;
+
+    // 프로젝트 식별 번호 -> 예약해 둔 이슈 번호 묶음
+    private final Map<Long, IssueNumBlock> blocks = new ConcurrentHashMap<>();
+
+    public IssueNumAllocator(IssueNumSequenceRepository issueNumSequenceRepository, AppProperties appProperties,
+                             PlatformTransactionManager transactionManager) {
+        this.issueNumSequenceRepository = issueNumSequenceRepository;
+        this.appProperties = appProperties;
+        this.reservationTransaction = new TransactionTemplate(transactionManager);
+        this.reservationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 프로젝트의 다음 이슈 번호를 발급한다.
+     * 예약해 둔 번호를 모두 사용한 경우에만 데이터베이스에서 다음 묶음을 예약한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return Long 새로 발급된 이슈 번호
+     * @author chaeanna
+     * @date 2023-08-26
+     */
+    public Long allocate(Long projectId) {
+        IssueNumBlock block = blocks.computeIfAbsent(projectId, id -> new IssueNumBlock());
+
+        // 같은 프로젝트의 발급만 직렬화되고, 다른 프로젝트는 영향을 받지 않는다.
+        synchronized (block) {
+            if (block.isExhausted()) {
+                int blockSize = appProperties.getIssueNum().getBlockSize();
+                long limit = reserve(projectId, blockSize);
+                block.reset(limit - blockSize, limit);
+            }
+            return block.next();
+        }
+    }
+
+    /**
+     * 프로젝트의 이슈 번호를 count개 연속으로 발급하고, 첫 번째 번호를 반환한다.
+     * 메모리에 예약해 둔 묶음을 거치지 않고 데이터베이스에서 count개를 한 번에 예약하므로, 이슈를 한꺼번에 많이 만들 때 사용한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param count     발급할 이슈 번호 개수
+     * @return long 발급된 첫 번째 이슈 번호 (발급된 번호는 [첫 번째 번호, 첫 번째 번호 + count) 이다.)
+     * @author chaeanna
+     * @date 2023-08-30
+     */
+    public long allocateRange(Long projectId, int count) {
+        return reserve(projectId, count) - count;
+    }
+
+    /**
+     * 데이터베이스에서 이슈 번호를 blockSize개 예약하고, 예약한 범위의 끝(포함하지 않음)을 반환한다.
+     * 시퀀스 행이 없는 프로젝트는 기존 이슈 번호 테이블에서 마지막 번호를 가져와 만든다.
+     */
+    private long reserve(Long projectId, int blockSize) {
+        Long limit = reservationTransaction.execute(status -> {
+            if (issueNumSequenceRepository.reserve(projectId, blockSize) == 0) {
+                issueNumSequenceRepository.insertIfAbsent(projectId);
+                issueNumSequenceRepository.reserve(projectId, blockSize);
+            }
+            return issueNumSequenceRepository.findLastReservedValue();
+        });
+
+        if (limit == null || limit < blockSize) {
+            throw new CustomException(FAILED_TO_ALLOCATE_ISSUE_NUM);
+        }
+
+        log.info("reserve/projectId: {}, range: [{}, {})", projectId, limit - blockSize, limit);
+        return limit;
+    }
+
+    /**
+     * 예약해 둔 이슈 번호 범위 [next, limit)
+     */
+    private static final class IssueNumBlock {
+        private long next;
+        private long limit;
+
+        boolean isExhausted() {
+            return next >= limit;
+        }
+
+        void reset(long next, long limit) {
+            this.next = next;
+            this.limit = limit;
+        }
+
+        long next() {
+            return next++;
+        }
+    }
+}
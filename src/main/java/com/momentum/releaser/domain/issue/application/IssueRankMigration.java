@@ -0,0 +1,75 @@
+package com.momentum.releaser.domain.issue.application;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.redis.issue.IssueRankRedisRepository;
+import com.momentum.releaser.redis.issue.IssueStatus;
+import com.momentum.releaser.redis.issue.OrderIssue;
+import com.momentum.releaser.redis.issue.OrderIssueRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트 보드 전체를 하나의 해시(issue)로 저장하던 이슈 순서를 이슈 상태별 Sorted Set으로 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IssueRankMigration {
+
+    private final OrderIssueRedisRepository orderIssueRedisRepository;
+    private final IssueRankRedisRepository issueRankRedisRepository;
+
+    /**
+     * 애플리케이션이 시작되면 남아 있는 기존 이슈 순서를 옮기고 삭제한다.
+     * 이미 Sorted Set이 만들어진 이슈 상태는 그 순서가 최신이므로 덮어쓰지 않는다.
+     *
+     * @author chaeanna
+     * @date 2023-08-25
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOrderIssues() {
+        int migrated = 0;
+
+        try {
+            for (OrderIssue orderIssue : orderIssueRedisRepository.findAll()) {
+                Long projectId = orderIssue.getProjectId();
+
+                if (projectId != null && orderIssue.getIssueStatusList() != null) {
+                    Map<String, List<IssueStatus>> statusesByLifeCycle = orderIssue.getIssueStatusList().stream()
+                            .collect(Collectors.groupingBy(IssueStatus::getLifeCycle));
+
+                    statusesByLifeCycle.forEach((lifeCycle, statuses) -> {
+                        if (issueRankRedisRepository.exists(projectId, lifeCycle)) {
+                            return;
+                        }
+
+                        issueRankRedisRepository.saveAll(projectId, lifeCycle, statuses.stream()
+                                .sorted(Comparator.comparingInt(IssueStatus::getIndex))
+                                .map(IssueStatus::getIssueId)
+                                .distinct()
+                                .collect(Collectors.toList()));
+                    });
+                }
+
+                orderIssueRedisRepository.delete(orderIssue);
+                migrated++;
+            }
+        } catch (RuntimeException e) {
+            // 옮기지 못한 프로젝트는 다음 시작 시 다시 옮긴다.
+            log.error("migrateOrderIssues/failed", e);
+        }
+
+        if (migrated > 0) {
+            log.info("migrateOrderIssues/migrated: {}", migrated);
+        }
+    }
+}
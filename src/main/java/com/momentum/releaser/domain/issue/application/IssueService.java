@@ -1,7 +1,12 @@
 package com.momentum.releaser.domain.issue.application;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
+import com.momentum.releaser.domain.issue.domain.IssueTransferFormat;
+import com.momentum.releaser.domain.issue.dto.IssueRequestDto.IssueBulkRequestDTO;
 import com.momentum.releaser.domain.issue.dto.IssueRequestDto.IssueInfoRequestDTO;
 import com.momentum.releaser.domain.issue.dto.IssueRequestDto.RegisterOpinionRequestDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.*;
@@ -24,7 +29,7 @@ public interface IssueService {
     /**
      * 7.3 이슈 제거
      */
-    String removeIssue(Long issueId);
+    String removeIssue(Long issueId, String email);
 
     /**
      * 7.4 프로젝트별 모든 이슈 조회
@@ -49,7 +54,37 @@ public interface IssueService {
     /**
      * 7.8 이슈 상태 변경
      */
-    String modifyIssueLifeCycle(Long issueId, Integer index, String lifeCycle);
+    String modifyIssueLifeCycle(Long issueId, Integer index, String lifeCycle, String email);
+
+    /**
+     * 7.9 이슈 보드 변경 사항 조회
+     */
+    IssueChangesResponseDTO findIssueChanges(Long projectId, Long sinceRevision);
+
+    /**
+     * 7.10 이슈 일괄 변경
+     */
+    String modifyIssues(String email, Long projectId, IssueBulkRequestDTO bulkReq);
+
+    /**
+     * 7.11 이슈 가져오기, 7.12 이슈 내보내기 - 프로젝트 멤버 확인
+     */
+    void checkIssueTransfer(String email, Long projectId);
+
+    /**
+     * 7.11 이슈 가져오기
+     */
+    IssueImportProgressResponseDTO importIssues(Long projectId, IssueTransferFormat format, InputStream inputStream, OutputStream outputStream) throws IOException;
+
+    /**
+     * 7.12 이슈 내보내기
+     */
+    void exportIssues(Long projectId, IssueTransferFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * 7.13 이슈 흐름 통계 조회
+     */
+    IssueFlowResponseDTO findIssueFlow(Long projectId, int weeks);
 
     /**
      * 8.1 이슈 의견 추가
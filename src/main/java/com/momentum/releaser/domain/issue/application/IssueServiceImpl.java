@@ -3,20 +3,32 @@ package com.momentum.releaser.domain.issue.application;
 import static com.momentum.releaser.domain.issue.dto.IssueResponseDto.*;
 import static com.momentum.releaser.global.config.BaseResponseStatus.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueDetailsDataDTO;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueDetailsPartsDataDTO;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueTransitionDataDTO;
 import com.momentum.releaser.domain.notification.event.IssueMessageEvent;
 import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.project.event.SearchIndexEvent;
+import com.momentum.releaser.domain.project.event.SearchIndexEventPublisher;
 import com.momentum.releaser.rabbitmq.MessageDto.IssueMessageDto;
-import com.momentum.releaser.redis.issue.IssueStatus;
-import com.momentum.releaser.redis.issue.OrderIssue;
-import com.momentum.releaser.redis.issue.OrderIssueRedisRepository;
+import com.momentum.releaser.redis.issue.IssueBoardChanges;
+import com.momentum.releaser.redis.issue.IssueBoardOperation;
+import com.momentum.releaser.redis.issue.IssueRankRedisRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +37,9 @@ import com.momentum.releaser.domain.issue.dao.IssueNumRepository;
 import com.momentum.releaser.domain.issue.dao.IssueOpinionRepository;
 import com.momentum.releaser.domain.issue.dao.IssueRepository;
 import com.momentum.releaser.domain.issue.domain.*;
+import com.momentum.releaser.domain.issue.dto.IssueRequestDto.IssueBulkRequestDTO;
 import com.momentum.releaser.domain.issue.dto.IssueRequestDto.IssueInfoRequestDTO;
+import com.momentum.releaser.domain.issue.dto.IssueRequestDto.IssueOperationRequestDTO;
 import com.momentum.releaser.domain.issue.dto.IssueRequestDto.RegisterOpinionRequestDTO;
 import com.momentum.releaser.domain.issue.mapper.IssueMapper;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
@@ -34,6 +48,7 @@ import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetMembersDataDTO;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
 import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
@@ -58,9 +73,15 @@ public class IssueServiceImpl implements IssueService {
     private final UserRepository userRepository;
     private final ReleaseRepository releaseRepository;
 
-    private final OrderIssueRedisRepository orderIssueRedisRepository;
+    private final IssueRankRedisRepository issueRankRedisRepository;
+    private final IssueNumAllocator issueNumAllocator;
+    private final IssueImporter issueImporter;
+    private final IssueExporter issueExporter;
+    private final IssueFlowRecorder issueFlowRecorder;
+    private final IssueDetailsLoader issueDetailsLoader;
 
     private final NotificationEventPublisher notificationEventPublisher;
+    private final SearchIndexEventPublisher searchIndexEventPublisher;
 
     /**
      * 7.1 이슈 생성
@@ -83,6 +104,17 @@ public class IssueServiceImpl implements IssueService {
         // 이슈를 생성하고 이슈 번호를 할당하여 저장
         Issue newIssue = createIssueNumAndSaveIssue(createReq, project, projectMember);
 
+        // 이슈 생성을 상태 변경 기록과 흐름 통계에 반영
+        issueFlowRecorder.record(projectId, IssueTransitionDataDTO.builder()
+                .issueId(newIssue.getIssueId())
+                .toLifeCycle(newIssue.getLifeCycle())
+                .memberId(findMemberIdByEmail(userEmail, project))
+                .transitionedDate(newIssue.getLifeCycleModifiedDate())
+                .build());
+
+        // 통합검색 색인에 반영
+        searchIndexEventPublisher.publish(SearchIndexEvent.toIndexIssue(newIssue));
+
         // 이슈 생성 시 알림
         notifyIssueAll(project, newIssue);
 
@@ -129,6 +161,13 @@ public class IssueServiceImpl implements IssueService {
         issue.updateIssue(updateReq, edit, manager);
         Issue updatedIssue = issueRepository.save(issue);
 
+        // 이슈 보드 변경 기록
+        Long projectId = issue.getProject().getProjectId();
+        afterCommit(() -> issueRankRedisRepository.touch(projectId, issueId));
+
+        // 통합검색 색인에 반영
+        searchIndexEventPublisher.publish(SearchIndexEvent.toIndexIssue(updatedIssue));
+
         // 이슈 담당자 할당 변경 시 알림
         if (updatedIssue.getMember() != null) {
             // 이슈 담당자가 할당된 경우에만 알림을 전송한다.
@@ -141,12 +180,13 @@ public class IssueServiceImpl implements IssueService {
     /**
      * 7.3 이슈 제거
      *
+     * @param email 사용자 이메일
      * @author chaeanna
      * @date 2023-07-09
      */
     @Override
     @Transactional
-    public String removeIssue(Long issueId) {
+    public String removeIssue(Long issueId, String email) {
         // 이슈 정보 조회
         Issue issue = getIssueById(issueId);
 
@@ -160,6 +200,16 @@ public class IssueServiceImpl implements IssueService {
         issueNumRepository.deleteById(issue.getIssueNum().getIssueNumId());
         issueRepository.deleteById(issue.getIssueId());
 
+        // 이슈 삭제를 상태 변경 기록과 흐름 통계에 반영
+        Long projectId = issue.getProject().getProjectId();
+        issueFlowRecorder.record(projectId, toRemoveTransition(issue, issue.getLifeCycle(), findMemberIdByEmail(email, issue.getProject())));
+
+        // 이슈 순서에서 제거
+        afterCommit(() -> issueRankRedisRepository.remove(projectId, issueId));
+
+        // 통합검색 색인에서 제거
+        searchIndexEventPublisher.publish(SearchIndexEvent.toRemoveIssue(projectId, issueId));
+
         return "이슈가 삭제되었습니다.";
     }
 
@@ -176,19 +226,17 @@ public class IssueServiceImpl implements IssueService {
         Project findProject = getProjectById(projectId);
 
 
-        // 해당 프로젝트에 속하는 모든 이슈 정보
+        // 해당 프로젝트에 속하는 모든 이슈 정보 (담당자 탈퇴 여부와 배포 여부가 함께 조회된다.)
         List<IssueInfoResponseDTO> getAllIssue = issueRepository.getIssues(findProject);
 
-        // 각 상태별로 이슈를 분류
-        List<IssueInfoResponseDTO> notStartedList = filterAndSetDeployStatus(projectId, getAllIssue, "NOT_STARTED");
-        List<IssueInfoResponseDTO> inProgressList = filterAndSetDeployStatus(projectId, getAllIssue, "IN_PROGRESS");
-        List<IssueInfoResponseDTO> doneList = filterAndSetDeployStatus(projectId, getAllIssue, "DONE");
+        // 각 상태별로 이슈를 분류하고 보드 순서대로 정렬
+        Map<LifeCycle, List<IssueInfoResponseDTO>> columns = IssueBoardColumns.group(getAllIssue, issueRankRedisRepository.findBoardIssueIds(projectId));
 
         // 분류된 리스트들을 담아 반환
         return AllIssueListResponseDTO.builder()
-                .getNotStartedList(notStartedList)
-                .getInProgressList(inProgressList)
-                .getDoneList(doneList)
+                .getNotStartedList(columns.get(LifeCycle.NOT_STARTED))
+                .getInProgressList(columns.get(LifeCycle.IN_PROGRESS))
+                .getDoneList(columns.get(LifeCycle.DONE))
                 .build();
     }
 
@@ -248,29 +296,21 @@ public class IssueServiceImpl implements IssueService {
      * @date 2023-07-09
      */
     @Override
-    @Transactional
     public IssueDetailsDTO findIssue(Long issueId, String email) {
-        // 이슈 정보 조회
-        Issue issue = getIssueById(issueId);
-
-        // Token UserInfo
-        User user = getUserByEmail(email);
-
-        // 사용자가 프로젝트 멤버인지 확인, 해당하는 프로젝트 멤버 정보 가져옴.
-        Long memberId = getProjectMemberByUserAndProject(user, issue.getProject()).getMemberId();
-        ProjectMember member = getProjectMemberById(memberId);
+        // 이슈, 사용자, 프로젝트 멤버 목록, 이슈 의견을 동시에 조회하고, 사용자가 프로젝트 멤버인지 확인
+        // 요청 스레드가 커넥션을 가진 채로 조회를 기다리지 않도록 트랜잭션을 시작하지 않고, 각 조회는 짧은 트랜잭션으로 실행한다.
+        IssueDetailsPartsDataDTO parts = issueDetailsLoader.load(issueId, email);
+        Issue issue = parts.getIssue();
+        GetMembersDataDTO member = parts.getMember();
 
         // 프로젝트 멤버가 이슈를 조회하는 경우, edit 상태 변경
         updateIssueEdit(issue, member);
 
         // 이슈의 의견 리스트, 해당 프로젝트 멤버의 의견은 삭제 여부를 포함
-        List<OpinionInfoResponseDTO> opinionRes = getIssueOpinionsWithDeleteYN(issue, memberId);
+        List<OpinionInfoResponseDTO> opinionRes = markDeletableOpinions(parts.getOpinions(), member.getMemberId());
 
-        // 프로젝트의 모든 멤버 리스트
-        List<GetMembersDataDTO> memberRes = getProjectMembers(member.getProject());
-
-        IssueDetailsDTO getIssue = createIssueDetails(member, issue, memberRes, opinionRes);
-        log.info("endDate : {}", getIssue.getIssueDetails().getEndDate());
+        IssueDetailsDTO getIssue = createIssueDetails(member, issue, parts.getMembers(), opinionRes);
+        log.info("findIssue/issueId: {}, timings(ms): {}", issueId, parts.getTimings());
 
         return getIssue;
     }
@@ -281,12 +321,13 @@ public class IssueServiceImpl implements IssueService {
      * @param issueId   상태 변경할 이슈 식별 번호
      * @param index     순서
      * @param lifeCycle 변경할 이슈의 상태 ("NOT_STARTED", "IN_PROGRESS", "DONE" 중 하나로 대소문자 구분 없이 입력)
+     * @param email     사용자 이메일
      * @author chaeanna
      * @date 2023-07-08
      */
     @Override
     @Transactional
-    public String modifyIssueLifeCycle(Long issueId, Integer index, String lifeCycle) {
+    public String modifyIssueLifeCycle(Long issueId, Integer index, String lifeCycle, String email) {
         // 이슈 정보 조회
         Issue issue = getIssueById(issueId);
 
@@ -295,12 +336,274 @@ public class IssueServiceImpl implements IssueService {
             throw new CustomException(CONNECTED_ISSUE_EXISTS);
         }
 
+        // 상태가 바뀌기 전의 상태와 그 상태가 된 시각
+        LifeCycle fromLifeCycle = issue.getLifeCycle();
+        LocalDateTime enteredDate = issue.getLifeCycleModifiedDate();
+
         // 이슈의 상태 변경
         String result = changeLifeCycle(issue, index, lifeCycle.toUpperCase());
 
+        // 같은 상태 안에서 순서만 바뀐 경우는 기록하지 않는다.
+        if (fromLifeCycle != issue.getLifeCycle()) {
+            issueFlowRecorder.record(issue.getProject().getProjectId(), IssueTransitionDataDTO.builder()
+                    .issueId(issue.getIssueId())
+                    .fromLifeCycle(fromLifeCycle)
+                    .toLifeCycle(issue.getLifeCycle())
+                    .memberId(findMemberIdByEmail(email, issue.getProject()))
+                    .transitionedDate(issue.getLifeCycleModifiedDate())
+                    .enteredDate(enteredDate)
+                    .build());
+        }
+
         return result;
     }
 
+    /**
+     * 7.9 이슈 보드 변경 사항 조회
+     *
+     * @param projectId     프로젝트 식별 번호
+     * @param sinceRevision 클라이언트가 마지막으로 반영한 보드 리비전 (없으면 보드 전체를 조회)
+     * @author chaeanna
+     * @date 2023-08-27
+     */
+    @Override
+    @Transactional
+    public IssueChangesResponseDTO findIssueChanges(Long projectId, Long sinceRevision) {
+        // 프로젝트 정보 조회
+        Project findProject = getProjectById(projectId);
+
+        Optional<IssueBoardChanges> changes = sinceRevision == null
+                ? Optional.empty()
+                : issueRankRedisRepository.findChangesSince(projectId, sinceRevision);
+
+        // 변경 기록으로 알 수 없는 경우 보드 전체를 반환
+        if (changes.isEmpty()) {
+            // 리비전을 먼저 읽은 뒤 이슈를 조회하므로, 그 사이의 변경은 다음 동기화에서 한 번 더 받는다.
+            long revision = issueRankRedisRepository.findRevision(projectId);
+
+            return IssueChangesResponseDTO.builder()
+                    .revision(revision)
+                    .snapshotYN('Y')
+                    .updatedIssues(issueRepository.getIssues(findProject))
+                    .deletedIssueIds(Collections.emptyList())
+                    .issueOrders(findIssueOrders(projectId))
+                    .build();
+        }
+
+        IssueBoardChanges boardChanges = changes.get();
+        return IssueChangesResponseDTO.builder()
+                .revision(boardChanges.getRevision())
+                .snapshotYN('N')
+                .updatedIssues(issueRepository.getIssuesByIds(findProject, boardChanges.getUpdatedIssueIds()))
+                .deletedIssueIds(new ArrayList<>(boardChanges.getDeletedIssueIds()))
+                .issueOrders(boardChanges.isOrderChanged() ? findIssueOrders(projectId) : null)
+                .build();
+    }
+
+    /**
+     * 7.10 이슈 일괄 변경
+     *
+     * @param email     사용자 이메일
+     * @param projectId 프로젝트 식별 번호
+     * @param bulkReq   순서대로 적용할 이슈 변경 작업 목록
+     * @author chaeanna
+     * @date 2023-08-28
+     */
+    @Override
+    @Transactional
+    public String modifyIssues(String email, Long projectId, IssueBulkRequestDTO bulkReq) {
+        // 프로젝트 멤버인지 한 번만 확인
+        Project project = getProjectById(projectId);
+        User user = getUserByEmail(email);
+        ProjectMember accessMember = getProjectMemberByUserAndProject(user, project);
+
+        // 접근한 유저가 멤버일 경우 edit 상태 변경
+        char edit = decideEditStatus(accessMember);
+
+        List<IssueOperationRequestDTO> operations = bulkReq.getOperations();
+
+        // 작업에 필요한 이슈, 담당자, 릴리즈 노트를 종류별로 한 번에 조회
+        Map<Long, Issue> issues = mapByIdInProject(
+                issueRepository.findAllById(collectIds(operations, IssueOperationRequestDTO::getIssueId)),
+                Issue::getIssueId, Issue::getProject, project, NOT_EXISTS_ISSUE);
+        Map<Long, ProjectMember> members = mapByIdInProject(
+                projectMemberRepository.findAllById(collectIds(operations, IssueOperationRequestDTO::getMemberId)),
+                ProjectMember::getMemberId, ProjectMember::getProject, project, NOT_EXISTS_PROJECT_MEMBER);
+        Map<Long, ReleaseNote> releaseNotes = mapByIdInProject(
+                releaseRepository.findAllById(collectIds(operations, IssueOperationRequestDTO::getReleaseId)),
+                ReleaseNote::getReleaseId, ReleaseNote::getProject, project, NOT_EXISTS_RELEASE_NOTE);
+
+        List<IssueBoardOperation> boardOperations = new ArrayList<>();
+        Set<Issue> deletedIssues = new LinkedHashSet<>();
+        Set<Issue> taggedIssues = new LinkedHashSet<>();
+        List<IssueTransitionDataDTO> transitions = new ArrayList<>();
+
+        // 작업을 순서대로 적용 (변경 감지로 생성되는 UPDATE 문은 hibernate.jdbc.batch_size 단위로 묶여 전송된다.)
+        for (IssueOperationRequestDTO operation : operations) {
+            Issue issue = issues.get(operation.getIssueId());
+
+            // 앞선 작업에서 삭제된 이슈는 변경할 수 없다.
+            if (issue == null || deletedIssues.contains(issue)) {
+                throw new CustomException(NOT_EXISTS_ISSUE);
+            }
+
+            LifeCycle fromLifeCycle = issue.getLifeCycle();
+            LocalDateTime enteredDate = issue.getLifeCycleModifiedDate();
+
+            boardOperations.add(applyIssueOperation(issue, operation, edit, members, releaseNotes));
+
+            // 상태가 바뀐 이동과 삭제는 상태 변경 기록에 모아 두었다가 한 번에 저장
+            if (fromLifeCycle != issue.getLifeCycle()) {
+                transitions.add(IssueTransitionDataDTO.builder()
+                        .issueId(issue.getIssueId())
+                        .fromLifeCycle(fromLifeCycle)
+                        .toLifeCycle(issue.getLifeCycle())
+                        .memberId(accessMember.getMemberId())
+                        .transitionedDate(issue.getLifeCycleModifiedDate())
+                        .enteredDate(enteredDate)
+                        .build());
+            }
+
+            if ("DELETE".equalsIgnoreCase(operation.getType())) {
+                deletedIssues.add(issue);
+                transitions.add(toRemoveTransition(issue, fromLifeCycle, accessMember.getMemberId()));
+            } else if ("TAG".equalsIgnoreCase(operation.getType())) {
+                taggedIssues.add(issue);
+            }
+        }
+
+        // 삭제할 이슈 번호와 이슈를 한 번에 삭제
+        if (!deletedIssues.isEmpty()) {
+            issueNumRepository.deleteAll(deletedIssues.stream()
+                    .map(Issue::getIssueNum)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()));
+            issueRepository.deleteAll(deletedIssues);
+        }
+
+        // 상태 변경 기록과 흐름 통계에 한 번에 반영
+        issueFlowRecorder.record(projectId, transitions);
+
+        // 이슈 순서와 보드 변경 기록은 커밋 이후 한 번의 Redis 스크립트로 반영
+        afterCommit(() -> issueRankRedisRepository.apply(projectId, boardOperations));
+
+        // 태그가 바뀌거나 삭제된 이슈를 통합검색 색인에 반영
+        taggedIssues.removeAll(deletedIssues);
+        taggedIssues.forEach(issue -> searchIndexEventPublisher.publish(SearchIndexEvent.toIndexIssue(issue)));
+        deletedIssues.forEach(issue -> searchIndexEventPublisher.publish(SearchIndexEvent.toRemoveIssue(projectId, issue.getIssueId())));
+
+        // 이슈마다 보내지 않고 한 번만 알림
+        notifyIssueBulk(project, issues.size() + "개의 이슈가 일괄 변경되었습니다.");
+
+        return "이슈 일괄 변경이 완료되었습니다.";
+    }
+
+    /**
+     * 7.11 이슈 가져오기, 7.12 이슈 내보내기 - 프로젝트 멤버 확인
+     *
+     * @param email     사용자 이메일
+     * @param projectId 프로젝트 식별 번호
+     * @author chaeanna
+     * @date 2023-08-30
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void checkIssueTransfer(String email, Long projectId) {
+        // 스트리밍을 시작한 뒤에는 예외 응답을 보낼 수 없으므로, 프로젝트 멤버인지 먼저 확인한다.
+        Project project = getProjectById(projectId);
+        User user = getUserByEmail(email);
+        getProjectMemberByUserAndProject(user, project);
+    }
+
+    /**
+     * 7.11 이슈 가져오기
+     * 배치마다 별도의 트랜잭션으로 커밋하므로 이 메서드는 트랜잭션을 열지 않는다.
+     *
+     * @param projectId    프로젝트 식별 번호
+     * @param format       가져오기 형식
+     * @param inputStream  요청 본문 입력 스트림
+     * @param outputStream 진행 상황을 쓸 응답 출력 스트림
+     * @return IssueImportProgressResponseDTO 마지막 진행 상황
+     * @author chaeanna
+     * @date 2023-08-30
+     */
+    @Override
+    public IssueImportProgressResponseDTO importIssues(Long projectId, IssueTransferFormat format, InputStream inputStream, OutputStream outputStream) throws IOException {
+        Project project = getProjectById(projectId);
+
+        IssueImportProgressResponseDTO importRes;
+        try {
+            importRes = issueImporter.importIssues(project, format, inputStream, outputStream);
+        } finally {
+            // 이슈마다 색인하지 않고, 다음 검색 시 프로젝트 색인을 다시 만든다.
+            searchIndexEventPublisher.publish(SearchIndexEvent.toRebuildProject(projectId));
+        }
+
+        // 이슈마다 보내지 않고 한 번만 알림
+        if (importRes.getImported() > 0) {
+            notifyIssueBulk(project, importRes.getImported() + "개의 이슈를 가져왔습니다.");
+        }
+
+        return importRes;
+    }
+
+    /**
+     * 7.12 이슈 내보내기
+     * 이슈를 커서로 읽으면서 바로 응답에 쓰기 때문에 프로젝트의 이슈 전체를 메모리에 올리지 않는다.
+     *
+     * @param projectId    프로젝트 식별 번호
+     * @param format       내보내기 형식
+     * @param outputStream 응답 출력 스트림
+     * @author chaeanna
+     * @date 2023-08-30
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportIssues(Long projectId, IssueTransferFormat format, OutputStream outputStream) throws IOException {
+        Project project = getProjectById(projectId);
+
+        issueExporter.export(issueRepository.scrollIssues(project), format, outputStream);
+    }
+
+    /**
+     * 7.13 이슈 흐름 통계 조회
+     * 이슈 상태가 바뀔 때마다 갱신해 둔 통계를 조회하므로, 이슈나 상태 변경 기록을 집계하지 않는다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param weeks     조회할 최근 주의 수 (이번 주 포함)
+     * @return IssueFlowResponseDTO 이슈 상태별 이슈 수, IN_PROGRESS 평균 시간, 주별 완료 이슈 수
+     * @author chaeanna
+     * @date 2023-08-31
+     */
+    @Override
+    @Transactional
+    public IssueFlowResponseDTO findIssueFlow(Long projectId, int weeks) {
+        getProjectById(projectId);
+
+        IssueFlowStat stat = issueFlowRecorder.findStat(projectId);
+
+        // 완료된 이슈가 없는 주는 0으로 채운다.
+        LocalDate firstWeek = IssueFlowRecorder.weekStart(LocalDate.now()).minusWeeks(weeks - 1L);
+        Map<LocalDate, Long> doneCounts = issueFlowRecorder.findThroughput(projectId, firstWeek).stream()
+                .collect(Collectors.toMap(IssueThroughput::getWeekStart, IssueThroughput::getDoneCount));
+        List<WeeklyThroughputResponseDTO> throughput = new ArrayList<>(weeks);
+        for (int week = 0; week < weeks; week++) {
+            LocalDate weekStart = firstWeek.plusWeeks(week);
+            throughput.add(WeeklyThroughputResponseDTO.builder()
+                    .weekStart(weekStart)
+                    .doneCount(doneCounts.getOrDefault(weekStart, 0L))
+                    .build());
+        }
+
+        return IssueFlowResponseDTO.builder()
+                .notStartedCount(stat.getNotStartedCount())
+                .inProgressCount(stat.getInProgressCount())
+                .doneCount(stat.getDoneCount())
+                .averageInProgressSeconds(stat.getAverageInProgressSeconds())
+                .throughput(throughput)
+                .build();
+    }
+
     /**
      * 8.1 이슈 의견 추가
      *
@@ -388,6 +691,44 @@ public class IssueServiceImpl implements IssueService {
         return projectMemberRepository.findByUserAndProject(user, project).orElseThrow(() -> new CustomException(NOT_EXISTS_PROJECT_MEMBER));
     }
 
+    /**
+     * 사용자의 프로젝트 멤버 식별 번호 (상태 변경 기록용이므로 찾지 못해도 예외를 발생시키지 않는다.)
+     *
+     * @param email   사용자 이메일
+     * @param project 프로젝트 엔티티
+     * @return Long 프로젝트 멤버 식별 번호 (프로젝트 멤버가 아니면 null)
+     * @author chaeanna
+     * @date 2023-08-31
+     */
+    private Long findMemberIdByEmail(String email, Project project) {
+        if (email == null) {
+            return null;
+        }
+        return userRepository.findOneByEmail(email)
+                .flatMap(user -> projectMemberRepository.findByUserAndProject(user, project))
+                .map(ProjectMember::getMemberId)
+                .orElse(null);
+    }
+
+    /**
+     * 이슈 삭제 기록 (삭제된 이슈는 IN_PROGRESS 상태에 머문 시간에 포함하지 않는다.)
+     *
+     * @param issue         삭제한 이슈
+     * @param fromLifeCycle 삭제 전 이슈 상태
+     * @param memberId      삭제한 프로젝트 멤버 식별 번호
+     * @return IssueTransitionDataDTO 상태 변경 기록
+     * @author chaeanna
+     * @date 2023-08-31
+     */
+    private IssueTransitionDataDTO toRemoveTransition(Issue issue, LifeCycle fromLifeCycle, Long memberId) {
+        return IssueTransitionDataDTO.builder()
+                .issueId(issue.getIssueId())
+                .fromLifeCycle(fromLifeCycle)
+                .memberId(memberId)
+                .transitionedDate(LocalDateTime.now())
+                .build();
+    }
+
     /**
      * projectId로 프로젝트 가져오기
      *
@@ -413,8 +754,8 @@ public class IssueServiceImpl implements IssueService {
      * @date 2023-07-05
      */
     private Issue createIssueNumAndSaveIssue(IssueInfoRequestDTO issueInfoReq, Project project, ProjectMember projectMember) {
-        // 프로젝트에 저장된 마지막 이슈 번호를 조회 후 + 1
-        Long number = issueRepository.getIssueNum(project) + 1;
+        // 프로젝트의 다음 이슈 번호 발급 (예약해 둔 번호를 사용하므로 마지막 이슈 번호를 조회하지 않는다.)
+        Long number = issueNumAllocator.allocate(project.getProjectId());
 
         // 새로운 이슈 생성
         Issue issue = issueRepository.save(Issue.builder()
@@ -432,36 +773,11 @@ public class IssueServiceImpl implements IssueService {
         // 이슈 업데이트
         issue.updateIssueNum(issueNum);
 
-        // 기존에 저장된 이슈 순서
-        Optional<OrderIssue> optionalOrderIssue = orderIssueRedisRepository.findByProjectId(issue.getProject().getProjectId());
-
-        // 새로 생성하려는 이슈 인덱스
-        IssueStatus issueStatus = IssueStatus.builder()
-                .issueId(issue.getIssueId())
-                .lifeCycle(issue.getLifeCycle().toString())
-                .index(0)
-                .build();
-
-        // 기존에 있는 이슈 인덱스들의 값 업데이트
-        optionalOrderIssue.ifPresent(orderIssue -> {
-            orderIssue.getIssueStatusList().forEach(issueStatusItem -> {
-                if (issueStatusItem.getLifeCycle().equals(issue.getLifeCycle().toString())) {
-                    issueStatusItem.updateIndex(issueStatusItem.getIndex() + 1);
-                }
-            });
-            orderIssue.updateOrderIndex(issueStatus);
-            orderIssueRedisRepository.save(orderIssue);
-        });
-
-        if (optionalOrderIssue.isEmpty()) {
-            OrderIssue orderIssueResult = OrderIssue.builder()
-                    .id(UUID.randomUUID().toString())
-                    .projectId(project.getProjectId())
-                    .issueStatusList(Collections.singletonList(issueStatus))
-                    .build();
-
-            orderIssueRedisRepository.save(orderIssueResult);
-        }
+        // 새로 생성한 이슈는 해당 상태의 맨 앞에 둔다. (다른 이슈의 순서는 바뀌지 않는다.)
+        Long projectId = project.getProjectId();
+        String lifeCycle = issue.getLifeCycle().toString();
+        Long issueId = issue.getIssueId();
+        afterCommit(() -> issueRankRedisRepository.move(projectId, lifeCycle, issueId, 0));
 
         return issue;
     }
@@ -528,75 +844,173 @@ public class IssueServiceImpl implements IssueService {
     }
 
     /**
-     * 이슈 필터링 및 배포 상태 설정
+     * 이슈 일괄 변경 작업 하나를 이슈에 적용
      *
-     * @param issues    이슈 리스트
-     * @param lifeCycle 필터링할 배포 상태 (NOT_STARTED, IN_PROGRESS, DONE 중 하나로 대소문자 구분 없이 입력)
-     * @return IssueInfoResponseDTO 필터링된 이슈 리스트
+     * @param issue        변경할 이슈
+     * @param operation    변경 작업
+     * @param edit         접근한 유저의 편집 상태
+     * @param members      작업에 필요한 담당자 (멤버 식별 번호 -> 멤버)
+     * @param releaseNotes 작업에 필요한 릴리즈 노트 (릴리즈 노트 식별 번호 -> 릴리즈 노트)
+     * @return IssueBoardOperation 이슈 보드에 반영할 작업
      * @author chaeanna
-     * @date 2023-07-08
+     * @date 2023-08-28
      */
-    private List<IssueInfoResponseDTO> filterAndSetDeployStatus(Long projectId, List<IssueInfoResponseDTO> issues, String lifeCycle) {
-        Optional<OrderIssue> optionalOrderIssue = orderIssueRedisRepository.findByProjectId(projectId);
-
-        if (optionalOrderIssue.isEmpty()) {
-            // 만약 optionalOrderIssue가 비어있다면 정렬을 무시하고 입력 리스트를 그대로 반환
-            return issues.stream()
-                    .filter(issue -> lifeCycle.equalsIgnoreCase(issue.getLifeCycle()))
-                    .peek(issueInfoRes -> {
-                        // 이슈 정보 조회
-                        Issue issue = getIssueById(issueInfoRes.getIssueId());
-
-                        // 이슈에 연결된 멤버의 식별 번호 조회
-                        Long memberId = issueInfoRes.getMemberId();
-
-                        // 멤버 식별 번호가 null이 아니면서 프로젝트 멤버가 존재하지 않을 경우, 멤버 식별 번호를 0으로 설정
-                        if (memberId != null && projectMemberRepository.findById(memberId).isEmpty()) {
-                            issueInfoRes.setMemberId(0L);
-                        }
-                        // 연결된 릴리즈 존재, 릴리즈의 배포 상태가 "DEPLOYED"인 경우, deployYN 'Y' 설정, 그렇지 않은 경우 'N' 설정
-                        if (issue.getRelease() != null && "DEPLOYED".equalsIgnoreCase(String.valueOf(issue.getRelease().getDeployStatus()))) {
-                            issueInfoRes.setDeployYN('Y');
-                        } else {
-                            issueInfoRes.setDeployYN('N');
-                        }
-                    })
-                    .collect(Collectors.toList());
+    private IssueBoardOperation applyIssueOperation(Issue issue, IssueOperationRequestDTO operation, char edit,
+                                                    Map<Long, ProjectMember> members, Map<Long, ReleaseNote> releaseNotes) {
+        switch (operation.getType().toUpperCase()) {
+            case "MOVE":
+                if (operation.getLifeCycle() == null) {
+                    throw new CustomException(INVALID_ISSUE_OPERATION);
+                }
+
+                // 연결된 릴리즈가 있고 상태의 src != dest일 경우 상태 변경이 불가능
+                String destLifeCycle = operation.getLifeCycle().toUpperCase();
+                if (issue.getRelease() != null && !Objects.equals(issue.getLifeCycle().toString(), destLifeCycle)) {
+                    throw new CustomException(CONNECTED_ISSUE_EXISTS);
+                }
+
+                issue.updateLifeCycle(destLifeCycle);
+                return IssueBoardOperation.move(issue.getIssueId(), destLifeCycle, operation.getIndex() == null ? 0 : operation.getIndex());
+
+            case "ASSIGN":
+                // memberId가 없으면 담당자를 해제하고, 프로젝트에서 찾을 수 없는 멤버이면 예외를 던진다.
+                ProjectMember manager = null;
+                if (operation.getMemberId() != null) {
+                    manager = members.get(operation.getMemberId());
+                    if (manager == null) {
+                        throw new CustomException(NOT_EXISTS_PROJECT_MEMBER);
+                    }
+                }
+
+                issue.updateMember(manager);
+                issue.updateIssueEdit(edit);
+                return IssueBoardOperation.update(issue.getIssueId());
+
+            case "TAG":
+                if (operation.getTag() == null) {
+                    throw new CustomException(INVALID_ISSUE_OPERATION);
+                }
+
+                issue.updateTag(Tag.valueOf(operation.getTag().toUpperCase()));
+                issue.updateIssueEdit(edit);
+                return IssueBoardOperation.update(issue.getIssueId());
+
+            case "CONNECT":
+                ReleaseNote releaseNote = releaseNotes.get(operation.getReleaseId());
+                if (releaseNote == null) {
+                    throw new CustomException(INVALID_ISSUE_OPERATION);
+                }
+
+                // 배포된 릴리즈 노트는 수정할 수 없고, 연결할 이슈는 연결된 릴리즈가 없는 완료 상태여야 한다.
+                if (releaseNote.getDeployStatus() == ReleaseDeployStatus.DEPLOYED) {
+                    throw new CustomException(FAILED_TO_UPDATE_DEPLOYED_RELEASE_VERSION);
+                }
+                if (issue.getRelease() != null) {
+                    throw new CustomException(INVALID_ISSUE_WITH_COMPLETED);
+                }
+                if (issue.getLifeCycle() != LifeCycle.DONE) {
+                    throw new CustomException(INVALID_ISSUE_WITH_NOT_DONE);
+                }
+
+                issue.updateReleaseNote(releaseNote);
+                return IssueBoardOperation.update(issue.getIssueId());
+
+            case "DISCONNECT":
+                if (issue.getRelease() != null && issue.getRelease().getDeployStatus() == ReleaseDeployStatus.DEPLOYED) {
+                    throw new CustomException(FAILED_TO_UPDATE_DEPLOYED_RELEASE_VERSION);
+                }
+
+                issue.disconnectReleaseNote();
+                return IssueBoardOperation.update(issue.getIssueId());
+
+            case "DELETE":
+                // issue와 연결된 릴리즈가 있으면 삭제가 불가능
+                if (issue.getRelease() != null) {
+                    throw new CustomException(CONNECTED_RELEASE_EXISTS, issue.getRelease().getReleaseId());
+                }
+
+                return IssueBoardOperation.delete(issue.getIssueId());
+
+            default:
+                throw new CustomException(INVALID_ISSUE_OPERATION);
         }
+    }
+
+    /**
+     * 작업 목록에서 식별 번호를 중복 없이 모은다.
+     *
+     * @param operations 이슈 일괄 변경 작업 목록
+     * @param idGetter   작업에서 식별 번호를 가져오는 함수
+     * @return Set 식별 번호 목록 (null 제외)
+     * @author chaeanna
+     * @date 2023-08-28
+     */
+    private Set<Long> collectIds(List<IssueOperationRequestDTO> operations, Function<IssueOperationRequestDTO, Long> idGetter) {
+        return operations.stream()
+                .map(idGetter)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
 
-        // issue 순서
-        OrderIssue orderIssue = optionalOrderIssue.get();
-        List<IssueStatus> issueStatusList = orderIssue.getIssueStatusList();
+    /**
+     * 한 번에 조회한 엔티티를 식별 번호로 찾을 수 있도록 모으고, 모두 같은 프로젝트에 속하는지 확인한다.
+     *
+     * @param entities      조회한 엔티티 목록
+     * @param idGetter      엔티티의 식별 번호를 가져오는 함수
+     * @param projectGetter 엔티티가 속한 프로젝트를 가져오는 함수
+     * @param project       작업 중인 프로젝트
+     * @param notExists     다른 프로젝트의 엔티티가 포함된 경우 발생시킬 예외 상태
+     * @return Map 식별 번호 -> 엔티티
+     * @author chaeanna
+     * @date 2023-08-28
+     */
+    private <T> Map<Long, T> mapByIdInProject(List<T> entities, Function<T, Long> idGetter, Function<T, Project> projectGetter,
+                                              Project project, BaseResponseStatus notExists) {
+        Map<Long, T> entitiesById = new HashMap<>();
+        for (T entity : entities) {
+            if (!Objects.equals(projectGetter.apply(entity).getProjectId(), project.getProjectId())) {
+                throw new CustomException(notExists);
+            }
+            entitiesById.put(idGetter.apply(entity), entity);
+        }
+        return entitiesById;
+    }
 
-        return issues.stream()
-                .filter(issue -> lifeCycle.equalsIgnoreCase(issue.getLifeCycle()))
-                .peek(issueInfoRes -> {
-                    // 이슈 정보 조회
-                    Issue issue = getIssueById(issueInfoRes.getIssueId());
+    /**
+     * 이슈 상태별 이슈 식별 번호 순서 조회
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return Map 이슈 상태 -> 순서대로 정렬된 이슈 식별 번호 목록
+     * @author chaeanna
+     * @date 2023-08-27
+     */
+    private Map<String, List<Long>> findIssueOrders(Long projectId) {
+        Map<String, List<Long>> issueOrders = new LinkedHashMap<>();
+        issueRankRedisRepository.findBoardIssueIds(projectId)
+                .forEach((lifeCycle, issueIds) -> issueOrders.put(lifeCycle.toString(), issueIds));
+        return issueOrders;
+    }
 
-                    // 이슈에 연결된 멤버의 식별 번호 조회
-                    Long memberId = issueInfoRes.getMemberId();
+    /**
+     * 이슈 보드 변경(순서, 리비전)을 트랜잭션이 커밋된 이후에 반영
+     * 새 리비전을 받은 클라이언트가 아직 커밋되지 않은 이슈 정보를 조회하지 않도록 한다.
+     *
+     * @param boardChange 이슈 보드 변경 작업
+     * @author chaeanna
+     * @date 2023-08-27
+     */
+    private void afterCommit(Runnable boardChange) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            boardChange.run();
+            return;
+        }
 
-                    // 멤버 식별 번호가 null이 아니면서 프로젝트 멤버가 존재하지 않을 경우, 멤버 식별 번호를 0으로 설정
-                    if (memberId != null && projectMemberRepository.findById(memberId).isEmpty()) {
-                        issueInfoRes.setMemberId(0L);
-                    }
-                    // 연결된 릴리즈 존재, 릴리즈의 배포 상태가 "DEPLOYED"인 경우, deployYN 'Y' 설정, 그렇지 않은 경우 'N' 설정
-                    if (issue.getRelease() != null && "DEPLOYED".equalsIgnoreCase(String.valueOf(issue.getRelease().getDeployStatus()))) {
-                        issueInfoRes.setDeployYN('Y');
-                    } else {
-                        issueInfoRes.setDeployYN('N');
-                    }
-                })
-                .sorted(Comparator.comparingInt(issueInfoRes -> {
-                    // 이슈 상태 리스트에서 해당 이슈의 index를 찾아서 반환
-                    IssueStatus status = issueStatusList.stream()
-                            .filter(result -> result.getIssueId().equals(issueInfoRes.getIssueId()))
-                            .findFirst()
-                            .orElse(null);
-                    return status != null ? status.getIndex() : Integer.MAX_VALUE;
-                }))
-                .collect(Collectors.toList());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                boardChange.run();
+            }
+        });
     }
 
     /**
@@ -623,15 +1037,15 @@ public class IssueServiceImpl implements IssueService {
      * @author chaeanna
      * @date 2023-07-09
      */
-    private IssueDetailsDTO createIssueDetails(ProjectMember member, Issue issue, List<GetMembersDataDTO> memberRes, List<OpinionInfoResponseDTO> opinionRes) {
+    private IssueDetailsDTO createIssueDetails(GetMembersDataDTO member, Issue issue, List<GetMembersDataDTO> memberRes, List<OpinionInfoResponseDTO> opinionRes) {
         // 이슈 상세 정보 생성
         IssueDetailsDataDTO getIssue = IssueMapper.INSTANCE.mapToGetIssue(issue, memberRes, opinionRes);
 
         // 이슈에 연결된 담당자의 식별 번호 조회
         Long memberId = getIssue.getManager();
 
-        // 담당자 식별 번호가 null이 아니면서 프로젝트 멤버가 존재하지 않는 경우, 담당자 식별 번호를 0으로 설정
-        if (memberId != null && projectMemberRepository.findById(memberId).isEmpty()) {
+        // 담당자 식별 번호가 null이 아니면서 프로젝트 멤버 목록에 없는 경우, 담당자 식별 번호를 0으로 설정
+        if (memberId != null && memberRes.stream().noneMatch(m -> memberId.equals(m.getMemberId()))) {
             getIssue.setManager(0L);
         }
 
@@ -650,14 +1064,10 @@ public class IssueServiceImpl implements IssueService {
      * @author chaeanna
      * @date 2023-07-09
      */
-    private void updateIssueEdit(Issue issue, ProjectMember member) {
-        Project project = issue.getProject();
-
+    private void updateIssueEdit(Issue issue, GetMembersDataDTO member) {
         // 멤버의 포지션 'L'인 경우 이슈의 편집 상태를 'N'(편집 불가능)로 업데이트
-        boolean hasEditor = project.getMembers().stream()
-                .anyMatch(m -> m.getPosition() == 'L' && m.getMemberId() == member.getMemberId());
-
-        if (hasEditor) {
+        if (member.getPosition() == 'L') {
+            issueDetailsLoader.updateIssueEdit(issue.getIssueId(), 'N');
             issue.updateIssueEdit('N');
         }
     }
@@ -673,8 +1083,19 @@ public class IssueServiceImpl implements IssueService {
      */
     private List<OpinionInfoResponseDTO> getIssueOpinionsWithDeleteYN(Issue issue, Long memberId) {
         // 이슈의 의견 목록 조회
-        List<OpinionInfoResponseDTO> issueOpinion = issueRepository.getIssueOpinion(issue);
+        return markDeletableOpinions(issueRepository.getIssueOpinion(issue), memberId);
+    }
 
+    /**
+     * 조회한 의견 목록에 삭제 가능 여부 설정
+     *
+     * @param issueOpinion 이슈의 의견 목록
+     * @param memberId     멤버 식별 번호
+     * @return OpinionInfoResponseDTO 삭제 가능 여부가 설정된 이슈의 의견 목록
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    private List<OpinionInfoResponseDTO> markDeletableOpinions(List<OpinionInfoResponseDTO> issueOpinion, Long memberId) {
         // 각 의견에 대해 주어진 멤버 식별 번호와 비교하여 삭제 가능 여부 설정
         for (OpinionInfoResponseDTO opinion : issueOpinion) {
             // 의견의 작성자가 일치하는 경우 deleteYN 'Y'로 설정, 그렇지 않은 경우 'N' 설정
@@ -684,21 +1105,6 @@ public class IssueServiceImpl implements IssueService {
         return issueOpinion;
     }
 
-    /**
-     * 프로젝트 멤버 리스트 조회
-     *
-     * @param project 프로젝트 정보
-     * @return GetMembers 프로젝트의 멤버 리스트
-     * @author chaeanna
-     * @date 2023-07-09
-     */
-    private List<GetMembersDataDTO> getProjectMembers(Project project) {
-        // 프로젝트에 속한 멤버 리스트를 조회
-        List<GetMembersDataDTO> issueMember = projectRepository.getMemberList(project);
-
-        return issueMember;
-    }
-
     /**
      * 이슈 상태 변경
      *
@@ -709,100 +1115,16 @@ public class IssueServiceImpl implements IssueService {
      * @date 2023-07-08
      */
     private String changeLifeCycle(Issue issue, Integer index, String destLifeCycle) {
-        // 기존 lifeCycle
-        String srcLifeCycle = String.valueOf(issue.getLifeCycle());
-
-        // 이슈 순서 업데이트
-        Optional<OrderIssue> optionalOrderIssue = orderIssueRedisRepository.findByProjectId(issue.getProject().getProjectId());
-
-        if (optionalOrderIssue.isPresent()) {
-            OrderIssue orderIssue = optionalOrderIssue.get();
-            Long updateIssueId = issue.getIssueId();
-            // updateIssueId가 issueStatusList에 있는지 확인하는 코드
-            IssueStatus issueStatusResult = orderIssue.getIssueStatusList().stream().filter(issueStatus -> issueStatus.getIssueId().equals(updateIssueId)).findFirst().get();
-
-            // 같은 lifeCycle내에서 순서 변경
-            if (issueStatusResult != null && srcLifeCycle.equals(destLifeCycle)) {
-                // 같은 LifeCycle내에 있는 이슈 리스트
-                List<IssueStatus> issueList = orderIssue.getIssueStatusList().stream()
-                        .filter(issueStatus -> issueStatus.getLifeCycle().equals(destLifeCycle))
-                        .sorted(Comparator.comparingInt(IssueStatus::getIndex))
-                        .collect(Collectors.toList());
-
-                // 변경할 순서인덱스가 0이상이고 이슈 리스트보다 작을 경우
-                if (index >= 0 && index < issueList.size()) {
-
-                    // 변경당할 인덱스를 가진 이슈 정보
-                    IssueStatus targetIssue = issueList.stream().filter(sameIssue -> sameIssue.getIssueId().equals(issue.getIssueId())).findFirst().get();
-                    // 해당 Index를 가진 기존 이슈 정보
-                    IssueStatus originalIssue = issueList.get(index);
-                    Integer newIndex = targetIssue.getIndex();
-
-                    // 두 이슈의 위치를 서로 바꿉니다
-                    issueList.set(index, targetIssue);
-                    issueList.set(newIndex, originalIssue);
-
-                    // 인덱스를 업데이트합니다
-                    for (int i = 0; i < issueList.size(); i++) {
-                        issueList.get(i).updateIndex(i);
-                    }
-                }
-
-                List<IssueStatus> issueStatusList = orderIssue.getIssueStatusList().stream()
-                        .filter(issueStatus -> !(issueStatus.getLifeCycle().equals(destLifeCycle)))
-                                .collect(Collectors.toList());
-
-                List<IssueStatus> updatedIssueStatusList = new ArrayList<>(issueList);
-                updatedIssueStatusList.addAll(issueStatusList);
-                orderIssue.updateIssueStatusList(updatedIssueStatusList);
-
-                orderIssueRedisRepository.save(orderIssue);
-            } else {
-
-                boolean exists = orderIssue.getIssueStatusList().stream()
-                        .anyMatch(status -> status.getIssueId().equals(updateIssueId));
-                // 해당 이슈가 존재하면 업데이트
-                if (exists) {
-
-                    // index가 0이면
-                    if (index == 0) {
-                        // destLifeCycle과 같은 lifeCycle이며 모든 인덱스 +1
-                        orderIssue.getIssueStatusList().forEach(issueStatusItem -> {
-                            if (issueStatusItem.getLifeCycle().equals(destLifeCycle)) {
-                                issueStatusItem.updateIndex(issueStatusItem.getIndex() + 1);
-                            }
-                        });
-                    } else {
-                        // destLifeCycle과 같은 lifeCycle이며 index 이상 +1
-                        orderIssue.getIssueStatusList().forEach(issueStatusItem -> {
-                            if (issueStatusItem.getLifeCycle().equals(destLifeCycle) && issueStatusItem.getIndex() >= index) {
-                                issueStatusItem.updateIndex(issueStatusItem.getIndex() + 1);
-                            }
-                        });
-                    }
-
-                    // srcLifeCycle과 같은 lifeCycle이며 기존 인덱스보다 큰 인덱스 -1
-                    orderIssue.getIssueStatusList().replaceAll(issueStatus -> {
-                        if (issueStatus.getLifeCycle().equals(srcLifeCycle) && issueStatus.getIndex() > index) {
-                            // 기존 인덱스보다 크면 -1 처리
-                            issueStatus.updateIndex(issueStatus.getIndex() - 1);
-                        }
-                        return issueStatus;
-                    });
-
-                    // 순서 변경 저장
-                    IssueStatus issueStatus = new IssueStatus(updateIssueId, destLifeCycle, index);
-                    orderIssue.updateIssueStatus(issueStatusResult, issueStatus);
-
-                    orderIssueRedisRepository.save(orderIssue);
-                }
-            }
-        }
-
         // 이슈의 상태를 주어진 상태로 변경
         issue.updateLifeCycle(destLifeCycle);
         issueRepository.save(issue);
 
+        // 이슈 순서 업데이트 (옮기는 이슈의 점수만 바꾸며, 다른 사용자의 이동과 섞이지 않도록 원자적으로 실행한다.)
+        Long projectId = issue.getProject().getProjectId();
+        Long issueId = issue.getIssueId();
+        int destIndex = index == null ? 0 : index;
+        afterCommit(() -> issueRankRedisRepository.move(projectId, destLifeCycle, issueId, destIndex));
+
         return "이슈 상태 변경이 완료되었습니다.";
     }
 
@@ -882,6 +1204,27 @@ public class IssueServiceImpl implements IssueService {
         notificationEventPublisher.notifyIssue(IssueMessageEvent.toNotifyOneIssue(message, consumers));
     }
 
+    private void notifyIssueBulk(Project project, String bulkMessage) {
+
+        // 알림 메시지를 정의한다. (여러 이슈에 대한 알림이므로 이슈 식별 번호는 비워 둔다.)
+        IssueMessageDto message = IssueMessageDto.builder()
+                .type("Issue")
+                .projectId(project.getProjectId())
+                .projectName(project.getTitle())
+                .projectImg(project.getImg())
+                .message(bulkMessage)
+                .date(new Date())
+                .build();
+
+        // 알림 메시지를 보낼 대상 목록을 가져온다. (가져오기는 트랜잭션 밖에서 호출하므로 사용자 정보를 함께 조회한다.)
+        List<String> consumers = projectMemberRepository.findWithUserByProject(project).stream()
+                .map(m -> m.getUser().getEmail())
+                .collect(Collectors.toList());
+
+        // 이벤트 리스너를 호출하여 이슈 일괄 변경 트랜잭션이 완료된 후 호출하도록 한다.
+        notificationEventPublisher.notifyIssue(IssueMessageEvent.toNotifyOneIssue(message, consumers));
+    }
+
     private void notifyIssueOne(String userEmail, Project project, Issue issue, ProjectMember member) {
 
         if (issue.getMember() != member) {
@@ -0,0 +1,43 @@
+package com.momentum.releaser.domain.issue.dao;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.momentum.releaser.domain.issue.domain.IssueFlowStat;
+
+public interface IssueFlowStatRepository extends JpaRepository<IssueFlowStat, Long> {
+
+    /**
+     * 이슈 흐름 통계에 변화량을 더한다. 통계 행이 없는 프로젝트는 0을 반환한다.
+     */
+    @Modifying
+    @Query(value = "UPDATE issue_flow_stat SET not_started_count = not_started_count + :notStarted, "
+            + "in_progress_count = in_progress_count + :inProgress, done_count = done_count + :done, "
+            + "in_progress_seconds = in_progress_seconds + :inProgressSeconds, in_progress_exit_count = in_progress_exit_count + :inProgressExits, "
+            + "modified_date = NOW() WHERE project_id = :projectId", nativeQuery = true)
+    int addCounts(@Param("projectId") Long projectId, @Param("notStarted") long notStarted, @Param("inProgress") long inProgress,
+                  @Param("done") long done, @Param("inProgressSeconds") long inProgressSeconds, @Param("inProgressExits") long inProgressExits);
+
+    /**
+     * 통계 행이 없는 경우에만, 현재 이슈 상태별 개수로 만든다. (이슈 상태 변경 기록이 생기기 전의 이슈까지 포함하기 위함)
+     * 동시에 여러 요청이 들어와도 중복 키 예외 없이 한 행만 생성된다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO issue_flow_stat "
+            + "(project_id, not_started_count, in_progress_count, done_count, in_progress_seconds, in_progress_exit_count, modified_date) "
+            + "SELECT :projectId, COALESCE(SUM(life_cycle = 'NOT_STARTED'), 0), COALESCE(SUM(life_cycle = 'IN_PROGRESS'), 0), COALESCE(SUM(life_cycle = 'DONE'), 0), "
+            + ":inProgressSeconds, :inProgressExits, NOW() FROM issue WHERE project_id = :projectId AND status = 'Y'", nativeQuery = true)
+    int insertIfAbsent(@Param("projectId") Long projectId, @Param("inProgressSeconds") long inProgressSeconds, @Param("inProgressExits") long inProgressExits);
+
+    /**
+     * 프로젝트의 주별 완료 이슈 수에 더한다. 해당 주의 행이 없으면 만든다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO issue_throughput (project_id, week_start, done_count) VALUES (:projectId, :weekStart, :done) "
+            + "ON DUPLICATE KEY UPDATE done_count = done_count + VALUES(done_count)", nativeQuery = true)
+    int addThroughput(@Param("projectId") Long projectId, @Param("weekStart") LocalDate weekStart, @Param("done") long done);
+}
@@ -0,0 +1,34 @@
+package com.momentum.releaser.domain.issue.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.momentum.releaser.domain.issue.domain.IssueNumSequence;
+
+public interface IssueNumSequenceRepository extends JpaRepository<IssueNumSequence, Long> {
+
+    /**
+     * 프로젝트의 이슈 번호를 size개 예약한다.
+     * 한 번의 UPDATE로 값을 늘리면서 늘어난 값을 LAST_INSERT_ID()에 기록하므로, 같은 커넥션에서 잠금 없이 예약한 범위를 알 수 있다.
+     */
+    @Modifying
+    @Query(value = "UPDATE issue_num_sequence SET next_value = LAST_INSERT_ID(next_value + :size) WHERE project_id = :projectId", nativeQuery = true)
+    int reserve(@Param("projectId") Long projectId, @Param("size") int size);
+
+    /**
+     * 현재 커넥션에서 마지막으로 예약한 다음 이슈 번호를 조회한다.
+     */
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long findLastReservedValue();
+
+    /**
+     * 프로젝트의 시퀀스 행이 없는 경우에만, 기존 이슈 번호(issue_num) 중 가장 큰 번호의 다음 값으로 만든다.
+     * 동시에 여러 요청이 들어와도 중복 키 예외 없이 한 행만 생성된다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO issue_num_sequence (project_id, next_value) "
+            + "SELECT :projectId, COALESCE(MAX(issue_num), 0) + 1 FROM issue_num WHERE project_id = :projectId", nativeQuery = true)
+    int insertIfAbsent(@Param("projectId") Long projectId);
+}
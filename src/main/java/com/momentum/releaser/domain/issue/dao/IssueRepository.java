@@ -3,10 +3,13 @@ package com.momentum.releaser.domain.issue.dao;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
 
 @RepositoryRestResource(collectionResourceRel="issue", path="issue")
@@ -15,4 +18,8 @@ public interface IssueRepository extends JpaRepository<Issue, Long>, IssueReposi
     //릴리즈 기반으로 연결된 이슈 목록 List 형태로 반환
     List<Issue> findByRelease(ReleaseNote note);
 
+    //담당자로 지정된 이슈 식별 번호 목록 List 형태로 반환
+    @Query("select i.issueId from Issue i where i.member = :member")
+    List<Long> findIssueIdsByMember(@Param("member") ProjectMember member);
+
 }
@@ -1,18 +1,28 @@
 package com.momentum.releaser.domain.issue.dao;
 
+import java.util.Collection;
 import java.util.List;
 
+import com.mysema.commons.lang.CloseableIterator;
+
 import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueImportDataDTO;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueTransferDataDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.*;
 import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetIssueInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.SearchDocumentDataDTO;
+import com.querydsl.core.types.Predicate;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
-import com.querydsl.core.types.dsl.NumberTemplate;
 
 public interface IssueRepositoryCustom {
 
     // 프로젝트에 속한 이슈의 정보를 List 형태로 반환
     List<IssueInfoResponseDTO> getIssues(Project project);
 
+    // 프로젝트에 속한 이슈 중 주어진 이슈의 정보를 List 형태로 반환
+    List<IssueInfoResponseDTO> getIssuesByIds(Project project, Collection<Long> issueIds);
+
     // 프로젝트에 관련한 이슈 번호 조회
     Long getIssueNum(Project project);
 
@@ -28,7 +38,19 @@ public interface IssueRepositoryCustom {
     // 이슈에 속한 의견 목록 List 형태로 반환
     List<OpinionInfoResponseDTO> getIssueOpinion(Issue issue);
 
-    // 이슈를 검색할 시 필터링을 거친 정보를 List 형태로 반환
-    List<Issue> getSearch(NumberTemplate booleanTemplate, Project project);
+    // 통합검색 색인에 사용할 프로젝트의 이슈 제목과 태그를 List 형태로 반환
+    List<SearchDocumentDataDTO> getSearchDocuments(Long projectId);
+
+    // 통합검색 조건을 만족하는 이슈를 식별 번호 순서대로 한 번의 쿼리로 조회 (limit 이 null 이면 제한 없음)
+    List<GetIssueInfoDataDTO> getSearchIssues(Predicate predicate, Long limit);
+
+    // 통합검색 조건을 만족하는 이슈 수
+    long countSearchIssues(Predicate predicate);
+
+    // 프로젝트의 이슈를 이슈 번호 순서대로 읽는 커서 반환 (사용 후 반드시 닫아야 한다.)
+    CloseableIterator<IssueTransferDataDTO> scrollIssues(Project project);
+
+    // 가져온 이슈와 이슈 번호를 JDBC 배치로 저장하고 생성된 이슈 식별 번호를 순서대로 반환
+    List<Long> saveAllImported(Long projectId, List<IssueImportDataDTO> issues, long firstIssueNum);
 
 }
@@ -1,5 +1,13 @@
 package com.momentum.releaser.domain.issue.dao;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,31 +15,61 @@ import com.momentum.releaser.domain.issue.dto.QIssueResponseDto_ConnectionIssues
 import com.momentum.releaser.domain.issue.dto.QIssueResponseDto_DoneIssuesResponseDTO;
 import com.momentum.releaser.domain.issue.dto.QIssueResponseDto_IssueInfoResponseDTO;
 import com.momentum.releaser.domain.issue.dto.QIssueResponseDto_OpinionInfoResponseDTO;
-import com.querydsl.core.types.dsl.NumberTemplate;
+import com.querydsl.core.types.Predicate;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.mysema.commons.lang.CloseableIterator;
 
 import com.momentum.releaser.domain.issue.domain.*;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueImportDataDTO;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueTransferDataDTO;
+import com.momentum.releaser.domain.issue.dto.QIssueDataDto_IssueTransferDataDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.ConnectionIssuesResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.DoneIssuesResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueInfoResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.OpinionInfoResponseDTO;
 import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetIssueInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.SearchDocumentDataDTO;
+import com.momentum.releaser.domain.project.dto.QProjectDataDto_GetIssueInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.QProjectDataDto_SearchDocumentDataDTO;
 import com.momentum.releaser.domain.project.domain.QProjectMember;
 import com.momentum.releaser.domain.release.domain.QReleaseNote;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
 import com.momentum.releaser.domain.user.domain.QUser;
+import com.momentum.releaser.global.config.AppProperties;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class IssueRepositoryImpl implements IssueRepositoryCustom{
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
+
+    /**
+     * 이슈와 이슈 번호는 IDENTITY 전략을 사용하여 Hibernate 가 INSERT 문을 묶어서 보내지 못하므로, 가져오기는 JDBC 배치로 직접 저장한다.
+     * 수정 여부, 상태는 엔티티 기본값(N, Y)과 동일하게 생성된다.
+     */
+    private static final String INSERT_ISSUE_SQL = "INSERT INTO issue " +
+            "(title, content, summary, tag, end_date, life_cycle, life_cycle_modified_date, edit, status, project_id, member_id, created_date, modified_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 'N', 'Y', ?, ?, ?, ?)";
+
+    private static final String INSERT_ISSUE_NUM_SQL =
+            "INSERT INTO issue_num (issue_id, project_id, issue_num, created_date, modified_date) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_ISSUE_NUM_ID_SQL = "UPDATE issue SET issue_num_id = ? WHERE issue_id = ?";
 
     /**
      * 프로젝트의 마지막 이슈 번호 조회
@@ -89,17 +127,43 @@ public class IssueRepositoryImpl implements IssueRepositoryCustom{
      * @author chaeanna
      * @date 2023-07-07
      * @param getProject 프로젝트 정보
-     * @return IssueInfoResponseDTO 프로젝트에 속하는 모든 이슈 정보
+     * @return IssueInfoResponseDTO 프로젝트에 속하는 모든 이슈 정보 (담당자의 프로젝트 탈퇴 여부와 릴리즈 배포 여부가 반영되어 있다.)
      */
     @Override
     public List<IssueInfoResponseDTO> getIssues(Project getProject) {
+        // 주어진 프로젝트에 속하는 모든 이슈 정보 조회
+        return selectIssueInfos(QIssue.issue.project.eq(getProject));
+    }
+
+    /**
+     * 프로젝트에 속하는 이슈 중 주어진 이슈만 조회
+     *
+     * @author chaeanna
+     * @date 2023-08-27
+     * @param project  프로젝트 정보
+     * @param issueIds 조회할 이슈 식별 번호 목록
+     * @return IssueInfoResponseDTO 주어진 이슈 정보 (삭제된 이슈는 포함되지 않는다.)
+     */
+    @Override
+    public List<IssueInfoResponseDTO> getIssuesByIds(Project project, Collection<Long> issueIds) {
+        if (issueIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        QIssue issue = QIssue.issue;
+        return selectIssueInfos(issue.project.eq(project).and(issue.issueId.in(issueIds)));
+    }
+
+    /**
+     * 이슈 보드에 표시할 이슈 정보를 조건에 맞게 조회한다.
+     */
+    private List<IssueInfoResponseDTO> selectIssueInfos(Predicate condition) {
         QIssue issue = QIssue.issue;
         QProjectMember member = QProjectMember.projectMember;
         QUser user = QUser.user;
         QReleaseNote releaseNote = QReleaseNote.releaseNote;
 
-        // 주어진 프로젝트에 속하는 모든 이슈 정보 조회
-        List<IssueInfoResponseDTO> result = queryFactory
+        return queryFactory
                 .select(new QIssueResponseDto_IssueInfoResponseDTO(
                         issue.issueId,
                         issue.issueNum.issueNum,
@@ -112,16 +176,16 @@ public class IssueRepositoryImpl implements IssueRepositoryCustom{
                         Expressions.stringTemplate("CAST({0} AS string)", issue.tag),
                         releaseNote.version.as("releaseVersion"),
                         issue.edit,
-                        Expressions.stringTemplate("CAST({0} AS string)", issue.lifeCycle))
+                        Expressions.stringTemplate("CAST({0} AS string)", issue.lifeCycle),
+                        member.status,
+                        releaseNote.deployStatus)
                 )
                 .from(issue)
                 .leftJoin(issue.member, member)
                 .leftJoin(member.user, user)
                 .leftJoin(issue.release, releaseNote)
-                .where(issue.project.eq(getProject))
-                .fetchResults().getResults();
-
-        return result;
+                .where(condition)
+                .fetch();
     }
 
     /**
@@ -236,26 +300,212 @@ public class IssueRepositoryImpl implements IssueRepositoryCustom{
     }
 
     /**
-     * FULLTEXT 검색을 이용하여 필터링된 이슈 정보 조회
+     * 통합검색 색인에 사용할 프로젝트의 이슈 제목과 태그 조회
      *
-     * @param booleanTemplate FULLTEXT 검색에 사용할 NumberTemplate
-     * @param project 검색할 프로젝트 정보
-     * @return FULLTEXT 검색 결과로 필터링된 이슈 정보 리스트
-     * @date 2023-08-06
+     * @param projectId 프로젝트 식별 번호
+     * @return 이슈 식별 번호, 제목, 태그 리스트
+     * @date 2023-08-29
      * @author chaeanna
      */
     @Override
-    public List<Issue> getSearch(NumberTemplate booleanTemplate, Project project) {
+    public List<SearchDocumentDataDTO> getSearchDocuments(Long projectId) {
         QIssue issue = QIssue.issue;
-        // FULLTEXT 검색을 적용하여 이슈 정보 조회
-        List<Issue> result = queryFactory
-                .select(issue)
+        return queryFactory
+                .select(new QProjectDataDto_SearchDocumentDataDTO(
+                        issue.issueId,
+                        issue.title,
+                        issue.tag.stringValue()
+                ))
                 .from(issue)
-                .where(booleanTemplate.gt(0)
-                        .and(issue.project.eq(project))
-                )
+                .where(issue.project.projectId.eq(projectId))
                 .fetch();
-        return result;
+    }
+
+    /**
+     * 통합검색 조건을 만족하는 이슈를 담당자, 릴리즈 버전과 함께 한 번의 쿼리로 조회
+     * 엔티티를 조회하지 않고 검색 결과에 필요한 열만 가져온다.
+     *
+     * @param predicate 검색 조건 (키셋 페이지 조건 포함)
+     * @param limit     최대 조회 수 (null 이면 제한 없음)
+     * @return List 식별 번호 순서대로 정렬된 이슈 검색 결과
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    @Override
+    public List<GetIssueInfoDataDTO> getSearchIssues(Predicate predicate, Long limit) {
+        QIssue issue = QIssue.issue;
+        QReleaseNote release = QReleaseNote.releaseNote;
+        QProjectMember member = QProjectMember.projectMember;
+        QUser user = QUser.user;
+
+        JPAQuery<GetIssueInfoDataDTO> query = queryFactory
+                .select(new QProjectDataDto_GetIssueInfoDataDTO(
+                        issue.issueId,
+                        issue.title,
+                        issue.tag.stringValue(),
+                        release.version,
+                        issue.endDate,
+                        member.memberId,
+                        user.name,
+                        user.img
+                ))
+                .from(issue)
+                .leftJoin(issue.release, release)
+                .leftJoin(issue.member, member)
+                .leftJoin(member.user, user)
+                .where(predicate)
+                .orderBy(issue.issueId.asc());
+
+        // 키셋 페이지 조회인 경우에만 LIMIT 을 건다.
+        if (limit != null) {
+            query.limit(limit);
+        }
+        return query.fetch();
+    }
+
+    /**
+     * 통합검색 조건을 만족하는 이슈 수
+     *
+     * @param predicate 검색 조건
+     * @return long 이슈 수
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    @Override
+    public long countSearchIssues(Predicate predicate) {
+        QIssue issue = QIssue.issue;
+
+        Long count = queryFactory
+                .select(issue.count())
+                .from(issue)
+                .where(predicate)
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 프로젝트의 이슈를 이슈 번호 순서대로 한 행씩 읽는 커서
+     * MySQL 드라이버가 결과를 한 번에 가져오지 않도록 fetch size 를 Integer.MIN_VALUE 로 지정한다.
+     *
+     * @param project 프로젝트 정보
+     * @return CloseableIterator 사용 후 반드시 닫아야 하는 이슈 커서
+     * @author chaeanna
+     * @date 2023-08-30
+     */
+    @Override
+    public CloseableIterator<IssueTransferDataDTO> scrollIssues(Project project) {
+        QIssue issue = QIssue.issue;
+        QIssueNum issueNum = QIssueNum.issueNum1;
+        QProjectMember member = QProjectMember.projectMember;
+        QUser user = QUser.user;
+
+        return queryFactory
+                .select(new QIssueDataDto_IssueTransferDataDTO(
+                        issueNum.issueNum,
+                        issue.title,
+                        issue.content,
+                        issue.summary,
+                        issue.tag.stringValue(),
+                        issue.endDate,
+                        issue.lifeCycle.stringValue(),
+                        user.email))
+                .from(issue)
+                .leftJoin(issue.issueNum, issueNum)
+                .leftJoin(issue.member, member)
+                .leftJoin(member.user, user)
+                .where(issue.project.eq(project))
+                .orderBy(issueNum.issueNum.asc(), issue.issueId.asc())
+                .setHint(QueryHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .iterate();
+    }
+
+    /**
+     * 가져온 이슈를 저장하고, firstIssueNum 부터 순서대로 이슈 번호를 만들어 연결한다.
+     * 이슈, 이슈 번호, 이슈 번호 연결을 각각 하나의 JDBC 배치로 보낸다.
+     *
+     * @param projectId     프로젝트 식별 번호
+     * @param issues        검증을 마친 이슈 목록
+     * @param firstIssueNum 첫 번째 이슈에 부여할 이슈 번호 (미리 issues 크기만큼 예약해 두어야 한다.)
+     * @return List 생성된 이슈 식별 번호 (issues 순서와 같다.)
+     * @author chaeanna
+     * @date 2023-08-30
+     */
+    @Override
+    public List<Long> saveAllImported(Long projectId, List<IssueImportDataDTO> issues, long firstIssueNum) {
+        if (issues.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Long> issueIds = batchInsertReturningKeys(INSERT_ISSUE_SQL, issues, (ps, issue) -> {
+            ps.setString(1, issue.getTitle());
+            ps.setString(2, issue.getContent());
+            ps.setString(3, issue.getSummary());
+            ps.setString(4, issue.getTag().name());
+            ps.setTimestamp(5, new Timestamp(issue.getEndDate().getTime()));
+            ps.setString(6, issue.getLifeCycle().name());
+            ps.setTimestamp(7, now);
+            ps.setLong(8, projectId);
+            ps.setObject(9, issue.getMemberId());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+
+        List<long[]> issueIdAndNums = new ArrayList<>(issueIds.size());
+        for (int i = 0; i < issueIds.size(); i++) {
+            issueIdAndNums.add(new long[]{issueIds.get(i), firstIssueNum + i});
+        }
+
+        List<Long> issueNumIds = batchInsertReturningKeys(INSERT_ISSUE_NUM_SQL, issueIdAndNums, (ps, idAndNum) -> {
+            ps.setLong(1, idAndNum[0]);
+            ps.setLong(2, projectId);
+            ps.setLong(3, idAndNum[1]);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+
+        List<long[]> issueNumIdAndIssueIds = new ArrayList<>(issueIds.size());
+        for (int i = 0; i < issueIds.size(); i++) {
+            issueNumIdAndIssueIds.add(new long[]{issueNumIds.get(i), issueIds.get(i)});
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_ISSUE_NUM_ID_SQL, issueNumIdAndIssueIds, appProperties.getJdbc().getBatchSize(),
+                (ps, ids) -> {
+                    ps.setLong(1, ids[0]);
+                    ps.setLong(2, ids[1]);
+                });
+
+        return issueIds;
+    }
+
+    /**
+     * 목록을 하나의 JDBC 배치로 INSERT 하고, 생성된 식별 번호를 INSERT 순서대로 반환한다.
+     * 트랜잭션에 연결된 커넥션을 사용하므로 호출한 쪽의 트랜잭션과 함께 커밋, 롤백된다.
+     */
+    private <T> List<Long> batchInsertReturningKeys(String sql, List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+        List<Long> keys = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (T row : rows) {
+                    setter.setValues(ps, row);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> generatedKeys = new ArrayList<>(rows.size());
+                try (ResultSet resultSet = ps.getGeneratedKeys()) {
+                    while (resultSet.next()) {
+                        generatedKeys.add(resultSet.getLong(1));
+                    }
+                }
+                return generatedKeys;
+            }
+        });
+
+        if (keys == null || keys.size() != rows.size()) {
+            throw new IncorrectResultSizeDataAccessException(rows.size(), keys == null ? 0 : keys.size());
+        }
+        return keys;
     }
 
 }
@@ -0,0 +1,14 @@
+package com.momentum.releaser.domain.issue.dao;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.momentum.releaser.domain.issue.domain.IssueThroughput;
+
+public interface IssueThroughputRepository extends JpaRepository<IssueThroughput, Long> {
+
+    // 프로젝트의 주어진 주부터의 주별 완료 이슈 수 조회
+    List<IssueThroughput> findByProjectIdAndWeekStartGreaterThanEqualOrderByWeekStartAsc(Long projectId, LocalDate weekStart);
+}
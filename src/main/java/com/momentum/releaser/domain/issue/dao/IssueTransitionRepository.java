@@ -0,0 +1,8 @@
+package com.momentum.releaser.domain.issue.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.momentum.releaser.domain.issue.domain.IssueTransition;
+
+public interface IssueTransitionRepository extends JpaRepository<IssueTransition, Long>, IssueTransitionRepositoryCustom {
+}
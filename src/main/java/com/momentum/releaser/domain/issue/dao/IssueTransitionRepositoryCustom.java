@@ -0,0 +1,11 @@
+package com.momentum.releaser.domain.issue.dao;
+
+import java.util.List;
+
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueTransitionDataDTO;
+
+public interface IssueTransitionRepositoryCustom {
+
+    // 프로젝트의 이슈 상태 변경 기록을 JDBC 배치로 한 번에 저장
+    void saveAllTransitions(Long projectId, List<IssueTransitionDataDTO> transitions);
+}
@@ -0,0 +1,57 @@
+package com.momentum.releaser.domain.issue.dao;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueTransitionDataDTO;
+import com.momentum.releaser.global.config.AppProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IssueTransitionRepositoryImpl implements IssueTransitionRepositoryCustom {
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
+
+    /**
+     * 상태 변경 기록은 IDENTITY 전략을 사용하여 Hibernate 가 INSERT 문을 묶어서 보내지 못하므로, JDBC 배치로 직접 저장한다.
+     */
+    private static final String INSERT_TRANSITION_SQL = "INSERT INTO issue_transition " +
+            "(issue_id, project_id, from_life_cycle, to_life_cycle, member_id, transitioned_date) VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 프로젝트의 이슈 상태 변경 기록을 app.jdbc.batch-size 단위로 나누어 INSERT 한다.
+     *
+     * @param projectId   프로젝트 식별 번호
+     * @param transitions 저장할 상태 변경 기록
+     * @author chaeanna
+     * @date 2023-08-31
+     */
+    @Override
+    public void saveAllTransitions(Long projectId, List<IssueTransitionDataDTO> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TRANSITION_SQL, transitions, appProperties.getJdbc().getBatchSize(),
+                (ps, transition) -> {
+                    ps.setLong(1, transition.getIssueId());
+                    ps.setLong(2, projectId);
+                    ps.setString(3, transition.getFromLifeCycle() == null ? null : transition.getFromLifeCycle().name());
+                    ps.setString(4, transition.getToLifeCycle() == null ? null : transition.getToLifeCycle().name());
+                    if (transition.getMemberId() == null) {
+                        ps.setNull(5, Types.BIGINT);
+                    } else {
+                        ps.setLong(5, transition.getMemberId());
+                    }
+                    ps.setTimestamp(6, Timestamp.valueOf(transition.getTransitionedDate()));
+                });
+    }
+}
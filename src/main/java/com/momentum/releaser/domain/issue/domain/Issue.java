@@ -1,5 +1,6 @@
 package com.momentum.releaser.domain.issue.domain;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -61,6 +62,9 @@ public class Issue extends BaseTime {
     @Enumerated(EnumType.STRING)
     private LifeCycle lifeCycle; //이슈 진행 상태
 
+    @Column(name = "life_cycle_modified_date")
+    private LocalDateTime lifeCycleModifiedDate; //현재 상태가 된 시각 (기존 이슈는 null)
+
     @NotNull
     @Column(name = "edit")
     private char edit; //수정 여부
@@ -122,6 +126,7 @@ public class Issue extends BaseTime {
     @PrePersist
     public void prePersist() {
         this.lifeCycle = lifeCycle == null ? LifeCycle.NOT_STARTED : this.lifeCycle;
+        this.lifeCycleModifiedDate = lifeCycleModifiedDate == null ? LocalDateTime.now() : this.lifeCycleModifiedDate;
         this.edit = (this.edit == '\0') ? 'N' : this.edit;
         this.status = (this.status == '\0') ? 'Y' : this.status;
     }
@@ -197,10 +202,28 @@ public class Issue extends BaseTime {
     }
 
     /**
-     * 이슈 상태 변경 업데이트
+     * 이슈 상태 변경 업데이트 (같은 상태 안에서 순서만 바꾸는 경우 상태가 된 시각은 그대로 둔다.)
      */
     public void updateLifeCycle(String lifeCycle) {
-        this.lifeCycle = LifeCycle.valueOf(lifeCycle);
+        LifeCycle destLifeCycle = LifeCycle.valueOf(lifeCycle);
+        if (this.lifeCycle != destLifeCycle) {
+            this.lifeCycleModifiedDate = LocalDateTime.now();
+        }
+        this.lifeCycle = destLifeCycle;
+    }
+
+    /**
+     * 이슈 담당자 변경 (null인 경우 담당자 해제)
+     */
+    public void updateMember(ProjectMember member) {
+        this.member = member;
+    }
+
+    /**
+     * 이슈 태그 변경
+     */
+    public void updateTag(Tag tag) {
+        this.tag = tag;
     }
 
 
@@ -0,0 +1,63 @@
+package com.momentum.releaser.domain.issue.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트별 이슈 흐름 통계
+ * 이슈 상태가 바뀔 때마다 같은 트랜잭션에서 변화량만 더하므로, 조회할 때 이슈나 상태 변경 기록을 집계하지 않는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "issue_flow_stat")
+@Entity
+public class IssueFlowStat {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    // 이슈 상태별 이슈 수
+    @Column(name = "not_started_count", nullable = false)
+    private long notStartedCount;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private long inProgressCount;
+
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+
+    // IN_PROGRESS 상태를 벗어난 이슈가 그 상태에 머문 시간의 합(초)과 횟수
+    @Column(name = "in_progress_seconds", nullable = false)
+    private long inProgressSeconds;
+
+    @Column(name = "in_progress_exit_count", nullable = false)
+    private long inProgressExitCount;
+
+    @Column(name = "modified_date")
+    private LocalDateTime modifiedDate;
+
+    @Builder
+    public IssueFlowStat(Long projectId, long notStartedCount, long inProgressCount, long doneCount, long inProgressSeconds, long inProgressExitCount, LocalDateTime modifiedDate) {
+        this.projectId = projectId;
+        this.notStartedCount = notStartedCount;
+        this.inProgressCount = inProgressCount;
+        this.doneCount = doneCount;
+        this.inProgressSeconds = inProgressSeconds;
+        this.inProgressExitCount = inProgressExitCount;
+        this.modifiedDate = modifiedDate;
+    }
+
+    /**
+     * IN_PROGRESS 상태에 머문 평균 시간(초), 아직 벗어난 이슈가 없으면 null
+     */
+    public Long getAverageInProgressSeconds() {
+        return inProgressExitCount == 0 ? null : inProgressSeconds / inProgressExitCount;
+    }
+}
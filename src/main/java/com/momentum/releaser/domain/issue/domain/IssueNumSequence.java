@@ -0,0 +1,29 @@
+package com.momentum.releaser.domain.issue.domain;
+
+import javax.persistence.*;
+
+import lombok.*;
+
+/**
+ * 프로젝트별로 다음에 예약할 이슈 번호
+ * 이슈를 생성할 때마다 프로젝트의 가장 큰 이슈 번호를 계산하지 않고, 이 행에서 번호를 묶음 단위로 예약한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "issue_num_sequence")
+@Entity
+public class IssueNumSequence {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    @Builder
+    public IssueNumSequence(Long projectId, Long nextValue) {
+        this.projectId = projectId;
+        this.nextValue = nextValue;
+    }
+}
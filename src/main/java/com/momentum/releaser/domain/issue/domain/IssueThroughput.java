@@ -0,0 +1,43 @@
+package com.momentum.releaser.domain.issue.domain;
+
+import java.time.LocalDate;
+
+import javax.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트의 주별 완료(DONE) 이슈 수
+ * 주는 월요일부터 시작하며, 이슈가 DONE 상태로 바뀔 때마다 해당 주의 값에 1을 더한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "issue_throughput", uniqueConstraints = @UniqueConstraint(name = "uk_issue_throughput_project_week", columnNames = {"project_id", "week_start"}))
+@Entity
+public class IssueThroughput {
+
+    @Id
+    @Column(name = "issue_throughput_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long issueThroughputId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+
+    @Builder
+    public IssueThroughput(Long issueThroughputId, Long projectId, LocalDate weekStart, long doneCount) {
+        this.issueThroughputId = issueThroughputId;
+        this.projectId = projectId;
+        this.weekStart = weekStart;
+        this.doneCount = doneCount;
+    }
+}
@@ -0,0 +1,42 @@
+package com.momentum.releaser.domain.issue.domain;
+
+import static com.momentum.releaser.global.config.BaseResponseStatus.INVALID_ISSUE_TRANSFER_FORMAT;
+
+import java.util.stream.Stream;
+
+import com.momentum.releaser.global.exception.CustomException;
+
+/**
+ * 이슈 가져오기/내보내기 형식 (가져오기와 내보내기는 같은 열 구성을 사용한다.)
+ */
+public enum IssueTransferFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),  // 헤더 한 줄 + 이슈 한 건당 한 줄
+    NDJSON("application/x-ndjson;charset=UTF-8", "ndjson"),  // 이슈 한 건당 JSON 한 줄
+    ;
+
+    private final String contentType;
+    private final String extension;
+
+    IssueTransferFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * 요청 파라미터로 받은 형식을 변환한다. 대소문자는 구분하지 않는다.
+     */
+    public static IssueTransferFormat of(String format) {
+        return Stream.of(values())
+                .filter(transferFormat -> transferFormat.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(INVALID_ISSUE_TRANSFER_FORMAT));
+    }
+}
@@ -0,0 +1,63 @@
+package com.momentum.releaser.domain.issue.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이슈 상태 변경 기록 (추가만 하고 수정, 삭제하지 않는다.)
+ * 이슈나 멤버가 삭제되어도 기록은 남아야 하므로 연관관계 없이 식별 번호만 저장한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "issue_transition", indexes = {
+        @Index(name = "idx_issue_transition_project", columnList = "project_id, transitioned_date"),
+        @Index(name = "idx_issue_transition_issue", columnList = "issue_id")
+})
+@Entity
+public class IssueTransition {
+
+    @Id
+    @Column(name = "issue_transition_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long issueTransitionId;
+
+    @Column(name = "issue_id", nullable = false)
+    private Long issueId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // 이슈가 생성된 경우 null
+    @Column(name = "from_life_cycle")
+    @Enumerated(EnumType.STRING)
+    private LifeCycle fromLifeCycle;
+
+    // 이슈가 삭제된 경우 null
+    @Column(name = "to_life_cycle")
+    @Enumerated(EnumType.STRING)
+    private LifeCycle toLifeCycle;
+
+    // 상태를 바꾼 프로젝트 멤버 (알 수 없는 경우 null)
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "transitioned_date", nullable = false)
+    private LocalDateTime transitionedDate;
+
+    @Builder
+    public IssueTransition(Long issueTransitionId, Long issueId, Long projectId, LifeCycle fromLifeCycle, LifeCycle toLifeCycle, Long memberId, LocalDateTime transitionedDate) {
+        this.issueTransitionId = issueTransitionId;
+        this.issueId = issueId;
+        this.projectId = projectId;
+        this.fromLifeCycle = fromLifeCycle;
+        this.toLifeCycle = toLifeCycle;
+        this.memberId = memberId;
+        this.transitionedDate = transitionedDate;
+    }
+}
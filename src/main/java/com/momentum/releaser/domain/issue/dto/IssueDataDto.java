@@ -1,9 +1,18 @@
 package com.momentum.releaser.domain.issue.dto;
 
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
+import com.querydsl.core.annotations.QueryProjection;
+
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
 import com.momentum.releaser.domain.project.dto.ProjectDataDto;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.OpinionInfoResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetMembersDataDTO;
 import lombok.*;
 
@@ -73,4 +82,108 @@ public class IssueDataDto {
             this.opinionList = opinionList;
         }
     }
+
+    /**
+     * 7.11 이슈 가져오기, 7.12 이슈 내보내기 - 이슈 한 건 (CSV 한 줄, NDJSON 한 줄)
+     * 마감일은 가져오기와 같은 yyyy-MM-dd 형식의 문자열로 내보낸다.
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class IssueTransferDataDTO {
+        public static final String DATE_PATTERN = "yyyy-MM-dd";
+
+        private Long issueNum;
+        private String title;
+        private String content;
+        private String summary;
+        private String tag;
+        private String endDate;
+        private String lifeCycle;
+        private String managerEmail;
+
+        @Builder
+        @QueryProjection
+        public IssueTransferDataDTO(Long issueNum, String title, String content, String summary, String tag, Date endDate, String lifeCycle, String managerEmail) {
+            this.issueNum = issueNum;
+            this.title = title;
+            this.content = content;
+            this.summary = summary;
+            this.tag = tag;
+            this.endDate = endDate == null ? null : new SimpleDateFormat(DATE_PATTERN).format(endDate);
+            this.lifeCycle = lifeCycle;
+            this.managerEmail = managerEmail;
+        }
+    }
+
+    /**
+     * 7.11 이슈 가져오기 - 검증을 마치고 저장할 이슈 한 건
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class IssueImportDataDTO {
+        private String title;
+        private String content;
+        private String summary;
+        private Tag tag;
+        private Date endDate;
+        private LifeCycle lifeCycle;
+        private Long memberId; // 담당자가 없는 경우 null
+
+        @Builder
+        public IssueImportDataDTO(String title, String content, String summary, Tag tag, Date endDate, LifeCycle lifeCycle, Long memberId) {
+            this.title = title;
+            this.content = content;
+            this.summary = summary;
+            this.tag = tag;
+            this.endDate = endDate;
+            this.lifeCycle = lifeCycle;
+            this.memberId = memberId;
+        }
+    }
+
+    /**
+     * 이슈 상태 변경 기록 한 건
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class IssueTransitionDataDTO {
+        private Long issueId;
+        private LifeCycle fromLifeCycle; // 이슈가 생성된 경우 null
+        private LifeCycle toLifeCycle; // 이슈가 삭제된 경우 null
+        private Long memberId;
+        private LocalDateTime transitionedDate;
+        private LocalDateTime enteredDate; // 이전 상태가 된 시각 (알 수 없는 경우 null)
+
+        @Builder
+        public IssueTransitionDataDTO(Long issueId, LifeCycle fromLifeCycle, LifeCycle toLifeCycle, Long memberId, LocalDateTime transitionedDate, LocalDateTime enteredDate) {
+            this.issueId = issueId;
+            this.fromLifeCycle = fromLifeCycle;
+            this.toLifeCycle = toLifeCycle;
+            this.memberId = memberId;
+            this.transitionedDate = transitionedDate;
+            this.enteredDate = enteredDate;
+        }
+    }
+
+    /**
+     * 7.7 이슈별 조회 - 동시에 조회한 이슈 상세 화면의 구성 요소
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class IssueDetailsPartsDataDTO {
+        private Issue issue; // 연결된 릴리즈 노트와 이슈 번호를 함께 불러온 이슈 (트랜잭션이 끝난 상태)
+        private GetMembersDataDTO member; // 조회한 사용자의 프로젝트 멤버 정보
+        private List<GetMembersDataDTO> members;
+        private List<OpinionInfoResponseDTO> opinions;
+        private Map<String, Long> timings; // 구성 요소 이름 -> 조회에 걸린 시간(밀리초)
+
+        @Builder
+        public IssueDetailsPartsDataDTO(Issue issue, GetMembersDataDTO member, List<GetMembersDataDTO> members, List<OpinionInfoResponseDTO> opinions, Map<String, Long> timings) {
+            this.issue = issue;
+            this.member = member;
+            this.members = members;
+            this.opinions = opinions;
+            this.timings = timings;
+        }
+    }
 }
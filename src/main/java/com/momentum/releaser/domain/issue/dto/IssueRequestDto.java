@@ -1,8 +1,11 @@
 package com.momentum.releaser.domain.issue.dto;
 
 import java.util.Date;
+import java.util.List;
 
+import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
@@ -65,4 +68,63 @@ public class IssueRequestDto {
         }
     }
 
+    /**
+     * 이슈 일괄 변경
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class IssueBulkRequestDTO {
+
+        @Valid
+        @NotEmpty(message = "변경할 작업을 입력해주세요.")
+        @Size(max = 200, message = "한 번에 200개까지 변경할 수 있습니다.")
+        private List<IssueOperationRequestDTO> operations;
+
+        @Builder
+        public IssueBulkRequestDTO(List<IssueOperationRequestDTO> operations) {
+            this.operations = operations;
+        }
+    }
+
+    /**
+     * 이슈 일괄 변경 작업 (MOVE, ASSIGN, TAG, CONNECT, DISCONNECT, DELETE)
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class IssueOperationRequestDTO {
+
+        @NotNull(message = "이슈 식별 번호를 입력해주세요.")
+        private Long issueId;
+
+        @NotNull(message = "작업 종류를 입력해주세요.")
+        @Pattern(regexp = "(?i)^(MOVE|ASSIGN|TAG|CONNECT|DISCONNECT|DELETE)$", message = "작업 종류는 MOVE, ASSIGN, TAG, CONNECT, DISCONNECT, DELETE 중 하나여야 합니다.")
+        private String type;
+
+        // MOVE: 옮길 상태와 위치
+        @Pattern(regexp = "(?i)^(NOT_STARTED|IN_PROGRESS|DONE)$", message = "상태는 NOT_STARTED, IN_PROGRESS, DONE 중 하나여야 합니다.")
+        private String lifeCycle;
+        private Integer index;
+
+        // ASSIGN: 담당자 멤버 식별 번호 (null인 경우 담당자 해제)
+        private Long memberId;
+
+        // TAG: 변경할 태그
+        @Pattern(regexp = "(?i)^(DEPRECATED|CHANGED|NEW|FEATURE|FIXED)$", message = "태그는 DEPRECATED, CHANGED, NEW, FEATURE, FIXED 중 하나여야 합니다.")
+        private String tag;
+
+        // CONNECT: 연결할 릴리즈 노트 식별 번호
+        private Long releaseId;
+
+        @Builder
+        public IssueOperationRequestDTO(Long issueId, String type, String lifeCycle, Integer index, Long memberId, String tag, Long releaseId) {
+            this.issueId = issueId;
+            this.type = type;
+            this.lifeCycle = lifeCycle;
+            this.index = index;
+            this.memberId = memberId;
+            this.tag = tag;
+            this.releaseId = releaseId;
+        }
+    }
+
 }
@@ -1,7 +1,9 @@
 package com.momentum.releaser.domain.issue.dto;
 
+import java.time.LocalDate;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueDetailsDataDTO;
 import lombok.AccessLevel;
@@ -12,6 +14,7 @@ import lombok.NoArgsConstructor;
 import com.querydsl.core.annotations.QueryProjection;
 
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetMembersDataDTO;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
 
 public class IssueResponseDto {
 
@@ -86,6 +89,43 @@ public class IssueResponseDto {
             this.edit = edit;
             this.lifeCycle = lifeCycle;
         }
+
+        /**
+         * 이슈 보드 조회 시 멤버 상태와 릴리즈 배포 상태를 함께 조회하여, 이슈마다 다시 조회하지 않도록 한다.
+         */
+        @QueryProjection
+        public IssueInfoResponseDTO(Long issueId, Long issueNum, String title, String content, Date endDate, Long memberId, String memberName, String memberImg, String tag, String releaseVersion, char edit, String lifeCycle, Character memberStatus, ReleaseDeployStatus deployStatus) {
+            this(issueId, issueNum, title, content, endDate, memberId, memberName, memberImg, tag, releaseVersion, edit, lifeCycle);
+            // 프로젝트에서 나간 멤버가 담당자인 경우, 멤버 식별 번호를 0으로 설정
+            if (memberId != null && !Character.valueOf('Y').equals(memberStatus)) {
+                this.memberId = 0L;
+            }
+            this.deployYN = deployStatus == ReleaseDeployStatus.DEPLOYED ? 'Y' : 'N';
+        }
+    }
+
+    /**
+     * 7.9 이슈 보드 변경 사항 조회
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class IssueChangesResponseDTO {
+        private Long revision;
+        // 변경 기록으로 알 수 없어 보드 전체를 내려준 경우 'Y' (updatedIssues로 보드를 교체한다.)
+        private char snapshotYN;
+        private List<IssueInfoResponseDTO> updatedIssues;
+        private List<Long> deletedIssueIds;
+        // 이슈 상태별 이슈 식별 번호 순서 (순서가 바뀌지 않은 경우 null)
+        private Map<String, List<Long>> issueOrders;
+
+        @Builder
+        public IssueChangesResponseDTO(Long revision, char snapshotYN, List<IssueInfoResponseDTO> updatedIssues, List<Long> deletedIssueIds, Map<String, List<Long>> issueOrders) {
+            this.revision = revision;
+            this.snapshotYN = snapshotYN;
+            this.updatedIssues = updatedIssues;
+            this.deletedIssueIds = deletedIssueIds;
+            this.issueOrders = issueOrders;
+        }
     }
 
     /**
@@ -206,4 +246,88 @@ public class IssueResponseDto {
         }
     }
 
+    /**
+     * 7.11 이슈 가져오기 - 진행 상황 (배치 하나를 처리할 때마다 NDJSON 한 줄로 응답한다.)
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class IssueImportProgressResponseDTO {
+        // 지금까지 읽은 행, 저장한 이슈, 실패한 행의 수
+        private long processed;
+        private long imported;
+        private long failed;
+        // 가져오기가 끝난 경우 'Y' (마지막 줄)
+        private char doneYN;
+        // 이번 배치에서 실패한 행
+        private List<IssueImportErrorResponseDTO> errors;
+
+        @Builder
+        public IssueImportProgressResponseDTO(long processed, long imported, long failed, char doneYN, List<IssueImportErrorResponseDTO> errors) {
+            this.processed = processed;
+            this.imported = imported;
+            this.failed = failed;
+            this.doneYN = doneYN;
+            this.errors = errors;
+        }
+    }
+
+    /**
+     * 7.11 이슈 가져오기 - 실패한 행
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class IssueImportErrorResponseDTO {
+        // 헤더를 제외하고 1부터 시작하는 행 번호
+        private long row;
+        private String message;
+
+        @Builder
+        public IssueImportErrorResponseDTO(long row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+    }
+
+    /**
+     * 7.13 이슈 흐름 통계 조회
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class IssueFlowResponseDTO {
+        // 현재 이슈 상태별 이슈 수
+        private long notStartedCount;
+        private long inProgressCount;
+        private long doneCount;
+        // IN_PROGRESS 상태에 머문 평균 시간(초), 아직 IN_PROGRESS 상태를 벗어난 이슈가 없으면 null
+        private Long averageInProgressSeconds;
+        // 오래된 주부터 정렬된 주별 완료 이슈 수
+        private List<WeeklyThroughputResponseDTO> throughput;
+
+        @Builder
+        public IssueFlowResponseDTO(long notStartedCount, long inProgressCount, long doneCount, Long averageInProgressSeconds, List<WeeklyThroughputResponseDTO> throughput) {
+            this.notStartedCount = notStartedCount;
+            this.inProgressCount = inProgressCount;
+            this.doneCount = doneCount;
+            this.averageInProgressSeconds = averageInProgressSeconds;
+            this.throughput = throughput;
+        }
+    }
+
+    /**
+     * 7.13 이슈 흐름 통계 조회 - 주별 완료 이슈 수
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class WeeklyThroughputResponseDTO {
+        // 주의 시작일 (월요일)
+        private LocalDate weekStart;
+        private long doneCount;
+
+        @Builder
+        public WeeklyThroughputResponseDTO(LocalDate weekStart, long doneCount) {
+            this.weekStart = weekStart;
+            this.doneCount = doneCount;
+        }
+    }
+
 }
@@ -0,0 +1,35 @@
+package com.momentum.releaser.domain.issue.event;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * 이슈 서비스 밖에서 보드에 보이는 이슈 정보(릴리즈 버전, 배포 여부, 담당자)가 바뀌었음을 보드 변경 기록에 남기는 이벤트
+ */
+@Data
+@Builder
+@ToString
+public class IssueBoardEvent {
+
+    private Long projectId;
+    private List<Long> issueIds;
+
+    /**
+     * 이슈의 보드 순서는 그대로 두고 이슈 정보가 바뀐 경우
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param issueIds  정보가 바뀐 이슈 식별 번호 목록
+     * @return IssueBoardEvent
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public static IssueBoardEvent toUpdateIssues(Long projectId, List<Long> issueIds) {
+        return IssueBoardEvent.builder()
+                .projectId(projectId)
+                .issueIds(issueIds)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.momentum.releaser.domain.issue.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+import com.momentum.releaser.redis.issue.IssueRankRedisRepository;
+
+@Component
+@RequiredArgsConstructor
+public class IssueBoardEventListener {
+
+    private final IssueRankRedisRepository issueRankRedisRepository;
+
+    /**
+     * 이슈 정보 변경을 트랜잭션이 커밋된 후 보드 변경 기록에 남긴다.
+     * 새 리비전을 받은 클라이언트가 아직 커밋되지 않은 이슈 정보를 조회하지 않도록 한다.
+     *
+     * @param issueBoardEvent 이슈 보드 변경 이벤트
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIssueBoardEvent(final IssueBoardEvent issueBoardEvent) {
+        issueRankRedisRepository.touchAll(issueBoardEvent.getProjectId(), issueBoardEvent.getIssueIds());
+    }
+}
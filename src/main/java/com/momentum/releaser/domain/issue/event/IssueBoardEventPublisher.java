@@ -0,0 +1,28 @@
+package com.momentum.releaser.domain.issue.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class IssueBoardEventPublisher {
+
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * 이슈 보드 변경 이벤트를 발행한다. 바뀐 이슈가 없으면 발행하지 않는다.
+     * 트랜잭션이 커밋된 후 보드 변경 기록에 반영된다.
+     *
+     * @param issueBoardEvent 이슈 보드 변경 이벤트
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public void publish(final IssueBoardEvent issueBoardEvent) {
+        if (issueBoardEvent.getIssueIds().isEmpty()) {
+            return;
+        }
+        publisher.publishEvent(issueBoardEvent);
+    }
+}
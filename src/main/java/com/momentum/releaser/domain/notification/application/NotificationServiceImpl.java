@@ -22,9 +22,8 @@ import com.momentum.releaser.domain.notification.event.ReleaseNoteMessageEvent;
 import com.momentum.releaser.domain.notification.mapper.NotificationMapper;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.domain.Project;
-import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
-import com.momentum.releaser.domain.release.domain.ReleaseApproval;
+import com.momentum.releaser.domain.release.domain.ReleaseApprovalTally;
 import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
 import com.momentum.releaser.global.exception.CustomException;
@@ -45,7 +44,6 @@ public class NotificationServiceImpl implements NotificationService {
     // 도메인
     private final ProjectMemberRepository projectMemberRepository;
     private final ReleaseRepository releaseRepository;
-    private final ReleaseApprovalRepository releaseApprovalRepository;
 
     // 알림
     private final NotificationRedisRepository notificationRedisRepository;
@@ -223,17 +221,10 @@ public class NotificationServiceImpl implements NotificationService {
             throw new CustomException(ALREADY_DEPLOYED_RELEASE_NOTE);
         }
 
-        // 만약 이미 모든 멤버들의 동의가 완료되었다면 알림을 전송할 수 없다.
-        List<ReleaseApproval> approvals = releaseApprovalRepository.findAllByRelease(releaseNote);
-        int yesCount = 0;
+        // 만약 이미 모든 멤버들의 동의가 완료되었다면 알림을 전송할 수 없다. (릴리즈 노트의 거부 및 대기 인원 수로 확인한다.)
+        ReleaseApprovalTally approvalTally = releaseRepository.findApprovalTally(releaseNote.getReleaseId());
 
-        for (ReleaseApproval approval : approvals) {
-            if (approval.getApproval() == 'Y') {
-                yesCount++;
-            }
-        }
-
-        if (yesCount == approvals.size()) {
+        if (approvalTally == null || approvalTally.isAllApproved()) {
             throw new CustomException(ALREADY_ALL_APPROVALS_WITH_YES);
         }
     }
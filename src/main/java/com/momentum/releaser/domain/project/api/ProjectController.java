@@ -5,6 +5,7 @@ import static com.momentum.releaser.domain.project.dto.ProjectResponseDto.*;
 import java.io.IOException;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 
 import lombok.RequiredArgsConstructor;
@@ -80,6 +81,17 @@ public class ProjectController {
         return new BaseResponse<>(projectService.removeProject(projectId));
     }
 
+    /**
+     * 3.5 프로젝트 삭제 진행 상황 조회
+     *
+     * @param projectId 삭제한 프로젝트 식별 번호
+     * @return ProjectDeletionResponseDTO 하위 데이터 정리 단계와 정리한 행 수
+     */
+    @GetMapping("/{projectId}/deletion")
+    public BaseResponse<ProjectDeletionResponseDTO> projectDeletionDetails(@PathVariable @Min(1) Long projectId) {
+        return new BaseResponse<>(projectService.findProjectDeletion(projectId));
+    }
+
     /**
      * 3.4 프로젝트 목록 조회
      *
@@ -96,9 +108,11 @@ public class ProjectController {
      * 10.1 프로젝트 내 통합검색
      *
      * @param projectId 검색할 프로젝트 식별 번호
-     * @param filterType 검색할 이슈 혹은 릴리즈 타입 선택
+     * @param filterType 검색할 이슈 혹은 릴리즈 타입 선택 (issue, release, 둘 다 검색하는 경우 all)
      * @param filterIssueGroup 이슈 필터링 그룹 DTO
      * @param filterReleaseGroup 릴리즈 필터링 그룹 DTO
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (1~200)
      * @return ProjectSearchResponseDTO 검색한 정보 응답 DTO
      */
     @GetMapping("/{projectId}/search")
@@ -106,8 +120,12 @@ public class ProjectController {
             @PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
             @RequestParam String filterType,
             @Valid FilterIssueRequestDTO filterIssueGroup,
-            @Valid FilterReleaseRequestDTO filterReleaseGroup) {
-        return new BaseResponse<>(projectService.findProjectSearch(projectId, filterType, filterIssueGroup, filterReleaseGroup));
+            @Valid FilterReleaseRequestDTO filterReleaseGroup,
+            @RequestParam(required = false) @Min(value = 1, message = "커서는 1 이상의 숫자여야 합니다.") Long cursor,
+            @RequestParam(defaultValue = "50")
+            @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 200, message = "페이지 크기는 200 이하여야 합니다.") int size) {
+        return new BaseResponse<>(projectService.findProjectSearch(projectId, filterType, filterIssueGroup, filterReleaseGroup, cursor, size));
     }
 
 }
@@ -0,0 +1,153 @@
+package com.momentum.releaser.domain.project.application;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.momentum.releaser.domain.project.dao.ProjectDeletionRepository;
+import com.momentum.releaser.domain.project.domain.ProjectDeletion;
+import com.momentum.releaser.domain.project.domain.ProjectDeletionStage;
+import com.momentum.releaser.global.config.AppProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제한 프로젝트의 하위 데이터(멤버, 릴리즈 노트, 이슈 등)를 백그라운드에서 정리하는 클래스
+ * 단계마다 project_id 조건의 정리 쿼리를 chunkSize 행씩 나누어 실행하고, 진행 상황은 같은 트랜잭션에서 project_deletion 에 기록한다.
+ * 서버가 중간에 종료된 작업은 주기적으로 찾아 마지막으로 커밋한 단계부터 이어서 진행한다.
+ */
+@Slf4j
+@Component
+public class ProjectDeletionWorker {
+
+    private final ProjectDeletionRepository projectDeletionRepository;
+    private final Executor asyncExecutor;
+    private final AppProperties appProperties;
+    private final TransactionTemplate chunkTransaction;
+
+    public ProjectDeletionWorker(ProjectDeletionRepository projectDeletionRepository, @Qualifier("asyncExecutor") Executor asyncExecutor,
+                                 AppProperties appProperties, PlatformTransactionManager transactionManager) {
+        this.projectDeletionRepository = projectDeletionRepository;
+        this.asyncExecutor = asyncExecutor;
+        this.appProperties = appProperties;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 프로젝트 삭제 작업을 만들고, 현재 트랜잭션이 커밋된 후 백그라운드에서 실행한다.
+     *
+     * @param projectId 삭제한 프로젝트 식별 번호
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public void start(Long projectId) {
+        projectDeletionRepository.insertIfAbsent(projectId, ProjectDeletionStage.values()[0].name());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(projectId);
+                }
+            });
+        } else {
+            submit(projectId);
+        }
+    }
+
+    /**
+     * 진행 중인 서버가 없는 삭제 작업을 찾아 이어서 진행한다.
+     *
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    @Scheduled(fixedDelayString = "${app.project-deletion.resume-interval-ms:60000}")
+    public void resumeStale() {
+        List<Long> projectIds = projectDeletionRepository.findResumableProjectIds(appProperties.getProjectDeletion().getStaleSeconds());
+
+        for (Long projectId : projectIds) {
+            run(projectId);
+        }
+    }
+
+    /**
+     * 삭제 작업을 가져와 끝날 때까지 진행한다. 다른 서버가 진행 중이거나 이미 끝난 작업이면 아무것도 하지 않는다.
+     * 정리 쿼리가 실패하면 작업을 멈추고, staleSeconds 가 지난 뒤 resumeStale 에서 실패한 단계부터 다시 진행한다.
+     *
+     * @param projectId 삭제한 프로젝트 식별 번호
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public void run(Long projectId) {
+        long staleSeconds = appProperties.getProjectDeletion().getStaleSeconds();
+        Integer claimed = chunkTransaction.execute(status -> projectDeletionRepository.claim(projectId, staleSeconds));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        ProjectDeletion deletion = projectDeletionRepository.findById(projectId).orElse(null);
+        if (deletion == null) {
+            return;
+        }
+
+        int chunkSize = appProperties.getProjectDeletion().getChunkSize();
+        ProjectDeletionStage stage = deletion.getStage();
+
+        try {
+            while (stage != ProjectDeletionStage.DONE) {
+                ProjectDeletionStage current = stage;
+                stage = chunkTransaction.execute(status -> {
+                    int rows = cleanUp(current, projectId, chunkSize);
+
+                    // 정리한 행이 chunkSize 보다 적으면 이 단계에 남은 행이 없다.
+                    ProjectDeletionStage next = rows < chunkSize ? current.next() : current;
+                    projectDeletionRepository.updateProgress(projectId, next.name(), rows, next == ProjectDeletionStage.DONE ? 'Y' : 'N');
+                    return next;
+                });
+            }
+        } catch (RuntimeException e) {
+            log.error("프로젝트 삭제 작업 실패: projectId={}, stage={}", projectId, stage, e);
+        }
+    }
+
+    /**
+     * 단계에 해당하는 정리 쿼리를 최대 limit 행만큼 실행한다.
+     */
+    private int cleanUp(ProjectDeletionStage stage, Long projectId, int limit) {
+        switch (stage) {
+            case MEMBER:
+                return projectDeletionRepository.inactivateMembers(projectId, limit);
+            case RELEASE_OPINION:
+                return projectDeletionRepository.inactivateReleaseOpinions(projectId, limit);
+            case RELEASE_APPROVAL:
+                return projectDeletionRepository.deleteReleaseApprovals(projectId, limit);
+            case RELEASE_NOTE:
+                return projectDeletionRepository.inactivateReleaseNotes(projectId, limit);
+            case ISSUE_OPINION:
+                return projectDeletionRepository.inactivateIssueOpinions(projectId, limit);
+            case ISSUE:
+                return projectDeletionRepository.inactivateIssues(projectId, limit);
+            case ISSUE_NUM:
+                return projectDeletionRepository.deleteIssueNums(projectId, limit);
+            default:
+                return 0;
+        }
+    }
+
+    private void submit(Long projectId) {
+        try {
+            asyncExecutor.execute(() -> run(projectId));
+        } catch (TaskRejectedException e) {
+            // 실행 대기열이 가득 찬 경우 resumeStale 에서 진행한다.
+            log.warn("프로젝트 삭제 작업 대기: projectId={}", projectId);
+        }
+    }
+}
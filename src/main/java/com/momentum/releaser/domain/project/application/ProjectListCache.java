@@ -0,0 +1,125 @@
+package com.momentum.releaser.domain.project.application;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetUserProjectDataDTO;
+import com.momentum.releaser.domain.project.event.ProjectListEvent;
+import com.momentum.releaser.global.config.AppProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 프로젝트 목록(3.4 프로젝트 조회)을 애플리케이션 메모리에 보관하는 캐시
+ * 프로젝트 참여, 탈퇴와 프로젝트 수정, 삭제 이벤트로 무효화하고, 다른 서버에서 발생한 변경은 ttlSeconds 가 지나면 반영된다.
+ * 조회하는 동안 무효화가 일어난 경우 조회 결과를 보관하지 않도록, 무효화할 때마다 세대 번호를 올린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectListCache {
+
+    private final AppProperties appProperties;
+
+    // 무효화할 때마다 증가하는 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    // 사용자 이메일 -> 프로젝트 목록 (접근 순서 기준으로 오래된 목록부터 제거한다.)
+    private final Map<String, CachedProjects> projectsByEmail = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedProjects> eldest) {
+            return size() > appProperties.getProjectList().getCapacity();
+        }
+    });
+
+    /**
+     * 사용자의 프로젝트 목록을 조회한다.
+     *
+     * @param email 사용자 이메일
+     * @return List 프로젝트 목록 (보관하지 않았거나 오래된 경우 null)
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public List<GetUserProjectDataDTO> find(String email) {
+        CachedProjects cached = projectsByEmail.get(email);
+        if (cached == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - cached.loadedAt >= appProperties.getProjectList().getTtlSeconds() * 1000) {
+            projectsByEmail.remove(email);
+            return null;
+        }
+        return cached.projects;
+    }
+
+    /**
+     * 데이터베이스에서 프로젝트 목록을 조회하기 전의 세대 번호
+     *
+     * @return long 세대 번호
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 조회한 프로젝트 목록을 보관한다. 조회를 시작한 후 무효화가 일어났다면 보관하지 않는다.
+     *
+     * @param email      사용자 이메일
+     * @param generation 조회를 시작하기 전의 세대 번호
+     * @param projects   조회한 프로젝트 목록
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public void store(String email, long generation, List<GetUserProjectDataDTO> projects) {
+        synchronized (projectsByEmail) {
+            if (this.generation.get() == generation) {
+                projectsByEmail.put(email, new CachedProjects(Collections.unmodifiableList(projects)));
+            }
+        }
+    }
+
+    /**
+     * 프로젝트 참여 여부나 프로젝트 정보 변경을 트랜잭션이 커밋된 후 캐시에 반영한다.
+     *
+     * @param projectListEvent 프로젝트 목록 캐시 무효화 이벤트
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectListEvent(final ProjectListEvent projectListEvent) {
+        synchronized (projectsByEmail) {
+            generation.incrementAndGet();
+
+            if (projectListEvent.getEmail() != null) {
+                projectsByEmail.remove(projectListEvent.getEmail());
+            }
+            if (projectListEvent.getProjectId() != null) {
+                projectsByEmail.values().removeIf(cached -> cached.contains(projectListEvent.getProjectId()));
+            }
+        }
+    }
+
+    /**
+     * 사용자 한 명의 프로젝트 목록
+     */
+    private static final class CachedProjects {
+        private final List<GetUserProjectDataDTO> projects;
+        private final long loadedAt = System.currentTimeMillis();
+
+        CachedProjects(List<GetUserProjectDataDTO> projects) {
+            this.projects = projects;
+        }
+
+        boolean contains(Long projectId) {
+            return projects.stream().anyMatch(project -> projectId.equals(project.getProjectId()));
+        }
+    }
+}
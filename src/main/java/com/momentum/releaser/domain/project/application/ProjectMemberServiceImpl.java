@@ -2,7 +2,6 @@ package com.momentum.releaser.domain.project.application;
 
 import static com.momentum.releaser.global.config.BaseResponseStatus.*;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,6 +11,9 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.event.IssueBoardEvent;
+import com.momentum.releaser.domain.issue.event.IssueBoardEventPublisher;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
@@ -19,10 +21,11 @@ import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.project.dto.ProjectMemberDataDto.ProjectMemberInfoDTO;
 import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.InviteProjectMemberResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.MembersResponseDTO;
+import com.momentum.releaser.domain.project.event.ProjectListEvent;
+import com.momentum.releaser.domain.project.event.ProjectListEventPublisher;
 import com.momentum.releaser.domain.project.mapper.ProjectMemberMapper;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
-import com.momentum.releaser.domain.release.domain.ReleaseApproval;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
 import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
@@ -41,6 +44,9 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
     private final UserRepository userRepository;
     private final ReleaseApprovalRepository releaseApprovalRepository;
     private final ReleaseRepository releaseRepository;
+    private final ProjectListEventPublisher projectListEventPublisher;
+    private final IssueRepository issueRepository;
+    private final IssueBoardEventPublisher issueBoardEventPublisher;
 
     /**
      * 4.1 프로젝트 멤버 조회
@@ -97,6 +103,7 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
         ProjectMember member = addProjectMember(project, user);
         // approval 추가
         addReleaseApprovalsForProjectMember(member, project);
+        projectListEventPublisher.publish(ProjectListEvent.toChangeMembership(email));
         return res;
     }
 
@@ -117,8 +124,12 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
             throw new CustomException(NOT_PROJECT_PM);
         }
 
+        // 멤버의 동의 여부를 릴리즈 노트별 동의 인원 수에서 먼저 뺀다.
+        releaseApprovalRepository.subtractTalliesByMember(projectMember);
         projectMemberRepository.deleteById(projectMember.getMemberId());
         releaseApprovalRepository.deleteByReleaseApproval();
+        projectListEventPublisher.publish(ProjectListEvent.toChangeMembership(projectMember.getUser().getEmail()));
+        publishAssignedIssues(projectMember);
 
         return "프로젝트 멤버가 제거되었습니다.";
     }
@@ -139,16 +150,32 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
 
         // project member 찾기
         ProjectMember member = findProjectMemberByUserAndProject(user, project);
+        // release note approval tally 에서 제외
+        releaseApprovalRepository.subtractTalliesByMember(member);
         // project member status = 'N'
         projectMemberRepository.deleteById(member.getMemberId());
         // approval delete
         releaseApprovalRepository.deleteByReleaseApproval();
+        projectListEventPublisher.publish(ProjectListEvent.toChangeMembership(email));
+        publishAssignedIssues(member);
 
         return "프로젝트 탈퇴가 완료되었습니다.";
     }
 
     // =================================================================================================================
 
+    /**
+     * 제거된 멤버가 담당하던 이슈는 담당자가 없는 것(memberId 0)으로 보이므로, 트랜잭션이 커밋된 후 이슈 보드 변경 기록에 남긴다.
+     *
+     * @author chaeanna
+     * @date 2023-09-01
+     * @param member 제거된 프로젝트 멤버 엔티티
+     */
+    private void publishAssignedIssues(ProjectMember member) {
+        List<Long> issueIds = issueRepository.findIssueIdsByMember(member);
+        issueBoardEventPublisher.publish(IssueBoardEvent.toUpdateIssues(member.getProject().getProjectId(), issueIds));
+    }
+
     /**
      * email로 User 조회
      *
@@ -262,18 +289,8 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
         List<ReleaseNote> releaseNotes = releaseRepository.findAllByProject(project);
         if (releaseNotes != null) {
 
-            // 각 릴리스 노트에 대해 프로젝트 멤버와 관련된 ReleaseApproval을 생성하여 저장
-            List<ReleaseApproval> releaseApprovals = new ArrayList<>();
-            for (ReleaseNote releaseNote : releaseNotes) {
-                ReleaseApproval releaseApproval = ReleaseApproval.builder()
-                        .member(member)
-                        .release(releaseNote)
-                        .build();
-
-                releaseApprovals.add(releaseApproval);
-            }
-
-            releaseApprovalRepository.saveAll(releaseApprovals);
+            // 각 릴리스 노트에 대해 프로젝트 멤버와 관련된 ReleaseApproval을 JDBC 배치로 한 번에 저장
+            releaseApprovalRepository.saveAllByMember(member, releaseNotes);
         }
     }
 
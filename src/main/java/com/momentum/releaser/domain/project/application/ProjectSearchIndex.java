@@ -0,0 +1,216 @@
+package com.momentum.releaser.domain.project.application;
+
+import static org.springframework.util.StringUtils.hasText;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.SearchDocumentDataDTO;
+import com.momentum.releaser.domain.project.event.SearchIndexEvent;
+import com.momentum.releaser.domain.project.event.SearchIndexEvent.SearchTarget;
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.global.config.AppProperties;
+import com.momentum.releaser.global.search.InvertedIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트 내 통합검색에 사용하는 애플리케이션 메모리의 n-gram 색인
+ * 프로젝트를 처음 검색할 때 데이터베이스에서 색인을 만들고, 이후에는 이슈와 릴리즈 노트 변경 이벤트로 색인을 갱신한다.
+ * 다른 서버에서 발생한 변경은 이벤트로 전달되지 않으므로, 색인을 만든 지 rebuildIntervalSeconds가 지나면 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectSearchIndex {
+
+    private final IssueRepository issueRepository;
+    private final ReleaseRepository releaseRepository;
+    private final AppProperties appProperties;
+
+    // 프로젝트 식별 번호 -> 프로젝트의 색인
+    private final Map<Long, ProjectDocuments> projects = new ConcurrentHashMap<>();
+
+    /**
+     * 이슈의 태그와 제목으로 검색한다. 둘 다 주어진 경우 두 조건을 모두 만족하는 이슈를 제목 순위대로 반환한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param tag       검색할 태그 (없으면 null)
+     * @param title     검색할 제목 (없으면 null)
+     * @return List 순위대로 정렬된 이슈 식별 번호 목록
+     * @author chaeanna
+     * @date 2023-08-29
+     */
+    public List<Long> searchIssues(Long projectId, String tag, String title) {
+        ProjectDocuments documents = loadDocuments(projectId);
+        int limit = appProperties.getSearch().getMaxResults();
+
+        documents.lock.readLock().lock();
+        try {
+            if (!hasText(title)) {
+                return documents.issueTags.search(tag, limit);
+            }
+            if (!hasText(tag)) {
+                return documents.issueTitles.search(title, limit);
+            }
+
+            Set<Long> tagMatches = new HashSet<>(documents.issueTags.search(tag, Integer.MAX_VALUE));
+            return documents.issueTitles.search(title, Integer.MAX_VALUE).stream()
+                    .filter(tagMatches::contains)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        } finally {
+            documents.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 릴리즈 노트의 제목으로 검색한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param title     검색할 제목
+     * @return List 순위대로 정렬된 릴리즈 노트 식별 번호 목록
+     * @author chaeanna
+     * @date 2023-08-29
+     */
+    public List<Long> searchReleases(Long projectId, String title) {
+        ProjectDocuments documents = loadDocuments(projectId);
+
+        documents.lock.readLock().lock();
+        try {
+            return documents.releaseTitles.search(title, appProperties.getSearch().getMaxResults());
+        } finally {
+            documents.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 프로젝트의 색인을 버린다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @author chaeanna
+     * @date 2023-08-29
+     */
+    public void evict(Long projectId) {
+        projects.remove(projectId);
+    }
+
+    /**
+     * 이슈, 릴리즈 노트 변경을 트랜잭션이 커밋된 후 색인에 반영한다.
+     * 프로젝트 전체가 바뀐 경우에는 색인을 버리고 다음 검색 시 다시 만든다.
+     * 아직 검색하지 않아 색인이 없는 프로젝트는 처음 검색할 때 데이터베이스에서 만든다.
+     *
+     * @param searchIndexEvent 통합검색 색인 변경 이벤트
+     * @author chaeanna
+     * @date 2023-08-29
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSearchIndexEvent(final SearchIndexEvent searchIndexEvent) {
+        if (searchIndexEvent.getTarget() == SearchTarget.PROJECT) {
+            evict(searchIndexEvent.getProjectId());
+            return;
+        }
+
+        ProjectDocuments documents = projects.get(searchIndexEvent.getProjectId());
+        if (documents == null) {
+            return;
+        }
+
+        // 색인을 만드는 중이라면 끝날 때까지 기다린 후 반영한다.
+        documents.lock.writeLock().lock();
+        try {
+            if (documents.loadedAt == 0) {
+                return;
+            }
+
+            if (searchIndexEvent.getTarget() == SearchTarget.ISSUE) {
+                if (searchIndexEvent.isDeleted()) {
+                    documents.issueTitles.remove(searchIndexEvent.getId());
+                    documents.issueTags.remove(searchIndexEvent.getId());
+                } else {
+                    documents.issueTitles.put(searchIndexEvent.getId(), searchIndexEvent.getTitle());
+                    documents.issueTags.put(searchIndexEvent.getId(), searchIndexEvent.getTag());
+                }
+            } else {
+                if (searchIndexEvent.isDeleted()) {
+                    documents.releaseTitles.remove(searchIndexEvent.getId());
+                } else {
+                    documents.releaseTitles.put(searchIndexEvent.getId(), searchIndexEvent.getTitle());
+                }
+            }
+        } finally {
+            documents.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 프로젝트의 색인을 가져온다. 색인이 없거나 오래된 경우 데이터베이스에서 다시 만든다.
+     */
+    private ProjectDocuments loadDocuments(Long projectId) {
+        ProjectDocuments documents = projects.computeIfAbsent(projectId, id -> new ProjectDocuments());
+        long rebuildIntervalMs = appProperties.getSearch().getRebuildIntervalSeconds() * 1000;
+
+        if (documents.isFresh(rebuildIntervalMs)) {
+            return documents;
+        }
+
+        documents.lock.writeLock().lock();
+        try {
+            if (!documents.isFresh(rebuildIntervalMs)) {
+                rebuild(projectId, documents);
+            }
+        } finally {
+            documents.lock.writeLock().unlock();
+        }
+        return documents;
+    }
+
+    private void rebuild(Long projectId, ProjectDocuments documents) {
+        InvertedIndex issueTitles = new InvertedIndex();
+        InvertedIndex issueTags = new InvertedIndex();
+        for (SearchDocumentDataDTO issue : issueRepository.getSearchDocuments(projectId)) {
+            issueTitles.put(issue.getId(), issue.getTitle());
+            issueTags.put(issue.getId(), issue.getTag());
+        }
+
+        InvertedIndex releaseTitles = new InvertedIndex();
+        for (SearchDocumentDataDTO release : releaseRepository.getSearchDocuments(projectId)) {
+            releaseTitles.put(release.getId(), release.getTitle());
+        }
+
+        documents.issueTitles = issueTitles;
+        documents.issueTags = issueTags;
+        documents.releaseTitles = releaseTitles;
+        documents.loadedAt = System.currentTimeMillis();
+
+        log.info("rebuild/projectId: {}, issues: {}, releases: {}", projectId, issueTitles.size(), releaseTitles.size());
+    }
+
+    /**
+     * 프로젝트 하나의 색인 (읽기는 동시에, 쓰기는 하나씩)
+     */
+    private static final class ProjectDocuments {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private InvertedIndex issueTitles = new InvertedIndex();
+        private InvertedIndex issueTags = new InvertedIndex();
+        private InvertedIndex releaseTitles = new InvertedIndex();
+
+        // 색인을 만든 시각 (밀리초, 아직 만들지 않았다면 0)
+        private volatile long loadedAt;
+
+        boolean isFresh(long rebuildIntervalMs) {
+            return loadedAt != 0 && System.currentTimeMillis() - loadedAt < rebuildIntervalMs;
+        }
+    }
+}
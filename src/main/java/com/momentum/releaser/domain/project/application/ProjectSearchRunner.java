@@ -0,0 +1,103 @@
+package com.momentum.releaser.domain.project.application;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetIssueInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetReleaseInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.SearchAllDataDTO;
+import com.momentum.releaser.global.config.AppProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이슈 검색과 릴리즈 노트 검색을 queryExecutor 에서 동시에 실행하는 클래스
+ * 두 검색을 요청 하나의 제한 시간(app.search.all-timeout-millis) 안에서 기다리고, 끝나지 않은 쪽은 빈 결과와 함께 일부 결과임을 알린다.
+ * 각 검색은 요청 스레드의 트랜잭션 밖에서 실행되므로, 엔티티가 아닌 DTO 를 조회하는 검색만 이곳에서 실행한다.
+ * 요청 스레드는 트랜잭션 없이 호출하여 커넥션을 가진 채로 기다리지 않아야 하며, 대기열이 가득 차 맡기지 못한 검색은 요청 스레드에서 실행하지 않고 일부 결과로 처리한다.
+ */
+@Slf4j
+@Component
+public class ProjectSearchRunner {
+
+    private final ExecutorService queryExecutor;
+    private final AppProperties appProperties;
+
+    public ProjectSearchRunner(@Qualifier("queryExecutor") ExecutorService queryExecutor, AppProperties appProperties) {
+        this.queryExecutor = queryExecutor;
+        this.appProperties = appProperties;
+    }
+
+    /**
+     * 이슈와 릴리즈 노트를 동시에 검색한다.
+     *
+     * @param issueSearch   이슈 검색
+     * @param releaseSearch 릴리즈 노트 검색
+     * @return SearchAllDataDTO 이슈, 릴리즈 노트 검색 결과와 일부 결과 여부
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public SearchAllDataDTO searchAll(Supplier<List<GetIssueInfoDataDTO>> issueSearch, Supplier<List<GetReleaseInfoDataDTO>> releaseSearch) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(appProperties.getSearch().getAllTimeoutMillis());
+
+        CompletableFuture<List<GetIssueInfoDataDTO>> issueFuture = submit("issue", issueSearch);
+        CompletableFuture<List<GetReleaseInfoDataDTO>> releaseFuture = submit("release", releaseSearch);
+
+        List<GetIssueInfoDataDTO> issues = await("issue", issueFuture, deadline);
+        List<GetReleaseInfoDataDTO> releases = await("release", releaseFuture, deadline);
+
+        return SearchAllDataDTO.builder()
+                .issues(issues == null ? Collections.emptyList() : issues)
+                .releases(releases == null ? Collections.emptyList() : releases)
+                .partial(issues == null || releases == null)
+                .build();
+    }
+
+    /**
+     * 검색을 queryExecutor 에 맡긴다. 대기열이 가득 차 맡기지 못하면 null 을 반환한다.
+     */
+    private <T> CompletableFuture<T> submit(String target, Supplier<T> search) {
+        try {
+            return CompletableFuture.supplyAsync(search, queryExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("searchAll/rejected: {}", target);
+            return null;
+        }
+    }
+
+    /**
+     * 남은 제한 시간 동안 검색 결과를 기다린다. 맡기지 못했거나 시간 안에 끝나지 않으면 null 을 반환하고, 검색 중 발생한 예외는 감싸지 않은 채로 다시 던진다.
+     */
+    private <T> T await(String target, CompletableFuture<T> future, long deadline) {
+        if (future == null) {
+            return null;
+        }
+
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아직 시작하지 않은 검색은 실행하지 않도록 취소한다. (실행 중인 쿼리는 끝날 때까지 진행된다.)
+            future.cancel(false);
+            log.warn("searchAll/timeout: {}", target);
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.momentum.releaser.domain.project.dto.ProjectRequestDto.FilterReleaseR
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.ProjectInfoRequestDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.GetProjectResponseDTO;
+import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectDeletionResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectInfoResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectSearchResponseDTO;
 
@@ -31,6 +32,11 @@ public interface ProjectService {
      */
     String removeProject(Long projectId);
 
+    /**
+     * 3.5 프로젝트 삭제 진행 상황 조회
+     */
+    ProjectDeletionResponseDTO findProjectDeletion(Long projectId);
+
     /**
      * 3.4 프로젝트 조회
      */
@@ -39,5 +45,6 @@ public interface ProjectService {
     /**
      * 10.1 프로젝트 내 통합 검색
      */
-    ProjectSearchResponseDTO findProjectSearch(Long projectId, String filterType, FilterIssueRequestDTO filterIssueGroup, FilterReleaseRequestDTO filterReleaseGroup);
+    ProjectSearchResponseDTO findProjectSearch(Long projectId, String filterType, FilterIssueRequestDTO filterIssueGroup, FilterReleaseRequestDTO filterReleaseGroup,
+                                               Long cursor, int size);
 }
@@ -9,22 +9,21 @@ import static org.springframework.util.StringUtils.hasText;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
-import com.momentum.releaser.domain.issue.domain.Issue;
 import com.momentum.releaser.domain.issue.domain.QIssue;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.FilterIssueRequestDTO;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.FilterReleaseRequestDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectSearchResponseDTO;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.dao.release.ReleaseVersionExpressions;
 import com.momentum.releaser.domain.release.domain.QReleaseNote;
-import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.release.domain.SemanticVersion;
 import com.momentum.releaser.redis.RedisUtil;
 import com.momentum.releaser.redis.notification.NotificationRedisRepository;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
-import org.modelmapper.ModelMapper;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
@@ -36,25 +35,25 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberTemplate;
-
 import com.momentum.releaser.domain.issue.dao.IssueRepository;
-import com.momentum.releaser.domain.issue.mapper.IssueMapper;
+import com.momentum.releaser.domain.project.dao.ProjectDeletionRepository;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.domain.ProjectDeletion;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.ProjectInfoRequestDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.GetProjectResponseDTO;
+import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectDeletionResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectInfoResponseDTO;
+import com.momentum.releaser.domain.project.event.ProjectListEvent;
+import com.momentum.releaser.domain.project.event.ProjectListEventPublisher;
 import com.momentum.releaser.domain.project.mapper.ProjectMapper;
-import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
-import com.momentum.releaser.domain.release.mapper.ReleaseMapper;
 import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
 import com.momentum.releaser.global.config.aws.S3Upload;
 import com.momentum.releaser.global.exception.CustomException;
+import com.momentum.releaser.global.util.LongIntMap;
 
 /**
  * 프로젝트와 관련된 기능을 제공하는 서비스 구현 클래스입니다.
@@ -69,8 +68,6 @@ public class ProjectServiceImpl implements ProjectService {
     private final UserRepository userRepository;
     private final IssueRepository issueRepository;
     private final ReleaseRepository releaseRepository;
-    private final ReleaseApprovalRepository releaseApprovalRepository;
-    private final ModelMapper modelMapper;
     private final S3Upload s3Upload;
 
     private final RedisUtil redisUtil;
@@ -80,6 +77,21 @@ public class ProjectServiceImpl implements ProjectService {
     private final DirectExchange projectDirectExchange;
     private final ConnectionFactory connectionFactory;
 
+    // 통합검색 색인
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectSearchRunner projectSearchRunner;
+
+    // 사용자별 프로젝트 목록 캐시
+    private final ProjectListCache projectListCache;
+    private final ProjectListEventPublisher projectListEventPublisher;
+
+    // 프로젝트 삭제 후 하위 데이터 정리
+    private final ProjectDeletionRepository projectDeletionRepository;
+    private final ProjectDeletionWorker projectDeletionWorker;
+
+    // 이슈와 릴리즈를 함께 검색한 결과를 합칠 때 순위에 더하는 값 (Reciprocal Rank Fusion)
+    private static final int RANK_FUSION_OFFSET = 60;
+
     /**
      * 3.1 프로젝트 생성
      *
@@ -98,6 +110,7 @@ public class ProjectServiceImpl implements ProjectService {
         Project newProject = createNewProject(projectInfoReq, url);
         // 프로젝트 멤버 추가
         addProjectMember(newProject, user);
+        projectListEventPublisher.publish(ProjectListEvent.toChangeMembership(email));
         // 생성된 프로젝트에 해당하는 큐를 생성하고, 연결한다.
         createAndBindQueueAndRegisterListener(newProject.getProjectId());
         // 프로젝트 응답 객체 생성
@@ -125,11 +138,13 @@ public class ProjectServiceImpl implements ProjectService {
 
         String url = updateProjectImg(project, projectInfoReq);
         Project updatedProject = getAndUpdateProject(project, projectInfoReq, url);
+        projectListEventPublisher.publish(ProjectListEvent.toChangeProject(projectId));
         return ProjectMapper.INSTANCE.toProjectInfoRes(updatedProject);
     }
 
     /**
      * 3.3 프로젝트 삭제
+     * 프로젝트만 바로 삭제 상태로 바꾸고, 하위 데이터는 커밋 후 ProjectDeletionWorker 가 나누어 정리한다.
      *
      * @author chaeanna
      * @date 2023-07-05
@@ -140,37 +155,65 @@ public class ProjectServiceImpl implements ProjectService {
         //project 정보
         Project project = getProjectById(projectId);
 
-        projectRepository.deleteById(project.getProjectId());
-        issueRepository.deleteByIssueNum();
-        releaseApprovalRepository.deleteByReleaseApproval();
+        projectRepository.markInactive(project.getProjectId());
+        projectDeletionWorker.start(project.getProjectId());
+        projectSearchIndex.evict(projectId);
+        projectListEventPublisher.publish(ProjectListEvent.toChangeProject(projectId));
 
         return "프로젝트가 삭제되었습니다.";
     }
 
+    /**
+     * 3.5 프로젝트 삭제 진행 상황 조회
+     *
+     * @param projectId 삭제한 프로젝트 식별 번호
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectDeletionResponseDTO findProjectDeletion(Long projectId) {
+        ProjectDeletion deletion = projectDeletionRepository.findById(projectId)
+                .orElseThrow(() -> new CustomException(NOT_EXISTS_PROJECT_DELETION));
+
+        return ProjectDeletionResponseDTO.builder()
+                .projectId(deletion.getProjectId())
+                .stage(deletion.getStage().name())
+                .processedRows(deletion.getProcessedRows())
+                .doneYN(deletion.getDoneYN())
+                .build();
+    }
+
     /**
      * 3.4 프로젝트 조회
+     * 앱을 열 때마다 호출되므로, 사용자별 프로젝트 목록을 캐시에 보관하고 캐시에 없을 때만 하나의 쿼리로 조회한다.
+     * 캐시에서 찾은 경우 커넥션을 사용하지 않도록 트랜잭션을 시작하지 않는다.
      *
      * @param email 사용자 이메일
      * @author chaeanna
      * @date 2023-07-04
      */
     @Override
-    @Transactional
     public GetProjectResponseDTO findProjects(String email) {
-        // 사용자 정보
-        User user = getUserByEmail(email);
+        List<GetUserProjectDataDTO> userProjects = projectListCache.find(email);
+
+        if (userProjects == null) {
+            // 조회하는 동안 프로젝트 목록이 바뀌면 보관하지 않도록 조회 전의 세대 번호를 기억한다.
+            long generation = projectListCache.generation();
+            User user = getUserByEmail(email);
+            userProjects = projectRepository.getUserProjectList(user);
+            projectListCache.store(email, generation, userProjects);
+        }
 
-        // 프로젝트 멤버 정보
-        List<ProjectMember> projectMemberList = projectMemberRepository.findByUser(user);
         List<GetProjectDataDTO> getCreateProjectList = new ArrayList<>();
         List<GetProjectDataDTO> getEnterProjectList = new ArrayList<>();
 
-        for (ProjectMember projectMember : projectMemberList) {
+        for (GetUserProjectDataDTO userProject : userProjects) {
             // 생성한 프로젝트 조회
-            if (projectMember.getPosition() == 'L') {
-                getCreateProjectList.add(mapToGetProject(projectMember.getProject()));
+            if (userProject.getPosition() == 'L') {
+                getCreateProjectList.add(ProjectMapper.INSTANCE.toGetProjectData(userProject));
             } else { // 참가한 프로젝트 조회
-                getEnterProjectList.add(mapToGetProject(projectMember.getProject()));
+                getEnterProjectList.add(ProjectMapper.INSTANCE.toGetProjectData(userProject));
             }
         }
 
@@ -182,38 +225,54 @@ public class ProjectServiceImpl implements ProjectService {
 
     /**
      * 10.2 프로젝트 내 통합검색
+     * 모든 검색 조건을 하나의 쿼리로 조회하며, 결과는 식별 번호(제목 검색 시 검색 순위) 순서의 키셋 페이지로 나누어 반환한다.
+     * filterType이 all인 경우 이슈와 릴리즈를 동시에 검색하여 관련도 순서로 합친다.
+     * 조회만 하므로 트랜잭션을 열지 않으며, 요청 스레드가 커넥션을 가진 채로 다른 스레드의 검색을 기다리지 않도록 한다.
      *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기
      * @author chaeanna
      * @date 2023-08-06
      */
     @Override
-    @Transactional
-    public ProjectSearchResponseDTO findProjectSearch(Long projectId, String filterType, FilterIssueRequestDTO filterIssueGroup, FilterReleaseRequestDTO filterReleaseGroup) {
+    public ProjectSearchResponseDTO findProjectSearch(Long projectId, String filterType, FilterIssueRequestDTO filterIssueGroup, FilterReleaseRequestDTO filterReleaseGroup,
+                                                      Long cursor, int size) {
+        // 검색 대상이 all인 경우 이슈와 릴리즈를 동시에 검색
+        if ("all".equals(filterType)) {
+            return findAllResponses(filterIssueGroup, filterReleaseGroup, projectId, cursor, size);
+        }
+
         // projectId로 해당 프로젝트의 팀원 정보 조회
         ProjectMember member = projectRepository.getProjectMemberPostionPM(projectId);
 
-        List<GetIssueInfoDataDTO> issueResponses = null;
-        List<GetReleaseInfoDataDTO> releaseResponses = null;
-
         // 검색 대상이 issue인 경우 이슈 정보 검색
         if ("issue".equals(filterType)) {
-            issueResponses = findIssueResponses(filterIssueGroup, member.getProject());
-        } else if ("release".equals(filterType)) {
-            // 검색 대상이 release인 경우 릴리즈 정보 검색
-            releaseResponses = findReleaseResponses(filterReleaseGroup, member);
-        } else {
-            throw new CustomException(INVALID_FILTER_TYPE);
+            SearchPage<GetIssueInfoDataDTO> issuePage = findIssueResponses(filterIssueGroup, projectId, cursor, size);
+            return ProjectSearchResponseDTO.builder()
+                    .getIssueInfoList(issuePage.rows)
+                    .getReleaseInfoList(Collections.emptyList())
+                    .nextCursor(issuePage.nextCursor)
+                    .totalCount(issuePage.totalCount)
+                    .getSearchResultList(Collections.emptyList())
+                    .partialYN('N')
+                    .build();
         }
 
-        // 검색 결과가 null인 경우 빈 리스트로 초기화
-        issueResponses = Optional.ofNullable(issueResponses).orElse(Collections.emptyList());
-        releaseResponses = Optional.ofNullable(releaseResponses).orElse(Collections.emptyList());
+        // 검색 대상이 release인 경우 릴리즈 정보 검색
+        if ("release".equals(filterType)) {
+            SearchPage<GetReleaseInfoDataDTO> releasePage = findReleaseResponses(filterReleaseGroup, projectId, cursor, size);
+            fillReleasePm(releasePage.rows, member);
+            return ProjectSearchResponseDTO.builder()
+                    .getIssueInfoList(Collections.emptyList())
+                    .getReleaseInfoList(releasePage.rows)
+                    .nextCursor(releasePage.nextCursor)
+                    .totalCount(releasePage.totalCount)
+                    .getSearchResultList(Collections.emptyList())
+                    .partialYN('N')
+                    .build();
+        }
 
-        // 이슈와 릴리즈 정보를 담고 있는 ProjectSearchResponseDTO 생성하여 반환
-        return ProjectSearchResponseDTO.builder()
-                .getIssueInfoList(issueResponses)
-                .getReleaseInfoList(releaseResponses)
-                .build();
+        throw new CustomException(INVALID_FILTER_TYPE);
     }
 
     // =================================================================================================================
@@ -411,110 +470,229 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     /**
-     * project mapper 사용
+     * 이슈 정보 조회
+     * 제목이나 태그로 검색하면 검색 순위대로, 그렇지 않으면 이슈 식별 번호 순서대로 한 페이지를 조회한다.
      *
-     * @param project 프로젝트 엔티티
-     * @return GetProjectDateDTO 변환된 프로젝트 DTO
+     * @param filterIssueGroup 이슈 필터링 그룹
+     * @param projectId        검색할 프로젝트 식별 번호
+     * @param cursor           이전 페이지의 마지막 이슈 식별 번호 (첫 페이지는 null)
+     * @param size             페이지 크기
+     * @return SearchPage 검색된 이슈 정보 한 페이지
      * @author chaeanna
-     * @date 2023-07-04
+     * @date 2023-08-06
      */
-    private GetProjectDataDTO mapToGetProject(Project project) {
-        return modelMapper.map(project, GetProjectDataDTO.class);
+    private SearchPage<GetIssueInfoDataDTO> findIssueResponses(FilterIssueRequestDTO filterIssueGroup, Long projectId, Long cursor, int size) {
+        // 태그나 제목이 주어진 경우 통합검색 색인에서 순위대로 이슈 식별 번호를 찾는다. (app.search.max-results 개 이하)
+        if (hasText(filterIssueGroup.getTag()) || hasText(filterIssueGroup.getIssueTitle())) {
+            List<Long> rankedIssueIds = projectSearchIndex.searchIssues(projectId, filterIssueGroup.getTag(), filterIssueGroup.getIssueTitle());
+            List<Long> remainingIds = remainingAfter(rankedIssueIds, cursor);
+            if (remainingIds.isEmpty()) {
+                return SearchPage.empty(cursor);
+            }
+
+            // 남은 검색 결과 중 나머지 조건을 만족하는 이슈를 한 번에 조회하고 검색 순위대로 정렬
+            List<GetIssueInfoDataDTO> issues = issueRepository.getSearchIssues(buildPredicateFromIssueFilters(filterIssueGroup, projectId, remainingIds), null);
+            LongIntMap ranks = toRanks(remainingIds);
+            issues.sort(Comparator.comparingInt(issue -> ranks.getOrDefault(issue.getIssueId(), Integer.MAX_VALUE)));
+
+            return SearchPage.of(issues, size, cursor == null ? (long) issues.size() : null, GetIssueInfoDataDTO::getIssueId);
+        }
+
+        // 식별 번호 순서의 키셋 페이지 조회 (다음 페이지 존재 여부를 알기 위해 한 건 더 조회)
+        Predicate predicateIssue = buildPredicateFromIssueFilters(filterIssueGroup, projectId, null);
+        Predicate pagePredicate = cursor == null ? predicateIssue : QIssue.issue.issueId.gt(cursor).and(predicateIssue);
+        List<GetIssueInfoDataDTO> issues = issueRepository.getSearchIssues(pagePredicate, size + 1L);
+
+        // 전체 결과 수는 첫 페이지에서, 결과가 한 페이지를 넘는 경우에만 센다.
+        Long totalCount = null;
+        if (cursor == null) {
+            totalCount = issues.size() <= size ? issues.size() : issueRepository.countSearchIssues(predicateIssue);
+        }
+        return SearchPage.of(issues, size, totalCount, GetIssueInfoDataDTO::getIssueId);
     }
 
     /**
-     * <<<<<<< HEAD
-     * 이슈 정보 조회
+     * 릴리즈 정보 조회
+     * 제목으로 검색하면 검색 순위대로, 그렇지 않으면 릴리즈 노트 식별 번호 순서대로 한 페이지를 조회한다.
      *
-     * @param filterIssueGroup 이슈 필터링 그룹
-     * @param project          검색할 프로젝트
-     * @return GetIssueInfoDataDTO 검색된 이슈 정보 리스트
+     * @param filterReleaseGroup 릴리즈 필터링 그룹
+     * @param projectId          검색할 프로젝트 식별 번호
+     * @param cursor             이전 페이지의 마지막 릴리즈 노트 식별 번호 (첫 페이지는 null)
+     * @param size               페이지 크기
+     * @return SearchPage 검색된 릴리즈 정보 한 페이지
      * @author chaeanna
      * @date 2023-08-06
      */
-    private List<GetIssueInfoDataDTO> findIssueResponses(FilterIssueRequestDTO filterIssueGroup, Project project) {
-        // issue에 대한 검색 조건 빌드
-        Predicate predicateIssue = buildPredicateFromIssueFilters(filterIssueGroup, project);
+    private SearchPage<GetReleaseInfoDataDTO> findReleaseResponses(FilterReleaseRequestDTO filterReleaseGroup, Long projectId, Long cursor, int size) {
+        SearchPage<GetReleaseInfoDataDTO> releasePage;
+
+        // 제목이 주어진 경우 통합검색 색인에서 순위대로 릴리즈 노트 식별 번호를 찾는다.
+        if (hasText(filterReleaseGroup.getReleaseTitle())) {
+            List<Long> rankedReleaseIds = projectSearchIndex.searchReleases(projectId, filterReleaseGroup.getReleaseTitle());
+            List<Long> remainingIds = remainingAfter(rankedReleaseIds, cursor);
+            if (remainingIds.isEmpty()) {
+                return SearchPage.empty(cursor);
+            }
+
+            // 남은 검색 결과 중 나머지 조건을 만족하는 릴리즈 노트를 한 번에 조회하고 검색 순위대로 정렬
+            List<GetReleaseInfoDataDTO> releases = releaseRepository.getSearchReleases(buildPredicateFromReleaseFilters(filterReleaseGroup, projectId, remainingIds), null);
+            LongIntMap ranks = toRanks(remainingIds);
+            releases.sort(Comparator.comparingInt(release -> ranks.getOrDefault(release.getReleaseId(), Integer.MAX_VALUE)));
 
-        // 검색 조건을 이용하여 issue 조회
-        Iterable<Issue> resultIssue = issueRepository.findAll(predicateIssue);
+            releasePage = SearchPage.of(releases, size, cursor == null ? (long) releases.size() : null, GetReleaseInfoDataDTO::getReleaseId);
+        } else {
+            // 식별 번호 순서의 키셋 페이지 조회 (다음 페이지 존재 여부를 알기 위해 한 건 더 조회)
+            Predicate predicateRelease = buildPredicateFromReleaseFilters(filterReleaseGroup, projectId, null);
+            Predicate pagePredicate = cursor == null ? predicateRelease : QReleaseNote.releaseNote.releaseId.gt(cursor).and(predicateRelease);
+            List<GetReleaseInfoDataDTO> releases = releaseRepository.getSearchReleases(pagePredicate, size + 1L);
+
+            // 전체 결과 수는 첫 페이지에서, 결과가 한 페이지를 넘는 경우에만 센다.
+            Long totalCount = null;
+            if (cursor == null) {
+                totalCount = releases.size() <= size ? releases.size() : releaseRepository.countSearchReleases(predicateRelease);
+            }
+            releasePage = SearchPage.of(releases, size, totalCount, GetReleaseInfoDataDTO::getReleaseId);
+        }
+        return releasePage;
+    }
 
-        // 조회된 issue를 GetIssueInfoDataDTO로 변환하여 리스트 반환
-        return StreamSupport.stream(resultIssue.spliterator(), false)
-                .map(this::toGetIssueInfoDataDTO)
-                .collect(Collectors.toList());
+    /**
+     * PM 정보는 모든 릴리즈 노트에 같으므로 조회 후 채운다.
+     *
+     * @param releases 검색한 릴리즈 노트 목록
+     * @param member   프로젝트 PM
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    private void fillReleasePm(List<GetReleaseInfoDataDTO> releases, ProjectMember member) {
+        for (GetReleaseInfoDataDTO release : releases) {
+            release.setPmId(member.getMemberId());
+            release.setPmName(member.getUser() == null ? null : member.getUser().getName());
+            release.setPmImg(member.getUser() == null ? null : member.getUser().getImg());
+        }
     }
 
     /**
-     * 릴리즈 정보 조회
+     * 이슈와 릴리즈를 동시에 검색하고, 두 결과를 관련도 순서로 합친다.
+     * 각 검색의 첫 페이지(size 개)만 반환하며, 다음 페이지는 filterType을 issue, release로 나누어 요청한다.
      *
-     * @param filterReleaseGroup 릴리즈 필터링 그룹
-     * @param member             프로젝트 PM 정보
-     * @return GetReleaseInfoDataDTO 검색된 릴리즈 정보 리스트
+     * @param filterIssueGroup   이슈 필터링 조건 그룹
+     * @param filterReleaseGroup 릴리즈 필터링 조건 그룹
+     * @param projectId          프로젝트 식별 번호
+     * @param cursor             이전 페이지의 nextCursor (사용할 수 없으므로 null 이어야 한다.)
+     * @param size               이슈, 릴리즈 각각의 최대 결과 수
+     * @return ProjectSearchResponseDTO 검색한 정보 응답 DTO
      * @author chaeanna
-     * @date 2023-08-06
+     * @date 2023-09-01
      */
-    private List<GetReleaseInfoDataDTO> findReleaseResponses(FilterReleaseRequestDTO filterReleaseGroup, ProjectMember member) {
-        // 릴리즈에 대한 검색 조건 빌드
-        Predicate predicateRelease = buildPredicateFromReleaseFilters(filterReleaseGroup, member.getProject());
+    private ProjectSearchResponseDTO findAllResponses(FilterIssueRequestDTO filterIssueGroup, FilterReleaseRequestDTO filterReleaseGroup,
+                                                      Long projectId, Long cursor, int size) {
+        if (cursor != null) {
+            throw new CustomException(INVALID_SEARCH_CURSOR);
+        }
 
-        // 검색 조건을 이용하여 릴리즈 정보를 조회합니다.
-        Iterable<ReleaseNote> resultRelease = releaseRepository.findAll(predicateRelease);
+        // 검색을 기다리는 동안 요청 스레드가 커넥션을 갖지 않도록, PM 정보는 검색이 끝난 뒤에 조회한다.
+        SearchAllDataDTO result = projectSearchRunner.searchAll(
+                () -> findIssueResponses(filterIssueGroup, projectId, null, size).rows,
+                () -> findReleaseResponses(filterReleaseGroup, projectId, null, size).rows);
+        fillReleasePm(result.getReleases(), projectRepository.getProjectMemberPostionPM(projectId));
 
-        // 조회된 릴리즈 정보를 GetReleaseInfoDataDTO로 변환하여 리스트로 반환합니다.
-        return StreamSupport.stream(resultRelease.spliterator(), false)
-                .map(release -> toGetReleaseInfoDataDTO(release, member))
-                .collect(Collectors.toList());
+        return ProjectSearchResponseDTO.builder()
+                .getIssueInfoList(result.getIssues())
+                .getReleaseInfoList(result.getReleases())
+                .getSearchResultList(mergeByRelevance(result.getIssues(), result.getReleases()))
+                .partialYN(result.isPartial() ? 'Y' : 'N')
+                .build();
     }
 
     /**
-     * 릴리즈 정보를 GetReleaseInfoDataDTO 형식 변환
+     * 이슈, 릴리즈 검색 결과를 각 결과 안의 순위로 관련도를 매겨 하나의 목록으로 합친다.
+     * 이슈와 릴리즈의 검색 점수는 서로 비교할 수 없으므로 순위만 사용하며, 순위가 같으면 이슈를 먼저 둔다.
      *
-     * @param releaseNote 릴리즈 정보
-     * @param member      프로젝트 PM 정보
-     * @return GetReleaseInfoDataDTO 변환된 릴리즈 정보
+     * @param issues   순위대로 정렬된 이슈 검색 결과
+     * @param releases 순위대로 정렬된 릴리즈 검색 결과
+     * @return List 관련도가 높은 순서로 정렬된 검색 결과 목록
      * @author chaeanna
-     * @date 2023-08-06
+     * @date 2023-09-01
      */
-    private GetReleaseInfoDataDTO toGetReleaseInfoDataDTO(ReleaseNote releaseNote, ProjectMember member) {
-        return ReleaseMapper.INSTANCE.toGetReleaseInfoDataDTO(releaseNote, member);
+    private List<GetSearchResultDataDTO> mergeByRelevance(List<GetIssueInfoDataDTO> issues, List<GetReleaseInfoDataDTO> releases) {
+        List<GetSearchResultDataDTO> results = new ArrayList<>(issues.size() + releases.size());
+        for (int rank = 0; rank < issues.size(); rank++) {
+            results.add(GetSearchResultDataDTO.builder()
+                    .type("issue")
+                    .id(issues.get(rank).getIssueId())
+                    .score(1.0 / (RANK_FUSION_OFFSET + rank + 1))
+                    .build());
+        }
+        for (int rank = 0; rank < releases.size(); rank++) {
+            results.add(GetSearchResultDataDTO.builder()
+                    .type("release")
+                    .id(releases.get(rank).getReleaseId())
+                    .score(1.0 / (RANK_FUSION_OFFSET + rank + 1))
+                    .build());
+        }
+
+        // 정렬은 안정적이므로 관련도가 같으면 먼저 추가한 이슈가 앞에 온다.
+        results.sort(Comparator.comparingDouble(GetSearchResultDataDTO::getScore).reversed());
+        return results;
     }
 
     /**
-     * 이슈 정보를 GetIssueInfoDataDTO 형식 변환
+     * 검색 순위 목록에서 이전 페이지의 마지막 식별 번호 다음부터의 목록
+     * 이전 페이지 이후 색인이 바뀌어 마지막 식별 번호가 사라진 경우에는 중복을 보여주지 않도록 빈 목록을 반환한다.
      *
-     * @param issue 이슈 정보
-     * @return GetIssueInfoDataDTO 변환된 이슈 정보
+     * @param rankedIds 순위대로 정렬된 식별 번호 목록
+     * @param cursor    이전 페이지의 마지막 식별 번호 (첫 페이지는 null)
+     * @return List 남은 식별 번호 목록
      * @author chaeanna
-     * @date 2023-08-06
+     * @date 2023-09-01
+     */
+    private List<Long> remainingAfter(List<Long> rankedIds, Long cursor) {
+        if (cursor == null) {
+            return rankedIds;
+        }
+        int position = rankedIds.indexOf(cursor);
+        return position < 0 ? Collections.emptyList() : rankedIds.subList(position + 1, rankedIds.size());
+    }
+
+    /**
+     * 검색 순위를 식별 번호로 찾을 수 있도록 변환
+     *
+     * @param rankedIds 순위대로 정렬된 식별 번호 목록
+     * @return LongIntMap 식별 번호 -> 순위
+     * @author chaeanna
+     * @date 2023-08-29
      */
-    private GetIssueInfoDataDTO toGetIssueInfoDataDTO(Issue issue) {
-        return IssueMapper.INSTANCE.toGetIssueInfoDataDTO(issue);
+    private LongIntMap toRanks(List<Long> rankedIds) {
+        LongIntMap ranks = new LongIntMap(rankedIds.size());
+        for (int rank = 0; rank < rankedIds.size(); rank++) {
+            ranks.put(rankedIds.get(rank), rank);
+        }
+        return ranks;
     }
 
     /**
      * 이슈 필터링 조건을 기반으로 Predicate 생성
      *
      * @param filterIssueGroup 이슈 필터링 조건 그룹
-     * @param project          프로젝트 정보
+     * @param projectId        프로젝트 식별 번호
+     * @param rankedIssueIds   태그, 제목 검색 결과 이슈 식별 번호 (검색하지 않은 경우 null)
      * @return Predicate 생성된 Predicate
      * @author chaeanna
      * @date 2023-08-06
      */
-    private Predicate buildPredicateFromIssueFilters(FilterIssueRequestDTO filterIssueGroup, Project project) {
+    private Predicate buildPredicateFromIssueFilters(FilterIssueRequestDTO filterIssueGroup, Long projectId, List<Long> rankedIssueIds) {
         BooleanBuilder builder = new BooleanBuilder();
         QIssue issue = QIssue.issue;
 
         // 프로젝트에 해당하는 이슈만 검색하도록 조건 추가
-        builder.and(issue.project.eq(project));
+        builder.and(issue.project.projectId.eq(projectId));
 
         Date startDate = filterIssueGroup.getStartDate();
         Date endDate = filterIssueGroup.getEndDate();
         Long manager = filterIssueGroup.getManagerId();
         String startVersion = filterIssueGroup.getStartReleaseVersion();
         String endVersion = filterIssueGroup.getEndReleaseVersion();
-        String tag = filterIssueGroup.getTag();
-        String title = filterIssueGroup.getIssueTitle();
 
         // 이슈의 종료일 범위 검색 조건 추가
         if (startDate != null && endDate != null) {
@@ -532,30 +710,11 @@ public class ProjectServiceImpl implements ProjectService {
         }
         // 이슈의 릴리즈 버전 범위 검색 조건 추가
         if (hasText(startVersion) && hasText(endVersion)) {
-            builder.and(issue.release.version.goe(startVersion))
-                    .and(issue.release.version.loe(endVersion));
+            builder.and(ReleaseVersionExpressions.between(issue.release.semanticVersion, SemanticVersion.parse(startVersion), SemanticVersion.parse(endVersion)));
         }
-        // 이슈의 태그를 이용한 FULLTEXT 검색 조건 추가
-        if (hasText(tag)) {
-            NumberTemplate booleanTemplate = Expressions.numberTemplate(Double.class,
-                    "function('match',{0},{1})", issue.tag, "+" + tag + "*");
-            List<Issue> result = issueRepository.getSearch(booleanTemplate, project);
-
-            if (result != null) {
-                builder.and(issue.in(result));
-            }
-
-        }
-        // 이슈의 제목을 이용한 FULLTEXT 검색 조건 추가
-        if (hasText(title)) {
-            NumberTemplate booleanTemplate = Expressions.numberTemplate(Double.class,
-                    "function('match',{0},{1})", issue.title, "+" + title + "*");
-            List<Issue> result = issueRepository.getSearch(booleanTemplate, project);
-
-            if (result != null) {
-                builder.and(issue.in(result));
-            }
-
+        // 이슈의 태그, 제목 검색 결과 조건 추가
+        if (rankedIssueIds != null) {
+            builder.and(issue.issueId.in(rankedIssueIds));
         }
 
         return builder.getValue();
@@ -565,37 +724,29 @@ public class ProjectServiceImpl implements ProjectService {
      * 릴리즈 필터링 조건을 기반으로 Predicate 생성
      *
      * @param filterReleaseGroup 릴리즈 필터링 조건 그룹
-     * @param project            프로젝트 정보
+     * @param projectId          프로젝트 식별 번호
+     * @param rankedReleaseIds   제목 검색 결과 릴리즈 노트 식별 번호 (검색하지 않은 경우 null)
      * @return Predicate 생성된 Predicate
      * @author chaeanna
      * @date 2023-08-06
      */
-    private Predicate buildPredicateFromReleaseFilters(FilterReleaseRequestDTO filterReleaseGroup, Project project) {
+    private Predicate buildPredicateFromReleaseFilters(FilterReleaseRequestDTO filterReleaseGroup, Long projectId, List<Long> rankedReleaseIds) {
         BooleanBuilder builder = new BooleanBuilder();
         QReleaseNote release = QReleaseNote.releaseNote;
 
         // 프로젝트에 해당하는 릴리즈만 검색하도록 조건 추가
-        builder.and(release.project.eq(project));
+        builder.and(release.project.projectId.eq(projectId));
 
         String startVersion = filterReleaseGroup.getStartVersion();
         String endVersion = filterReleaseGroup.getEndVersion();
-        String title = filterReleaseGroup.getReleaseTitle();
 
         // 릴리즈의 버전 범위 검색 조건 추가
         if (hasText(startVersion) && hasText(endVersion)) {
-            builder.and(release.version.goe(startVersion))
-                    .and(release.version.loe(endVersion));
+            builder.and(ReleaseVersionExpressions.between(release.semanticVersion, SemanticVersion.parse(startVersion), SemanticVersion.parse(endVersion)));
         }
-        // 릴리즈의 제목을 이용한 FULLTEXT 검색 조건 추가
-        if (hasText(title)) {
-            NumberTemplate booleanTemplate = Expressions.numberTemplate(Double.class,
-                    "function('match',{0},{1})", release.title, "+" + title + "*");
-            List<ReleaseNote> result = releaseRepository.getSearch(booleanTemplate, project);
-
-            if (result != null) {
-                builder.and(release.in(result));
-            }
-
+        // 릴리즈의 제목 검색 결과 조건 추가
+        if (rankedReleaseIds != null) {
+            builder.and(release.releaseId.in(rankedReleaseIds));
         }
 
         return builder.getValue();
@@ -656,4 +807,34 @@ public class ProjectServiceImpl implements ProjectService {
         container.setMessageListener(new MessageListenerAdapter(this, "receiveMessagePerProject"));
         container.start();
     }
+
+    /**
+     * 통합검색 결과 한 페이지
+     */
+    private static final class SearchPage<T> {
+        private final List<T> rows;
+        private final Long nextCursor;
+        private final Long totalCount;
+
+        private SearchPage(List<T> rows, Long nextCursor, Long totalCount) {
+            this.rows = rows;
+            this.nextCursor = nextCursor;
+            this.totalCount = totalCount;
+        }
+
+        /**
+         * 페이지 크기보다 많이 조회한 경우 잘라내고, 페이지의 마지막 식별 번호를 다음 커서로 삼는다.
+         */
+        static <T> SearchPage<T> of(List<T> rows, int size, Long totalCount, Function<T, Long> idGetter) {
+            if (rows.size() <= size) {
+                return new SearchPage<>(rows, null, totalCount);
+            }
+            List<T> page = new ArrayList<>(rows.subList(0, size));
+            return new SearchPage<>(page, idGetter.apply(page.get(size - 1)), totalCount);
+        }
+
+        static <T> SearchPage<T> empty(Long cursor) {
+            return new SearchPage<>(Collections.emptyList(), null, cursor == null ? 0L : null);
+        }
+    }
 }
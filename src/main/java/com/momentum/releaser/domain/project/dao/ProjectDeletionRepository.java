@@ -0,0 +1,84 @@
+package com.momentum.releaser.domain.project.dao;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.momentum.releaser.domain.project.domain.ProjectDeletion;
+
+/**
+ * 프로젝트 삭제 작업의 진행 상황과 단계별 정리 쿼리
+ * 정리 쿼리는 엔티티를 불러오지 않고 project_id 조건으로 한 번에 최대 limit 개의 행만 바꾸며, 이미 정리한 행은 조건에서 제외되므로 여러 번 실행해도 결과가 같다.
+ */
+public interface ProjectDeletionRepository extends JpaRepository<ProjectDeletion, Long> {
+
+    /**
+     * 프로젝트 삭제 작업을 만든다. 이미 작업이 있으면 그대로 둔다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO project_deletion (project_id, stage, processed_rows, done_yn, created_date, modified_date) "
+            + "VALUES (:projectId, :stage, 0, 'N', NOW(), NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("projectId") Long projectId, @Param("stage") String stage);
+
+    /**
+     * 끝나지 않았고 다른 서버가 진행하고 있지 않은(staleSeconds 동안 갱신이 없는) 작업을 이 서버가 가져온다.
+     * 가져온 경우 1, 다른 서버가 진행 중이거나 이미 끝난 작업이면 0을 반환한다.
+     */
+    @Modifying
+    @Query(value = "UPDATE project_deletion SET claimed_at = NOW(), modified_date = NOW() "
+            + "WHERE project_id = :projectId AND done_yn = 'N' "
+            + "AND (claimed_at IS NULL OR claimed_at < NOW() - INTERVAL :staleSeconds SECOND)", nativeQuery = true)
+    int claim(@Param("projectId") Long projectId, @Param("staleSeconds") long staleSeconds);
+
+    /**
+     * 정리한 행 수를 더하고 다음에 진행할 단계를 기록한다.
+     */
+    @Modifying
+    @Query(value = "UPDATE project_deletion SET stage = :stage, processed_rows = processed_rows + :rows, done_yn = :doneYN, "
+            + "claimed_at = NOW(), modified_date = NOW() WHERE project_id = :projectId AND done_yn = 'N'", nativeQuery = true)
+    int updateProgress(@Param("projectId") Long projectId, @Param("stage") String stage, @Param("rows") long rows, @Param("doneYN") char doneYN);
+
+    /**
+     * 끝나지 않았고 진행 중인 서버가 없는 작업의 프로젝트 식별 번호
+     */
+    @Query(value = "SELECT project_id FROM project_deletion WHERE done_yn = 'N' "
+            + "AND (claimed_at IS NULL OR claimed_at < NOW() - INTERVAL :staleSeconds SECOND) ORDER BY created_date", nativeQuery = true)
+    List<Long> findResumableProjectIds(@Param("staleSeconds") long staleSeconds);
+
+    // 단계별 정리 쿼리
+
+    @Modifying
+    @Query(value = "UPDATE project_member SET status = 'N' WHERE project_id = :projectId AND status = 'Y' LIMIT :limit", nativeQuery = true)
+    int inactivateMembers(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE release_opinion SET status = 'N' "
+            + "WHERE release_id IN (SELECT release_id FROM release_note WHERE project_id = :projectId) AND status = 'Y' LIMIT :limit", nativeQuery = true)
+    int inactivateReleaseOpinions(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM release_approval "
+            + "WHERE release_id IN (SELECT release_id FROM release_note WHERE project_id = :projectId) LIMIT :limit", nativeQuery = true)
+    int deleteReleaseApprovals(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE release_note SET status = 'N', modified_date = NOW() WHERE project_id = :projectId AND status = 'Y' LIMIT :limit", nativeQuery = true)
+    int inactivateReleaseNotes(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE issue_opinion SET status = 'N' "
+            + "WHERE issue_id IN (SELECT issue_id FROM issue WHERE project_id = :projectId) AND status = 'Y' LIMIT :limit", nativeQuery = true)
+    int inactivateIssueOpinions(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE issue SET status = 'N', issue_num_id = NULL "
+            + "WHERE project_id = :projectId AND (status = 'Y' OR issue_num_id IS NOT NULL) LIMIT :limit", nativeQuery = true)
+    int inactivateIssues(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM issue_num WHERE project_id = :projectId LIMIT :limit", nativeQuery = true)
+    int deleteIssueNums(@Param("projectId") Long projectId, @Param("limit") int limit);
+}
@@ -3,6 +3,7 @@ package com.momentum.releaser.domain.project.dao;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
@@ -16,6 +17,10 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     // 프로젝트를 기반으로 프로젝트 멤버 목록 조회
     List<ProjectMember> findByProject(Project updateProject);
 
+    // 프로젝트를 기반으로 프로젝트 멤버 목록을 사용자 정보와 함께 조회
+    @EntityGraph(attributePaths = "user")
+    List<ProjectMember> findWithUserByProject(Project project);
+
     // 사용자를 기반으로 프로젝트 멤버 목록 조회
     List<ProjectMember> findByUser(User user);
 
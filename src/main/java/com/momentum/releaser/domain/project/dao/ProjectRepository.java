@@ -6,6 +6,9 @@ import java.util.Optional;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 import com.momentum.releaser.domain.project.domain.Project;
@@ -15,4 +18,11 @@ public interface ProjectRepository extends JpaRepository<Project, Long>, Project
 
     // 링크를 받아 해당 링크로 등록된 프로젝트 정보를 Optional 형태 반환
     Optional<Project> findByLink(String link);
+
+    /**
+     * 프로젝트만 삭제 상태로 바꾼다. 하위 데이터는 프로젝트 삭제 작업(ProjectDeletionWorker)에서 나누어 정리한다.
+     */
+    @Modifying
+    @Query(value = "UPDATE project SET status = 'N' WHERE project_id = :projectId AND status = 'Y'", nativeQuery = true)
+    int markInactive(@Param("projectId") Long projectId);
 }
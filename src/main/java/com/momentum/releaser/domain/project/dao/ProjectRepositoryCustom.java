@@ -5,6 +5,8 @@ import java.util.List;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetMembersDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetUserProjectDataDTO;
+import com.momentum.releaser.domain.user.domain.User;
 
 public interface ProjectRepositoryCustom {
 
@@ -12,4 +14,7 @@ public interface ProjectRepositoryCustom {
     List<GetMembersDataDTO> getMemberList(Project project);
 
     ProjectMember getProjectMemberPostionPM(Long projectId);
+
+    // 사용자가 참여한 프로젝트 정보와 사용자의 역할을 List 형태로 반환
+    List<GetUserProjectDataDTO> getUserProjectList(User user);
 }
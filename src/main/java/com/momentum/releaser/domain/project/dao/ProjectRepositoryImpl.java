@@ -12,9 +12,13 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.QProjectMember;
+import com.momentum.releaser.domain.project.domain.QProject;
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetMembersDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetUserProjectDataDTO;
 import com.momentum.releaser.domain.project.dto.QProjectDataDto_GetMembersDataDTO;
+import com.momentum.releaser.domain.project.dto.QProjectDataDto_GetUserProjectDataDTO;
 import com.momentum.releaser.domain.user.domain.QUser;
+import com.momentum.releaser.domain.user.domain.User;
 
 @Slf4j
 @Repository
@@ -54,12 +58,44 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
     public ProjectMember getProjectMemberPostionPM(Long projectId) {
         QProjectMember member = QProjectMember.projectMember;
 
+        // 트랜잭션 밖에서도 PM 이름과 이미지를 읽을 수 있도록 사용자를 함께 조회
         ProjectMember memberRes = queryFactory
                 .select(member)
                 .from(member)
+                .leftJoin(member.user).fetchJoin()
                 .where(member.project.projectId.eq(projectId)
                         .and(member.position.eq('L')))
                 .fetchOne();
         return memberRes;
     }
+
+    /**
+     * 사용자가 참여한 프로젝트 정보와 사용자의 역할을 참여한 순서대로 조회
+     *
+     * @author chaeanna
+     * @date 2023-09-01
+     * @param user 사용자 엔티티
+     * @return List<GetUserProjectDataDTO> 사용자가 참여한 프로젝트 정보 리스트
+     */
+    @Override
+    public List<GetUserProjectDataDTO> getUserProjectList(User user) {
+        QProjectMember member = QProjectMember.projectMember;
+        QProject project = QProject.project;
+
+        return queryFactory
+                .select(new QProjectDataDto_GetUserProjectDataDTO(
+                        project.projectId,
+                        project.title,
+                        project.content,
+                        project.team,
+                        project.img,
+                        member.position
+                ))
+                .from(member)
+                .join(member.project, project)
+                .where(member.user.eq(user)
+                        .and(project.status.eq('Y')))
+                .orderBy(member.memberId.asc())
+                .fetch();
+    }
 }
@@ -0,0 +1,57 @@
+package com.momentum.releaser.domain.project.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제한 프로젝트의 하위 데이터를 정리하는 작업의 진행 상황
+ * 단계별 정리 쿼리와 같은 트랜잭션에서 갱신하므로, 서버가 중간에 종료되어도 마지막으로 커밋한 단계부터 이어서 진행한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "project_deletion")
+@Entity
+public class ProjectDeletion {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false)
+    private ProjectDeletionStage stage;
+
+    // 지금까지 정리한 행 수 (모든 단계의 합)
+    @Column(name = "processed_rows", nullable = false)
+    private long processedRows;
+
+    @Column(name = "done_yn", nullable = false)
+    private char doneYN;
+
+    // 작업을 실행 중인 서버가 마지막으로 진행 상황을 갱신한 시각 (오래되면 다른 서버가 이어서 진행한다.)
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+
+    @Column(name = "modified_date")
+    private LocalDateTime modifiedDate;
+
+    @Builder
+    public ProjectDeletion(Long projectId, ProjectDeletionStage stage, long processedRows, char doneYN, LocalDateTime claimedAt, LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        this.projectId = projectId;
+        this.stage = stage;
+        this.processedRows = processedRows;
+        this.doneYN = doneYN;
+        this.claimedAt = claimedAt;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+    }
+}
@@ -0,0 +1,24 @@
+package com.momentum.releaser.domain.project.domain;
+
+/**
+ * 프로젝트 삭제 작업의 단계 (선언한 순서대로 진행한다.)
+ * 이슈 번호는 이슈가 참조하므로, 이슈의 이슈 번호 연결을 끊은 뒤에 삭제한다.
+ */
+public enum ProjectDeletionStage {
+    MEMBER,  // 프로젝트 멤버 status = 'N'
+    RELEASE_OPINION,  // 릴리즈 노트 의견 status = 'N'
+    RELEASE_APPROVAL,  // 릴리즈 배포 동의 정보 삭제
+    RELEASE_NOTE,  // 릴리즈 노트 status = 'N'
+    ISSUE_OPINION,  // 이슈 의견 status = 'N'
+    ISSUE,  // 이슈 status = 'N', 이슈 번호 연결 해제
+    ISSUE_NUM,  // 이슈 번호 삭제
+    DONE,
+    ;
+
+    /**
+     * 다음 단계 (DONE 의 다음 단계는 DONE)
+     */
+    public ProjectDeletionStage next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
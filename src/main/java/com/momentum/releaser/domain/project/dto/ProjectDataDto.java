@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import com.querydsl.core.annotations.QueryProjection;
 
 import java.util.Date;
+import java.util.List;
 
 public class ProjectDataDto {
 
@@ -56,6 +57,32 @@ public class ProjectDataDto {
         }
     }
 
+    /**
+     * 사용자가 참여한 프로젝트 정보와 사용자의 역할
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class GetUserProjectDataDTO {
+        private Long projectId;
+        private String title;
+        private String content;
+        private String team;
+        private String img;
+        // L: 프로젝트 생성자(PM), M: 프로젝트 멤버
+        private char position;
+
+        @QueryProjection
+        @Builder
+        public GetUserProjectDataDTO(Long projectId, String title, String content, String team, String img, char position) {
+            this.projectId = projectId;
+            this.title = title;
+            this.content = content;
+            this.team = team;
+            this.img = img;
+            this.position = position;
+        }
+    }
+
     /**
      * 릴리즈 노트 정보 조회
      */
@@ -71,6 +98,7 @@ public class ProjectDataDto {
         private String pmName;
         private String pmImg;
 
+        @QueryProjection
         @Builder
         public GetReleaseInfoDataDTO(Long releaseId, String version, String title, Date deployDate, Long pmId, String pmName, String pmImg) {
             this.releaseId = releaseId;
@@ -99,6 +127,7 @@ public class ProjectDataDto {
         private String managerName;
         private String managerImg;
 
+        @QueryProjection
         @Builder
         public GetIssueInfoDataDTO(Long issueId, String title, String tag, String releaseVersion, Date endDate, Long manager, String managerName, String managerImg) {
             this.issueId = issueId;
@@ -112,4 +141,65 @@ public class ProjectDataDto {
         }
     }
 
+    /**
+     * 통합검색 색인 문서
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class SearchDocumentDataDTO {
+
+        private Long id;
+        private String title;
+        private String tag;
+
+        @QueryProjection
+        @Builder
+        public SearchDocumentDataDTO(Long id, String title, String tag) {
+            this.id = id;
+            this.title = title;
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * 10.1 프로젝트 내 통합검색 - 이슈와 릴리즈를 함께 검색한 결과의 순서
+     * 이슈, 릴리즈 정보는 각 목록에 있으며, 이 목록은 두 결과를 관련도 순서로 합친 식별 번호 목록이다.
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class GetSearchResultDataDTO {
+
+        // issue 또는 release
+        private String type;
+        private Long id;
+        private double score;
+
+        @Builder
+        public GetSearchResultDataDTO(String type, Long id, double score) {
+            this.type = type;
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 이슈와 릴리즈를 동시에 검색한 결과
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class SearchAllDataDTO {
+
+        private List<GetIssueInfoDataDTO> issues;
+        private List<GetReleaseInfoDataDTO> releases;
+        // 제한 시간 안에 끝나지 않은 검색이 있어 일부 결과만 있는지 여부
+        private boolean partial;
+
+        @Builder
+        public SearchAllDataDTO(List<GetIssueInfoDataDTO> issues, List<GetReleaseInfoDataDTO> releases, boolean partial) {
+            this.issues = issues;
+            this.releases = releases;
+            this.partial = partial;
+        }
+    }
+
 }
@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetIssueInfoDataDTO;
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetReleaseInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetSearchResultDataDTO;
 import lombok.*;
 
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetProjectDataDTO;
@@ -48,11 +49,47 @@ public class ProjectResponseDto {
     public static class ProjectSearchResponseDTO {
         private List<GetReleaseInfoDataDTO> getReleaseInfoList;
         private List<GetIssueInfoDataDTO> getIssueInfoList;
+        // 다음 페이지를 요청할 때 cursor 로 보낼 값 (마지막 페이지인 경우 null)
+        private Long nextCursor;
+        // 검색 조건을 만족하는 전체 결과 수 (첫 페이지에서만 계산하며, 이후 페이지는 null)
+        private Long totalCount;
+        // 이슈와 릴리즈를 함께 검색한 경우 두 결과를 관련도 순서로 합친 목록
+        private List<GetSearchResultDataDTO> getSearchResultList;
+        // 제한 시간 안에 끝나지 않은 검색이 있어 일부 결과만 반환했는지 여부 (Y/N)
+        private char partialYN;
 
         @Builder
-        public ProjectSearchResponseDTO(List<GetReleaseInfoDataDTO> getReleaseInfoList, List<GetIssueInfoDataDTO> getIssueInfoList) {
+        public ProjectSearchResponseDTO(List<GetReleaseInfoDataDTO> getReleaseInfoList, List<GetIssueInfoDataDTO> getIssueInfoList, Long nextCursor, Long totalCount,
+                                        List<GetSearchResultDataDTO> getSearchResultList, char partialYN) {
             this.getReleaseInfoList = getReleaseInfoList;
             this.getIssueInfoList = getIssueInfoList;
+            this.nextCursor = nextCursor;
+            this.totalCount = totalCount;
+            this.getSearchResultList = getSearchResultList;
+            this.partialYN = partialYN;
+        }
+    }
+
+    /**
+     * 프로젝트 삭제 진행 상황
+     */
+    @Data
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ProjectDeletionResponseDTO {
+        private Long projectId;
+        // 다음에 진행할 정리 단계 (모두 끝난 경우 DONE)
+        private String stage;
+        // 지금까지 정리한 행 수
+        private long processedRows;
+        // 하위 데이터 정리가 끝난 경우 'Y'
+        private char doneYN;
+
+        @Builder
+        public ProjectDeletionResponseDTO(Long projectId, String stage, long processedRows, char doneYN) {
+            this.projectId = projectId;
+            this.stage = stage;
+            this.processedRows = processedRows;
+            this.doneYN = doneYN;
         }
     }
 
@@ -0,0 +1,46 @@
+package com.momentum.releaser.domain.project.event;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * 사용자의 프로젝트 목록(3.4 프로젝트 조회) 캐시를 무효화하는 이벤트
+ * 사용자의 프로젝트 참여 여부가 바뀌면 그 사용자의 목록만, 프로젝트 정보가 바뀌면 그 프로젝트가 포함된 모든 목록을 무효화한다.
+ */
+@Data
+@Builder
+@ToString
+public class ProjectListEvent {
+
+    private String email;
+    private Long projectId;
+
+    /**
+     * 사용자가 프로젝트를 만들거나, 참여하거나, 탈퇴하거나, 제거된 경우
+     *
+     * @param email 프로젝트 참여 여부가 바뀐 사용자 이메일
+     * @return ProjectListEvent
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public static ProjectListEvent toChangeMembership(String email) {
+        return ProjectListEvent.builder()
+                .email(email)
+                .build();
+    }
+
+    /**
+     * 프로젝트 정보가 수정되거나 프로젝트가 삭제된 경우
+     *
+     * @param projectId 변경된 프로젝트 식별 번호
+     * @return ProjectListEvent
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public static ProjectListEvent toChangeProject(Long projectId) {
+        return ProjectListEvent.builder()
+                .projectId(projectId)
+                .build();
+    }
+}
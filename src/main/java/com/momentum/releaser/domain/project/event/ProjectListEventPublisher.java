@@ -0,0 +1,25 @@
+package com.momentum.releaser.domain.project.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectListEventPublisher {
+
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * 프로젝트 목록 캐시 무효화 이벤트를 발행한다.
+     * 트랜잭션이 커밋된 후 캐시에 반영된다.
+     *
+     * @param projectListEvent 프로젝트 목록 캐시 무효화 이벤트
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public void publish(final ProjectListEvent projectListEvent) {
+        publisher.publishEvent(projectListEvent);
+    }
+}
@@ -0,0 +1,115 @@
+package com.momentum.releaser.domain.project.event;
+
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.release.domain.ReleaseNote;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * 통합검색 색인에 반영할 이슈, 릴리즈 노트 변경 이벤트
+ */
+@Data
+@Builder
+@ToString
+public class SearchIndexEvent {
+
+    private SearchTarget target;
+    private Long projectId;
+    private Long id;
+    private String title;
+    private String tag;
+    private boolean deleted;
+
+    public enum SearchTarget {
+        ISSUE, RELEASE,
+        PROJECT  // 프로젝트 색인 전체 (다음 검색 시 다시 만든다.)
+    }
+
+    /**
+     * 이슈가 생성되거나 제목, 태그가 바뀐 경우
+     *
+     * @param issue 변경된 이슈
+     * @return SearchIndexEvent
+     * @author chaeanna
+     * @date 2023-08-29
+     */
+    public static SearchIndexEvent toIndexIssue(Issue issue) {
+        return SearchIndexEvent.builder()
+                .target(SearchTarget.ISSUE)
+                .projectId(issue.getProject().getProjectId())
+                .id(issue.getIssueId())
+                .title(issue.getTitle())
+                .tag(issue.getTag() == null ? null : issue.getTag().toString())
+                .build();
+    }
+
+    /**
+     * 이슈가 삭제된 경우
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param issueId   삭제된 이슈 식별 번호
+     * @return SearchIndexEvent
+     * @author chaeanna
+     * @date 2023-08-29
+     */
+    public static SearchIndexEvent toRemoveIssue(Long projectId, Long issueId) {
+        return SearchIndexEvent.builder()
+                .target(SearchTarget.ISSUE)
+                .projectId(projectId)
+                .id(issueId)
+                .deleted(true)
+                .build();
+    }
+
+    /**
+     * 릴리즈 노트가 생성되거나 제목이 바뀐 경우
+     *
+     * @param releaseNote 변경된 릴리즈 노트
+     * @return SearchIndexEvent
+     * @author seonwoo
+     * @date 2023-08-29
+     */
+    public static SearchIndexEvent toIndexRelease(ReleaseNote releaseNote) {
+        return SearchIndexEvent.builder()
+                .target(SearchTarget.RELEASE)
+                .projectId(releaseNote.getProject().getProjectId())
+                .id(releaseNote.getReleaseId())
+                .title(releaseNote.getTitle())
+                .build();
+    }
+
+    /**
+     * 릴리즈 노트가 삭제된 경우
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param releaseId 삭제된 릴리즈 노트 식별 번호
+     * @return SearchIndexEvent
+     * @author seonwoo
+     * @date 2023-08-29
+     */
+    public static SearchIndexEvent toRemoveRelease(Long projectId, Long releaseId) {
+        return SearchIndexEvent.builder()
+                .target(SearchTarget.RELEASE)
+                .projectId(projectId)
+                .id(releaseId)
+                .deleted(true)
+                .build();
+    }
+
+    /**
+     * 이슈를 한꺼번에 가져오는 등 변경이 많아 프로젝트 색인을 다시 만들어야 하는 경우
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return SearchIndexEvent
+     * @author chaeanna
+     * @date 2023-08-30
+     */
+    public static SearchIndexEvent toRebuildProject(Long projectId) {
+        return SearchIndexEvent.builder()
+                .target(SearchTarget.PROJECT)
+                .projectId(projectId)
+                .build();
+    }
+}
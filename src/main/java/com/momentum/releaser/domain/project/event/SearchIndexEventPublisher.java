@@ -0,0 +1,25 @@
+package com.momentum.releaser.domain.project.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SearchIndexEventPublisher {
+
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * 통합검색 색인 변경 이벤트를 발행한다.
+     * 트랜잭션이 커밋된 후 색인에 반영된다.
+     *
+     * @param searchIndexEvent 통합검색 색인 변경 이벤트
+     * @author chaeanna
+     * @date 2023-08-29
+     */
+    public void publish(final SearchIndexEvent searchIndexEvent) {
+        publisher.publishEvent(searchIndexEvent);
+    }
+}
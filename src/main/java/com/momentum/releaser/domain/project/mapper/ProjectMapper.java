@@ -2,13 +2,13 @@ package com.momentum.releaser.domain.project.mapper;
 
 import com.momentum.releaser.domain.project.dto.ProjectDataDto;
 import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetIssueInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetProjectDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetUserProjectDataDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.factory.Mappers;
 
 import com.momentum.releaser.domain.project.domain.Project;
-import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectInfoResponseDTO;
-import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleasesResponseDTO;
 import com.momentum.releaser.domain.release.mapper.ReleaseMapper;
 
 import java.util.List;
@@ -25,8 +25,8 @@ public interface ProjectMapper {
     ProjectInfoResponseDTO toProjectInfoRes(Project project);
 
     /**
-     * Entity(Project) -> DTO(ReleasesResponseDto)
+     * DTO(GetUserProjectDataDTO) -> DTO(GetProjectDataDTO)
      */
-    ReleasesResponseDTO toReleasesResponseDto(Project project, ProjectMember member);
+    GetProjectDataDTO toGetProjectData(GetUserProjectDataDTO userProject);
 
 }
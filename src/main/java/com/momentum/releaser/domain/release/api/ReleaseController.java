@@ -1,15 +1,29 @@
 package com.momentum.releaser.domain.release.api;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.momentum.releaser.domain.release.application.ReleaseService;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDocsExportFormat;
+import com.momentum.releaser.domain.release.domain.SemanticVersion;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseSnapshotDataDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseRequestDto.*;
 import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.*;
 import com.momentum.releaser.global.config.BaseResponse;
@@ -37,13 +51,15 @@ public class ReleaseController {
      *
      * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
      * @param projectId     프로젝트 식별 번호
+     * @param since         이전 조회 응답의 syncedAt, 전달하면 그 이후에 변경된 릴리즈 노트만 조회한다. (예: 2023-08-25T10:15:30)
      * @return ReleasesResponseDTO 릴리즈 정보 리스트를 담은 응답 DTO
      */
     @GetMapping(value = "/projects")
     public BaseResponse<ReleasesResponseDTO> releaseNoteList(@AuthenticationPrincipal UserPrincipal userPrincipal,
-                                                             @RequestParam @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId) {
+                                                             @RequestParam @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
 
-        return new BaseResponse<>(releaseService.findReleaseNotes(userPrincipal.getEmail(), projectId));
+        return new BaseResponse<>(releaseService.findReleaseNotes(userPrincipal.getEmail(), projectId, since));
     }
 
     /**
@@ -106,6 +122,42 @@ public class ReleaseController {
         return new BaseResponse<>(releaseService.findReleaseNote(userPrincipal.getEmail(), releaseId));
     }
 
+    /**
+     * 5.5 릴리즈 노트 조회 - 배포된 릴리즈 노트의 스냅샷 조회
+     * 스냅샷은 배포 시점에 데이터베이스에 고정되어 바뀌지 않으므로 ETag와 함께 immutable로 캐싱할 수 있도록 하고, If-None-Match가 일치하면 304를 반환한다.
+     *
+     * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
+     * @param releaseId     릴리즈 노트 식별 번호
+     * @param ifNoneMatch   클라이언트가 가진 스냅샷의 ETag
+     * @return ReleaseInfoResponseDTO 의견 목록을 제외한 릴리즈 노트 정보를 담은 응답 DTO
+     */
+    @GetMapping(value = "/{releaseId}/snapshot")
+    public ResponseEntity<BaseResponse<ReleaseInfoResponseDTO>> releaseNoteSnapshot(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                                                    @PathVariable @Min(value = 1, message = "릴리즈 식별 번호는 1 이상의 숫자여야 합니다.") Long releaseId,
+                                                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        ReleaseSnapshotDataDTO snapshot = releaseService.findReleaseSnapshot(userPrincipal.getEmail(), releaseId);
+
+        // Spring 5.3의 CacheControl은 immutable을 지원하지 않으므로 직접 덧붙인다.
+        String cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().getHeaderValue() + ", immutable";
+
+        if (ifNoneMatch != null && snapshot.getEtag() != null
+                && Arrays.stream(ifNoneMatch.split(",")).map(String::trim).anyMatch(etag -> etag.equals(snapshot.getEtag()) || etag.equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+
+        if (snapshot.getEtag() != null) {
+            response.eTag(snapshot.getEtag()).header(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+
+        return response.body(new BaseResponse<>(snapshot.getRelease()));
+    }
+
     /**
      * 5.6 릴리즈 노트 배포 동의 여부 선택
      *
@@ -138,14 +190,16 @@ public class ReleaseController {
      * 6.1 릴리즈 노트 의견 추가
      *
      * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
-     * @return ReleaseOpinionsResponseDTO 릴리즈 의견 정보를 담은 응답 DTO
+     * @param size          반환할 의견 페이지 크기
+     * @return ReleaseOpinionsPageResponseDTO 새 의견이 포함된 최신순 첫 페이지
      */
     @PostMapping(value = "/{releaseId}/opinions")
-    public BaseResponse<List<ReleaseOpinionsResponseDTO>> releaseOpinionAdd(@AuthenticationPrincipal UserPrincipal userPrincipal,
-                                                                            @PathVariable @Min(value = 1, message = "릴리즈 식별 번호는 1 이상의 숫자여야 합니다.") Long releaseId,
-                                                                            @RequestBody @Valid ReleaseOpinionCreateRequestDTO releaseOpinionCreateRequestDto) {
+    public BaseResponse<ReleaseOpinionsPageResponseDTO> releaseOpinionAdd(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                                          @PathVariable @Min(value = 1, message = "릴리즈 식별 번호는 1 이상의 숫자여야 합니다.") Long releaseId,
+                                                                          @RequestBody @Valid ReleaseOpinionCreateRequestDTO releaseOpinionCreateRequestDto,
+                                                                          @RequestParam(defaultValue = "20") @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.") @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size) {
 
-        return new BaseResponse<>(releaseService.addReleaseOpinion(userPrincipal.getEmail(), releaseId, releaseOpinionCreateRequestDto));
+        return new BaseResponse<>(releaseService.addReleaseOpinion(userPrincipal.getEmail(), releaseId, releaseOpinionCreateRequestDto, size));
     }
 
     /**
@@ -153,25 +207,33 @@ public class ReleaseController {
      *
      * @param userPrincipal 인증된 사용자 정보를 담고 있는 객체
      * @param opinionId     릴리즈 의견 식별 번호
-     * @return ReleaseOpinionsResponseDTO 릴리즈 의견 정보를 담은 응답 DTO
+     * @param cursor        삭제한 의견이 있던 페이지의 커서 (첫 페이지인 경우 생략)
+     * @param size          반환할 의견 페이지 크기
+     * @return ReleaseOpinionsPageResponseDTO 삭제한 의견이 있던 페이지
      */
     @PostMapping("/opinions/{opinionId}")
-    public BaseResponse<List<ReleaseOpinionsResponseDTO>> releaseOpinionRemove(@AuthenticationPrincipal UserPrincipal userPrincipal,
-                                                                               @PathVariable @Min(value = 1, message = "릴리즈 의견 식별 번호는 1 이상의 숫자여야 합니다.") Long opinionId) {
+    public BaseResponse<ReleaseOpinionsPageResponseDTO> releaseOpinionRemove(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                                             @PathVariable @Min(value = 1, message = "릴리즈 의견 식별 번호는 1 이상의 숫자여야 합니다.") Long opinionId,
+                                                                             @RequestParam(required = false) Long cursor,
+                                                                             @RequestParam(defaultValue = "20") @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.") @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size) {
 
-        return new BaseResponse<>(releaseService.removeReleaseOpinion(userPrincipal.getEmail(), opinionId));
+        return new BaseResponse<>(releaseService.removeReleaseOpinion(userPrincipal.getEmail(), opinionId, cursor, size));
     }
 
     /**
      * 6.3 릴리즈 노트 의견 목록 조회
      *
      * @param releaseId 릴리즈 식별 번호
-     * @return ReleaseOpinionsResponseDTO 릴리즈 의견 정보를 담은 응답 DTO
+     * @param cursor    이전 응답의 nextCursor (첫 페이지인 경우 생략)
+     * @param size      페이지 크기
+     * @return ReleaseOpinionsPageResponseDTO 최신순 릴리즈 의견 페이지와 다음 커서
      */
     @GetMapping("/{releaseId}/opinions")
-    public BaseResponse<List<ReleaseOpinionsResponseDTO>> releaseOpinionList(@PathVariable @Min(value = 1, message = "릴리즈 식별 번호는 1 이상의 숫자여야 합니다.") Long releaseId) {
+    public BaseResponse<ReleaseOpinionsPageResponseDTO> releaseOpinionList(@PathVariable @Min(value = 1, message = "릴리즈 식별 번호는 1 이상의 숫자여야 합니다.") Long releaseId,
+                                                                           @RequestParam(required = false) Long cursor,
+                                                                           @RequestParam(defaultValue = "20") @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.") @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size) {
 
-        return new BaseResponse<>(releaseService.findReleaseOpinions(releaseId));
+        return new BaseResponse<>(releaseService.findReleaseOpinions(releaseId, cursor, size));
     }
 
     /**
@@ -201,4 +263,35 @@ public class ReleaseController {
         String email = userPrincipal.getEmail();
         return new BaseResponse<>(releaseService.modifyReleaseDocs(projectId, email, updateReleaseDocsReq));
     }
+
+    /**
+     * 9.3 프로젝트별 릴리즈 보고서 내보내기
+     * 보고서를 메모리에 모으지 않고 응답 스트림에 바로 쓴다. Range 헤더(version=2.0.0-)로 중단된 지점부터 이어받을 수 있다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param format    내보내기 형식 (MARKDOWN, NDJSON, CSV)
+     * @param range     이어받기 시작 버전 (예: version=2.0.0-)
+     * @return StreamingResponseBody 릴리즈 보고서 파일
+     */
+    @GetMapping("/project/{projectId}/docs/export")
+    public ResponseEntity<StreamingResponseBody> releaseDocsExport(@PathVariable @Min(value = 1, message = "프로젝트 식별 번호는 1 이상의 숫자여야 합니다.") Long projectId,
+                                                                   @RequestParam(defaultValue = "MARKDOWN") String format,
+                                                                   @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) {
+
+        ReleaseDocsExportFormat exportFormat = ReleaseDocsExportFormat.of(format);
+        SemanticVersion fromVersion = releaseService.findReleaseDocsExportStart(projectId, range);
+
+        StreamingResponseBody body = outputStream -> releaseService.exportReleaseDocs(projectId, exportFormat, fromVersion, outputStream);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(fromVersion == null ? HttpStatus.OK : HttpStatus.PARTIAL_CONTENT)
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.ACCEPT_RANGES, "version")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"release-docs-" + projectId + "." + exportFormat.extension() + "\"");
+
+        if (fromVersion != null) {
+            response.header(HttpHeaders.CONTENT_RANGE, "version " + fromVersion + "-");
+        }
+
+        return response.body(body);
+    }
 }
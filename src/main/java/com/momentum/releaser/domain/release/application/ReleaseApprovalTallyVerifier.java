@@ -0,0 +1,61 @@
+package com.momentum.releaser.domain.release.application;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.momentum.releaser.domain.release.dao.approval.ApprovalTallyVerificationRepository;
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.global.config.AppProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 릴리즈 노트의 동의/거부/대기 인원 수가 실제 릴리즈 동의 정보와 어긋나지 않았는지 주기적으로 확인하고 바로잡는다.
+ * 애플리케이션 시작 직후에도 한 번 실행되어, 카운터 컬럼이 추가되기 전에 생성된 릴리즈 노트의 값을 채워 넣는다.
+ * 다시 세는 쿼리는 테이블 전체를 읽으므로, 서버가 여러 대라도 approval_tally_verification 행을 먼저 가져간 서버만 주기마다 한 번 실행한다.
+ */
+@Slf4j
+@Component
+public class ReleaseApprovalTallyVerifier {
+
+    private final ReleaseRepository releaseRepository;
+    private final ApprovalTallyVerificationRepository approvalTallyVerificationRepository;
+    private final AppProperties appProperties;
+    private final TransactionTemplate verifyTransaction;
+
+    public ReleaseApprovalTallyVerifier(ReleaseRepository releaseRepository, ApprovalTallyVerificationRepository approvalTallyVerificationRepository,
+                                        AppProperties appProperties, PlatformTransactionManager transactionManager) {
+        this.releaseRepository = releaseRepository;
+        this.approvalTallyVerificationRepository = approvalTallyVerificationRepository;
+        this.appProperties = appProperties;
+        this.verifyTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 이번 주기의 확인 작업을 가져온 경우에만, 카운터가 어긋난 릴리즈 노트를 찾아 다시 센 값으로 바로잡는다.
+     * 작업 행 생성, 작업 가져오기, 다시 세기는 각각 별도의 트랜잭션으로 커밋하여 서버끼리 잠금을 오래 기다리지 않도록 한다.
+     *
+     * @author seonwoo
+     * @date 2023-08-24
+     */
+    @Scheduled(fixedDelayString = "${app.approval-tally.verify-interval-ms:600000}")
+    public void verify() {
+        long intervalSeconds = TimeUnit.MILLISECONDS.toSeconds(appProperties.getApprovalTally().getVerifyIntervalMs());
+
+        verifyTransaction.executeWithoutResult(status -> approvalTallyVerificationRepository.insertIfAbsent());
+        Integer claimed = verifyTransaction.execute(status -> approvalTallyVerificationRepository.claim(intervalSeconds));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        Integer repaired = verifyTransaction.execute(status -> releaseRepository.repairApprovalTallies());
+
+        if (repaired != null && repaired > 0) {
+            log.warn("릴리즈 노트 배포 동의 인원 수 불일치 {}건을 바로잡았습니다.", repaired);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.momentum.releaser.domain.release.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.CoordinateDataDTO;
+import com.momentum.releaser.global.config.AppProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 릴리즈 그래프에서 드래그할 때마다 전달되는 좌표를 메모리에 모았다가 주기적으로 데이터베이스에 반영하는 쓰기 지연 버퍼
+ * 같은 릴리즈 노트의 좌표는 마지막으로 받은 값만 남기고, 반영할 때는 프로젝트마다 UPDATE ... CASE 문 하나로 처리한다.
+ * 아직 반영되지 않은 좌표는 조회 시 버퍼의 값으로 덮어써서 바로 읽을 수 있도록 한다.
+ * 버퍼는 서버마다 따로 있으므로, 다른 서버에서 받은 좌표는 그 서버가 반영할 때까지(최대 app.coordinate-buffer.flush-interval-ms) 이전 값으로 보인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReleaseCoordinateBuffer {
+
+    private final ReleaseRepository releaseRepository;
+    private final AppProperties appProperties;
+
+    // 릴리즈 노트 식별 번호 -> 아직 반영되지 않은 최신 좌표
+    private final ConcurrentMap<Long, BufferedCoordinate> pendingCoordinates = new ConcurrentHashMap<>();
+
+    // 병합 비율 = 1 - (반영한 좌표 수 / 받은 좌표 수), flush() 할 때마다 debug 로그로 남긴다.
+    private final AtomicLong receivedCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+
+    /**
+     * 좌표를 버퍼에 넣는다. 같은 릴리즈 노트의 이전 좌표는 덮어쓴다.
+     *
+     * @param projectId  릴리즈 노트가 속한 프로젝트 식별 번호
+     * @param coordinate 클라이언트에서 받은 릴리즈 노트 좌표
+     * @author seonwoo
+     * @date 2023-08-23
+     */
+    public void put(Long projectId, CoordinateDataDTO coordinate) {
+        receivedCount.incrementAndGet();
+        pendingCoordinates.put(coordinate.getReleaseId(), new BufferedCoordinate(projectId, coordinate));
+    }
+
+    /**
+     * 아직 데이터베이스에 반영되지 않은 좌표를 조회한다.
+     *
+     * @param releaseId 릴리즈 노트 식별 번호
+     * @return Optional 버퍼에 남아 있는 좌표 (없으면 데이터베이스의 값이 최신이다.)
+     * @author seonwoo
+     * @date 2023-08-23
+     */
+    public Optional<CoordinateDataDTO> find(Long releaseId) {
+        return Optional.ofNullable(pendingCoordinates.get(releaseId))
+                .map(BufferedCoordinate::getCoordinate);
+    }
+
+    /**
+     * 삭제된 릴리즈 노트의 좌표를 버퍼에서 제거한다.
+     *
+     * @param releaseId 릴리즈 노트 식별 번호
+     * @author seonwoo
+     * @date 2023-08-23
+     */
+    public void discard(Long releaseId) {
+        pendingCoordinates.remove(releaseId);
+    }
+
+    /**
+     * 버퍼에 모인 좌표를 프로젝트별로 묶어 데이터베이스에 반영한다.
+     * 반영하는 동안 새로 들어온 좌표는 지우지 않고 다음 주기에 반영한다.
+     *
+     * @author seonwoo
+     * @date 2023-08-23
+     */
+    @Scheduled(fixedDelayString = "${app.coordinate-buffer.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (pendingCoordinates.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Map.Entry<Long, BufferedCoordinate>>> coordinatesByProject = new HashMap<>();
+        pendingCoordinates.entrySet().forEach(entry -> coordinatesByProject
+                .computeIfAbsent(entry.getValue().getProjectId(), k -> new ArrayList<>())
+                .add(Map.entry(entry.getKey(), entry.getValue())));
+
+        int batchSize = appProperties.getJdbc().getBatchSize();
+
+        coordinatesByProject.forEach((projectId, entries) -> {
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                List<Map.Entry<Long, BufferedCoordinate>> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+
+                try {
+                    releaseRepository.updateCoordinates(projectId, chunk.stream()
+                            .map(entry -> entry.getValue().getCoordinate())
+                            .collect(Collectors.toList()));
+                } catch (RuntimeException e) {
+                    // 실패한 좌표는 버퍼에 남겨 두고 다음 주기에 다시 반영한다.
+                    log.error("릴리즈 노트 좌표 반영 실패: projectId={}", projectId, e);
+                    continue;
+                }
+
+                // 반영하는 사이에 같은 릴리즈 노트의 좌표가 새로 들어왔다면 그 좌표는 남겨 둔다.
+                chunk.forEach(entry -> pendingCoordinates.remove(entry.getKey(), entry.getValue()));
+                flushedCount.addAndGet(chunk.size());
+            }
+        });
+
+        log.debug("릴리즈 노트 좌표 반영: received={}, flushed={}, pending={}, coalescingRatio={}",
+                receivedCount.get(), flushedCount.get(), pendingCoordinates.size(), getCoalescingRatio());
+    }
+
+    /**
+     * 애플리케이션이 종료되기 전에 남아 있는 좌표를 모두 반영한다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public long getReceivedCount() {
+        return receivedCount.get();
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.get();
+    }
+
+    public int getPendingCount() {
+        return pendingCoordinates.size();
+    }
+
+    /**
+     * 받은 좌표 중 데이터베이스에 쓰지 않고 병합된 비율 (0 ~ 1)
+     */
+    public double getCoalescingRatio() {
+        long received = receivedCount.get();
+        return received == 0 ? 0 : 1 - (double) flushedCount.get() / received;
+    }
+
+    /**
+     * 버퍼에 담긴 좌표 한 건
+     * 같은 릴리즈 노트의 좌표라도 들어올 때마다 새 객체로 만들어, 반영 후 제거할 때 그 사이 덮어쓴 값과 구분한다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class BufferedCoordinate {
+        private final Long projectId;
+        private final CoordinateDataDTO coordinate;
+    }
+}
@@ -0,0 +1,282 @@
+package com.momentum.releaser.domain.release.application;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysema.commons.lang.CloseableIterator;
+
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDocsExportFormat;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.GetIssueTitleDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.GetTagsDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseDocsIssueDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleaseDocsResponseDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 릴리즈 보고서를 마크다운, NDJSON, CSV 형식으로 출력 스트림에 바로 써 내려가는 클래스
+ * 커서에서 읽은 행을 릴리즈 단위로만 모아서 쓰기 때문에, 프로젝트 크기와 상관없이 메모리 사용량이 릴리즈 한 건 분량을 넘지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReleaseDocsExporter {
+
+    private static final String CSV_HEADER = "release_id,release_version,release_title,tag,issue_id,issue_title,issue_summary";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 릴리즈 노트별 이슈 커서를 읽으면서 요청된 형식으로 출력한다.
+     * 릴리즈 한 건을 다 쓸 때마다 flush 하여 클라이언트가 바로 받을 수 있도록 한다.
+     *
+     * @param rows         릴리즈 버전 내림차순으로 정렬된 릴리즈 노트별 이슈 커서 (메서드 종료 시 닫힌다.)
+     * @param format       내보내기 형식
+     * @param outputStream 응답 출력 스트림
+     * @throws IOException 출력 스트림에 쓰지 못한 경우
+     * @author chaeanna
+     * @date 2023-08-22
+     */
+    public void export(CloseableIterator<ReleaseDocsIssueDataDTO> rows, ReleaseDocsExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ReleaseDocsWriter docsWriter = createWriter(format, writer);
+
+        try {
+            docsWriter.begin();
+            Long currentReleaseId = null;
+
+            while (rows.hasNext()) {
+                ReleaseDocsIssueDataDTO row = rows.next();
+
+                // 릴리즈가 바뀌는 경우 이전 릴리즈를 마무리하고 새 릴리즈를 시작한다.
+                if (!row.getReleaseId().equals(currentReleaseId)) {
+                    if (currentReleaseId != null) {
+                        docsWriter.endRelease();
+                        writer.flush();
+                    }
+                    currentReleaseId = row.getReleaseId();
+                    docsWriter.startRelease(row);
+                }
+
+                // 이슈가 연결되지 않은 릴리즈는 이슈 정보가 null 이다.
+                if (row.getIssueId() != null) {
+                    docsWriter.writeIssue(row);
+                }
+            }
+
+            if (currentReleaseId != null) {
+                docsWriter.endRelease();
+            }
+        } finally {
+            rows.close();
+        }
+
+        writer.flush();
+    }
+
+    private ReleaseDocsWriter createWriter(ReleaseDocsExportFormat format, Writer writer) {
+        switch (format) {
+            case NDJSON:
+                return new NdjsonWriter(writer, objectMapper);
+            case CSV:
+                return new CsvWriter(writer);
+            default:
+                return new MarkdownWriter(writer);
+        }
+    }
+
+    /**
+     * 형식별로 릴리즈와 이슈를 출력하는 방법
+     */
+    private abstract static class ReleaseDocsWriter {
+
+        protected final Writer writer;
+
+        ReleaseDocsWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        void begin() throws IOException {
+        }
+
+        abstract void startRelease(ReleaseDocsIssueDataDTO release) throws IOException;
+
+        abstract void writeIssue(ReleaseDocsIssueDataDTO issue) throws IOException;
+
+        void endRelease() throws IOException {
+        }
+    }
+
+    /**
+     * 릴리즈마다 제목(##), 태그마다 소제목(###), 이슈마다 목록(-)으로 출력한다.
+     */
+    private static class MarkdownWriter extends ReleaseDocsWriter {
+
+        private Tag currentTag;
+
+        MarkdownWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        void startRelease(ReleaseDocsIssueDataDTO release) throws IOException {
+            currentTag = null;
+            writer.write("## " + release.getReleaseVersion() + " " + nullToEmpty(release.getReleaseTitle()) + "\n\n");
+
+            if (release.getReleaseContent() != null && !release.getReleaseContent().isEmpty()) {
+                writer.write(release.getReleaseContent() + "\n\n");
+            }
+        }
+
+        @Override
+        void writeIssue(ReleaseDocsIssueDataDTO issue) throws IOException {
+            if (issue.getTag() != currentTag) {
+                if (currentTag != null) {
+                    writer.write("\n");
+                }
+                currentTag = issue.getTag();
+                writer.write("### " + currentTag + "\n\n");
+            }
+
+            writer.write("- " + nullToEmpty(issue.getIssueTitle()));
+            if (issue.getIssueSummary() != null && !issue.getIssueSummary().isEmpty()) {
+                writer.write(" : " + issue.getIssueSummary());
+            }
+            writer.write("\n");
+        }
+
+        @Override
+        void endRelease() throws IOException {
+            writer.write("\n");
+        }
+    }
+
+    /**
+     * 릴리즈 한 건을 ReleaseDocsResponseDTO 형태의 JSON 한 줄로 출력한다.
+     */
+    private static class NdjsonWriter extends ReleaseDocsWriter {
+
+        private final ObjectMapper objectMapper;
+        private ReleaseDocsIssueDataDTO release;
+        private Map<Tag, List<GetIssueTitleDataDTO>> tagToIssueMap;
+
+        NdjsonWriter(Writer writer, ObjectMapper objectMapper) {
+            super(writer);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        void startRelease(ReleaseDocsIssueDataDTO release) {
+            this.release = release;
+            this.tagToIssueMap = new LinkedHashMap<>();
+        }
+
+        @Override
+        void writeIssue(ReleaseDocsIssueDataDTO issue) {
+            tagToIssueMap.computeIfAbsent(issue.getTag(), k -> new ArrayList<>()).add(GetIssueTitleDataDTO.builder()
+                    .issueId(issue.getIssueId())
+                    .title(issue.getIssueTitle())
+                    .summary(issue.getIssueSummary())
+                    .build());
+        }
+
+        @Override
+        void endRelease() throws IOException {
+            List<GetTagsDataDTO> tagsList = tagToIssueMap.entrySet().stream()
+                    .map(entry -> GetTagsDataDTO.builder()
+                            .tag(String.valueOf(entry.getKey()))
+                            .titleList(entry.getValue())
+                            .build())
+                    .collect(Collectors.toList());
+
+            ReleaseDocsResponseDTO releaseDocsRes = ReleaseDocsResponseDTO.builder()
+                    .releaseId(release.getReleaseId())
+                    .releaseVersion(release.getReleaseVersion())
+                    .releaseTitle(release.getReleaseTitle())
+                    .releaseContent(release.getReleaseContent())
+                    .tagsList(tagsList)
+                    .build();
+
+            writer.write(objectMapper.writeValueAsString(releaseDocsRes));
+            writer.write("\n");
+        }
+    }
+
+    /**
+     * 이슈 한 건당 한 줄로 출력한다. 이슈가 없는 릴리즈는 이슈 정보가 비어 있는 한 줄로 출력한다.
+     */
+    private static class CsvWriter extends ReleaseDocsWriter {
+
+        private ReleaseDocsIssueDataDTO release;
+        private boolean hasIssue;
+
+        CsvWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        void begin() throws IOException {
+            writer.write(CSV_HEADER + "\n");
+        }
+
+        @Override
+        void startRelease(ReleaseDocsIssueDataDTO release) {
+            this.release = release;
+            this.hasIssue = false;
+        }
+
+        @Override
+        void writeIssue(ReleaseDocsIssueDataDTO issue) throws IOException {
+            hasIssue = true;
+            writeLine(issue.getTag() == null ? "" : issue.getTag().name(), String.valueOf(issue.getIssueId()), issue.getIssueTitle(), issue.getIssueSummary());
+        }
+
+        @Override
+        void endRelease() throws IOException {
+            if (!hasIssue) {
+                writeLine("", "", "", "");
+            }
+        }
+
+        private void writeLine(String tag, String issueId, String issueTitle, String issueSummary) throws IOException {
+            writer.write(String.join(",",
+                    String.valueOf(release.getReleaseId()),
+                    escape(release.getReleaseVersion()),
+                    escape(release.getReleaseTitle()),
+                    tag,
+                    issueId,
+                    escape(issueTitle),
+                    escape(issueSummary)));
+            writer.write("\n");
+        }
+
+        /**
+         * 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 내부 따옴표는 두 번 쓴다. (RFC 4180)
+         */
+        private String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+                return "\"" + value.replace("\"", "\"\"") + "\"";
+            }
+            return value;
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
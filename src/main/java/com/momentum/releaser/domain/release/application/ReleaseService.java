@@ -1,7 +1,13 @@
 package com.momentum.releaser.domain.release.application;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDocsExportFormat;
+import com.momentum.releaser.domain.release.domain.SemanticVersion;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseSnapshotDataDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseRequestDto.*;
 import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.*;
 
@@ -10,7 +16,7 @@ public interface ReleaseService {
     /**
      * 5.1 프로젝트별 릴리즈 노트 목록 조회
      */
-    ReleasesResponseDTO findReleaseNotes(String userEmail, Long projectId);
+    ReleasesResponseDTO findReleaseNotes(String userEmail, Long projectId, LocalDateTime since);
 
     /**
      * 5.2 릴리즈 노트 생성
@@ -32,6 +38,11 @@ public interface ReleaseService {
      */
     ReleaseInfoResponseDTO findReleaseNote(String userEmail, Long releaseId);
 
+    /**
+     * 5.5 릴리즈 노트 조회 - 배포된 릴리즈 노트의 스냅샷 조회
+     */
+    ReleaseSnapshotDataDTO findReleaseSnapshot(String userEmail, Long releaseId);
+
     /**
      * 5.6 릴리즈 노트 배포 동의 여부 선택
      */
@@ -45,17 +56,17 @@ public interface ReleaseService {
     /**
      * 6.1 릴리즈 노트 의견 추가
      */
-    List<ReleaseOpinionsResponseDTO> addReleaseOpinion(String userEmail, Long releaseId, ReleaseOpinionCreateRequestDTO releaseOpinionCreateRequestDto);
+    ReleaseOpinionsPageResponseDTO addReleaseOpinion(String userEmail, Long releaseId, ReleaseOpinionCreateRequestDTO releaseOpinionCreateRequestDto, int size);
 
     /**
      * 6.2 릴리즈 노트 의견 삭제
      */
-    List<ReleaseOpinionsResponseDTO> removeReleaseOpinion(String userEmail, Long opinionId);
+    ReleaseOpinionsPageResponseDTO removeReleaseOpinion(String userEmail, Long opinionId, Long cursor, int size);
 
     /**
      * 6.3 릴리즈 노트 의견 목록 조회
      */
-    List<ReleaseOpinionsResponseDTO> findReleaseOpinions(Long releaseId);
+    ReleaseOpinionsPageResponseDTO findReleaseOpinions(Long releaseId, Long cursor, int size);
 
     /**
      * 9.1 프로젝트별 릴리즈 보고서 조회
@@ -66,4 +77,14 @@ public interface ReleaseService {
      * 9.2 프로젝트별 릴리즈 보고서 수정
      */
     String modifyReleaseDocs(Long projectId, String email, List<UpdateReleaseDocsRequestDTO> updateReleaseDocsReq);
+
+    /**
+     * 9.3 프로젝트별 릴리즈 보고서 내보내기 - 이어받기 시작 버전 확인
+     */
+    SemanticVersion findReleaseDocsExportStart(Long projectId, String range);
+
+    /**
+     * 9.3 프로젝트별 릴리즈 보고서 내보내기
+     */
+    void exportReleaseDocs(Long projectId, ReleaseDocsExportFormat format, SemanticVersion fromVersion, OutputStream outputStream) throws IOException;
 }
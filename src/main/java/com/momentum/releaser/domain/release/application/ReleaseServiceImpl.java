@@ -2,35 +2,51 @@ package com.momentum.releaser.domain.release.application;
 
 import static com.momentum.releaser.global.config.BaseResponseStatus.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.project.event.SearchIndexEvent;
+import com.momentum.releaser.domain.project.event.SearchIndexEventPublisher;
 import com.momentum.releaser.domain.notification.event.ReleaseNoteMessageEvent;
 import com.momentum.releaser.rabbitmq.MessageDto.ReleaseNoteMessageDto;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.ConnectedIssuesDataDTO;
 import com.momentum.releaser.domain.issue.domain.Issue;
 import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.issue.event.IssueBoardEvent;
+import com.momentum.releaser.domain.issue.event.IssueBoardEventPublisher;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
-import com.momentum.releaser.domain.project.mapper.ProjectMapper;
+import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.ProjectMemberPositionResponseDTO;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.dao.opinion.ReleaseOpinionRepository;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
 import com.momentum.releaser.domain.release.domain.ReleaseApproval;
+import com.momentum.releaser.domain.release.domain.ReleaseApprovalTally;
 import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDocsExportFormat;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseVersionType;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
 import com.momentum.releaser.domain.release.domain.ReleaseOpinion;
+import com.momentum.releaser.domain.release.domain.SemanticVersion;
 import com.momentum.releaser.domain.release.dto.ReleaseDataDto.CoordinateDataDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseDataDto.GetIssueTitleDataDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseDataDto.GetTagsDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseDocsIssueDataDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseOpinionsDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseSnapshotDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleasesDataDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseRequestDto.*;
 import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.*;
 import com.momentum.releaser.domain.release.mapper.ReleaseMapper;
@@ -49,6 +65,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ReleaseServiceImpl implements ReleaseService {
 
+    // since 이후 변경분을 조회할 때, 조회 직전에 커밋된 변경을 놓치지 않도록 겹쳐서 조회하는 시간 (초)
+    private static final long RELEASE_GRAPH_SINCE_OVERLAP_SECONDS = 5;
+
     // Domain
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
@@ -58,26 +77,68 @@ public class ReleaseServiceImpl implements ReleaseService {
     private final ReleaseApprovalRepository releaseApprovalRepository;
     private final IssueRepository issueRepository;
 
+    // 릴리즈 버전
+    private final ReleaseVersionAllocator releaseVersionAllocator;
+
+    // 릴리즈 그래프 좌표
+    private final ReleaseCoordinateBuffer releaseCoordinateBuffer;
+
+    // 배포된 릴리즈 노트 스냅샷
+    private final ReleaseSnapshotCache releaseSnapshotCache;
+
+    // 릴리즈 보고서 내보내기
+    private final ReleaseDocsExporter releaseDocsExporter;
+
     // 알림
     private final NotificationEventPublisher notificationEventPublisher;
 
+    // 통합검색 색인
+    private final SearchIndexEventPublisher searchIndexEventPublisher;
+
+    // 이슈 보드 변경 기록
+    private final IssueBoardEventPublisher issueBoardEventPublisher;
+
     /**
      * 5.1 프로젝트별 릴리즈 노트 목록 조회
      *
      * @param userEmail 사용자 이메일
+     * @param projectId 프로젝트 식별 번호
+     * @param since     이전 조회 응답의 syncedAt (전체를 조회하는 경우 null)
      * @author seonwoo
      * @date 2023-07-05
      */
     @Transactional(readOnly = true)
     @Override
-    public ReleasesResponseDTO findReleaseNotes(String userEmail, Long projectId) {
+    public ReleasesResponseDTO findReleaseNotes(String userEmail, Long projectId, LocalDateTime since) {
         // 프로젝트 식별 번호로 프로젝트 엔티티를 가져온다.
         Project project = getProjectById(projectId);
 
         // 요청을 한 사용자의 프로젝트 내 역할을 가져올 수 있도록 한다.
         ProjectMember member = getProjectMemberByEmail(project, userEmail);
 
-        return ProjectMapper.INSTANCE.toReleasesResponseDto(project, member);
+        // 조회를 시작하기 전의 시각을 다음 조회 기준으로 돌려준다.
+        LocalDateTime syncedAt = LocalDateTime.now();
+        LocalDateTime modifiedAfter = since == null ? null : since.minusSeconds(RELEASE_GRAPH_SINCE_OVERLAP_SECONDS);
+
+        // 릴리즈 그래프에 필요한 값만 한 번에 조회한다.
+        List<ReleasesDataDTO> releases = releaseRepository.findReleaseGraph(projectId, modifiedAfter);
+        applyBufferedCoordinates(releases);
+
+        List<Long> deletedReleaseIds = since == null ? new ArrayList<>() : releaseRepository.findDeletedReleaseIds(projectId, modifiedAfter);
+
+        return ReleasesResponseDTO.builder()
+                .projectId(project.getProjectId())
+                .title(project.getTitle())
+                .team(project.getTeam())
+                .img(project.getImg())
+                .member(ProjectMemberPositionResponseDTO.builder()
+                        .memberId(member.getMemberId())
+                        .position(member.getPosition())
+                        .build())
+                .releases(releases)
+                .deletedReleaseIds(deletedReleaseIds)
+                .syncedAt(syncedAt)
+                .build();
     }
 
     /**
@@ -107,6 +168,9 @@ public class ReleaseServiceImpl implements ReleaseService {
         // 릴리즈 노트 생성 알림
         notifyReleaseNote(project, savedReleaseNote, "새로운 릴리즈 노트가 생성되었습니다.");
 
+        // 통합검색 색인에 반영
+        searchIndexEventPublisher.publish(SearchIndexEvent.toIndexRelease(savedReleaseNote));
+
         return ReleaseMapper.INSTANCE.toReleaseCreateAndUpdateResponseDto(savedReleaseNote);
     }
 
@@ -128,10 +192,20 @@ public class ReleaseServiceImpl implements ReleaseService {
         // 수정된 릴리즈 노트 내용을 반영 및 저장한다.
         ReleaseNote updatedReleaseNote = updateAndSaveReleaseNote(releaseNote, releaseUpdateRequestDto, updateReleaseVersion(releaseNote, releaseUpdateRequestDto.getVersion()));
 
+        // 버전이 바뀐 경우 프로젝트의 최신 버전 행을 다시 맞춘다.
+        releaseVersionAllocator.reconcile(updatedReleaseNote.getProject());
+
         // 이슈를 연결한다.
         connectIssues(releaseUpdateRequestDto.getIssues(), updatedReleaseNote);
 
-        return ReleaseMapper.INSTANCE.toReleaseCreateAndUpdateResponseDto(updatedReleaseNote);
+        // 통합검색 색인에 반영
+        searchIndexEventPublisher.publish(SearchIndexEvent.toIndexRelease(updatedReleaseNote));
+
+        ReleaseCreateAndUpdateResponseDTO releaseUpdateResponseDto = ReleaseMapper.INSTANCE.toReleaseCreateAndUpdateResponseDto(updatedReleaseNote);
+        releaseCoordinateBuffer.find(releaseId)
+                .ifPresent(c -> releaseUpdateResponseDto.updateCoordinates(c.getCoordX(), c.getCoordY()));
+
+        return releaseUpdateResponseDto;
     }
 
     /**
@@ -160,6 +234,13 @@ public class ReleaseServiceImpl implements ReleaseService {
 
         // 해당 릴리즈 노트를 삭제한다.
         releaseRepository.deleteById(releaseNote.getReleaseId());
+        releaseCoordinateBuffer.discard(releaseNote.getReleaseId());
+
+        // 삭제된 버전을 다시 발급할 수 있도록 프로젝트의 최신 버전 행을 다시 맞춘다.
+        releaseVersionAllocator.reconcile(releaseNote.getProject());
+
+        // 통합검색 색인에서 제거
+        searchIndexEventPublisher.publish(SearchIndexEvent.toRemoveRelease(releaseNote.getProject().getProjectId(), releaseNote.getReleaseId()));
 
         return "릴리즈 노트 삭제에 성공하였습니다.";
     }
@@ -174,6 +255,17 @@ public class ReleaseServiceImpl implements ReleaseService {
     @Transactional(readOnly = true)
     @Override
     public ReleaseInfoResponseDTO findReleaseNote(String userEmail, Long releaseId) {
+        // 배포된 릴리즈 노트의 스냅샷이 있다면, 바뀔 수 있는 의견 목록만 새로 조회한다.
+        Optional<ReleaseSnapshotDataDTO> cachedSnapshot = releaseSnapshotCache.find(releaseId);
+
+        if (cachedSnapshot.isPresent()) {
+            ReleaseSnapshotDataDTO snapshot = cachedSnapshot.get();
+            ProjectMember member = getProjectMember(userEmail, getProjectById(snapshot.getProjectId()));
+            List<ReleaseOpinionsDataDTO> opinions = updateToAllowDeleteOpinion(releaseRepository.getReferenceById(releaseId), member);
+
+            return createReleaseInfoResponseDto(snapshot.getRelease(), opinions);
+        }
+
         ReleaseNote releaseNote = getReleaseNoteById(releaseId);
 
         // 해당 프로젝트 멤버인지 식별한다.
@@ -182,9 +274,45 @@ public class ReleaseServiceImpl implements ReleaseService {
         // 만약 릴리즈 노트 의견 목록 중 조회한 사용자가 작성한 댓글이 있다면, 삭제가 가능하도록 해준다.
         List<ReleaseOpinionsDataDTO> opinions = updateToAllowDeleteOpinion(releaseNote, member);
 
+        if (releaseNote.getDeployStatus() == ReleaseDeployStatus.DEPLOYED) {
+            // 스냅샷이 만들어지기 전에 배포된 릴리즈 노트라면, 이번 조회에서 스냅샷을 만든다.
+            return createReleaseInfoResponseDto(storeReleaseSnapshot(releaseNote).getRelease(), opinions);
+        }
+
         return createReleaseInfoResponseDto(releaseNote, opinions);
     }
 
+    /**
+     * 5.5 릴리즈 노트 조회 - 배포된 릴리즈 노트의 스냅샷 조회
+     *
+     * @param userEmail 사용자 이메일
+     * @param releaseId 릴리즈 노트 식별 번호
+     * @return ReleaseSnapshotDataDTO 의견 목록을 제외한 릴리즈 노트 스냅샷과 ETag
+     * @throws CustomException NOT_DEPLOYED_RELEASE_NOTE 배포되지 않은 릴리즈 노트인 경우
+     * @author seonwoo
+     * @date 2023-08-25
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public ReleaseSnapshotDataDTO findReleaseSnapshot(String userEmail, Long releaseId) {
+        Optional<ReleaseSnapshotDataDTO> cachedSnapshot = releaseSnapshotCache.find(releaseId);
+
+        if (cachedSnapshot.isPresent()) {
+            // 스냅샷이 있더라도 요청한 사용자가 프로젝트 멤버인지는 매번 확인한다.
+            getProjectMember(userEmail, getProjectById(cachedSnapshot.get().getProjectId()));
+            return cachedSnapshot.get();
+        }
+
+        ReleaseNote releaseNote = getReleaseNoteById(releaseId);
+        getProjectMember(userEmail, releaseNote.getProject());
+
+        if (releaseNote.getDeployStatus() != ReleaseDeployStatus.DEPLOYED) {
+            throw new CustomException(NOT_DEPLOYED_RELEASE_NOTE);
+        }
+
+        return storeReleaseSnapshot(releaseNote);
+    }
+
     /**
      * 5.6 릴리즈 노트 배포 동의 여부 선택
      *
@@ -212,11 +340,13 @@ public class ReleaseServiceImpl implements ReleaseService {
 
     /**
      * 5.7 릴리즈 노트 그래프 좌표 추가
+     * 좌표는 버퍼에 넣기만 하고, 데이터베이스에는 ReleaseCoordinateBuffer.flush() 가 다른 스레드에서 나중에 반영하므로 읽기 전용 트랜잭션을 사용한다.
+     * 반영되지 않은 좌표는 이 서버의 메모리에만 있으므로, 다른 서버의 그래프 조회에는 최대 한 번의 반영 주기만큼 늦게 보인다.
      *
      * @author seonwoo
      * @date 2023-07-10
      */
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public String modifyReleaseCoordinate(ReleaseNoteCoordinateRequestDTO releaseNoteCoordinateRequestDto) {
         updateCoordinates(releaseNoteCoordinateRequestDto.getCoordinates());
@@ -232,7 +362,7 @@ public class ReleaseServiceImpl implements ReleaseService {
      */
     @Transactional
     @Override
-    public List<ReleaseOpinionsResponseDTO> addReleaseOpinion(String userEmail, Long releaseId, ReleaseOpinionCreateRequestDTO releaseOpinionCreateRequestDto) {
+    public ReleaseOpinionsPageResponseDTO addReleaseOpinion(String userEmail, Long releaseId, ReleaseOpinionCreateRequestDTO releaseOpinionCreateRequestDto, int size) {
         ReleaseNote releaseNote = getReleaseNoteById(releaseId);
 
         // JWT 토큰을 이용하여 요청을 한 사용자의 프로젝트 멤버 정보를 가져온다.
@@ -240,7 +370,8 @@ public class ReleaseServiceImpl implements ReleaseService {
 
         saveReleaseOpinion(releaseNote, projectMember, releaseOpinionCreateRequestDto);
 
-        return createReleaseOpinionsResponseDto(releaseNote, projectMember.getMemberId());
+        // 새 의견은 최신순 첫 페이지에 들어가므로 첫 페이지만 반환한다.
+        return getReleaseOpinionsPage(releaseId, projectMember.getMemberId(), null, size);
     }
 
     /**
@@ -252,7 +383,7 @@ public class ReleaseServiceImpl implements ReleaseService {
      */
     @Transactional
     @Override
-    public List<ReleaseOpinionsResponseDTO> removeReleaseOpinion(String userEmail, Long opinionId) {
+    public ReleaseOpinionsPageResponseDTO removeReleaseOpinion(String userEmail, Long opinionId, Long cursor, int size) {
         ReleaseOpinion releaseOpinion = getReleaseOpinionById(opinionId);
 
         // JWT 토큰을 이용하여 요청을 한 사용자의 프로젝트 멤버 정보를 가져온다.
@@ -263,7 +394,8 @@ public class ReleaseServiceImpl implements ReleaseService {
 
         releaseOpinionRepository.deleteById(opinionId);
 
-        return createReleaseOpinionsResponseDto(releaseOpinion.getRelease(), member.getMemberId());
+        // 삭제한 의견이 있던 페이지(클라이언트가 보고 있던 커서부터)만 다시 반환한다.
+        return getReleaseOpinionsPage(releaseOpinion.getRelease().getReleaseId(), member.getMemberId(), cursor, size);
     }
 
     /**
@@ -274,9 +406,9 @@ public class ReleaseServiceImpl implements ReleaseService {
      */
     @Transactional(readOnly = true)
     @Override
-    public List<ReleaseOpinionsResponseDTO> findReleaseOpinions(Long releaseId) {
+    public ReleaseOpinionsPageResponseDTO findReleaseOpinions(Long releaseId, Long cursor, int size) {
         ReleaseNote releaseNote = getReleaseNoteById(releaseId);
-        return getReleaseOpinionsResponseDto(releaseNote.getReleaseOpinions());
+        return getReleaseOpinionsPage(releaseNote.getReleaseId(), null, cursor, size);
     }
 
     /**
@@ -290,26 +422,31 @@ public class ReleaseServiceImpl implements ReleaseService {
     public List<ReleaseDocsResponseDTO> findReleaseDocs(Long projectId) {
         // 프로젝트 조회
         Project project = getProjectById(projectId);
-        // 해당 프로젝트와 연결된 모든 릴리즈 조회
-        List<ReleaseNote> releaseNotes = releaseRepository.findAllByProject(project);
-
-        // 릴리즈별로 저장할 결과 리스트 초기화
-        List<ReleaseDocsResponseDTO> releaseDocsResList = new ArrayList<>();
-
-        for (ReleaseNote note : releaseNotes) {
-            // 릴리즈에 연결된 이슈들 조회
-            List<Issue> issues = issueRepository.findByRelease(note);
-
-            // 이슈들을 태그별로 그룹화하여 저장할 맵
-            Map<String, List<GetIssueTitleDataDTO>> tagToIssueMap = groupIssuesByTag(issues);
-
-            // ReleaseDocsRes 객체 생성
-            ReleaseDocsResponseDTO releaseDocsRes = buildReleaseDocsRes(note, tagToIssueMap);
-            releaseDocsResList.add(releaseDocsRes);
+        // 해당 프로젝트의 모든 릴리즈와 연결된 이슈를 버전 기준 내림차순으로 한 번에 조회
+        List<ReleaseDocsIssueDataDTO> releaseDocsIssues = releaseRepository.getReleaseDocs(project);
+
+        // 조회 결과가 이미 버전 순서로 정렬되어 있으므로, 순서를 유지하면서 릴리즈별로 이슈를 태그 단위로 그룹화
+        Map<Long, ReleaseDocsIssueDataDTO> releases = new LinkedHashMap<>();
+        Map<Long, Map<Tag, List<GetIssueTitleDataDTO>>> tagToIssueMaps = new HashMap<>();
+
+        for (ReleaseDocsIssueDataDTO row : releaseDocsIssues) {
+            releases.putIfAbsent(row.getReleaseId(), row);
+            Map<Tag, List<GetIssueTitleDataDTO>> tagToIssueMap = tagToIssueMaps.computeIfAbsent(row.getReleaseId(), k -> new EnumMap<>(Tag.class));
+
+            // 이슈가 연결되지 않은 릴리즈는 빈 태그 목록을 가진다.
+            if (row.getIssueId() != null) {
+                tagToIssueMap.computeIfAbsent(row.getTag(), k -> new ArrayList<>()).add(GetIssueTitleDataDTO.builder()
+                        .issueId(row.getIssueId())
+                        .title(row.getIssueTitle())
+                        .summary(row.getIssueSummary())
+                        .build());
+            }
         }
 
-        // 버전을 기준으로 내림차순으로 정렬
-        Collections.sort(releaseDocsResList, (note1, note2) -> note2.getReleaseVersion().compareTo(note1.getReleaseVersion()));
+        // 릴리즈별로 저장할 결과 리스트
+        List<ReleaseDocsResponseDTO> releaseDocsResList = releases.values().stream()
+                .map(release -> buildReleaseDocsRes(release, tagToIssueMaps.get(release.getReleaseId())))
+                .collect(Collectors.toList());
 
         return releaseDocsResList;
     }
@@ -340,6 +477,59 @@ public class ReleaseServiceImpl implements ReleaseService {
         return "릴리즈 보고서가 수정되었습니다.";
     }
 
+    /**
+     * 9.3 프로젝트별 릴리즈 보고서 내보내기 - 이어받기 시작 버전 확인
+     * Range 헤더는 "version=2.0.0-" 형식으로, 보고서는 버전 내림차순이기 때문에 해당 버전부터 그 이하 버전을 이어서 받는다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param range     Range 헤더 값 (처음부터 받는 경우 null)
+     * @return SemanticVersion 이어받기 시작 버전 (처음부터 받는 경우 null)
+     * @throws CustomException INVALID_RELEASE_DOCS_RANGE Range 헤더 형식이 올바르지 않은 경우
+     * @author chaeanna
+     * @date 2023-08-22
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SemanticVersion findReleaseDocsExportStart(Long projectId, String range) {
+        // 스트리밍을 시작한 뒤에는 예외 응답을 보낼 수 없으므로, 프로젝트 존재 여부를 먼저 확인한다.
+        getProjectById(projectId);
+
+        if (range == null || range.isBlank()) {
+            return null;
+        }
+
+        String trimmedRange = range.trim();
+        if (!trimmedRange.startsWith("version=") || !trimmedRange.endsWith("-")) {
+            throw new CustomException(INVALID_RELEASE_DOCS_RANGE);
+        }
+
+        String fromVersion = trimmedRange.substring("version=".length(), trimmedRange.length() - 1);
+        if (!fromVersion.matches("^(?!0)\\d+\\.\\d+\\.\\d+$")) {
+            throw new CustomException(INVALID_RELEASE_DOCS_RANGE);
+        }
+
+        return SemanticVersion.parse(fromVersion);
+    }
+
+    /**
+     * 9.3 프로젝트별 릴리즈 보고서 내보내기
+     * 릴리즈 노트와 이슈를 커서로 읽으면서 바로 응답에 쓰기 때문에 전체 보고서를 메모리에 올리지 않는다.
+     *
+     * @param projectId    프로젝트 식별 번호
+     * @param format       내보내기 형식
+     * @param fromVersion  이어받기 시작 버전 (처음부터 받는 경우 null)
+     * @param outputStream 응답 출력 스트림
+     * @author chaeanna
+     * @date 2023-08-22
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportReleaseDocs(Long projectId, ReleaseDocsExportFormat format, SemanticVersion fromVersion, OutputStream outputStream) throws IOException {
+        Project project = getProjectById(projectId);
+
+        releaseDocsExporter.export(releaseRepository.scrollReleaseDocs(project, fromVersion), format, outputStream);
+    }
+
     /**
      * 프로젝트 식별 번호를 통해 프로젝트 엔티티를 가져온다.
      *
@@ -412,9 +602,14 @@ public class ReleaseServiceImpl implements ReleaseService {
      * @date 2023-07-07
      */
     private List<Issue> getIssuesById(List<Long> issues) {
-        return issues.stream()
-                .map(i -> issueRepository.findById(i).orElseThrow(() -> new CustomException(NOT_EXISTS_ISSUE)))
-                .collect(Collectors.toList());
+        // 이슈마다 조회하지 않고 IN 절 한 번으로 가져온 뒤, 존재하지 않는 이슈가 섞여 있는지 개수로 확인한다.
+        List<Issue> foundIssues = issueRepository.findAllById(issues);
+
+        if (foundIssues.size() != new HashSet<>(issues).size()) {
+            throw new CustomException(NOT_EXISTS_ISSUE);
+        }
+
+        return foundIssues;
     }
 
     /**
@@ -424,127 +619,30 @@ public class ReleaseServiceImpl implements ReleaseService {
      * @param versionType 릴리즈 버전 타입 ("MAJOR", "MINOR", "PATCH" 중 하나)
      * @return String 새로 생성된 릴리즈 버전
      * @throws CustomException INVALID_RELEASE_VERSION_TYPE 클라이언트로부터 받은 버전 타입이 올바르지 않은 경우 발생하는 예외
-     * @throws CustomException FAILED_TO_GET_LATEST_RELEASE_VERSION 데이터베이스에서 최신 버전 정보를 가져오지 못한 경우 발생하는 예외
      * @author seonwoo
      * @date 2023-07-14
      */
     String createReleaseVersion(Project project, String versionType) {
-        String newVersion = "";
-
-        // 데이터베이스로부터 가장 최신의 버전을 가져온다.
-        List<String> releaseVersions = releaseRepository.findAllVersionsByProject(project);
-
-        if (releaseVersions.isEmpty()) {
-            // 데이터베이스에서 가장 최신의 버전을 가져오지 못한 경우
-            int size = releaseRepository.findAllByProject(project).size();
-
-            if (size != 0) {
-                throw new CustomException(FAILED_TO_GET_LATEST_RELEASE_VERSION);
-            } else {
-                // 처음 생성하는 릴리즈 노트인 경우
-                newVersion = "1.0.0";
-            }
-
-        } else {
-            // 데이터베이스에서 가장 최신의 버전을 가져온 경우
-            releaseVersions = getLatestVersion(releaseVersions);
-            String latestVersion = releaseVersions.get(0);
-
-            String[] eachVersion = latestVersion.split("\\.");
-            int latestMajorVersion = Integer.parseInt(eachVersion[0]);
-            int latestMinorVersion = Integer.parseInt(eachVersion[1]);
-            int latestPatchVersion = Integer.parseInt(eachVersion[2]);
-
-            // 버전 종류에 따른 버전을 생성한다.
-            switch (versionType.toUpperCase()) {
-                case "MAJOR":
-                    newVersion = (latestMajorVersion + 1) + ".0.0";
-                    break;
-
-                case "MINOR":
-                    newVersion = latestMajorVersion + "." + (latestMinorVersion + 1) + ".0";
-                    break;
-
-                case "PATCH":
-                    newVersion = latestMajorVersion + "." + latestMinorVersion + "." + (latestPatchVersion + 1);
-                    break;
-
-                default:
-                    // 클라이언트로부터 받은 버전 타입이 올바르지 않은 경우 예외를 발생시킨다.
-                    throw new CustomException(INVALID_RELEASE_VERSION_TYPE);
-            }
-        }
-        return newVersion;
-    }
-
-    /**
-     * 버전을 내림차순으로 정렬한다. 이렇게 되면 가장 첫 번째 요소가 제일 큰/최신 버전이 된다.
-     *
-     * @param versions 버전 목록
-     * @return String 내림차순으로 정렬된 버전 목록
-     * @author seonwoo
-     * @date 2023-07-14
-     */
-    private List<String> getLatestVersion(List<String> versions) {
-        versions.sort(new Comparator<String>() {
-            @Override
-            public int compare(String v1, String v2) {
-                String[] v1s = v1.split("\\.");
-                String[] v2s = v2.split("\\.");
-
-                int majorV1 = Integer.parseInt(v1s[0]);
-                int minorV1 = Integer.parseInt(v1s[1]);
-                int patchV1 = Integer.parseInt(v1s[2]);
-
-                int majorV2 = Integer.parseInt(v2s[0]);
-                int minorV2 = Integer.parseInt(v2s[1]);
-                int patchV2 = Integer.parseInt(v2s[2]);
-
-                if (majorV1 != majorV2) {
-                    return Integer.compare(majorV2, majorV1);
-                } else if (minorV1 != minorV2) {
-                    return Integer.compare(minorV2, minorV1);
-                } else {
-                    return Integer.compare(patchV2, patchV1);
-                }
-            }
-        });
+        ReleaseVersionType releaseVersionType = getReleaseVersionType(versionType);
 
-        return versions;
+        // 프로젝트의 최신 버전 행을 잠근 뒤 다음 버전을 발급받는다. 처음 생성하는 릴리즈 노트인 경우 1.0.0이 된다.
+        return releaseVersionAllocator.allocate(project, releaseVersionType).toString();
     }
 
     /**
-     * 릴리즈 버전을 오름차순으로 정렬한다.
+     * 클라이언트로부터 받은 버전 타입 문자열을 버전 타입으로 변환한다.
      *
-     * @param versions 버전 목록
-     * @return String 오름차순으로 정렬된 버전 목록
+     * @param versionType 릴리즈 버전 타입 ("MAJOR", "MINOR", "PATCH" 중 하나)
+     * @return ReleaseVersionType 변환된 릴리즈 버전 타입
+     * @throws CustomException INVALID_RELEASE_VERSION_TYPE 클라이언트로부터 받은 버전 타입이 올바르지 않은 경우 발생하는 예외
      * @author seonwoo
-     * @date 2023-07-14
+     * @date 2023-08-20
      */
-    private List<String> sortVersionByAsc(List<String> versions) {
-
-        versions.sort((v1, v2) -> {
-            String[] v1s = v1.split("\\.");
-            String[] v2s = v2.split("\\.");
-
-            int majorV1 = Integer.parseInt(v1s[0]);
-            int minorV1 = Integer.parseInt(v1s[1]);
-            int patchV1 = Integer.parseInt(v1s[2]);
-
-            int majorV2 = Integer.parseInt(v2s[0]);
-            int minorV2 = Integer.parseInt(v2s[1]);
-            int patchV2 = Integer.parseInt(v2s[2]);
-
-            if (majorV1 != majorV2) {
-                return Integer.compare(majorV1, majorV2);
-            } else if (minorV1 != minorV2) {
-                return Integer.compare(minorV1, minorV2);
-            } else {
-                return Integer.compare(patchV1, patchV2);
-            }
-        });
-
-        return versions;
+    private ReleaseVersionType getReleaseVersionType(String versionType) {
+        return Arrays.stream(ReleaseVersionType.values())
+                .filter(type -> type.name().equalsIgnoreCase(versionType))
+                .findFirst()
+                .orElseThrow(() -> new CustomException(INVALID_RELEASE_VERSION_TYPE));
     }
 
     /**
@@ -632,8 +730,8 @@ public class ReleaseServiceImpl implements ReleaseService {
         if (releaseUpdateRequestDto.getDeployStatus().equals("DEPLOYED")) {
             Project project = releaseNote.getProject();
 
-            // FIXME: 나중에 QA 확인 필요 (Querydsl로 가져오면 2.0.0이 10.0.0보다 더 앞에 있게 된다.)
-            List<ReleaseNote> releaseNotes = releaseRepository.findPreviousReleaseNotes(project, releaseUpdateRequestDto.getVersion());
+            // 숫자 버전 컬럼을 기준으로 요청된 버전보다 낮은 릴리즈 노트들을 가져온다.
+            List<ReleaseNote> releaseNotes = releaseRepository.findPreviousReleaseNotes(project, SemanticVersion.parse(releaseUpdateRequestDto.getVersion()));
 
             // 이전 릴리즈 노트 중 배포되지 않은 것이 있는지 검증하고, 아닌 경우 예외를 발생시킨다.
             releaseNotes
@@ -654,6 +752,9 @@ public class ReleaseServiceImpl implements ReleaseService {
      */
     private void disconnectIssues(ReleaseNote releaseNote) {
         releaseNote.getIssues().forEach(Issue::disconnectReleaseNote);
+
+        // 연결이 해제된 이슈의 릴리즈 버전이 바뀌었으므로 이슈 보드 변경 기록에 남긴다.
+        publishIssueBoardEvent(releaseNote.getProject(), releaseNote.getIssues());
     }
 
     /**
@@ -678,9 +779,27 @@ public class ReleaseServiceImpl implements ReleaseService {
                 throw new CustomException(INVALID_ISSUE_WITH_NOT_DONE);
             }
 
+            // 변경 감지로 생성되는 UPDATE 문은 hibernate.jdbc.batch_size 단위로 묶여 전송된다.
             i.updateReleaseNote(savedReleaseNote);
-            issueRepository.save(i);
         });
+
+        // 연결된 이슈의 릴리즈 버전이 바뀌었으므로 이슈 보드 변경 기록에 남긴다.
+        publishIssueBoardEvent(savedReleaseNote.getProject(), issues);
+    }
+
+    /**
+     * 릴리즈 노트 연결이나 배포로 정보가 바뀐 이슈를 트랜잭션이 커밋된 후 이슈 보드 변경 기록에 남긴다.
+     *
+     * @param project 이슈가 속한 프로젝트 엔티티
+     * @param issues  정보가 바뀐 이슈 목록
+     * @author seonwoo
+     * @date 2023-09-01
+     */
+    private void publishIssueBoardEvent(Project project, List<Issue> issues) {
+        List<Long> issueIds = issues.stream()
+                .map(Issue::getIssueId)
+                .collect(Collectors.toList());
+        issueBoardEventPublisher.publish(IssueBoardEvent.toUpdateIssues(project.getProjectId(), issueIds));
     }
 
     /**
@@ -694,15 +813,8 @@ public class ReleaseServiceImpl implements ReleaseService {
         // 해당 릴리즈 노트가 들어있는 프로젝트의 멤버 목록을 가져온다.
         List<ProjectMember> members = projectMemberRepository.findByProject(releaseNote.getProject());
 
-        // 릴리즈 노트의 식별 번호와 프로젝트 멤버 식별 번호를 가지고 동의 여부 테이블에 데이터를 생성한다.
-        for (ProjectMember member : members) {
-            ReleaseApproval releaseApproval = ReleaseApproval.builder()
-                    .member(member)
-                    .release(releaseNote)
-                    .build();
-
-            releaseApprovalRepository.save(releaseApproval);
-        }
+        // 릴리즈 노트의 식별 번호와 프로젝트 멤버 식별 번호를 가지고 동의 여부 테이블에 데이터를 JDBC 배치로 한 번에 생성한다.
+        releaseApprovalRepository.saveAllByReleaseNote(releaseNote, members);
     }
 
     /**
@@ -726,16 +838,17 @@ public class ReleaseServiceImpl implements ReleaseService {
             throw new CustomException(DUPLICATED_RELEASE_VERSION);
         }
 
-        // 3. 해당 프로젝트의 모든 릴리즈 버전을 가져온 후, 변경하려는 버전을 이어 붙인다.
-        List<String> versions = releaseRepository.findByProjectAndNotInVersion(releaseNote.getProject(), releaseNote.getVersion()).stream().map(ReleaseNote::getVersion).collect(Collectors.toList());
-        versions.add(version);
+        // 3. 수정하려는 릴리즈 노트를 제외한 나머지 릴리즈 버전을 오름차순으로 가져온다.
+        List<SemanticVersion> versions = new ArrayList<>(releaseRepository.findVersionsByProjectExcludingRelease(releaseNote.getProject(), releaseNote.getReleaseId()));
 
-        // 4. 변경하려는 버전이 포함된 릴리즈 버전 배열을 오름차순으로 정렬한다.
-        List<String> sortedVersions = sortVersionByAsc(versions);
-        log.info("updateReleaseVersion/sortedVersions: {}", sortedVersions);
+        // 4. 변경하려는 버전을 정렬 순서에 맞는 위치에 끼워 넣는다.
+        SemanticVersion newVersion = SemanticVersion.parse(version);
+        int insertIdx = Collections.binarySearch(versions, newVersion);
+        versions.add(insertIdx < 0 ? -(insertIdx + 1) : insertIdx, newVersion);
+        log.debug("updateReleaseVersion/sortedVersions: {}", versions);
 
         // 5. 바꾸려는 버전 값이 올바른 버전 값인지를 확인한다.
-        validateCorrectVersion(sortedVersions);
+        validateCorrectVersion(versions);
 
         return version;
     }
@@ -747,10 +860,10 @@ public class ReleaseServiceImpl implements ReleaseService {
      * @author seonwoo
      * @date 2023-07-14
      */
-    private void validateCorrectVersion(List<String> versions) {
-        int[] majors = versions.stream().mapToInt(v -> Integer.parseInt(v.split("\\.")[0])).toArray();
-        int[] minors = versions.stream().mapToInt(v -> Integer.parseInt(v.split("\\.")[1])).toArray();
-        int[] patches = versions.stream().mapToInt(v -> Integer.parseInt(v.split("\\.")[2])).toArray();
+    private void validateCorrectVersion(List<SemanticVersion> versions) {
+        int[] majors = versions.stream().mapToInt(SemanticVersion::getMajor).toArray();
+        int[] minors = versions.stream().mapToInt(SemanticVersion::getMinor).toArray();
+        int[] patches = versions.stream().mapToInt(SemanticVersion::getPatch).toArray();
 
         int majorStartIdx = 0;
         int minorStartIdx = 0;
@@ -889,34 +1002,32 @@ public class ReleaseServiceImpl implements ReleaseService {
         }
 
         // 해당 릴리즈 노트의 이후 버전 중 배포된 것이 있다면 예외를 발생시킨다.
-        // 1. 릴리즈 노트를 릴리즈 버전 기준 오름차순으로 정렬한다.
-        List<ReleaseNote> releaseNotes = releaseRepository.findAllByProject(releaseNote.getProject());
-        List<ReleaseNote> sortedReleaseNotes = sortReleaseNoteByAsc(releaseNotes);
+        // 1. 해당 릴리즈 노트보다 높은 버전의 릴리즈 노트를 버전 기준 오름차순으로 가져온다.
+        SemanticVersion currentVersion = releaseNote.getSemanticVersion();
+        List<ReleaseNote> nextReleaseNotes = releaseRepository.findNextReleaseNotes(releaseNote.getProject(), currentVersion);
 
         // 2. 해당 릴리즈 노트가 가장 최신의 버전이라면 유효성 검사를 통과한다.
-        int currentIdx = sortedReleaseNotes.indexOf(releaseNote);
-        if (currentIdx == sortedReleaseNotes.size() - 1) {
+        if (nextReleaseNotes.isEmpty()) {
             return;
         }
 
         // 3. 현재 릴리즈 노트의 이후 버전 중 배포된 릴리즈 노트가 있는지 확인하고, 있다면 예외를 발생시킨다.
-        for (int i = currentIdx + 1; i < sortedReleaseNotes.size(); i++) {
+        for (ReleaseNote nextReleaseNote : nextReleaseNotes) {
 
-            if (sortedReleaseNotes.get(i).getDeployStatus() == ReleaseDeployStatus.DEPLOYED) {
+            if (nextReleaseNote.getDeployStatus() == ReleaseDeployStatus.DEPLOYED) {
                 throw new CustomException(EXISTS_DEPLOYED_RELEASE_NOTE_AFTER_THIS);
             }
 
         }
 
         // 이후 릴리즈가 배포되지 않은 상황에서 릴리즈 노트의 각 자릿수 버전(Major, Minor, Patch) 끝 숫자만 삭제할 수 있다.
-        // 1. 현재 릴리즈 노트의 버전의 각 숫자(Major, Minor, Patch)와 다음 버전의 각 숫자를 가져온다.
-        String currentVersion = releaseNote.getVersion();
-        int currentMinor = Integer.parseInt(currentVersion.split("\\.")[1]);
-        int currentPatch = Integer.parseInt(currentVersion.split("\\.")[2]);
+        // 1. 현재 릴리즈 노트의 버전의 각 숫자(Major, Minor, Patch)와 바로 다음 버전의 각 숫자를 가져온다.
+        int currentMinor = currentVersion.getMinor();
+        int currentPatch = currentVersion.getPatch();
 
-        String nextVersion = releaseNotes.get(currentIdx + 1).getVersion();
-        int nextMinor = Integer.parseInt(nextVersion.split("\\.")[1]);
-        int nextPatch = Integer.parseInt(nextVersion.split("\\.")[2]);
+        SemanticVersion nextVersion = nextReleaseNotes.get(0).getSemanticVersion();
+        int nextMinor = nextVersion.getMinor();
+        int nextPatch = nextVersion.getPatch();
 
         // 3. 현재 버전과 다음 버전의 바뀌는 숫자가 같은 자리인 경우 예외를 발생시킨다.
         if (currentMinor == 0 && currentPatch == 0) {
@@ -938,40 +1049,6 @@ public class ReleaseServiceImpl implements ReleaseService {
         }
     }
 
-    /**
-     * 릴리즈 노트를 버전을 기준으로 오름차순으로 배열한다.
-     *
-     * @param releaseNotes 정렬할 릴리즈 노트 목록
-     * @return ReleaseNote 버전을 기준으로 오름차순으로 정렬된 릴리즈 노트 목록
-     * @author seonwoo
-     * @date 2023-07-23
-     */
-    private List<ReleaseNote> sortReleaseNoteByAsc(List<ReleaseNote> releaseNotes) {
-
-        releaseNotes.sort((r1, r2) -> {
-            String[] v1s = r1.getVersion().split("\\.");
-            String[] v2s = r2.getVersion().split("\\.");
-
-            int majorV1 = Integer.parseInt(v1s[0]);
-            int minorV1 = Integer.parseInt(v1s[1]);
-            int patchV1 = Integer.parseInt(v1s[2]);
-
-            int majorV2 = Integer.parseInt(v2s[0]);
-            int minorV2 = Integer.parseInt(v2s[1]);
-            int patchV2 = Integer.parseInt(v2s[2]);
-
-            if (majorV1 != majorV2) {
-                return Integer.compare(majorV1, majorV2);
-            } else if (minorV1 != minorV2) {
-                return Integer.compare(minorV1, minorV2);
-            } else {
-                return Integer.compare(patchV1, patchV2);
-            }
-        });
-
-        return releaseNotes;
-    }
-
     /**
      * 릴리즈 노트 배포 동의 여부를 선택할 수 있는 건지 확인한다.
      *
@@ -1005,10 +1082,19 @@ public class ReleaseServiceImpl implements ReleaseService {
      * @date 2023-07-10
      */
     private void updateReleaseNoteApproval(ProjectMember member, ReleaseNote releaseNote, char approval) {
-        ReleaseApproval releaseApproval = releaseApprovalRepository.findByMemberAndRelease(member, releaseNote).orElseThrow(() -> new CustomException(NOT_EXISTS_RELEASE_APPROVAL));
+        ReleaseApproval releaseApproval = releaseApprovalRepository.findByMemberAndReleaseForUpdate(member, releaseNote).orElseThrow(() -> new CustomException(NOT_EXISTS_RELEASE_APPROVAL));
+        char previousApproval = releaseApproval.getApproval();
         releaseApproval.updateApproval(approval);
         releaseApprovalRepository.save(releaseApproval);
 
+        // 바뀐 동의 여부만큼 릴리즈 노트의 동의/거부/대기 인원 수를 원자적으로 맞춘다.
+        if (previousApproval != approval) {
+            releaseRepository.updateApprovalTally(releaseNote.getReleaseId(),
+                    countOf(approval, 'Y') - countOf(previousApproval, 'Y'),
+                    countOf(approval, 'N') - countOf(previousApproval, 'N'),
+                    countOf(approval, 'P') - countOf(previousApproval, 'P'));
+        }
+
         if (member.getPosition() == 'L' && approval == 'Y') {
             // 저장한 후 배포 동의 상태 값을 전달한 사용자가 관리자이고, 관리자가 동의를 선택한 경우 최종적으로 릴리즈 노트를 배포한다.
             // 1. 모든 멤버의 동의 여부가 완료되었는지 확인한다.
@@ -1021,6 +1107,12 @@ public class ReleaseServiceImpl implements ReleaseService {
             releaseNote.updateDeployStatus(ReleaseDeployStatus.DEPLOYED);
             releaseRepository.save(releaseNote);
 
+            // 연결된 이슈의 배포 여부가 바뀌었으므로 이슈 보드 변경 기록에 남긴다.
+            publishIssueBoardEvent(releaseNote.getProject(), releaseNote.getIssues());
+
+            // 배포 이후에는 바뀌지 않으므로, 커밋된 후 조회할 수 있도록 스냅샷을 남긴다.
+            storeReleaseSnapshot(releaseNote);
+
             // 4. 릴리즈 배포 상태 알림을 보낸다.
             notifyReleaseNote(releaseNote.getProject(), releaseNote, "릴리즈 노트가 배포되었습니다.");
         }
@@ -1047,21 +1139,13 @@ public class ReleaseServiceImpl implements ReleaseService {
      * @date 2023-07-10
      */
     private void checkIfNotDeployedReleaseNotes(ReleaseNote releaseNote) {
-        // 먼저 릴리즈 버전을 기준으로 오름차순 정렬한다.
-        List<ReleaseNote> releaseNotes = releaseRepository.findAllByProject(releaseNote.getProject());
-        List<ReleaseNote> sortedReleaseNotes = sortReleaseNoteByAsc(releaseNotes);
-
-        // 현재 릴리즈 노트의 인덱스를 찾는다.
-        int currentIdx = sortedReleaseNotes.indexOf(releaseNote);
-        if (currentIdx == 0) {
-            // 만약 해당 릴리즈 노트 하나밖에 없다면 유효성 검사를 통과할 수 있다.
-            return;
-        }
+        // 현재 릴리즈 노트보다 낮은 버전의 릴리즈 노트들을 가져온다.
+        List<ReleaseNote> previousReleaseNotes = releaseRepository.findPreviousReleaseNotes(releaseNote.getProject(), releaseNote.getSemanticVersion());
 
         // 현재 릴리즈 노트의 이전 버전 중 배포되지 않은 릴리즈 노트가 있는지 확인하고, 있다면 예외를 발생시킨다.
-        for (int i = 0; i < currentIdx; i++) {
+        for (ReleaseNote previousReleaseNote : previousReleaseNotes) {
 
-            if (sortedReleaseNotes.get(i).getDeployStatus() != ReleaseDeployStatus.DEPLOYED) {
+            if (previousReleaseNote.getDeployStatus() != ReleaseDeployStatus.DEPLOYED) {
                 throw new CustomException(EXISTS_NOT_DEPLOYED_RELEASE_NOTE_BEFORE_THIS);
             }
         }
@@ -1076,18 +1160,22 @@ public class ReleaseServiceImpl implements ReleaseService {
      * @date 2023-07-10
      */
     private void checkIfApproveAllMembers(ReleaseNote releaseNote) {
-        // ReleaseApproval 테이블을 가져와서 모든 멤버의 배포 동의 값이 'Y'인지 확인한다.
-        List<ReleaseApproval> approvals = releaseApprovalRepository.findAllByRelease(releaseNote);
-        for (ReleaseApproval approval : approvals) {
-
-            if (approval.getApproval() != 'Y') {
-                // 만약 한 사람이라도 배포를 동의하지 않았다면 예외를 발생시킨다.
-                throw new CustomException(EXISTS_DISAPPROVED_MEMBER);
-            }
+        // 릴리즈 노트의 거부 및 대기 인원 수로 모든 멤버의 배포 동의 값이 'Y'인지 확인한다.
+        ReleaseApprovalTally approvalTally = releaseRepository.findApprovalTally(releaseNote.getReleaseId());
 
+        if (approvalTally != null && !approvalTally.isAllApproved()) {
+            // 만약 한 사람이라도 배포를 동의하지 않았다면 예외를 발생시킨다.
+            throw new CustomException(EXISTS_DISAPPROVED_MEMBER);
         }
     }
 
+    /**
+     * 동의 여부가 target 과 같으면 1, 다르면 0을 반환한다.
+     */
+    private int countOf(char approval, char target) {
+        return approval == target ? 1 : 0;
+    }
+
     /**
      * 해당 릴리즈 노트에 대한 프로젝트 멤버들의 업데이트된 배포 동의 여부 목록을 반환한다.
      *
@@ -1117,36 +1205,34 @@ public class ReleaseServiceImpl implements ReleaseService {
      * @date 2023-07-10
      */
     private void updateCoordinates(List<CoordinateDataDTO> datas) {
-        for (CoordinateDataDTO data : datas) {
-
-            // 해당 릴리즈 식별 번호에 대항하는 릴리즈 노트 엔티티를 가져온다.
-            ReleaseNote releaseNote = getReleaseNoteById(data.getReleaseId());
-
-            // 해당 릴리즈 노트의 이전 좌표 값과 새로 전달받은 좌표 값이 같은 경우 업데이트를 생략한다.
-            Double prevX = releaseNote.getCoordX();
-            Double prevY = releaseNote.getCoordY();
-            Double newX = data.getCoordX();
-            Double newY = data.getCoordY();
-
-            if (!Objects.equals(prevX, newX) && !Objects.equals(prevY, newY)) {
-                // x, y 좌표 모두 다른 경우 업데이트 한다.
-                releaseNote.updateCoordinates(newX, newY);
-
-            } else if (!Objects.equals(prevX, newX)) {
-                // x 좌표가 다른 경우 업데이트한다.
-                releaseNote.updateCoordX(newX);
-
-            } else if (!Objects.equals(prevY, newY)) {
-                // y 좌표가 다른 경우 업데이트한다.
-                releaseNote.updateCoordY(newY);
+        // 릴리즈 노트마다 조회하지 않고, 존재 여부와 소속 프로젝트를 한 번에 확인한다.
+        Set<Long> releaseIds = datas.stream()
+                .map(CoordinateDataDTO::getReleaseId)
+                .collect(Collectors.toSet());
+        Map<Long, Long> projectIds = releaseRepository.findProjectIdsByReleaseIds(releaseIds);
+
+        if (projectIds.size() != releaseIds.size()) {
+            throw new CustomException(NOT_EXISTS_RELEASE_NOTE);
+        }
 
-            } else {
-                // 만약 변경된 값이 없는 경우 업데이트를 하지 않고 넘어간다.
-                continue;
-            }
+        // 좌표는 버퍼에 모아 두었다가 프로젝트별로 한 번에 반영한다. 같은 릴리즈 노트의 좌표는 마지막 값만 반영된다.
+        datas.forEach(data -> releaseCoordinateBuffer.put(projectIds.get(data.getReleaseId()), data));
+    }
 
-            releaseRepository.save(releaseNote);
+    /**
+     * 아직 데이터베이스에 반영되지 않은 좌표가 있다면 응답에 덮어쓴다.
+     *
+     * @param releases 릴리즈 노트 목록 응답 DTO
+     * @author seonwoo
+     * @date 2023-08-23
+     */
+    private void applyBufferedCoordinates(List<ReleasesDataDTO> releases) {
+        if (releases == null) {
+            return;
         }
+
+        releases.forEach(r -> releaseCoordinateBuffer.find(r.getReleaseId())
+                .ifPresent(c -> r.updateCoordinates(c.getCoordX(), c.getCoordY())));
     }
 
     /**
@@ -1168,60 +1254,20 @@ public class ReleaseServiceImpl implements ReleaseService {
         releaseOpinionRepository.save(releaseOpinion);
     }
 
-    /**
-     * 릴리즈 노트 의견 조회 결과를 DTO 리스트로 변환한다.
-     *
-     * @param releaseOpinions 릴리즈 노트 의견 엔티티 리스트
-     * @return ReleaseOpinionsResponseDTO 릴리즈 노트 의견 조회 결과 DTO 리스트
-     * @author seonwoo
-     * @date 2023-07-10
-     */
-    private List<ReleaseOpinionsResponseDTO> getReleaseOpinionsResponseDto(List<ReleaseOpinion> releaseOpinions) {
-        return releaseOpinions.stream()
-                .map(ReleaseMapper.INSTANCE::toReleaseOpinionsResponseDto)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 이슈들을 태그별로 그룹화하는 메서드
-     *
-     * @param issues 이슈 엔티티 리스트
-     * @return Map<String, List < GetIssueTitleDataDTO>> 태그별로 그룹화된 이슈 리스트 맵
-     * @author chaeanna
-     * @date 2023-07-22
-     */
-    private Map<String, List<GetIssueTitleDataDTO>> groupIssuesByTag(List<Issue> issues) {
-        Map<String, List<GetIssueTitleDataDTO>> tagToIssueMap = new HashMap<>();
-        for (Issue issue : issues) {
-            // 이슈의 태그 가져오기
-            String tag = String.valueOf(issue.getTag());
-            // GetIssueTitle 객체 생성
-            GetIssueTitleDataDTO issueTitle = GetIssueTitleDataDTO.builder()
-                    .issueId(issue.getIssueId())
-                    .title(issue.getTitle())
-                    .summary(issue.getSummary())
-                    .build();
-
-            // 태그별로 이슈들을 그룹화
-            tagToIssueMap.computeIfAbsent(tag, k -> new ArrayList<>()).add(issueTitle);
-        }
-        return tagToIssueMap;
-    }
-
     /**
      * ReleaseDocsRes 객체를 생성하는 메서드
      *
-     * @param note          릴리즈 노트 엔티티
+     * @param note          릴리즈 노트 정보
      * @param tagToIssueMap 태그별로 그룹화된 이슈 리스트 맵
      * @return ReleaseDocsResponseDTO 릴리즈 문서 정보 DTO
      * @author chaeanna
      * @date 2023-07-22
      */
-    private ReleaseDocsResponseDTO buildReleaseDocsRes(ReleaseNote note, Map<String, List<GetIssueTitleDataDTO>> tagToIssueMap) {
-        // 태그별로 그룹화된 이슈들을 GetTags 리스트로 변환하여 저장
+    private ReleaseDocsResponseDTO buildReleaseDocsRes(ReleaseDocsIssueDataDTO note, Map<Tag, List<GetIssueTitleDataDTO>> tagToIssueMap) {
+        // 태그별로 그룹화된 이슈들을 GetTags 리스트로 변환하여 저장 (태그 순서는 Tag 정의 순서를 따른다.)
         List<GetTagsDataDTO> tagsList = tagToIssueMap.entrySet().stream()
                 .map(entry -> GetTagsDataDTO.builder()
-                        .tag(entry.getKey())
+                        .tag(String.valueOf(entry.getKey()))
                         .titleList(entry.getValue())
                         .build())
                 .collect(Collectors.toList());
@@ -1229,9 +1275,9 @@ public class ReleaseServiceImpl implements ReleaseService {
         // ReleaseDocsRes 객체 생성 및 반환
         return ReleaseDocsResponseDTO.builder()
                 .releaseId(note.getReleaseId())
-                .releaseVersion(note.getVersion())
-                .releaseTitle(note.getTitle())
-                .releaseContent(note.getContent())
+                .releaseVersion(note.getReleaseVersion())
+                .releaseTitle(note.getReleaseTitle())
+                .releaseContent(note.getReleaseContent())
                 .tagsList(tagsList)
                 .build();
     }
@@ -1345,23 +1391,109 @@ public class ReleaseServiceImpl implements ReleaseService {
     }
 
     /**
-     * ReleaseOpinionsResponseDto 배열 생성 후 변환
+     * 스냅샷의 릴리즈 노트 정보에 의견 목록을 더해 ReleaseInfoResponseDto로 변환한다.
+     * 스냅샷은 여러 요청이 함께 사용하므로 수정하지 않고 새 DTO를 만든다.
      *
-     * @param releaseNote 릴리즈 노트 정보
-     * @return ReleaseOpinionsResponseDTO 릴리즈 의견 정보 DTO
+     * @param release  스냅샷의 릴리즈 노트 정보
+     * @param opinions 릴리즈 노트에 작성된 의견들의 정보 리스트
+     * @return ReleaseInfoResponseDTO 릴리즈 정보 DTO
      * @author seonwoo
-     * @date 2023-07-26
+     * @date 2023-08-25
      */
-    private List<ReleaseOpinionsResponseDTO> createReleaseOpinionsResponseDto(ReleaseNote releaseNote, Long memberId) {
-        List<ReleaseOpinion> opinions = releaseOpinionRepository.findAllByRelease(releaseNote);
-
-        return opinions.stream()
-                .map(opinion -> {
-                    ReleaseOpinionsResponseDTO resDTO = ReleaseMapper.INSTANCE.toReleaseOpinionsResponseDto(opinion);
-                    resDTO.updateDeleteYN(memberId != null && opinion.getMember().getMemberId().equals(memberId) ? 'Y' : 'N');
-                    return resDTO;
-                })
-                .collect(Collectors.toList());
+    private ReleaseInfoResponseDTO createReleaseInfoResponseDto(ReleaseInfoResponseDTO release, List<ReleaseOpinionsDataDTO> opinions) {
+        return ReleaseInfoResponseDTO.builder()
+                .releaseId(release.getReleaseId())
+                .title(release.getTitle())
+                .content(release.getContent())
+                .summary(release.getSummary())
+                .version(release.getVersion())
+                .deployDate(release.getDeployDate())
+                .deployStatus(release.getDeployStatus())
+                .issues(release.getIssues())
+                .opinions(opinions)
+                .approvals(release.getApprovals())
+                .build();
+    }
+
+    /**
+     * 배포된 릴리즈 노트의 스냅샷을 만들어 고정하고 캐시에 보관한다.
+     * 연결된 이슈는 태그 순서대로 묶어 두고, 의견 목록은 조회할 때마다 새로 가져오므로 담지 않는다.
+     * 이슈의 편집 여부(edit)는 이슈를 조회할 때마다 바뀌므로 스냅샷에는 'N'으로 고정한다.
+     *
+     * @param releaseNote 배포된 릴리즈 노트
+     * @return ReleaseSnapshotDataDTO 보관한 스냅샷
+     * @author seonwoo
+     * @date 2023-08-25
+     */
+    private ReleaseSnapshotDataDTO storeReleaseSnapshot(ReleaseNote releaseNote) {
+        ReleaseInfoResponseDTO release = createReleaseInfoResponseDto(releaseNote, null);
+
+        List<ConnectedIssuesDataDTO> issues = new ArrayList<>();
+        if (release.getIssues() != null) {
+            for (ConnectedIssuesDataDTO issue : release.getIssues()) {
+                issues.add(ConnectedIssuesDataDTO.builder()
+                        .issueId(issue.getIssueId())
+                        .issueNum(issue.getIssueNum())
+                        .title(issue.getTitle())
+                        .lifeCycle(issue.getLifeCycle())
+                        .tag(issue.getTag())
+                        .endDate(issue.getEndDate())
+                        .edit('N')
+                        .memberId(issue.getMemberId())
+                        .memberName(issue.getMemberName())
+                        .memberImg(issue.getMemberImg())
+                        .build());
+            }
+        }
+        issues.sort(Comparator.comparingInt((ConnectedIssuesDataDTO issue) -> issue.getTag() == null ? Tag.values().length : Tag.valueOf(issue.getTag()).ordinal()));
+
+        ReleaseInfoResponseDTO snapshotRelease = ReleaseInfoResponseDTO.builder()
+                .releaseId(release.getReleaseId())
+                .title(release.getTitle())
+                .content(release.getContent())
+                .summary(release.getSummary())
+                .version(release.getVersion())
+                .deployDate(release.getDeployDate())
+                .deployStatus(release.getDeployStatus())
+                .issues(issues)
+                .approvals(release.getApprovals())
+                .build();
+
+        return releaseSnapshotCache.store(ReleaseSnapshotDataDTO.builder()
+                .projectId(releaseNote.getProject().getProjectId())
+                .release(snapshotRelease)
+                .build());
+    }
+
+    /**
+     * 릴리즈 노트 의견을 최신순으로 커서 이후 한 페이지만큼 가져온다.
+     * 한 개를 더 조회하여 다음 페이지가 있는지 확인하고, 있다면 이번 페이지의 마지막 의견 식별 번호를 다음 커서로 반환한다.
+     *
+     * @param releaseId 릴리즈 노트 식별 번호
+     * @param memberId  요청한 프로젝트 멤버 식별 번호 (삭제 가능 여부 표시용, 없으면 null)
+     * @param cursor    이전 페이지의 마지막 의견 식별 번호 (첫 페이지인 경우 null)
+     * @param size      페이지 크기
+     * @return ReleaseOpinionsPageResponseDTO 릴리즈 의견 페이지
+     * @author seonwoo
+     * @date 2023-08-24
+     */
+    private ReleaseOpinionsPageResponseDTO getReleaseOpinionsPage(Long releaseId, Long memberId, Long cursor, int size) {
+        List<ReleaseOpinionsDataDTO> opinions = releaseOpinionRepository.getDtosByReleaseIdBefore(releaseId, cursor, size + 1);
+
+        Long nextCursor = null;
+        if (opinions.size() > size) {
+            opinions = opinions.subList(0, size);
+            nextCursor = opinions.get(size - 1).getOpinionId();
+        }
+
+        if (memberId != null) {
+            opinions.forEach(opinion -> opinion.updateDeleteYN(memberId.equals(opinion.getMemberId()) ? 'Y' : 'N'));
+        }
+
+        return ReleaseOpinionsPageResponseDTO.builder()
+                .opinions(opinions)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     /**
@@ -0,0 +1,215 @@
+package com.momentum.releaser.domain.release.application;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.momentum.releaser.domain.release.dao.release.ReleaseSnapshotRepository;
+import com.momentum.releaser.domain.release.domain.ReleaseSnapshot;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseSnapshotDataDTO;
+import com.momentum.releaser.global.config.AppProperties;
+import com.momentum.releaser.redis.RedisUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배포된 릴리즈 노트의 스냅샷을 애플리케이션 메모리와 Redis에 보관하는 캐시
+ * 스냅샷은 처음 만들 때 데이터베이스(release_snapshot)에 고정하므로, 배포 이후 멤버 프로필 등이 바뀌어도 내용과 ETag가 바뀌지 않아 무효화하지 않는다.
+ * 메모리에는 최근에 조회한 스냅샷만 남기고, 다른 서버에서 만든 스냅샷은 Redis에서, Redis에서 만료된 스냅샷은 데이터베이스에서 가져온다.
+ * 조회 중에 만든 스냅샷은 읽기 전용 트랜잭션에서 쓸 수 없으므로 별도의 트랜잭션으로 고정하고, 배포하는 트랜잭션에서 만든 스냅샷은 배포와 함께 커밋한다.
+ */
+@Slf4j
+@Component
+public class ReleaseSnapshotCache {
+
+    private static final String KEY_PREFIX = "release:snapshot:";
+
+    private final ReleaseSnapshotRepository releaseSnapshotRepository;
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
+    private final TransactionTemplate freezeTransaction;
+
+    // 릴리즈 노트 식별 번호 -> 스냅샷 (접근 순서 기준으로 오래된 스냅샷부터 제거한다.)
+    private final Map<Long, ReleaseSnapshotDataDTO> localSnapshots = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, ReleaseSnapshotDataDTO> eldest) {
+            return size() > appProperties.getReleaseSnapshot().getLocalCapacity();
+        }
+    });
+
+    public ReleaseSnapshotCache(ReleaseSnapshotRepository releaseSnapshotRepository, RedisUtil redisUtil, ObjectMapper objectMapper,
+                                AppProperties appProperties, PlatformTransactionManager transactionManager) {
+        this.releaseSnapshotRepository = releaseSnapshotRepository;
+        this.redisUtil = redisUtil;
+        this.objectMapper = objectMapper;
+        this.appProperties = appProperties;
+        this.freezeTransaction = new TransactionTemplate(transactionManager);
+        this.freezeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 릴리즈 노트의 스냅샷을 조회한다.
+     * Redis 조회에 실패한 경우에는 스냅샷이 없는 것으로 보고 데이터베이스에서 조회하도록 한다.
+     *
+     * @param releaseId 릴리즈 노트 식별 번호
+     * @return Optional 스냅샷 (아직 만들어지지 않은 경우 비어 있다.)
+     * @author seonwoo
+     * @date 2023-08-25
+     */
+    public Optional<ReleaseSnapshotDataDTO> find(Long releaseId) {
+        ReleaseSnapshotDataDTO snapshot = localSnapshots.get(releaseId);
+        if (snapshot != null) {
+            return Optional.of(snapshot);
+        }
+
+        String document = null;
+        try {
+            document = redisUtil.getData(KEY_PREFIX + releaseId);
+        } catch (RuntimeException e) {
+            log.warn("릴리즈 노트 스냅샷 조회 실패: releaseId={}", releaseId, e);
+        }
+
+        if (document == null) {
+            // Redis에서 만료되었거나 조회하지 못한 경우, 고정해 둔 스냅샷을 다시 Redis에 올린다.
+            Optional<ReleaseSnapshot> frozen = releaseSnapshotRepository.findById(releaseId);
+            if (frozen.isEmpty()) {
+                return Optional.empty();
+            }
+            document = frozen.get().getDocument();
+            saveToRedis(releaseId, document);
+        }
+
+        snapshot = deserialize(releaseId, document);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+
+        localSnapshots.put(releaseId, snapshot);
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * 스냅샷을 직렬화하여 데이터베이스에 고정하고 캐시에 보관한다.
+     * 이미 고정된 스냅샷이 있다면(다른 요청이 먼저 만든 경우) 새로 만든 스냅샷 대신 고정된 스냅샷을 보관한다.
+     * 캐시에는 트랜잭션이 커밋된 이후에 보관하여, 롤백된 배포의 스냅샷이 남지 않도록 한다.
+     *
+     * @param snapshot 보관할 스냅샷
+     * @return ReleaseSnapshotDataDTO ETag가 채워진 고정된 스냅샷
+     * @author seonwoo
+     * @date 2023-08-25
+     */
+    public ReleaseSnapshotDataDTO store(ReleaseSnapshotDataDTO snapshot) {
+        Long releaseId = snapshot.getRelease().getReleaseId();
+
+        String document;
+        try {
+            document = objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            // 스냅샷은 조회 성능을 위한 것이므로, 직렬화에 실패해도 요청은 정상적으로 처리한다.
+            log.warn("릴리즈 노트 스냅샷 직렬화 실패: releaseId={}", releaseId, e);
+            return snapshot;
+        }
+
+        // 읽기 전용 트랜잭션이거나 트랜잭션이 없는 경우(조회)에는 별도의 트랜잭션으로 고정한다.
+        String newDocument = document;
+        String frozenDocument = TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? freeze(releaseId, newDocument)
+                : freezeTransaction.execute(status -> freeze(releaseId, newDocument));
+
+        if (frozenDocument != null && !frozenDocument.equals(document)) {
+            ReleaseSnapshotDataDTO frozenSnapshot = deserialize(releaseId, frozenDocument);
+            if (frozenSnapshot != null) {
+                snapshot = frozenSnapshot;
+                document = frozenDocument;
+            }
+        }
+
+        snapshot.updateEtag(createEtag(document));
+
+        ReleaseSnapshotDataDTO storedSnapshot = snapshot;
+        String storedDocument = document;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    save(releaseId, storedSnapshot, storedDocument);
+                }
+            });
+        } else {
+            save(releaseId, storedSnapshot, storedDocument);
+        }
+
+        return storedSnapshot;
+    }
+
+    /**
+     * 스냅샷을 데이터베이스에 고정하고, 고정된 스냅샷을 반환한다. (이미 고정된 스냅샷이 있다면 그 스냅샷)
+     */
+    private String freeze(Long releaseId, String document) {
+        if (releaseSnapshotRepository.insertIfAbsent(releaseId, document) > 0) {
+            return document;
+        }
+        return releaseSnapshotRepository.findById(releaseId)
+                .map(ReleaseSnapshot::getDocument)
+                .orElse(document);
+    }
+
+    private void save(Long releaseId, ReleaseSnapshotDataDTO snapshot, String document) {
+        localSnapshots.put(releaseId, snapshot);
+        saveToRedis(releaseId, document);
+    }
+
+    private void saveToRedis(Long releaseId, String document) {
+        try {
+            redisUtil.setDataExpire(KEY_PREFIX + releaseId, document, appProperties.getReleaseSnapshot().getTtlSeconds());
+        } catch (RuntimeException e) {
+            log.warn("릴리즈 노트 스냅샷 저장 실패: releaseId={}", releaseId, e);
+        }
+    }
+
+    /**
+     * 직렬화된 스냅샷을 읽고 ETag를 채운다. 읽지 못한 경우 null
+     */
+    private ReleaseSnapshotDataDTO deserialize(Long releaseId, String document) {
+        try {
+            ReleaseSnapshotDataDTO snapshot = objectMapper.readValue(document, ReleaseSnapshotDataDTO.class);
+            snapshot.updateEtag(createEtag(document));
+            return snapshot;
+        } catch (JsonProcessingException e) {
+            log.warn("릴리즈 노트 스냅샷 역직렬화 실패: releaseId={}", releaseId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 직렬화된 스냅샷의 SHA-256 해시 앞 16바이트로 강한 ETag를 만든다.
+     * 같은 스냅샷이라면 어느 서버에서 조회하더라도 같은 ETag를 가진다.
+     */
+    private String createEtag(String document) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(document.getBytes(StandardCharsets.UTF_8));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 자바 플랫폼에서 제공된다.
+            throw new IllegalStateException(e);
+        }
+    }
+}
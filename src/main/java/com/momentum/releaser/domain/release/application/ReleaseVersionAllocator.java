@@ -0,0 +1,101 @@
+package com.momentum.releaser.domain.release.application;
+
+import static com.momentum.releaser.global.config.BaseResponseStatus.FAILED_TO_GET_LATEST_RELEASE_VERSION;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.dao.release.ReleaseVersionHeadRepository;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseVersionType;
+import com.momentum.releaser.domain.release.domain.ReleaseVersionHead;
+import com.momentum.releaser.domain.release.domain.SemanticVersion;
+import com.momentum.releaser.global.exception.CustomException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로젝트별 최신 버전 행(release_version_head)을 이용해 다음 릴리즈 버전을 발급한다.
+ * 최신 버전 행은 릴리즈 노트를 저장하는 트랜잭션 안에서 잠기기 때문에, 동시에 생성 요청이 들어와도 같은 버전이 두 번 발급되지 않는다.
+ */
+@Slf4j
+@Component
+public class ReleaseVersionAllocator {
+
+    private final ReleaseRepository releaseRepository;
+    private final ReleaseVersionHeadRepository releaseVersionHeadRepository;
+    private final TransactionTemplate insertTransaction;
+
+    public ReleaseVersionAllocator(ReleaseRepository releaseRepository, ReleaseVersionHeadRepository releaseVersionHeadRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.releaseRepository = releaseRepository;
+        this.releaseVersionHeadRepository = releaseVersionHeadRepository;
+        this.insertTransaction = new TransactionTemplate(transactionManager);
+        this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 버전 타입에 따라 프로젝트의 다음 릴리즈 버전을 발급한다.
+     *
+     * @param project     프로젝트 엔티티
+     * @param versionType 릴리즈 버전 타입
+     * @return SemanticVersion 새로 발급된 릴리즈 버전
+     * @author seonwoo
+     * @date 2023-08-21
+     */
+    @Transactional
+    public SemanticVersion allocate(Project project, ReleaseVersionType versionType) {
+        ReleaseVersionHead head = lockHead(project);
+
+        // 최신 버전 행이 비어 있다면 릴리즈 노트 테이블로부터 다시 계산한다.
+        SemanticVersion latestVersion = head.getVersion() != null
+                ? head.getVersion()
+                : releaseRepository.findLatestVersion(project).orElse(null);
+
+        // 처음 생성하는 릴리즈 노트인 경우 1.0.0이 된다.
+        SemanticVersion newVersion = latestVersion == null ? SemanticVersion.INITIAL : latestVersion.next(versionType);
+        head.updateVersion(newVersion);
+
+        return newVersion;
+    }
+
+    /**
+     * 릴리즈 노트의 버전이 수정되거나 삭제된 경우, 릴리즈 노트 테이블을 기준으로 최신 버전 행을 다시 맞춘다.
+     *
+     * @param project 프로젝트 엔티티
+     * @author seonwoo
+     * @date 2023-08-21
+     */
+    @Transactional
+    public void reconcile(Project project) {
+        ReleaseVersionHead head = lockHead(project);
+        SemanticVersion latestVersion = releaseRepository.findLatestVersion(project).orElse(null);
+
+        log.info("reconcile/projectId: {}, latestVersion: {}", project.getProjectId(), latestVersion);
+        head.updateVersion(latestVersion);
+    }
+
+    /**
+     * 프로젝트의 최신 버전 행을 잠근 상태로 가져온다. 행이 없는 경우 먼저 생성한다.
+     * 없는 행을 잠그며 읽으면 갭 잠금이 걸려, 처음 생성하는 요청 두 개가 서로의 INSERT 를 막는 교착 상태가 된다.
+     * 따라서 행을 먼저 만들고 나서 잠그며, 행 생성은 별도의 트랜잭션으로 바로 커밋하여 중복 키 확인에 걸린 공유 잠금도 함께 풀어 둔다.
+     *
+     * @param project 프로젝트 엔티티
+     * @return ReleaseVersionHead 잠금이 걸린 최신 버전 행
+     * @author seonwoo
+     * @date 2023-08-21
+     */
+    private ReleaseVersionHead lockHead(Project project) {
+        Long projectId = project.getProjectId();
+
+        // 이미 행이 있다면 아무것도 하지 않는다.
+        insertTransaction.executeWithoutResult(status -> releaseVersionHeadRepository.insertIfAbsent(projectId));
+
+        return releaseVersionHeadRepository.findByProjectIdForUpdate(projectId)
+                .orElseThrow(() -> new CustomException(FAILED_TO_GET_LATEST_RELEASE_VERSION));
+    }
+}
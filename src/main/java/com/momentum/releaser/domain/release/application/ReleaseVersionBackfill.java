@@ -0,0 +1,38 @@
+package com.momentum.releaser.domain.release.application;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 숫자 버전 컬럼이 추가되기 전에 생성된 릴리즈 노트의 버전 값을 채워 넣는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReleaseVersionBackfill {
+
+    private final ReleaseRepository releaseRepository;
+
+    /**
+     * 애플리케이션이 시작되면 버전 숫자 컬럼이 비어 있는 릴리즈 노트를 한 번에 갱신한다.
+     *
+     * @author seonwoo
+     * @date 2023-08-20
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSemanticVersions() {
+        int updated = releaseRepository.backfillSemanticVersions();
+
+        if (updated > 0) {
+            log.info("backfillSemanticVersions/updated: {}", updated);
+        }
+    }
+}
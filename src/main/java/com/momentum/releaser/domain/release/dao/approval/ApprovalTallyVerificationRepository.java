@@ -0,0 +1,27 @@
+package com.momentum.releaser.domain.release.dao.approval;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.momentum.releaser.domain.release.domain.ApprovalTallyVerification;
+
+public interface ApprovalTallyVerificationRepository extends JpaRepository<ApprovalTallyVerification, Long> {
+
+    /**
+     * 작업 행을 만든다. 이미 행이 있으면 그대로 둔다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO approval_tally_verification (verification_id) VALUES (1)", nativeQuery = true)
+    int insertIfAbsent();
+
+    /**
+     * 마지막으로 가져간 지 intervalSeconds 가 지난 작업을 이 서버가 가져온다.
+     * 가져온 경우 1, 이번 주기에 다른 서버가 이미 가져간 경우 0을 반환한다.
+     */
+    @Modifying
+    @Query(value = "UPDATE approval_tally_verification SET claimed_at = NOW() "
+            + "WHERE verification_id = 1 AND (claimed_at IS NULL OR claimed_at < NOW() - INTERVAL :intervalSeconds SECOND)", nativeQuery = true)
+    int claim(@Param("intervalSeconds") long intervalSeconds);
+}
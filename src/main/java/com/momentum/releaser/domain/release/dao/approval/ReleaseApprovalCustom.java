@@ -1,5 +1,8 @@
 package com.momentum.releaser.domain.release.dao.approval;
 
+import java.util.List;
+
+import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
 
 /**
@@ -9,4 +12,10 @@ public interface ReleaseApprovalCustom {
     void deleteByReleaseNote(ReleaseNote releaseNote);
 
     void deleteByReleaseApproval();
+
+    void saveAllByReleaseNote(ReleaseNote releaseNote, List<ProjectMember> members);
+
+    void saveAllByMember(ProjectMember member, List<ReleaseNote> releaseNotes);
+
+    void subtractTalliesByMember(ProjectMember member);
 }
@@ -3,7 +3,12 @@ package com.momentum.releaser.domain.release.dao.approval;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 import com.momentum.releaser.domain.project.domain.ProjectMember;
@@ -14,5 +19,12 @@ import com.momentum.releaser.domain.release.domain.ReleaseNote;
 public interface ReleaseApprovalRepository extends JpaRepository<ReleaseApproval, Long>, ReleaseApprovalCustom {
     Optional<ReleaseApproval> findByMemberAndRelease(ProjectMember member, ReleaseNote releaseNote);
 
+    /**
+     * 동의 여부를 바꾸는 동안 같은 멤버의 다른 요청이 이전 값을 읽지 못하도록 행을 잠근다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from ReleaseApproval a where a.member = :member and a.release = :release")
+    Optional<ReleaseApproval> findByMemberAndReleaseForUpdate(@Param("member") ProjectMember member, @Param("release") ReleaseNote releaseNote);
+
     List<ReleaseApproval> findAllByRelease(ReleaseNote releaseNote);
 }
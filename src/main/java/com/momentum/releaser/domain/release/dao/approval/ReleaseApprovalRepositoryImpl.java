@@ -2,10 +2,18 @@ package com.momentum.releaser.domain.release.dao.approval;
 
 import static com.momentum.releaser.domain.release.domain.QReleaseApproval.releaseApproval;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.global.config.AppProperties;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +23,29 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ReleaseApprovalRepositoryImpl implements ReleaseApprovalCustom {
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
+
+    /**
+     * 릴리즈 동의 정보는 IDENTITY 전략을 사용하여 Hibernate 가 INSERT 문을 묶어서 보내지 못하므로, JDBC 배치로 직접 저장한다.
+     * 동의 여부는 엔티티 기본값과 동일하게 대기(P) 상태로 생성된다.
+     */
+    private static final String INSERT_PENDING_APPROVAL_SQL =
+            "INSERT INTO release_approval (member_id, release_id, approval, created_date, modified_date) VALUES (?, ?, 'P', ?, ?)";
+
+    /**
+     * 동의 정보를 생성하거나 지울 때 릴리즈 노트의 동의/거부/대기 인원 수도 같은 트랜잭션에서 원자적으로 맞춘다.
+     */
+    private static final String ADD_PENDING_COUNT_SQL =
+            "UPDATE release_note SET pending_count = pending_count + ?, modified_date = NOW() WHERE release_id = ?";
+
+    private static final String SUBTRACT_TALLY_BY_MEMBER_SQL = "UPDATE release_note r " +
+            "JOIN release_approval a ON a.release_id = r.release_id " +
+            "SET r.approved_count = r.approved_count - (a.approval = 'Y'), " +
+            "r.denied_count = r.denied_count - (a.approval = 'N'), " +
+            "r.pending_count = r.pending_count - (a.approval = 'P'), " +
+            "r.modified_date = NOW() " +
+            "WHERE a.member_id = ?";
 
     /**
      * 주어진 릴리즈 노트에 대한 모든 릴리즈 동의 정보를 삭제
@@ -45,4 +76,76 @@ public class ReleaseApprovalRepositoryImpl implements ReleaseApprovalCustom {
                         .or(releaseApproval.member.isNull()))
                 .execute();
     }
+
+    /**
+     * 릴리즈 노트 하나에 대해 여러 프로젝트 멤버의 릴리즈 동의 정보를 한 번에 생성
+     *
+     * @param releaseNote 동의 정보를 생성할 릴리즈 노트
+     * @param members     동의 정보를 생성할 프로젝트 멤버 목록
+     * @author seonwoo
+     * @date 2023-08-23
+     */
+    @Override
+    public void saveAllByReleaseNote(ReleaseNote releaseNote, List<ProjectMember> members) {
+        batchInsertPendingApprovals(members.stream()
+                .map(member -> new long[]{member.getMemberId(), releaseNote.getReleaseId()})
+                .collect(Collectors.toList()));
+
+        // 생성한 동의 정보는 모두 대기 상태이다.
+        jdbcTemplate.update(ADD_PENDING_COUNT_SQL, members.size(), releaseNote.getReleaseId());
+    }
+
+    /**
+     * 프로젝트 멤버 한 명에 대해 여러 릴리즈 노트의 릴리즈 동의 정보를 한 번에 생성
+     *
+     * @param member       동의 정보를 생성할 프로젝트 멤버
+     * @param releaseNotes 동의 정보를 생성할 릴리즈 노트 목록
+     * @author chaeanna
+     * @date 2023-08-23
+     */
+    @Override
+    public void saveAllByMember(ProjectMember member, List<ReleaseNote> releaseNotes) {
+        batchInsertPendingApprovals(releaseNotes.stream()
+                .map(releaseNote -> new long[]{member.getMemberId(), releaseNote.getReleaseId()})
+                .collect(Collectors.toList()));
+
+        // 각 릴리즈 노트의 대기 인원이 한 명씩 늘어난다.
+        jdbcTemplate.batchUpdate(ADD_PENDING_COUNT_SQL, releaseNotes, appProperties.getJdbc().getBatchSize(),
+                (ps, releaseNote) -> {
+                    ps.setInt(1, 1);
+                    ps.setLong(2, releaseNote.getReleaseId());
+                });
+    }
+
+    /**
+     * 프로젝트에서 제거되는 멤버의 동의 여부를 각 릴리즈 노트의 동의/거부/대기 인원 수에서 뺀다.
+     * 멤버를 삭제하여 동의 정보와의 연결이 끊어지기 전에 호출해야 한다.
+     *
+     * @param member 프로젝트에서 제거되는 멤버
+     * @author chaeanna
+     * @date 2023-08-24
+     */
+    @Override
+    public void subtractTalliesByMember(ProjectMember member) {
+        jdbcTemplate.update(SUBTRACT_TALLY_BY_MEMBER_SQL, member.getMemberId());
+    }
+
+    /**
+     * (멤버 식별 번호, 릴리즈 식별 번호) 목록을 app.jdbc.batch-size 단위로 나누어 INSERT 한다.
+     */
+    private void batchInsertPendingApprovals(List<long[]> memberAndReleaseIds) {
+        if (memberAndReleaseIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_PENDING_APPROVAL_SQL, memberAndReleaseIds, appProperties.getJdbc().getBatchSize(),
+                (ps, ids) -> {
+                    ps.setLong(1, ids[0]);
+                    ps.setLong(2, ids[1]);
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                });
+    }
 }
@@ -11,4 +11,6 @@ import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseOpinionsDa
 public interface ReleaseOpinionRepositoryCustom {
 
     List<ReleaseOpinionsDataDTO> getDtosByReleaseNote(ReleaseNote releaseNote);
+
+    List<ReleaseOpinionsDataDTO> getDtosByReleaseIdBefore(Long releaseId, Long cursor, int limit);
 }
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -51,4 +52,42 @@ public class ReleaseOpinionRepositoryImpl implements ReleaseOpinionRepositoryCus
                 .where(releaseOpinion.release.eq(releaseNote))
                 .fetch();
     }
+
+    /**
+     * 릴리즈 노트의 의견을 최신순으로 커서(의견 식별 번호) 이전부터 limit 개만 가져온다.
+     * 작성자와 사용자 정보를 한 번에 조인하여 DTO로 반환한다.
+     *
+     * @param releaseId 릴리즈 노트 식별 번호
+     * @param cursor    이전 페이지의 마지막 의견 식별 번호 (첫 페이지인 경우 null)
+     * @param limit     가져올 의견 수
+     * @return ReleaseOpinionsDataDTO 릴리즈 노트 의견 목록
+     * @author seonwoo
+     * @date 2023-08-24
+     */
+    @Override
+    public List<ReleaseOpinionsDataDTO> getDtosByReleaseIdBefore(Long releaseId, Long cursor, int limit) {
+        BooleanBuilder where = new BooleanBuilder(releaseOpinion.release.releaseId.eq(releaseId));
+
+        if (cursor != null) {
+            where.and(releaseOpinion.releaseOpinionId.lt(cursor));
+        }
+
+        return queryFactory
+                .select(new QReleaseDataDto_ReleaseOpinionsDataDTO(
+                        releaseOpinion.releaseOpinionId.as("opinionId"),
+                        releaseOpinion.opinion,
+                        Expressions.cases().when(projectMember.status.eq('N'))
+                                .then(0L)
+                                .otherwise(projectMember.memberId),
+                        user.name.as("memberName"),
+                        user.img.as("memberImg")
+                ))
+                .from(releaseOpinion)
+                .leftJoin(releaseOpinion.member, projectMember)
+                .leftJoin(projectMember.user, user)
+                .where(where)
+                .orderBy(releaseOpinion.releaseOpinionId.desc())
+                .limit(limit)
+                .fetch();
+    }
 }
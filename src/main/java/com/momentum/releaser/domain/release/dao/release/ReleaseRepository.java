@@ -3,6 +3,9 @@ package com.momentum.releaser.domain.release.dao.release;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
@@ -13,4 +16,50 @@ import com.momentum.releaser.domain.release.domain.ReleaseNote;
 public interface ReleaseRepository extends JpaRepository<ReleaseNote, Long>, ReleaseRepositoryCustom, QuerydslPredicateExecutor<ReleaseNote> {
 
     List<ReleaseNote> findAllByProject(Project project);
+
+    /**
+     * 숫자 버전 컬럼이 비어 있는 기존 릴리즈 노트의 버전 문자열을 major, minor, patch 컬럼으로 옮긴다.
+     */
+    @Modifying
+    @Query(value = "UPDATE release_note " +
+            "SET version_major = CAST(SUBSTRING_INDEX(version, '.', 1) AS UNSIGNED), " +
+            "version_minor = CAST(SUBSTRING_INDEX(SUBSTRING_INDEX(version, '.', 2), '.', -1) AS UNSIGNED), " +
+            "version_patch = CAST(SUBSTRING_INDEX(version, '.', -1) AS UNSIGNED) " +
+            "WHERE version_major IS NULL AND version IS NOT NULL", nativeQuery = true)
+    int backfillSemanticVersions();
+
+    /**
+     * 배포 동의 여부가 바뀐 만큼 릴리즈 노트의 동의/거부/대기 인원 수를 원자적으로 더한다.
+     */
+    @Modifying
+    @Query(value = "UPDATE release_note " +
+            "SET approved_count = approved_count + :approvedDelta, " +
+            "denied_count = denied_count + :deniedDelta, " +
+            "pending_count = pending_count + :pendingDelta, " +
+            "modified_date = NOW() " +
+            "WHERE release_id = :releaseId", nativeQuery = true)
+    int updateApprovalTally(@Param("releaseId") Long releaseId,
+                            @Param("approvedDelta") int approvedDelta,
+                            @Param("deniedDelta") int deniedDelta,
+                            @Param("pendingDelta") int pendingDelta);
+
+    /**
+     * 릴리즈 동의 정보를 다시 세어, 카운터가 실제 값과 다른(비어 있는 경우 포함) 릴리즈 노트만 바로잡는다.
+     *
+     * @return int 바로잡은 릴리즈 노트 수
+     */
+    @Modifying
+    @Query(value = "UPDATE release_note r " +
+            "LEFT JOIN (SELECT release_id, " +
+            "SUM(approval = 'Y') AS approved, SUM(approval = 'N') AS denied, SUM(approval = 'P') AS pending " +
+            "FROM release_approval WHERE release_id IS NOT NULL AND member_id IS NOT NULL GROUP BY release_id) a " +
+            "ON a.release_id = r.release_id " +
+            "SET r.approved_count = COALESCE(a.approved, 0), " +
+            "r.denied_count = COALESCE(a.denied, 0), " +
+            "r.pending_count = COALESCE(a.pending, 0), " +
+            "r.modified_date = NOW() " +
+            "WHERE NOT (r.approved_count <=> COALESCE(a.approved, 0) " +
+            "AND r.denied_count <=> COALESCE(a.denied, 0) " +
+            "AND r.pending_count <=> COALESCE(a.pending, 0))", nativeQuery = true)
+    int repairApprovalTallies();
 }
@@ -1,11 +1,22 @@
 package com.momentum.releaser.domain.release.dao.release;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetReleaseInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.SearchDocumentDataDTO;
+import com.momentum.releaser.domain.release.domain.ReleaseApprovalTally;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.release.domain.SemanticVersion;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.CoordinateDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseDocsIssueDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleasesDataDTO;
+import com.mysema.commons.lang.CloseableIterator;
 import com.querydsl.core.types.Predicate;
-import com.querydsl.core.types.dsl.NumberTemplate;
 
 /**
  * Querydsl을 사용하는 repository
@@ -17,10 +28,32 @@ public interface ReleaseRepositoryCustom {
 
     List<String> findAllVersionsByProject(Project project);
 
-    List<ReleaseNote> findByProjectAndNotInVersion(Project project, String version);
+    Optional<SemanticVersion> findLatestVersion(Project project);
 
-    List<ReleaseNote> findPreviousReleaseNotes(Project project, String version);
+    List<SemanticVersion> findVersionsByProjectExcludingRelease(Project project, Long releaseId);
 
-    List<ReleaseNote> getSearch(NumberTemplate booleanTemplate, Project project);
+    List<ReleaseNote> findPreviousReleaseNotes(Project project, SemanticVersion version);
+
+    List<ReleaseNote> findNextReleaseNotes(Project project, SemanticVersion version);
+
+    List<ReleaseDocsIssueDataDTO> getReleaseDocs(Project project);
+
+    CloseableIterator<ReleaseDocsIssueDataDTO> scrollReleaseDocs(Project project, SemanticVersion fromVersion);
+
+    List<SearchDocumentDataDTO> getSearchDocuments(Long projectId);
+
+    List<GetReleaseInfoDataDTO> getSearchReleases(Predicate predicate, Long limit);
+
+    long countSearchReleases(Predicate predicate);
+
+    Map<Long, Long> findProjectIdsByReleaseIds(Collection<Long> releaseIds);
+
+    List<ReleasesDataDTO> findReleaseGraph(Long projectId, LocalDateTime modifiedAfter);
+
+    List<Long> findDeletedReleaseIds(Long projectId, LocalDateTime modifiedAfter);
+
+    int updateCoordinates(Long projectId, List<CoordinateDataDTO> coordinates);
+
+    ReleaseApprovalTally findApprovalTally(Long releaseId);
 
 }
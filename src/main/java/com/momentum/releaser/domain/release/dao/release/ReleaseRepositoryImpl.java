@@ -1,16 +1,43 @@
 package com.momentum.releaser.domain.release.dao.release;
 
+import static com.momentum.releaser.domain.issue.domain.QIssue.issue;
 import static com.momentum.releaser.domain.release.domain.QReleaseNote.releaseNote;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.hibernate.jpa.QueryHints;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import com.momentum.releaser.domain.release.domain.QReleaseNote;
-import com.querydsl.core.types.dsl.NumberTemplate;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetReleaseInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.SearchDocumentDataDTO;
+import com.momentum.releaser.domain.project.dto.QProjectDataDto_GetReleaseInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.QProjectDataDto_SearchDocumentDataDTO;
+import com.momentum.releaser.domain.release.domain.ReleaseApprovalTally;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.domain.release.domain.SemanticVersion;
+import com.momentum.releaser.domain.release.dto.QReleaseDataDto_ReleaseDocsIssueDataDTO;
+import com.momentum.releaser.domain.release.dto.QReleaseDataDto_ReleasesDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.CoordinateDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseDocsIssueDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleasesDataDTO;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +48,16 @@ import lombok.extern.slf4j.Slf4j;
 public class ReleaseRepositoryImpl implements ReleaseRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 릴리즈 노트 한 건의 동의/거부/대기 인원 수를 릴리즈 동의 정보로부터 다시 센다.
+     */
+    private static final String RECOUNT_APPROVAL_TALLY_SQL = "UPDATE release_note r SET " +
+            "r.approved_count = (SELECT COUNT(*) FROM release_approval a WHERE a.release_id = r.release_id AND a.member_id IS NOT NULL AND a.approval = 'Y'), " +
+            "r.denied_count = (SELECT COUNT(*) FROM release_approval a WHERE a.release_id = r.release_id AND a.member_id IS NOT NULL AND a.approval = 'N'), " +
+            "r.pending_count = (SELECT COUNT(*) FROM release_approval a WHERE a.release_id = r.release_id AND a.member_id IS NOT NULL AND a.approval = 'P') " +
+            "WHERE r.release_id = ?";
 
     /**
      * 변경하려는 버전이 해당 프로젝트 내에 이미 존재하는 버전인지 확인한다.
@@ -60,63 +97,383 @@ public class ReleaseRepositoryImpl implements ReleaseRepositoryCustom {
     }
 
     /**
-     * 수정하려는 릴리즈의 기존 버전 값을 뺀 나머지를 전달한다.
+     * 특정 프로젝트에서 가장 높은 릴리즈 버전을 가져온다.
+     *
+     * @param project 버전을 가져올 프로젝트
+     * @return SemanticVersion 가장 높은 버전 (릴리즈 노트가 없는 경우 빈 값)
+     * @author seonwoo
+     * @date 2023-08-20
+     */
+    @Override
+    public Optional<SemanticVersion> findLatestVersion(Project project) {
+        return Optional.ofNullable(queryFactory
+                .select(releaseNote.semanticVersion)
+                .from(releaseNote)
+                .where(releaseNote.project.eq(project))
+                .orderBy(ReleaseVersionExpressions.desc(releaseNote.semanticVersion))
+                .fetchFirst());
+    }
+
+    /**
+     * 수정하려는 릴리즈 노트를 제외한 나머지 릴리즈 버전을 오름차순으로 가져온다.
+     *
+     * @param project   프로젝트
+     * @param releaseId 제외하려는 릴리즈 노트 식별 번호
+     * @return SemanticVersion 버전 기준 오름차순으로 정렬된 버전 목록
+     * @author seonwoo
+     * @date 2023-08-20
+     */
+    @Override
+    public List<SemanticVersion> findVersionsByProjectExcludingRelease(Project project, Long releaseId) {
+        return queryFactory
+                .select(releaseNote.semanticVersion)
+                .from(releaseNote)
+                .where(releaseNote.project.eq(project))
+                .where(releaseNote.releaseId.ne(releaseId))
+                .orderBy(ReleaseVersionExpressions.asc(releaseNote.semanticVersion))
+                .fetch();
+    }
+
+    /**
+     * 기준 버전보다 낮은 이전 릴리즈 노트들을 가져온다.
      *
      * @param project 프로젝트
-     * @param version 제외하려는 버전
-     * @return ReleaseNote 주어진 프로젝트에서 특정 버전을 제외한 모든 릴리즈 노트 리스트
+     * @param version 기준 버전
+     * @return ReleaseNote 주어진 프로젝트에서 기준 버전보다 낮은 이전 릴리즈 노트들을 버전 기준 내림차순으로 정렬
      * @author seonwoo
-     * @date 2023-07-06
+     * @date 2023-07-09
      */
     @Override
-    public List<ReleaseNote> findByProjectAndNotInVersion(Project project, String version) {
+    public List<ReleaseNote> findPreviousReleaseNotes(Project project, SemanticVersion version) {
         return queryFactory
                 .selectFrom(releaseNote)
                 .where(releaseNote.project.eq(project))
-                .where(releaseNote.version.ne(version))
+                .where(ReleaseVersionExpressions.lt(releaseNote.semanticVersion, version))
+                .orderBy(ReleaseVersionExpressions.desc(releaseNote.semanticVersion))
                 .fetch();
     }
 
     /**
-     * 수정하려는 릴리즈 노트의 이전 릴리즈 노트들을 가져온다.
+     * 기준 버전보다 높은 이후 릴리즈 노트들을 가져온다.
      *
      * @param project 프로젝트
      * @param version 기준 버전
-     * @return ReleaseNote 주어진 프로젝트에서 기준 버전보다 낮은 이전 릴리즈 노트들을 내림차순으로 정렬
+     * @return ReleaseNote 주어진 프로젝트에서 기준 버전보다 높은 이후 릴리즈 노트들을 버전 기준 오름차순으로 정렬
      * @author seonwoo
-     * @date 2023-07-09
+     * @date 2023-08-20
      */
     @Override
-    public List<ReleaseNote> findPreviousReleaseNotes(Project project, String version) {
-        // 같은 프로젝트 안의 모든 릴리즈 노트 중 전달받은 버전보다 낮은 버전의 릴리즈 노트 목록을 가져온다.
+    public List<ReleaseNote> findNextReleaseNotes(Project project, SemanticVersion version) {
         return queryFactory
                 .selectFrom(releaseNote)
                 .where(releaseNote.project.eq(project))
-                .where(releaseNote.version.lt(version))
-                .orderBy(releaseNote.version.desc())
+                .where(ReleaseVersionExpressions.gt(releaseNote.semanticVersion, version))
+                .orderBy(ReleaseVersionExpressions.asc(releaseNote.semanticVersion))
+                .fetch();
+    }
+
+    /**
+     * 프로젝트의 모든 릴리즈 노트와 연결된 이슈(제목, 요약, 태그)를 한 번의 쿼리로 가져온다.
+     * 이슈가 없는 릴리즈 노트도 포함되도록 left join을 사용하며, 릴리즈 버전 기준 내림차순으로 정렬한다.
+     *
+     * @param project 프로젝트
+     * @return ReleaseDocsIssueDataDTO 릴리즈 노트별 이슈 목록 (이슈가 없는 릴리즈 노트는 이슈 정보가 null)
+     * @author chaeanna
+     * @date 2023-08-21
+     */
+    @Override
+    public List<ReleaseDocsIssueDataDTO> getReleaseDocs(Project project) {
+        return queryFactory
+                .select(new QReleaseDataDto_ReleaseDocsIssueDataDTO(
+                        releaseNote.releaseId,
+                        releaseNote.version,
+                        releaseNote.title,
+                        releaseNote.content,
+                        issue.issueId,
+                        issue.title,
+                        issue.summary,
+                        issue.tag
+                ))
+                .from(releaseNote)
+                .leftJoin(issue).on(issue.release.eq(releaseNote).and(issue.status.eq('Y')))
+                .where(releaseNote.project.eq(project))
+                .orderBy(ReleaseVersionExpressions.desc(releaseNote.semanticVersion))
+                .orderBy(issue.issueId.asc())
                 .fetch();
     }
 
     /**
-     * FULLTEXT 검색을 이용하여 필터링된 릴리즈 정보 조회
+     * 릴리즈 보고서 내보내기를 위해 릴리즈 노트와 연결된 이슈를 앞으로만 읽는 커서(scroll)로 가져온다.
+     * 결과를 한 번에 메모리에 올리지 않도록 MySQL 스트리밍 모드(fetch size = Integer.MIN_VALUE)를 사용하며,
+     * 릴리즈 버전 내림차순, 태그 정의 순서, 이슈 식별 번호 순으로 정렬한다.
+     *
+     * @param project     프로젝트
+     * @param fromVersion 이어받기 시작 버전 (해당 버전 이하만 조회, 처음부터 받는 경우 null)
+     * @return CloseableIterator 사용 후 반드시 닫아야 하는 릴리즈 노트별 이슈 커서
+     * @author chaeanna
+     * @date 2023-08-22
+     */
+    @Override
+    public CloseableIterator<ReleaseDocsIssueDataDTO> scrollReleaseDocs(Project project, SemanticVersion fromVersion) {
+        BooleanBuilder builder = new BooleanBuilder(releaseNote.project.eq(project));
+
+        if (fromVersion != null) {
+            builder.and(ReleaseVersionExpressions.loe(releaseNote.semanticVersion, fromVersion));
+        }
+
+        return queryFactory
+                .select(new QReleaseDataDto_ReleaseDocsIssueDataDTO(
+                        releaseNote.releaseId,
+                        releaseNote.version,
+                        releaseNote.title,
+                        releaseNote.content,
+                        issue.issueId,
+                        issue.title,
+                        issue.summary,
+                        issue.tag
+                ))
+                .from(releaseNote)
+                .leftJoin(issue).on(issue.release.eq(releaseNote).and(issue.status.eq('Y')))
+                .where(builder)
+                .orderBy(ReleaseVersionExpressions.desc(releaseNote.semanticVersion))
+                .orderBy(tagOrder().asc(), issue.issueId.asc())
+                .setHint(QueryHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .iterate();
+    }
+
+    /**
+     * 이슈 태그를 Tag 정의 순서대로 정렬하기 위한 식 (태그는 문자열로 저장되어 있기 때문에 CASE 문으로 순서를 매긴다.)
+     */
+    private NumberExpression<Integer> tagOrder() {
+        Tag[] tags = Tag.values();
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = new CaseBuilder().when(issue.tag.eq(tags[0])).then(0);
+
+        for (int i = 1; i < tags.length; i++) {
+            cases = cases.when(issue.tag.eq(tags[i])).then(i);
+        }
+
+        return cases.otherwise(tags.length);
+    }
+
+    /**
+     * 통합검색 색인에 사용할 프로젝트의 릴리즈 노트 제목 조회
      *
-     * @param booleanTemplate FULLTEXT 검색에 사용할 NumberTemplate
-     * @param project         검색할 프로젝트 정보
-     * @return FULLTEXT 검색 결과로 필터링된 릴리즈 정보 리스트
-     * @date 2023-08-06
-     * @auther chaeanna
+     * @param projectId 프로젝트 식별 번호
+     * @return 릴리즈 노트 식별 번호, 제목 리스트 (태그는 null)
+     * @author seonwoo
+     * @date 2023-08-29
      */
     @Override
-    public List<ReleaseNote> getSearch(NumberTemplate booleanTemplate, Project project) {
-        QReleaseNote releaseNote = QReleaseNote.releaseNote;
-        // FULLTEXT 검색을 적용하여 릴리즈 정보 조회
-        List<ReleaseNote> result = queryFactory
-                .select(releaseNote)
+    public List<SearchDocumentDataDTO> getSearchDocuments(Long projectId) {
+        return queryFactory
+                .select(new QProjectDataDto_SearchDocumentDataDTO(
+                        releaseNote.releaseId,
+                        releaseNote.title,
+                        Expressions.nullExpression(String.class)
+                ))
                 .from(releaseNote)
-                .where(booleanTemplate.gt(0)
-                        .and(releaseNote.project.eq(project))
-                )
+                .where(releaseNote.project.projectId.eq(projectId))
                 .fetch();
-        return result;
+    }
+
+    /**
+     * 통합검색 조건을 만족하는 릴리즈 노트를 한 번의 쿼리로 조회한다.
+     * PM 정보는 프로젝트마다 같으므로 조회하지 않고 null 로 둔다.
+     *
+     * @param predicate 검색 조건 (키셋 페이지 조건 포함)
+     * @param limit     최대 조회 수 (null 이면 제한 없음)
+     * @return List 식별 번호 순서대로 정렬된 릴리즈 노트 검색 결과
+     * @author seonwoo
+     * @date 2023-09-01
+     */
+    @Override
+    public List<GetReleaseInfoDataDTO> getSearchReleases(Predicate predicate, Long limit) {
+        JPAQuery<GetReleaseInfoDataDTO> query = queryFactory
+                .select(new QProjectDataDto_GetReleaseInfoDataDTO(
+                        releaseNote.releaseId,
+                        releaseNote.version,
+                        releaseNote.title,
+                        releaseNote.deployDate,
+                        Expressions.nullExpression(Long.class),
+                        Expressions.nullExpression(String.class),
+                        Expressions.nullExpression(String.class)
+                ))
+                .from(releaseNote)
+                .where(predicate)
+                .orderBy(releaseNote.releaseId.asc());
+
+        // 키셋 페이지 조회인 경우에만 LIMIT 을 건다.
+        if (limit != null) {
+            query.limit(limit);
+        }
+        return query.fetch();
+    }
+
+    /**
+     * 통합검색 조건을 만족하는 릴리즈 노트 수
+     *
+     * @param predicate 검색 조건
+     * @return long 릴리즈 노트 수
+     * @author seonwoo
+     * @date 2023-09-01
+     */
+    @Override
+    public long countSearchReleases(Predicate predicate) {
+        Long count = queryFactory
+                .select(releaseNote.count())
+                .from(releaseNote)
+                .where(predicate)
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 릴리즈 노트 식별 번호 목록으로 각 릴리즈 노트가 속한 프로젝트 식별 번호를 한 번에 조회한다.
+     *
+     * @param releaseIds 조회할 릴리즈 노트 식별 번호 목록
+     * @return Map 릴리즈 노트 식별 번호 -> 프로젝트 식별 번호 (존재하지 않는 릴리즈 노트는 포함되지 않는다.)
+     * @author seonwoo
+     * @date 2023-08-23
+     */
+    @Override
+    public Map<Long, Long> findProjectIdsByReleaseIds(Collection<Long> releaseIds) {
+        return queryFactory
+                .select(releaseNote.releaseId, releaseNote.project.projectId)
+                .from(releaseNote)
+                .where(releaseNote.releaseId.in(releaseIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(t -> t.get(releaseNote.releaseId), t -> t.get(releaseNote.project.projectId)));
+    }
+
+    /**
+     * 릴리즈 그래프에 필요한 릴리즈 노트 정보만 한 번의 쿼리로 조회한다.
+     * 연관 엔티티를 불러오지 않고, 배포 동의 현황은 릴리즈 노트의 인원 수 컬럼에서 바로 읽는다.
+     *
+     * @param projectId     프로젝트 식별 번호
+     * @param modifiedAfter 이 시각 이후에 수정된 릴리즈 노트만 조회 (전체를 조회하는 경우 null)
+     * @return List 버전 오름차순으로 정렬된 릴리즈 노트 목록
+     * @author seonwoo
+     * @date 2023-08-25
+     */
+    @Override
+    public List<ReleasesDataDTO> findReleaseGraph(Long projectId, LocalDateTime modifiedAfter) {
+        BooleanBuilder where = new BooleanBuilder(releaseNote.project.projectId.eq(projectId));
+
+        if (modifiedAfter != null) {
+            where.and(releaseNote.modifiedDate.after(modifiedAfter));
+        }
+
+        return queryFactory
+                .select(new QReleaseDataDto_ReleasesDataDTO(
+                        releaseNote.releaseId,
+                        releaseNote.version,
+                        releaseNote.title,
+                        releaseNote.summary,
+                        releaseNote.deployDate,
+                        releaseNote.deployStatus,
+                        releaseNote.coordX,
+                        releaseNote.coordY,
+                        releaseNote.approvalTally.approvedCount,
+                        releaseNote.approvalTally.deniedCount,
+                        releaseNote.approvalTally.pendingCount
+                ))
+                .from(releaseNote)
+                .where(where)
+                .orderBy(releaseNote.semanticVersion.major.asc(),
+                        releaseNote.semanticVersion.minor.asc(),
+                        releaseNote.semanticVersion.patch.asc())
+                .fetch();
+    }
+
+    /**
+     * 주어진 시각 이후에 삭제된 릴리즈 노트의 식별 번호를 조회한다.
+     * 삭제된 릴리즈 노트는 엔티티 조회에서 제외되므로(@Where) JDBC로 직접 조회한다.
+     *
+     * @param projectId     프로젝트 식별 번호
+     * @param modifiedAfter 이 시각 이후에 삭제된 릴리즈 노트만 조회
+     * @return List 삭제된 릴리즈 노트 식별 번호 목록
+     * @author seonwoo
+     * @date 2023-08-25
+     */
+    @Override
+    public List<Long> findDeletedReleaseIds(Long projectId, LocalDateTime modifiedAfter) {
+        return jdbcTemplate.queryForList(
+                "SELECT release_id FROM release_note WHERE project_id = ? AND status = 'N' AND modified_date > ?",
+                Long.class, projectId, Timestamp.valueOf(modifiedAfter));
+    }
+
+    /**
+     * 한 프로젝트에 속한 여러 릴리즈 노트의 좌표를 UPDATE ... CASE 문 하나로 반영한다.
+     *
+     * @param projectId   릴리즈 노트가 속한 프로젝트 식별 번호
+     * @param coordinates 반영할 릴리즈 노트별 좌표 목록 (릴리즈 노트 식별 번호는 중복되지 않아야 한다.)
+     * @return int 반영된 행 수
+     * @author seonwoo
+     * @date 2023-08-23
+     */
+    @Override
+    public int updateCoordinates(Long projectId, List<CoordinateDataDTO> coordinates) {
+        if (coordinates.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder coordXCase = new StringBuilder("CASE release_id");
+        StringBuilder coordYCase = new StringBuilder("CASE release_id");
+        List<Object> coordXParams = new ArrayList<>();
+        List<Object> coordYParams = new ArrayList<>();
+        List<Object> releaseIdParams = new ArrayList<>();
+
+        for (CoordinateDataDTO coordinate : coordinates) {
+            coordXCase.append(" WHEN ? THEN ?");
+            coordYCase.append(" WHEN ? THEN ?");
+            coordXParams.add(coordinate.getReleaseId());
+            coordXParams.add(coordinate.getCoordX());
+            coordYParams.add(coordinate.getReleaseId());
+            coordYParams.add(coordinate.getCoordY());
+            releaseIdParams.add(coordinate.getReleaseId());
+        }
+
+        String sql = "UPDATE release_note SET coord_x = " + coordXCase + " ELSE coord_x END"
+                + ", coord_y = " + coordYCase + " ELSE coord_y END"
+                + ", modified_date = NOW()"
+                + " WHERE project_id = ? AND release_id IN ("
+                + coordinates.stream().map(c -> "?").collect(Collectors.joining(", ")) + ")";
+
+        List<Object> params = new ArrayList<>(coordXParams);
+        params.addAll(coordYParams);
+        params.add(projectId);
+        params.addAll(releaseIdParams);
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    /**
+     * 릴리즈 노트의 동의/거부/대기 인원 수를 데이터베이스에서 바로 읽는다.
+     * 카운터 컬럼이 추가되기 전에 생성되어 값이 비어 있는 경우에는 한 번 다시 센 뒤 읽는다.
+     *
+     * @param releaseId 릴리즈 노트 식별 번호
+     * @return ReleaseApprovalTally 릴리즈 노트의 배포 동의 인원 수
+     * @author seonwoo
+     * @date 2023-08-24
+     */
+    @Override
+    public ReleaseApprovalTally findApprovalTally(Long releaseId) {
+        ReleaseApprovalTally tally = fetchApprovalTally(releaseId);
+
+        if (tally == null || !tally.isInitialized()) {
+            jdbcTemplate.update(RECOUNT_APPROVAL_TALLY_SQL, releaseId);
+            tally = fetchApprovalTally(releaseId);
+        }
+
+        return tally;
+    }
+
+    private ReleaseApprovalTally fetchApprovalTally(Long releaseId) {
+        return queryFactory
+                .select(releaseNote.approvalTally)
+                .from(releaseNote)
+                .where(releaseNote.releaseId.eq(releaseId))
+                .fetchOne();
     }
 }
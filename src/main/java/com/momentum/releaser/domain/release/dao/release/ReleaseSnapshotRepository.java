@@ -0,0 +1,19 @@
+package com.momentum.releaser.domain.release.dao.release;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.momentum.releaser.domain.release.domain.ReleaseSnapshot;
+
+public interface ReleaseSnapshotRepository extends JpaRepository<ReleaseSnapshot, Long> {
+
+    /**
+     * 릴리즈 노트의 스냅샷이 없는 경우에만 저장한다.
+     * 동시에 여러 요청이 스냅샷을 만들어도 처음 저장한 스냅샷 하나만 남는다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO release_snapshot (release_id, document, created_date) VALUES (:releaseId, :document, NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("releaseId") Long releaseId, @Param("document") String document);
+}
@@ -0,0 +1,74 @@
+package com.momentum.releaser.domain.release.dao.release;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+
+import com.momentum.releaser.domain.release.domain.QSemanticVersion;
+import com.momentum.releaser.domain.release.domain.SemanticVersion;
+
+/**
+ * 숫자 컬럼(major, minor, patch)으로 저장된 릴리즈 버전에 대한 Querydsl 비교, 정렬 조건
+ * (project_id, version_major, version_minor, version_patch) 복합 인덱스를 그대로 탈 수 있도록 자릿수 순서대로 비교한다.
+ */
+public final class ReleaseVersionExpressions {
+
+    private ReleaseVersionExpressions() {
+    }
+
+    /**
+     * 주어진 버전보다 낮은 버전 조건
+     */
+    public static BooleanExpression lt(QSemanticVersion path, SemanticVersion version) {
+        return path.major.lt(version.getMajor())
+                .or(path.major.eq(version.getMajor()).and(path.minor.lt(version.getMinor())))
+                .or(path.major.eq(version.getMajor()).and(path.minor.eq(version.getMinor())).and(path.patch.lt(version.getPatch())));
+    }
+
+    /**
+     * 주어진 버전보다 높은 버전 조건
+     */
+    public static BooleanExpression gt(QSemanticVersion path, SemanticVersion version) {
+        return path.major.gt(version.getMajor())
+                .or(path.major.eq(version.getMajor()).and(path.minor.gt(version.getMinor())))
+                .or(path.major.eq(version.getMajor()).and(path.minor.eq(version.getMinor())).and(path.patch.gt(version.getPatch())));
+    }
+
+    /**
+     * 시작 버전과 끝 버전 사이(양 끝 포함)의 버전 조건
+     */
+    public static BooleanExpression between(QSemanticVersion path, SemanticVersion start, SemanticVersion end) {
+        return goe(path, start).and(loe(path, end));
+    }
+
+    /**
+     * 주어진 버전과 같거나 높은 버전 조건
+     */
+    public static BooleanExpression goe(QSemanticVersion path, SemanticVersion version) {
+        return path.major.gt(version.getMajor())
+                .or(path.major.eq(version.getMajor()).and(path.minor.gt(version.getMinor())))
+                .or(path.major.eq(version.getMajor()).and(path.minor.eq(version.getMinor())).and(path.patch.goe(version.getPatch())));
+    }
+
+    /**
+     * 주어진 버전과 같거나 낮은 버전 조건
+     */
+    public static BooleanExpression loe(QSemanticVersion path, SemanticVersion version) {
+        return path.major.lt(version.getMajor())
+                .or(path.major.eq(version.getMajor()).and(path.minor.lt(version.getMinor())))
+                .or(path.major.eq(version.getMajor()).and(path.minor.eq(version.getMinor())).and(path.patch.loe(version.getPatch())));
+    }
+
+    /**
+     * 버전 오름차순 정렬 조건
+     */
+    public static OrderSpecifier<?>[] asc(QSemanticVersion path) {
+        return new OrderSpecifier<?>[]{path.major.asc(), path.minor.asc(), path.patch.asc()};
+    }
+
+    /**
+     * 버전 내림차순 정렬 조건
+     */
+    public static OrderSpecifier<?>[] desc(QSemanticVersion path) {
+        return new OrderSpecifier<?>[]{path.major.desc(), path.minor.desc(), path.patch.desc()};
+    }
+}
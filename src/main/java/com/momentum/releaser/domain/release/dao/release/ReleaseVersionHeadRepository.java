@@ -0,0 +1,32 @@
+package com.momentum.releaser.domain.release.dao.release;
+
+import java.util.Optional;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.momentum.releaser.domain.release.domain.ReleaseVersionHead;
+
+public interface ReleaseVersionHeadRepository extends JpaRepository<ReleaseVersionHead, Long> {
+
+    /**
+     * 프로젝트의 최신 버전 행을 쓰기 잠금(SELECT ... FOR UPDATE)으로 가져온다.
+     * 같은 프로젝트의 릴리즈 노트 생성만 직렬화되고, 다른 프로젝트는 영향을 받지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from ReleaseVersionHead h where h.projectId = :projectId")
+    Optional<ReleaseVersionHead> findByProjectIdForUpdate(@Param("projectId") Long projectId);
+
+    /**
+     * 프로젝트의 최신 버전 행이 없는 경우에만 빈 행을 만든다.
+     * 동시에 여러 요청이 들어와도 중복 키 예외 없이 한 행만 생성된다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO release_version_head (project_id) VALUES (:projectId)", nativeQuery = true)
+    int insertIfAbsent(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,35 @@
+package com.momentum.releaser.domain.release.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 릴리즈 노트별 배포 동의 인원 수를 다시 세는 작업을 마지막으로 가져간 시각
+ * 행은 하나뿐이며, 여러 서버 중 이 행을 먼저 갱신한 서버만 주기마다 한 번 인원 수를 다시 센다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "approval_tally_verification")
+@Entity
+public class ApprovalTallyVerification {
+
+    @Id
+    @Column(name = "verification_id")
+    private Long verificationId;
+
+    // 작업을 가져간 서버가 갱신한 시각 (확인 주기가 지나면 다른 서버가 가져갈 수 있다.)
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Builder
+    public ApprovalTallyVerification(Long verificationId, LocalDateTime claimedAt) {
+        this.verificationId = verificationId;
+        this.claimedAt = claimedAt;
+    }
+}
@@ -0,0 +1,54 @@
+package com.momentum.releaser.domain.release.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import lombok.*;
+
+/**
+ * 릴리즈 노트의 배포 동의(Y), 거부(N), 대기(P) 인원 수
+ * 값은 데이터베이스에서 원자적으로 더하고 빼기 때문에 엔티티의 변경 감지로는 수정되지 않는다. (updatable = false)
+ */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Embeddable
+public class ReleaseApprovalTally {
+
+    @Column(name = "approved_count", updatable = false)
+    private Integer approvedCount;
+
+    @Column(name = "denied_count", updatable = false)
+    private Integer deniedCount;
+
+    @Column(name = "pending_count", updatable = false)
+    private Integer pendingCount;
+
+    private ReleaseApprovalTally(int approvedCount, int deniedCount, int pendingCount) {
+        this.approvedCount = approvedCount;
+        this.deniedCount = deniedCount;
+        this.pendingCount = pendingCount;
+    }
+
+    public static ReleaseApprovalTally of(int approvedCount, int deniedCount, int pendingCount) {
+        return new ReleaseApprovalTally(approvedCount, deniedCount, pendingCount);
+    }
+
+    /**
+     * 카운터 컬럼이 추가되기 전에 생성된 릴리즈 노트처럼 값이 비어 있는지 확인한다.
+     */
+    public boolean isInitialized() {
+        return approvedCount != null && deniedCount != null && pendingCount != null;
+    }
+
+    /**
+     * 거부하거나 아직 선택하지 않은 멤버가 없는지 확인한다.
+     */
+    public boolean isAllApproved() {
+        return deniedCount == 0 && pendingCount == 0;
+    }
+
+    public int getTotalCount() {
+        return approvedCount + deniedCount + pendingCount;
+    }
+}
@@ -1,9 +1,13 @@
 package com.momentum.releaser.domain.release.domain;
 
+import static com.momentum.releaser.global.config.BaseResponseStatus.INVALID_RELEASE_DOCS_EXPORT_FORMAT;
+
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 
+import com.momentum.releaser.global.exception.CustomException;
+
 public class ReleaseEnum {
 
     public enum ReleaseVersionType {
@@ -19,6 +23,39 @@ public class ReleaseEnum {
         DENIED,  // 배포 거부
     }
 
+    public enum ReleaseDocsExportFormat {
+        MARKDOWN("text/markdown;charset=UTF-8", "md"),  // 마크다운 문서
+        NDJSON("application/x-ndjson;charset=UTF-8", "ndjson"),  // 릴리즈 한 건당 JSON 한 줄
+        CSV("text/csv;charset=UTF-8", "csv"),  // 이슈 한 건당 한 줄
+        ;
+
+        private final String contentType;
+        private final String extension;
+
+        ReleaseDocsExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * 요청 파라미터로 받은 내보내기 형식을 변환한다. 대소문자는 구분하지 않는다.
+         */
+        public static ReleaseDocsExportFormat of(String format) {
+            return Stream.of(values())
+                    .filter(exportFormat -> exportFormat.name().equalsIgnoreCase(format))
+                    .findFirst()
+                    .orElseThrow(() -> new CustomException(INVALID_RELEASE_DOCS_EXPORT_FORMAT));
+        }
+    }
+
     /**
      * Request body에 null이거나 enum으로 정의되지 않은 값이 들어오는 경우 예외를 발생시킨다.
      */
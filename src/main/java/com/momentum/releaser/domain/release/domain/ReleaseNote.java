@@ -23,9 +23,9 @@ import com.momentum.releaser.global.common.BaseTime;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@SQLDelete(sql = "UPDATE release_note SET status = 'N' WHERE release_id=?")
+@SQLDelete(sql = "UPDATE release_note SET status = 'N', modified_date = NOW() WHERE release_id=?")
 @Where(clause = "status = 'Y'")
-@Table(name = "release_note")
+@Table(name = "release_note", indexes = @Index(name = "idx_release_note_project_version", columnList = "project_id, version_major, version_minor, version_patch"))
 @Entity
 public class ReleaseNote extends BaseTime {
 
@@ -54,6 +54,9 @@ public class ReleaseNote extends BaseTime {
     @Column(name = "version")
     private String version;
 
+    @Embedded
+    private SemanticVersion semanticVersion;
+
     @Column(name = "deploy_date")
     private Date deployDate;
 
@@ -76,6 +79,9 @@ public class ReleaseNote extends BaseTime {
     @Column(name = "coord_y")
     private Double coordY;
 
+    @Embedded
+    private ReleaseApprovalTally approvalTally;
+
     @OneToMany(mappedBy = "release")
     private List<ReleaseOpinion> releaseOpinions = new ArrayList<>();
 
@@ -92,11 +98,13 @@ public class ReleaseNote extends BaseTime {
         this.content = content;
         this.summary = summary;
         this.version = version;
+        this.semanticVersion = (version == null) ? null : SemanticVersion.parse(version);
         this.deployDate = deployDate;
         this.deployStatus = deployStatus;
         this.project = project;
         this.coordX = coordX;
         this.coordY = coordY;
+        this.approvalTally = ReleaseApprovalTally.of(0, 0, 0);
     }
 
     /**
@@ -149,6 +157,7 @@ public class ReleaseNote extends BaseTime {
         this.title = title;
         this.content = content;
         this.version = version;
+        this.semanticVersion = SemanticVersion.parse(version);
         this.summary = summary;
         this.deployDate = deployDate;
         this.deployStatus = deployStatus;
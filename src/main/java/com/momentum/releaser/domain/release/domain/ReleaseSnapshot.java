@@ -0,0 +1,35 @@
+package com.momentum.releaser.domain.release.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.*;
+
+import lombok.*;
+
+/**
+ * 배포 시점에 고정한 릴리즈 노트 스냅샷 (직렬화된 JSON)
+ * 배포 이후 담당자 프로필 사진 등이 바뀌더라도 스냅샷의 내용과 ETag는 바뀌지 않으며, Redis와 애플리케이션 메모리의 스냅샷은 이 행의 캐시이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "release_snapshot")
+@Entity
+public class ReleaseSnapshot {
+
+    @Id
+    @Column(name = "release_id")
+    private Long releaseId;
+
+    @Column(name = "document", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String document;
+
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+
+    @Builder
+    public ReleaseSnapshot(Long releaseId, String document, LocalDateTime createdDate) {
+        this.releaseId = releaseId;
+        this.document = document;
+        this.createdDate = createdDate;
+    }
+}
@@ -0,0 +1,36 @@
+package com.momentum.releaser.domain.release.domain;
+
+import javax.persistence.*;
+
+import lombok.*;
+
+/**
+ * 프로젝트별로 가장 최근에 발급된 릴리즈 버전
+ * 릴리즈 노트를 생성할 때마다 프로젝트의 모든 버전을 읽지 않고 이 행 하나만 잠근 뒤 다음 버전을 계산한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "release_version_head")
+@Entity
+public class ReleaseVersionHead {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Embedded
+    private SemanticVersion version;
+
+    @Builder
+    public ReleaseVersionHead(Long projectId, SemanticVersion version) {
+        this.projectId = projectId;
+        this.version = version;
+    }
+
+    /**
+     * 프로젝트의 최신 릴리즈 버전을 업데이트한다.
+     */
+    public void updateVersion(SemanticVersion version) {
+        this.version = version;
+    }
+}
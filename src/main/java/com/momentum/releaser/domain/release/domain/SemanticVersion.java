@@ -0,0 +1,103 @@
+package com.momentum.releaser.domain.release.domain;
+
+import static com.momentum.releaser.global.config.BaseResponseStatus.INVALID_RELEASE_VERSION;
+
+import java.util.Comparator;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import lombok.*;
+
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseVersionType;
+import com.momentum.releaser.global.exception.CustomException;
+
+/**
+ * 릴리즈 버전(Major.Minor.Patch)을 숫자 컬럼으로 저장하기 위한 값 타입
+ * 문자열 비교 시 2.0.0이 10.0.0보다 뒤에 정렬되는 문제를 막고, 데이터베이스 인덱스를 통해 정렬 및 범위 검색을 할 수 있도록 한다.
+ */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Embeddable
+public class SemanticVersion implements Comparable<SemanticVersion> {
+
+    public static final SemanticVersion INITIAL = new SemanticVersion(1, 0, 0);
+
+    private static final Comparator<SemanticVersion> ORDER = Comparator
+            .comparing(SemanticVersion::getMajor)
+            .thenComparing(SemanticVersion::getMinor)
+            .thenComparing(SemanticVersion::getPatch);
+
+    @Column(name = "version_major")
+    private Integer major;
+
+    @Column(name = "version_minor")
+    private Integer minor;
+
+    @Column(name = "version_patch")
+    private Integer patch;
+
+    private SemanticVersion(int major, int minor, int patch) {
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+    }
+
+    public static SemanticVersion of(int major, int minor, int patch) {
+        return new SemanticVersion(major, minor, patch);
+    }
+
+    /**
+     * "1.0.0" 형식의 문자열을 버전 값 타입으로 변환한다.
+     *
+     * @param version 릴리즈 버전 문자열
+     * @return SemanticVersion 변환된 버전
+     * @throws CustomException INVALID_RELEASE_VERSION 버전 형식이 올바르지 않은 경우
+     * @author seonwoo
+     * @date 2023-08-20
+     */
+    public static SemanticVersion parse(String version) {
+        if (version == null) {
+            throw new CustomException(INVALID_RELEASE_VERSION);
+        }
+
+        String[] eachVersion = version.split("\\.");
+        if (eachVersion.length != 3) {
+            throw new CustomException(INVALID_RELEASE_VERSION);
+        }
+
+        try {
+            return new SemanticVersion(Integer.parseInt(eachVersion[0]), Integer.parseInt(eachVersion[1]), Integer.parseInt(eachVersion[2]));
+        } catch (NumberFormatException e) {
+            throw new CustomException(INVALID_RELEASE_VERSION);
+        }
+    }
+
+    /**
+     * 버전 종류(MAJOR, MINOR, PATCH)에 따라 다음 버전을 계산한다.
+     *
+     * @param versionType 릴리즈 버전 타입
+     * @return SemanticVersion 다음 버전
+     */
+    public SemanticVersion next(ReleaseVersionType versionType) {
+        switch (versionType) {
+            case MAJOR:
+                return new SemanticVersion(major + 1, 0, 0);
+            case MINOR:
+                return new SemanticVersion(major, minor + 1, 0);
+            default:
+                return new SemanticVersion(major, minor, patch + 1);
+        }
+    }
+
+    @Override
+    public int compareTo(SemanticVersion other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public String toString() {
+        return major + "." + minor + "." + patch;
+    }
+}
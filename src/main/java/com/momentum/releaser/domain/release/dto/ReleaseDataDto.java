@@ -8,9 +8,12 @@ import javax.validation.constraints.NotNull;
 
 import lombok.*;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.querydsl.core.annotations.QueryProjection;
 
+import com.momentum.releaser.domain.issue.domain.Tag;
 import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
+import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleaseInfoResponseDTO;
 
 public class ReleaseDataDto {
 
@@ -22,21 +25,40 @@ public class ReleaseDataDto {
     public static class ReleasesDataDTO {
         private Long releaseId;
         private String version;
+        private String title;
         private String summary;
         private Date deployDate;
         private ReleaseDeployStatus deployStatus;
         private Double coordX;
         private Double coordY;
 
+        // 배포 동의 현황
+        private Integer approvedCount;
+        private Integer deniedCount;
+        private Integer pendingCount;
+
+        @QueryProjection
         @Builder
-        public ReleasesDataDTO(Long releaseId, String version, String summary, Date deployDate, ReleaseDeployStatus deployStatus, Double coordX, Double coordY) {
+        public ReleasesDataDTO(Long releaseId, String version, String title, String summary, Date deployDate, ReleaseDeployStatus deployStatus, Double coordX, Double coordY, Integer approvedCount, Integer deniedCount, Integer pendingCount) {
             this.releaseId = releaseId;
             this.version = version;
+            this.title = title;
             this.summary = summary;
             this.deployDate = deployDate;
             this.deployStatus = deployStatus;
             this.coordX = coordX;
             this.coordY = coordY;
+            this.approvedCount = approvedCount;
+            this.deniedCount = deniedCount;
+            this.pendingCount = pendingCount;
+        }
+
+        /**
+         * 아직 데이터베이스에 반영되지 않은 최신 좌표로 교체한다.
+         */
+        public void updateCoordinates(Double coordX, Double coordY) {
+            this.coordX = coordX;
+            this.coordY = coordY;
         }
     }
 
@@ -151,4 +173,58 @@ public class ReleaseDataDto {
             this.summary = summary;
         }
     }
+
+    /**
+     * 9.1 프로젝트별 릴리즈 보고서 조회 - 릴리즈 노트와 연결된 이슈 한 건
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ReleaseDocsIssueDataDTO {
+        private Long releaseId;
+        private String releaseVersion;
+        private String releaseTitle;
+        private String releaseContent;
+        private Long issueId;
+        private String issueTitle;
+        private String issueSummary;
+        private Tag tag;
+
+        @QueryProjection
+        @Builder
+        public ReleaseDocsIssueDataDTO(Long releaseId, String releaseVersion, String releaseTitle, String releaseContent, Long issueId, String issueTitle, String issueSummary, Tag tag) {
+            this.releaseId = releaseId;
+            this.releaseVersion = releaseVersion;
+            this.releaseTitle = releaseTitle;
+            this.releaseContent = releaseContent;
+            this.issueId = issueId;
+            this.issueTitle = issueTitle;
+            this.issueSummary = issueSummary;
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * 5.5 릴리즈 노트 조회 - 배포된 릴리즈 노트의 스냅샷
+     * 배포 이후 바뀌지 않는 정보(릴리즈 노트, 태그 순으로 묶은 연결 이슈, 배포 동의 여부)만 담고, 의견 목록은 담지 않는다.
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ReleaseSnapshotDataDTO {
+        private Long projectId;
+        private ReleaseInfoResponseDTO release;
+
+        // 직렬화된 스냅샷으로 계산한 강한 ETag (직렬화 대상이 아니다.)
+        @JsonIgnore
+        private String etag;
+
+        @Builder
+        public ReleaseSnapshotDataDTO(Long projectId, ReleaseInfoResponseDTO release) {
+            this.projectId = projectId;
+            this.release = release;
+        }
+
+        public void updateEtag(String etag) {
+            this.etag = etag;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.momentum.releaser.domain.release.dto;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -30,17 +31,25 @@ public class ReleaseResponseDto {
 
         private ProjectMemberPositionResponseDTO member;
 
-        // 릴리즈 노트 목록
+        // 릴리즈 노트 목록 (since를 전달한 경우 그 이후에 수정된 릴리즈 노트만 담는다.)
         private List<ReleasesDataDTO> releases;
 
+        // since 이후에 삭제된 릴리즈 노트 식별 번호 목록
+        private List<Long> deletedReleaseIds;
+
+        // 다음 조회 시 since로 전달할 시각
+        private LocalDateTime syncedAt;
+
         @Builder
-        public ReleasesResponseDTO(Long projectId, String title, String team, String img, ProjectMemberPositionResponseDTO member, List<ReleasesDataDTO> releases) {
+        public ReleasesResponseDTO(Long projectId, String title, String team, String img, ProjectMemberPositionResponseDTO member, List<ReleasesDataDTO> releases, List<Long> deletedReleaseIds, LocalDateTime syncedAt) {
             this.projectId = projectId;
             this.title = title;
             this.team = team;
             this.img = img;
             this.member = member;
             this.releases = releases;
+            this.deletedReleaseIds = deletedReleaseIds;
+            this.syncedAt = syncedAt;
         }
     }
 
@@ -69,6 +78,14 @@ public class ReleaseResponseDto {
             this.coordX = coordX;
             this.coordY = coordY;
         }
+
+        /**
+         * 아직 데이터베이스에 반영되지 않은 최신 좌표로 교체한다.
+         */
+        public void updateCoordinates(Double coordX, Double coordY) {
+            this.coordX = coordX;
+            this.coordY = coordY;
+        }
     }
 
     /**
@@ -168,6 +185,26 @@ public class ReleaseResponseDto {
         }
     }
 
+    /**
+     * 6.1 릴리즈 노트 의견 추가
+     * 6.2 릴리즈 노트 의견 삭제
+     * 6.3 릴리즈 노트 의견 목록 조회
+     */
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class ReleaseOpinionsPageResponseDTO {
+        private List<ReleaseOpinionsDataDTO> opinions;
+
+        // 다음 페이지를 요청할 때 전달할 커서 (마지막 페이지인 경우 null)
+        private Long nextCursor;
+
+        @Builder
+        public ReleaseOpinionsPageResponseDTO(List<ReleaseOpinionsDataDTO> opinions, Long nextCursor) {
+            this.opinions = opinions;
+            this.nextCursor = nextCursor;
+        }
+    }
+
     /**
      * 9.1 프로젝트별 릴리즈 보고서 조회
      */
@@ -16,7 +16,6 @@ import com.momentum.releaser.domain.release.domain.ReleaseNote;
 import com.momentum.releaser.domain.release.domain.ReleaseOpinion;
 import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseApprovalsDataDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseOpinionsDataDTO;
-import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleasesDataDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.*;
 
 @Mapper(uses = {ReleaseMapper.class, IssueMapper.class, ProjectMemberMapper.class})
@@ -24,11 +23,6 @@ public interface ReleaseMapper {
 
     ReleaseMapper INSTANCE = Mappers.getMapper(ReleaseMapper.class);
 
-    /**
-     * Entity (ReleaseNote) -> DTO (ReleasesDataDto)
-     */
-    ReleasesDataDTO toReleasesDataDto(ReleaseNote releaseNote);
-
     /**
      * Entity (ReleaseNote) -> DTO(ReleaseCreateAndUpdateResponseDto)
      */
@@ -5,7 +5,6 @@ import static com.momentum.releaser.global.config.BaseResponseStatus.*;
 import java.util.Optional;
 
 import com.momentum.releaser.redis.refreshtoken.RefreshTokenRedisRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
@@ -50,7 +49,6 @@ import lombok.RequiredArgsConstructor;
 public class AuthServiceImpl implements AuthService {
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final ModelMapper modelMapper;
 
     // Domain
     private final PasswordEncoder passwordEncoder;
@@ -86,7 +84,7 @@ public class AuthServiceImpl implements AuthService {
         createAndSaveAuthPassword(user, userInfoReq.getPassword());
         // 사용자 이메일에 해당하는 큐를 생성하고, 연결한다.
         createAndBindQueueAndRegisterListener(userInfoReq.getEmail());
-        return modelMapper.map(user, UserInfoResponseDTO.class);
+        return UserMapper.INSTANCE.toUserInfoResponseDTO(user);
     }
 
     /**
@@ -232,7 +230,7 @@ public class AuthServiceImpl implements AuthService {
      * @date 2023-07-18
      */
     private User createUser(UserInfoReqestDTO userInfoReq) {
-        return userRepository.save(modelMapper.map(userInfoReq, User.class));
+        return userRepository.save(UserMapper.INSTANCE.toUser(userInfoReq));
     }
 
     /**
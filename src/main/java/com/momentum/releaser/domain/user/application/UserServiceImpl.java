@@ -14,6 +14,8 @@ import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.event.ProjectListEvent;
+import com.momentum.releaser.domain.project.event.ProjectListEventPublisher;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
 import org.springframework.stereotype.Service;
@@ -42,6 +44,7 @@ public class UserServiceImpl implements UserService {
     private final ProjectMemberRepository projectMemberRepository;
     private final ReleaseApprovalRepository releaseApprovalRepository;
     private final S3Upload s3Upload;
+    private final ProjectListEventPublisher projectListEventPublisher;
 
     /**
      * 1.1 사용자 프로필 이미지 조회
@@ -112,6 +115,7 @@ public class UserServiceImpl implements UserService {
 
         // 참여 중인 프로젝트 탈퇴하기
         withdrawProject(members);
+        projectListEventPublisher.publish(ProjectListEvent.toChangeMembership(userEmail));
 
         return deleteUser(user);
     }
@@ -247,6 +251,8 @@ public class UserServiceImpl implements UserService {
         }
 
         for (ProjectMember member : members) {
+            // release note approval tally 에서 제외
+            releaseApprovalRepository.subtractTalliesByMember(member);
             // project member status = 'N' 변경
             projectMemberRepository.deleteById(member.getMemberId());
             // approval 삭제
@@ -1,6 +1,8 @@
 package com.momentum.releaser.domain.user.mapper;
 
+import com.momentum.releaser.domain.user.dto.AuthRequestDto.UserInfoReqestDTO;
 import com.momentum.releaser.domain.user.dto.AuthResponseDto.ConfirmPasswordCodeResponseDTO;
+import com.momentum.releaser.domain.user.dto.AuthResponseDto.UserInfoResponseDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -26,4 +28,23 @@ public interface UserMapper {
      * @return ConfirmPasswordCodeResponseDTO
      */
     ConfirmPasswordCodeResponseDTO toConfirmPasswordCodeResponseDTO(User user);
+
+    /**
+     * DTO(UserInfoReqestDTO) -> Entity(User)
+     * 상태는 저장 전에 'Y'로 채워지고, 비밀번호는 AuthPassword에 따로 저장한다.
+     *
+     * @param userInfoReq 회원가입 요청 DTO
+     * @return User
+     */
+    @Mapping(target = "img", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    User toUser(UserInfoReqestDTO userInfoReq);
+
+    /**
+     * Entity(User) -> DTO(UserInfoResponseDTO)
+     *
+     * @param user 사용자 객체
+     * @return UserInfoResponseDTO
+     */
+    UserInfoResponseDTO toUserInfoResponseDTO(User user);
 }
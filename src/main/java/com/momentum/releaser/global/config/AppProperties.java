@@ -1,6 +1,7 @@
 package com.momentum.releaser.global.config;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.ArrayList;
@@ -10,6 +11,14 @@ import java.util.List;
 @ConfigurationProperties(prefix = "app")
 public class AppProperties {
     private final OAuth2 oauth2 = new OAuth2();
+    private final Jdbc jdbc = new Jdbc();
+    private final ApprovalTally approvalTally = new ApprovalTally();
+    private final ReleaseSnapshot releaseSnapshot = new ReleaseSnapshot();
+    private final IssueNum issueNum = new IssueNum();
+    private final Search search = new Search();
+    private final QueryExecutor queryExecutor = new QueryExecutor();
+    private final ProjectList projectList = new ProjectList();
+    private final ProjectDeletion projectDeletion = new ProjectDeletion();
 
     @Getter
     public static final class OAuth2 {
@@ -20,4 +29,81 @@ public class AppProperties {
             return this;
         }
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Setter
+    public static final class Jdbc {
+        // 한 번의 JDBC 배치로 전송하는 최대 문장 수
+        private int batchSize = 100;
+    }
+
+    @Getter
+    @Setter
+    public static final class ApprovalTally {
+        // 릴리즈 노트별 배포 동의 인원 수를 실제 동의 정보와 비교하여 바로잡는 주기 (밀리초, 이 주기마다 한 서버만 실행한다.)
+        private long verifyIntervalMs = 600000;
+    }
+
+    @Getter
+    @Setter
+    public static final class ReleaseSnapshot {
+        // 배포된 릴리즈 노트 스냅샷을 Redis에 보관하는 기간 (초)
+        private long ttlSeconds = 604800;
+
+        // 애플리케이션 메모리에 보관하는 스냅샷의 최대 개수
+        private int localCapacity = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static final class IssueNum {
+        // 한 번에 예약하여 애플리케이션 메모리에서 발급하는 프로젝트별 이슈 번호의 개수
+        private int blockSize = 50;
+    }
+
+    @Getter
+    @Setter
+    public static final class Search {
+        // 프로젝트별 통합검색 색인을 데이터베이스에서 다시 만드는 주기 (초)
+        private long rebuildIntervalSeconds = 300;
+
+        // 통합검색 결과의 최대 개수
+        private int maxResults = 200;
+
+        // 이슈와 릴리즈 노트를 함께 검색할 때 두 검색을 기다리는 최대 시간 (밀리초, 넘으면 끝난 쪽의 결과만 반환한다.)
+        private long allTimeoutMillis = 1500;
+    }
+
+    @Getter
+    @Setter
+    public static final class QueryExecutor {
+        // 서로 관계없는 조회 쿼리를 동시에 실행하는 스레드 수 (데이터베이스 커넥션 풀보다 작아야 한다.)
+        private int poolSize = 8;
+
+        // 스레드가 모두 사용 중일 때 대기할 수 있는 조회 작업 수 (가득 차면 작업이 거절된다.)
+        private int queueCapacity = 100;
+    }
+
+    @Getter
+    @Setter
+    public static final class ProjectList {
+        // 사용자별 프로젝트 목록을 애플리케이션 메모리에 보관하는 기간 (초, 다른 서버에서 변경된 내용은 이 기간 안에 반영된다.)
+        private long ttlSeconds = 60;
+
+        // 애플리케이션 메모리에 보관하는 프로젝트 목록의 최대 개수
+        private int capacity = 10000;
+    }
+
+    @Getter
+    @Setter
+    public static final class ProjectDeletion {
+        // 프로젝트 삭제 작업이 트랜잭션 하나에서 정리하는 최대 행 수
+        private int chunkSize = 1000;
+
+        // 진행 상황이 이 시간(초) 동안 갱신되지 않은 작업은 중단된 것으로 보고 다른 서버가 이어서 진행한다.
+        private long staleSeconds = 300;
+
+        // 중단된 프로젝트 삭제 작업을 찾아 이어서 진행하는 주기 (밀리초)
+        private long resumeIntervalMs = 60000;
+    }
+}
@@ -1,10 +1,15 @@
 package com.momentum.releaser.global.config;
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
@@ -21,4 +26,19 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 서로 관계없는 조회 쿼리를 동시에 실행하는 스레드 풀
+     * TaskExecutor 가 아닌 ExecutorService 로 등록하여 @Async 의 기본 실행기(asyncExecutor) 선택에 영향을 주지 않는다.
+     * 대기열이 가득 차면 RejectedExecutionException 을 던지며, 거절된 작업을 어떻게 처리할지(순차 실행, 일부 결과 반환)는 작업을 맡긴 쪽에서 정한다.
+     * 요청한 스레드에서 바로 실행하면 그 스레드가 커넥션을 가진 채로 다른 작업을 기다리게 되므로 CallerRunsPolicy 를 사용하지 않는다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService queryExecutor(AppProperties appProperties) {
+        AppProperties.QueryExecutor properties = appProperties.getQueryExecutor();
+        return new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(), 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("Query-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
 }
@@ -24,6 +24,7 @@ public enum BaseResponseStatus {
     INVALID_REDIS_CODE(false, 2003, "잘못된 코드입니다."),
     INVALID_REDIS_KEY(false, 2004, "유효하지 않은 키 값입니다."),
     INVALID_FILTER_TYPE(false, 2005, "유효하지않은 필터 타입입니다."),
+    INVALID_SEARCH_CURSOR(false, 2006, "이슈와 릴리즈를 함께 검색하는 경우 커서를 사용할 수 없습니다."),
 
     NOT_EQUAL_PASSWORD_AND_CONFIRM_PASSWORD(false, 2100, "비밀번호와 확인용 비밀번호가 일치하지 않습니다."),
     NOT_PROJECT_PM(false, 2200, "해당 프로젝트의 관리자가 아닙니다."),
@@ -34,12 +35,16 @@ public enum BaseResponseStatus {
     UNAUTHORIZED_TO_DELETE_RELEASE_OPINION(false, 2403, "해당 릴리즈 노트 의견 삭제 권한이 없습니다."),
     ALREADY_DEPLOYED_RELEASE_NOTE(false, 2404, "이미 배포된 릴리즈 노트입니다."),
     ALREADY_ALL_APPROVALS_WITH_YES(false, 2405, "이미 모든 멤버의 동의가 완료되었습니다."),
+    INVALID_RELEASE_DOCS_EXPORT_FORMAT(false, 2406, "릴리즈 보고서 내보내기 형식이 올바르지 않습니다. MARKDOWN, NDJSON, CSV 중 하나여야 합니다."),
+    INVALID_RELEASE_DOCS_RANGE(false, 2407, "릴리즈 보고서 이어받기 범위가 올바르지 않습니다. (예: version=2.0.0-)"),
 
     INVALID_ISSUE_TAG(false, 2500, "이슈 태그가 올바르지 않습니다."),
     INVALID_LIFECYCLE(false, 2501, "이슈 상태가 올바르지 않습니다."),
     CONNECTED_ISSUE_EXISTS(false, 2502, "릴리즈와 연결된 이슈이므로 상태 변경이 불가능합니다."),
     CONNECTED_RELEASE_EXISTS(false, 2503, "연결된 릴리즈가 존재하므로 삭제할 수 없습니다."),
     NOT_ADMIN(false, 2504, "프로젝트의 관리자만 수정이 가능합니다."),
+    INVALID_ISSUE_OPERATION(false, 2505, "이슈 일괄 변경 작업에 필요한 값이 없습니다."),
+    INVALID_ISSUE_TRANSFER_FORMAT(false, 2506, "이슈 가져오기/내보내기 형식이 올바르지 않습니다. CSV, NDJSON 중 하나여야 합니다."),
 
     NOT_EXISTS_NOTIFICATION(false, 2700, "존재하지 않는 알림 내역입니다."),
     NOT_EXISTS_NOTIFICATION_PER_USER(false, 2701, "존재하지 않는 사용자 알림 데이터입니다."),
@@ -69,6 +74,7 @@ public enum BaseResponseStatus {
     NOT_EXISTS_PROJECT(false, 4200, "존재하지 않는 프로젝트입니다."),
     FAILED_TO_CREATE_PROJECT(false, 4201, "프로젝트 생성에 실패하였습니다."),
     NOT_EXISTS_LINK(false, 4202, "존재하지 않는 초대링크입니다."),
+    NOT_EXISTS_PROJECT_DELETION(false, 4203, "삭제 중인 프로젝트가 아닙니다."),
 
     NOT_EXISTS_PROJECT_MEMBER(false, 4300, "존재하지 않는 멤버입니다."),
     NOT_EXISTS_ADMIN_MEMBER(false, 4301, "관리자가 존재하지 않습니다."),
@@ -92,6 +98,7 @@ public enum BaseResponseStatus {
     FAILED_TO_GET_RELEASE_APPROVALS(false, 4414, "릴리즈 노트 배포 동의 데이터를 불러오기에 실패하였습니다."),
     NOT_EXISTS_RELEASE_OPINION(false, 4415, "존재하지 않는 릴리즈 노트 의견입니다."),
     EXISTS_DISAPPROVED_MEMBER(false, 4416, "릴리즈 노트 배포를 동의하지 않은 멤버가 있습니다."),
+    NOT_DEPLOYED_RELEASE_NOTE(false, 4417, "배포되지 않은 릴리즈 노트는 스냅샷을 조회할 수 없습니다."),
 
     NOT_EXISTS_ISSUE(false, 4500, "존재하지 않는 이슈입니다."),
     INVALID_ISSUE_WITH_COMPLETED(false, 4501, "이미 연결된 이슈가 포함되어 있습니다."),
@@ -100,6 +107,7 @@ public enum BaseResponseStatus {
     NOT_EXISTS_ISSUE_OPINION(false, 4504, "존재하지 않는 이슈 의견입니다."),
     NOT_ISSUE_COMMENTER(false, 4505, "해당 의견 작성자가 아닙니다."),
     INVALID_ISSUE(false, 4506, "유효한 이슈가 아닙니다."),
+    FAILED_TO_ALLOCATE_ISSUE_NUM(false, 4507, "이슈 번호 발급에 실패하였습니다."),
 
     NOT_EXISTS_USERS_IN_NOTIFICATION_DATA(false, 4700, "사용자 정보가 알림 데이터 안에 존재하지 않습니다.");
 
@@ -0,0 +1,199 @@
+package com.momentum.releaser.global.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문자열 필드 하나에 대한 n-gram 역색인
+ * 엔티티 식별 번호마다 내부 문서 번호를 증가하는 순서로 발급하고, 수정된 문서는 삭제 표시 후 새 번호로 다시 색인한다.
+ * 동기화하지 않으므로 사용하는 쪽에서 잠금을 관리해야 한다.
+ */
+public final class InvertedIndex {
+
+    // 삭제 표시된 문서가 이 개수를 넘고 전체의 절반 이상이면 색인을 다시 만든다.
+    private static final int COMPACT_THRESHOLD = 64;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> docsByEntityId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    // 문서 번호 -> 엔티티 식별 번호, 정규화된 문자열
+    private long[] entityIds = new long[16];
+    private String[] texts = new String[16];
+    private int docCount;
+    private int deletedCount;
+
+    /**
+     * 엔티티의 문자열을 색인한다. 이미 색인된 엔티티라면 기존 문서를 지우고 다시 색인한다.
+     *
+     * @param entityId 엔티티 식별 번호
+     * @param text     색인할 문자열
+     */
+    public void put(long entityId, String text) {
+        remove(entityId);
+
+        String normalized = NGramTokenizer.normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+
+        if (docCount == entityIds.length) {
+            entityIds = Arrays.copyOf(entityIds, docCount * 2);
+            texts = Arrays.copyOf(texts, docCount * 2);
+        }
+
+        int doc = docCount++;
+        entityIds[doc] = entityId;
+        texts[doc] = normalized;
+        docsByEntityId.put(entityId, doc);
+
+        for (String gram : NGramTokenizer.indexGrams(normalized)) {
+            postings.computeIfAbsent(gram, g -> new PostingList()).add(doc);
+        }
+    }
+
+    /**
+     * 엔티티를 색인에서 제거한다.
+     *
+     * @param entityId 엔티티 식별 번호
+     */
+    public void remove(long entityId) {
+        Integer doc = docsByEntityId.remove(entityId);
+        if (doc == null) {
+            return;
+        }
+
+        deleted.set(doc);
+        texts[doc] = null;
+        deletedCount++;
+
+        if (deletedCount > COMPACT_THRESHOLD && deletedCount * 2 >= docCount) {
+            compact();
+        }
+    }
+
+    public int size() {
+        return docsByEntityId.size();
+    }
+
+    /**
+     * 검색어의 모든 단어를 부분 문자열로 포함하는 엔티티를 찾는다.
+     * 문자열에서 검색어가 차지하는 비율이 높은 순서로, 같다면 최근에 생성된(식별 번호가 큰) 순서로 정렬한다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return List 순위대로 정렬된 엔티티 식별 번호 목록
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> words = NGramTokenizer.words(NGramTokenizer.normalize(query));
+        if (words.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 문서 수가 적은 n-gram부터 교집합을 구한다.
+        Set<String> grams = NGramTokenizer.queryGrams(words);
+        List<PostingList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return Collections.emptyList();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        int[] candidates = lists.get(0).toArray();
+        int count = candidates.length;
+        for (int i = 1; i < lists.size() && count > 0; i++) {
+            count = lists.get(i).retainAll(candidates, count);
+        }
+
+        // n-gram이 모두 있어도 단어가 이어져 있지 않을 수 있으므로 원문으로 확인한다.
+        int matchedLength = 0;
+        for (String word : words) {
+            matchedLength += word.length();
+        }
+
+        List<ScoredDoc> matches = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int doc = candidates[i];
+            if (deleted.get(doc) || !containsAll(texts[doc], words)) {
+                continue;
+            }
+            matches.add(new ScoredDoc(entityIds[doc], (double) matchedLength / texts[doc].length()));
+        }
+
+        matches.sort(Comparator.comparingDouble(ScoredDoc::getScore).reversed()
+                .thenComparing(Comparator.comparingLong(ScoredDoc::getEntityId).reversed()));
+
+        List<Long> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(matches.get(i).getEntityId());
+        }
+        return result;
+    }
+
+    private boolean containsAll(String text, List<String> words) {
+        for (String word : words) {
+            if (!text.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 삭제 표시된 문서를 제외하고 색인을 다시 만든다.
+     */
+    private void compact() {
+        int liveCount = docsByEntityId.size();
+        long[] liveEntityIds = new long[liveCount];
+        String[] liveTexts = new String[liveCount];
+
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (!deleted.get(doc)) {
+                liveEntityIds[live] = entityIds[doc];
+                liveTexts[live] = texts[doc];
+                live++;
+            }
+        }
+
+        postings.clear();
+        docsByEntityId.clear();
+        deleted.clear();
+        entityIds = new long[Math.max(16, liveCount * 2)];
+        texts = new String[entityIds.length];
+        docCount = 0;
+        deletedCount = 0;
+
+        for (int i = 0; i < live; i++) {
+            put(liveEntityIds[i], liveTexts[i]);
+        }
+    }
+
+    private static final class ScoredDoc {
+        private final long entityId;
+        private final double score;
+
+        ScoredDoc(long entityId, double score) {
+            this.entityId = entityId;
+            this.score = score;
+        }
+
+        long getEntityId() {
+            return entityId;
+        }
+
+        double getScore() {
+            return score;
+        }
+    }
+}
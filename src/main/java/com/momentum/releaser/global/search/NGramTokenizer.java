@@ -0,0 +1,103 @@
+package com.momentum.releaser.global.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 색인에 사용하는 n-gram 토크나이저
+ * 한글은 형태소 분석 없이도 부분 일치 검색이 가능하도록, 단어를 1-gram과 2-gram으로 나누어 색인한다.
+ */
+public final class NGramTokenizer {
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 대소문자를 구분하지 않도록 소문자로 바꾸고, 문자와 숫자가 아닌 문자는 공백 하나로 바꾼다.
+     *
+     * @param text 원본 문자열
+     * @return String 정규화된 문자열 (null인 경우 빈 문자열)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+                space = false;
+            } else if (!space) {
+                normalized.append(' ');
+                space = true;
+            }
+        }
+
+        int length = normalized.length();
+        if (length > 0 && normalized.charAt(length - 1) == ' ') {
+            normalized.setLength(length - 1);
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 문자열을 단어 단위로 나눈다.
+     *
+     * @param normalized 정규화된 문자열
+     * @return List 단어 목록
+     */
+    public static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        if (!normalized.isEmpty()) {
+            for (String word : normalized.split(" ")) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 문서를 색인할 때 사용할 n-gram 목록 (모든 1-gram과 2-gram, 중복 제외)
+     *
+     * @param normalized 정규화된 문자열
+     * @return Set 색인할 n-gram 목록
+     */
+    public static Set<String> indexGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(normalized)) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    grams.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어로 찾을 n-gram 목록 (한 글자 단어는 1-gram, 그 외에는 2-gram만 사용)
+     *
+     * @param words 검색어 단어 목록
+     * @return Set 찾을 n-gram 목록
+     */
+    public static Set<String> queryGrams(List<String> words) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words) {
+            if (word.length() == 1) {
+                grams.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,98 @@
+package com.momentum.releaser.global.search;
+
+import java.util.Arrays;
+
+/**
+ * n-gram 하나가 나타나는 문서 번호 목록
+ * 문서 번호는 항상 증가하는 순서로 추가되므로, 이전 번호와의 차이를 가변 길이 정수(varint)로 압축하여 byte 배열에 저장한다.
+ */
+final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int size;
+    private int lastDoc = -1;
+
+    /**
+     * 문서 번호를 추가한다. 마지막으로 추가한 번호 이하의 번호는 무시한다.
+     */
+    void add(int doc) {
+        if (doc <= lastDoc) {
+            return;
+        }
+
+        int delta = doc - lastDoc;
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        while ((delta & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        bytes[length++] = (byte) delta;
+
+        lastDoc = doc;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 압축을 풀어 모든 문서 번호를 오름차순으로 반환한다.
+     */
+    int[] toArray() {
+        int[] docs = new int[size];
+        int doc = -1;
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            doc += delta;
+            docs[i] = doc;
+        }
+        return docs;
+    }
+
+    /**
+     * 오름차순으로 정렬된 docs[0, count) 중 이 목록에 포함된 문서 번호만 앞쪽에 남긴다.
+     * 압축을 모두 풀지 않고 두 목록을 함께 순회한다.
+     *
+     * @return int 남은 문서 번호의 개수
+     */
+    int retainAll(int[] docs, int count) {
+        int retained = 0;
+        int doc = -1;
+        int position = 0;
+        int decoded = 0;
+
+        for (int i = 0; i < count; i++) {
+            int candidate = docs[i];
+            while (doc < candidate && decoded < size) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                doc += delta;
+                decoded++;
+            }
+            if (doc == candidate) {
+                docs[retained++] = candidate;
+            } else if (doc < candidate) {
+                break;
+            }
+        }
+        return retained;
+    }
+}
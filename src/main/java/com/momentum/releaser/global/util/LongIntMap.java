@@ -0,0 +1,70 @@
+package com.momentum.releaser.global.util;
+
+/**
+ * long 키와 int 값을 박싱 없이 저장하는 해시 맵 (open addressing, linear probing)
+ * 식별 번호 -> 순서처럼 크기를 미리 알 수 있고, 한 번 채운 뒤 조회만 하는 용도로 사용한다.
+ */
+public final class LongIntMap {
+
+    private final long[] keys;
+    private final int[] values;
+    private final boolean[] used;
+    private final int mask;
+    private int size;
+
+    /**
+     * @param expectedSize 저장할 키의 개수 (사용률이 절반을 넘지 않도록 크기를 잡는다.)
+     */
+    public LongIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 키에 값을 저장한다. 이미 있는 키라면 값을 바꾼다.
+     * 맵의 크기는 늘어나지 않으므로 expectedSize를 넘겨 저장할 수 없다.
+     */
+    public void put(long key, int value) {
+        int slot = slot(key);
+        while (used[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+
+        if (!used[slot]) {
+            if (size * 2 >= keys.length) {
+                throw new IllegalStateException("LongIntMap is full: " + size);
+            }
+            used[slot] = true;
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * 키에 저장된 값을 조회한다. 없는 키라면 defaultValue를 반환한다.
+     */
+    public int getOrDefault(long key, int defaultValue) {
+        int slot = slot(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        // 연속된 식별 번호가 한쪽에 몰리지 않도록 비트를 섞는다.
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,36 @@
+package com.momentum.releaser.redis.issue;
+
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주어진 리비전 이후 프로젝트 보드에서 바뀐 이슈 목록
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IssueBoardChanges {
+
+    // 변경 사항을 모두 반영한 보드 리비전
+    private long revision;
+
+    // 생성, 수정되거나 상태가 바뀐 이슈 식별 번호 (이후 삭제된 이슈는 제외)
+    private Set<Long> updatedIssueIds;
+
+    // 삭제된 이슈 식별 번호
+    private Set<Long> deletedIssueIds;
+
+    // 이슈를 옮기거나 삭제하여 보드 순서가 바뀌었는지 여부
+    private boolean orderChanged;
+
+    @Builder
+    public IssueBoardChanges(long revision, Set<Long> updatedIssueIds, Set<Long> deletedIssueIds, boolean orderChanged) {
+        this.revision = revision;
+        this.updatedIssueIds = updatedIssueIds;
+        this.deletedIssueIds = deletedIssueIds;
+        this.orderChanged = orderChanged;
+    }
+}
@@ -0,0 +1,56 @@
+package com.momentum.releaser.redis.issue;
+
+import lombok.Getter;
+
+/**
+ * 이슈 보드에 적용할 변경 작업 (이동, 삭제, 수정)
+ */
+@Getter
+public class IssueBoardOperation {
+
+    public static final char MOVE = 'M';
+    public static final char DELETE = 'D';
+    public static final char UPDATE = 'U';
+
+    private final char type;
+    private final Long issueId;
+
+    // 이동하는 경우에만 사용한다.
+    private final String lifeCycle;
+    private final int index;
+
+    private IssueBoardOperation(char type, Long issueId, String lifeCycle, int index) {
+        this.type = type;
+        this.issueId = issueId;
+        this.lifeCycle = lifeCycle;
+        this.index = index;
+    }
+
+    /**
+     * 이슈를 해당 상태의 index 번째 위치로 옮긴다. (범위를 벗어나면 맨 앞이나 맨 뒤로 옮긴다.)
+     */
+    public static IssueBoardOperation move(Long issueId, String lifeCycle, int index) {
+        return new IssueBoardOperation(MOVE, issueId, lifeCycle, Math.max(index, 0));
+    }
+
+    /**
+     * 이슈를 해당 상태의 맨 뒤로 옮긴다.
+     */
+    public static IssueBoardOperation append(Long issueId, String lifeCycle) {
+        return move(issueId, lifeCycle, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 이슈를 보드 순서에서 제거한다.
+     */
+    public static IssueBoardOperation delete(Long issueId) {
+        return new IssueBoardOperation(DELETE, issueId, null, 0);
+    }
+
+    /**
+     * 보드 순서는 그대로 두고 이슈 정보가 바뀌었음을 기록한다.
+     */
+    public static IssueBoardOperation update(Long issueId) {
+        return new IssueBoardOperation(UPDATE, issueId, null, 0);
+    }
+}
@@ -0,0 +1,310 @@
+package com.momentum.releaser.redis.issue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 칸반 보드의 이슈 순서를 프로젝트, 이슈 상태(lifeCycle)별 Sorted Set으로 저장하는 repository
+ * 이슈는 이웃한 두 이슈의 점수 사이 값(fractional rank)을 점수로 가지므로, 이동할 때 다른 이슈의 순서를 다시 매기지 않는다.
+ * 이슈를 옮기거나 제거하는 작업은 Lua 스크립트로 원자적으로 실행하고, 작업마다 프로젝트 보드의 리비전을 1 올린다.
+ * (key: issue-rank:{projectId}:{lifeCycle}, member: 이슈 식별 번호, score: 순서)
+ * (key: issue-rank:{projectId}:revision, value: 보드 리비전)
+ * (key: issue-rank:{projectId}:changes, value: 최근 변경 기록 목록)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IssueRankRedisRepository {
+
+    private static final String KEY_PREFIX = "issue-rank:";
+
+    // 맨 앞이나 맨 뒤에 추가할 때 이웃한 이슈와 벌리는 점수 간격
+    private static final double RANK_STEP = 1.0;
+
+    private static final RedisScript<Long> APPLY_SCRIPT = RedisScript.of(new ClassPathResource("scripts/issue_rank_apply.lua"), Long.class);
+
+    // 프로젝트별로 남겨 두는 최근 변경 기록의 개수 (이보다 오래된 리비전에서 동기화하면 보드 전체를 다시 조회한다.)
+    private static final int CHANGE_LOG_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 이슈 상태별 이슈 식별 번호를 순서대로 조회한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param lifeCycle 이슈 상태
+     * @return List 순서대로 정렬된 이슈 식별 번호 목록
+     * @author chaeanna
+     * @date 2023-08-25
+     */
+    public List<Long> findIssueIds(Long projectId, String lifeCycle) {
+        return toIssueIds(redisTemplate.opsForZSet().range(key(projectId, lifeCycle), 0, -1));
+    }
+
+    /**
+     * 프로젝트 보드의 모든 이슈 상태별 순서를 한 번의 파이프라인으로 조회한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return Map 이슈 상태별로 순서대로 정렬된 이슈 식별 번호 목록
+     * @author chaeanna
+     * @date 2023-08-26
+     */
+    public Map<LifeCycle, List<Long>> findBoardIssueIds(Long projectId) {
+        LifeCycle[] lifeCycles = LifeCycle.values();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (LifeCycle lifeCycle : lifeCycles) {
+                stringConnection.zRange(key(projectId, lifeCycle.toString()), 0, -1);
+            }
+            return null;
+        });
+
+        Map<LifeCycle, List<Long>> board = new EnumMap<>(LifeCycle.class);
+        for (int i = 0; i < lifeCycles.length; i++) {
+            board.put(lifeCycles[i], toIssueIds((Set<?>) results.get(i)));
+        }
+        return board;
+    }
+
+    /**
+     * 이슈를 해당 상태의 index 번째 위치로 옮기고, 옮긴 이후의 보드 리비전을 반환한다.
+     * 이슈가 어느 상태에 있든 먼저 제거한 뒤 추가하며, 이 과정은 하나의 Lua 스크립트로 원자적으로 실행된다.
+     *
+     * @param projectId     프로젝트 식별 번호
+     * @param destLifeCycle 옮길 상태
+     * @param issueId       이슈 식별 번호
+     * @param index         옮길 위치 (0부터 시작, 범위를 벗어나면 맨 앞이나 맨 뒤로 옮긴다.)
+     * @return Long 보드 리비전
+     * @author chaeanna
+     * @date 2023-08-25
+     */
+    public Long move(Long projectId, String destLifeCycle, Long issueId, int index) {
+        return apply(projectId, List.of(IssueBoardOperation.move(issueId, destLifeCycle, index)));
+    }
+
+    /**
+     * 이슈를 순서에서 제거하고, 제거한 이후의 보드 리비전을 반환한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param issueId   이슈 식별 번호
+     * @return Long 보드 리비전
+     * @author chaeanna
+     * @date 2023-08-25
+     */
+    public Long remove(Long projectId, Long issueId) {
+        return apply(projectId, List.of(IssueBoardOperation.delete(issueId)));
+    }
+
+    /**
+     * 보드 순서는 그대로 두고 이슈 정보가 바뀌었음을 기록한 뒤, 보드 리비전을 반환한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param issueId   이슈 식별 번호
+     * @return Long 보드 리비전
+     * @author chaeanna
+     * @date 2023-08-27
+     */
+    public Long touch(Long projectId, Long issueId) {
+        return apply(projectId, List.of(IssueBoardOperation.update(issueId)));
+    }
+
+    /**
+     * 보드 순서는 그대로 두고 여러 이슈의 정보가 바뀌었음을 한 번의 스크립트 실행으로 기록한 뒤, 보드 리비전을 반환한다.
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param issueIds  정보가 바뀐 이슈 식별 번호 목록
+     * @return Long 보드 리비전
+     * @author chaeanna
+     * @date 2023-09-01
+     */
+    public Long touchAll(Long projectId, List<Long> issueIds) {
+        List<IssueBoardOperation> operations = new ArrayList<>(issueIds.size());
+        for (Long issueId : issueIds) {
+            operations.add(IssueBoardOperation.update(issueId));
+        }
+        return apply(projectId, operations);
+    }
+
+    /**
+     * 보드 변경 작업 목록을 한 번의 Lua 스크립트 실행으로 순서대로 적용하고, 마지막 보드 리비전을 반환한다.
+     *
+     * @param projectId  프로젝트 식별 번호
+     * @param operations 적용할 보드 변경 작업 목록
+     * @return Long 보드 리비전
+     * @author chaeanna
+     * @date 2023-08-28
+     */
+    public Long apply(Long projectId, List<IssueBoardOperation> operations) {
+        List<String> args = new ArrayList<>(2 + operations.size() * 4);
+        args.add(String.valueOf(RANK_STEP));
+        args.add(String.valueOf(CHANGE_LOG_SIZE));
+
+        for (IssueBoardOperation operation : operations) {
+            args.add(String.valueOf(operation.getType()));
+            // 옮길 상태는 KEYS에서의 위치(1부터 시작)로 넘긴다.
+            args.add(operation.getLifeCycle() == null ? "0" : String.valueOf(LifeCycle.valueOf(operation.getLifeCycle()).ordinal() + 1));
+            args.add(String.valueOf(operation.getIssueId()));
+            args.add(String.valueOf(operation.getIndex()));
+        }
+
+        return redisTemplate.execute(APPLY_SCRIPT, boardKeys(projectId), args.toArray());
+    }
+
+    /**
+     * 주어진 리비전 이후의 변경 사항을 변경 기록에서 모은다.
+     * 변경 기록이 잘려 주어진 리비전 바로 다음 변경부터 남아 있지 않은 경우에는 비어 있는 결과를 반환한다.
+     *
+     * @param projectId     프로젝트 식별 번호
+     * @param sinceRevision 클라이언트가 마지막으로 반영한 보드 리비전
+     * @return Optional 변경 사항 (보드 전체를 다시 조회해야 하는 경우 비어 있다.)
+     * @author chaeanna
+     * @date 2023-08-27
+     */
+    public Optional<IssueBoardChanges> findChangesSince(Long projectId, long sinceRevision) {
+        // 리비전을 먼저 읽으므로, 그 사이에 추가된 기록은 이번 결과에서 제외하고 다음 동기화에서 반영한다.
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.get(revisionKey(projectId));
+            stringConnection.lRange(changesKey(projectId), 0, -1);
+            return null;
+        });
+
+        long revision = results.get(0) == null ? 0 : Long.parseLong(results.get(0).toString());
+        if (sinceRevision > revision) {
+            // Redis가 초기화되어 리비전이 되돌아간 경우
+            return Optional.empty();
+        }
+
+        Set<Long> updatedIssueIds = new LinkedHashSet<>();
+        Set<Long> deletedIssueIds = new LinkedHashSet<>();
+        boolean orderChanged = false;
+        long oldestRevision = revision + 1;
+
+        // 변경 기록: {리비전}:{M(이동)|U(수정)|D(삭제)}:{이슈 식별 번호}
+        for (Object entry : (List<?>) results.get(1)) {
+            String[] fields = entry.toString().split(":");
+            long entryRevision = Long.parseLong(fields[0]);
+            oldestRevision = Math.min(oldestRevision, entryRevision);
+
+            if (entryRevision <= sinceRevision || entryRevision > revision) {
+                continue;
+            }
+
+            Long issueId = Long.valueOf(fields[2]);
+            if ("D".equals(fields[1])) {
+                updatedIssueIds.remove(issueId);
+                deletedIssueIds.add(issueId);
+                orderChanged = true;
+            } else {
+                updatedIssueIds.add(issueId);
+                orderChanged |= "M".equals(fields[1]);
+            }
+        }
+
+        if (revision > sinceRevision && oldestRevision > sinceRevision + 1) {
+            return Optional.empty();
+        }
+
+        return Optional.of(IssueBoardChanges.builder()
+                .revision(revision)
+                .updatedIssueIds(updatedIssueIds)
+                .deletedIssueIds(deletedIssueIds)
+                .orderChanged(orderChanged)
+                .build());
+    }
+
+    /**
+     * 프로젝트 보드의 현재 리비전을 조회한다. (한 번도 바뀌지 않은 경우 0)
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @return long 보드 리비전
+     * @author chaeanna
+     * @date 2023-08-25
+     */
+    public long findRevision(Long projectId) {
+        String revision = redisTemplate.opsForValue().get(revisionKey(projectId));
+        return revision == null ? 0 : Long.parseLong(revision);
+    }
+
+    /**
+     * 해당 상태의 순서가 저장되어 있는지 확인한다.
+     */
+    public boolean exists(Long projectId, String lifeCycle) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(projectId, lifeCycle)));
+    }
+
+    /**
+     * 이슈 식별 번호 목록을 주어진 순서대로 저장한다. (기존 순서를 옮겨 올 때 사용한다.)
+     *
+     * @param projectId 프로젝트 식별 번호
+     * @param lifeCycle 이슈 상태
+     * @param issueIds  순서대로 정렬된 이슈 식별 번호 목록
+     * @author chaeanna
+     * @date 2023-08-25
+     */
+    public void saveAll(Long projectId, String lifeCycle, List<Long> issueIds) {
+        if (issueIds.isEmpty()) {
+            return;
+        }
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (int i = 0; i < issueIds.size(); i++) {
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(issueIds.get(i)), i * RANK_STEP));
+        }
+        redisTemplate.opsForZSet().add(key(projectId, lifeCycle), tuples);
+    }
+
+    /**
+     * 스크립트에 넘길 키 목록 (이슈 상태별 Sorted Set을 LifeCycle 순서대로 나열하고, 마지막에 보드 리비전과 변경 기록을 둔다.)
+     */
+    private List<String> boardKeys(Long projectId) {
+        List<String> keys = new ArrayList<>(LifeCycle.values().length + 2);
+        for (LifeCycle lifeCycle : LifeCycle.values()) {
+            keys.add(key(projectId, lifeCycle.toString()));
+        }
+        keys.add(revisionKey(projectId));
+        keys.add(changesKey(projectId));
+        return keys;
+    }
+
+    private List<Long> toIssueIds(Set<?> members) {
+        if (members == null) {
+            return Collections.emptyList();
+        }
+
+        List<Long> issueIds = new ArrayList<>(members.size());
+        members.forEach(member -> issueIds.add(Long.valueOf(member.toString())));
+        return issueIds;
+    }
+
+    private String revisionKey(Long projectId) {
+        return KEY_PREFIX + projectId + ":revision";
+    }
+
+    private String changesKey(Long projectId) {
+        return KEY_PREFIX + projectId + ":changes";
+    }
+
+    private String key(Long projectId, String lifeCycle) {
+        return KEY_PREFIX + projectId + ":" + lifeCycle;
+    }
+}
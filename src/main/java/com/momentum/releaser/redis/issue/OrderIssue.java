@@ -1,6 +1,5 @@
 package com.momentum.releaser.redis.issue;
 
-import com.momentum.releaser.domain.issue.application.IssueServiceImpl;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +13,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 프로젝트 보드 전체의 이슈 순서를 하나로 저장하던 기존 형식
+ * 이슈 순서는 IssueRankRedisRepository의 Sorted Set으로 옮겨졌으며, 남아 있는 데이터를 옮길 때만 사용한다.
+ * @see com.momentum.releaser.domain.issue.application.IssueRankMigration
+ */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @RedisHash(value = "issue")
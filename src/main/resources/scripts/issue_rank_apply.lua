@@ -0,0 +1,80 @@
+-- 이슈 보드 변경 작업 목록을 순서대로 적용하고, 작업마다 보드 리비전을 1 올린 뒤 변경 기록에 남긴다.
+-- 모든 작업이 하나의 스크립트로 실행되므로, 여러 사용자가 동시에 옮겨도 이동이 유실되지 않는다.
+-- KEYS[1..n-2]: 프로젝트의 이슈 상태별 Sorted Set, KEYS[n-1]: 보드 리비전, KEYS[n]: 변경 기록
+-- ARGV[1]: 점수 간격, ARGV[2]: 변경 기록 최대 길이
+-- ARGV[3..]: 작업마다 4개씩 {종류(M: 이동, D: 삭제, U: 수정), 옮길 상태의 KEYS 위치, 이슈 식별 번호, 옮길 위치(0부터 시작)}
+local lifeCycleCount = #KEYS - 2
+local revisionKey = KEYS[#KEYS - 1]
+local changesKey = KEYS[#KEYS]
+local step = tonumber(ARGV[1])
+local changeLogSize = tonumber(ARGV[2])
+
+local function scoreAt(key, position)
+    local result = redis.call('ZRANGE', key, position, position, 'WITHSCORES')
+    if #result == 0 then
+        return nil
+    end
+    return tonumber(result[2])
+end
+
+-- index 번째 위치에 들어갈 점수를 앞뒤 이슈의 점수 사이 값으로 계산한다.
+local function rankAt(key, index)
+    local previous = nil
+    if index > 0 then
+        previous = scoreAt(key, index - 1)
+    end
+    local following = scoreAt(key, index)
+
+    if previous == nil and following == nil then
+        -- 비어 있거나 범위를 벗어난 경우 맨 뒤에 추가한다.
+        local last = scoreAt(key, -1)
+        if last == nil then
+            return 0
+        end
+        return last + step
+    end
+    if previous == nil then
+        return following - step
+    end
+    if following == nil then
+        return previous + step
+    end
+
+    local rank = (previous + following) / 2
+    if rank > previous and rank < following then
+        return rank
+    end
+
+    -- 사이 값을 더 이상 나눌 수 없으면 순서를 유지하면서 점수를 0, 1, 2, ... 간격으로 다시 매긴다.
+    local members = redis.call('ZRANGE', key, 0, -1)
+    for i, value in ipairs(members) do
+        redis.call('ZADD', key, (i - 1) * step, value)
+    end
+    return index * step - step / 2
+end
+
+local revision = tonumber(redis.call('GET', revisionKey) or '0')
+for i = 3, #ARGV, 4 do
+    local operation = ARGV[i]
+    local member = ARGV[i + 2]
+
+    if operation ~= 'U' then
+        -- 요청한 사용자가 보던 상태가 이미 바뀌었을 수 있으므로, 모든 상태에서 제거한다.
+        for k = 1, lifeCycleCount do
+            redis.call('ZREM', KEYS[k], member)
+        end
+    end
+
+    if operation == 'M' then
+        -- 같은 상태 안에서 옮기는 경우에도 먼저 제거했으므로, index는 자신을 제외한 위치이다.
+        local destKey = KEYS[tonumber(ARGV[i + 1])]
+        redis.call('ZADD', destKey, rankAt(destKey, tonumber(ARGV[i + 3])), member)
+    end
+
+    -- 변경 기록: {리비전}:{종류}:{이슈 식별 번호}
+    revision = redis.call('INCR', revisionKey)
+    redis.call('RPUSH', changesKey, revision .. ':' .. operation .. ':' .. member)
+end
+
+redis.call('LTRIM', changesKey, -changeLogSize, -1)
+return revision
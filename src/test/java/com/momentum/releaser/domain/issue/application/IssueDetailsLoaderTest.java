@@ -0,0 +1,68 @@
+package com.momentum.releaser.domain.issue.application;
+
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.domain.Issue;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueDetailsPartsDataDTO;
+import com.momentum.releaser.domain.project.dao.ProjectRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetMembersDataDTO;
+import com.momentum.releaser.domain.user.dao.UserRepository;
+import com.momentum.releaser.domain.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class IssueDetailsLoaderTest {
+
+    @Test
+    @DisplayName("7.7 이슈별 조회 - 대기열이 가득 찬 경우 요청 스레드에서 차례로 조회")
+    void testLoadWhenQueueIsFull() {
+        UserRepository userRepository = mock(UserRepository.class);
+        ProjectRepository projectRepository = mock(ProjectRepository.class);
+        IssueRepository issueRepository = mock(IssueRepository.class);
+
+        // 모든 작업을 거절하는 실행기
+        ExecutorService rejectingExecutor = Executors.newSingleThreadExecutor();
+        rejectingExecutor.shutdown();
+
+        IssueDetailsLoader issueDetailsLoader = new IssueDetailsLoader(userRepository, projectRepository, issueRepository,
+                rejectingExecutor, mock(PlatformTransactionManager.class));
+
+        User mockUser = mock(User.class);
+        when(mockUser.getUserId()).thenReturn(10L);
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        Issue mockIssue = new Issue(
+                1L, "issueTitle", "issueContent", null, Tag.FIXED, null,
+                LifeCycle.NOT_STARTED, 'Y', 'Y', mockProject, null, null, null
+        );
+
+        when(issueRepository.findById(1L)).thenReturn(Optional.of(mockIssue));
+        when(userRepository.findOneByEmail("leader@releaser.com")).thenReturn(Optional.of(mockUser));
+        when(projectRepository.getMemberList(mockProject)).thenReturn(List.of(
+                new GetMembersDataDTO(1L, 10L, "leader", null, 'L')
+        ));
+        when(issueRepository.getIssueOpinion(mockIssue)).thenReturn(List.of());
+
+        IssueDetailsPartsDataDTO parts = issueDetailsLoader.load(1L, "leader@releaser.com");
+
+        // 거절된 조회도 모두 실행되어 결과가 채워지는지 확인
+        assertSame(mockIssue, parts.getIssue());
+        assertEquals(1L, parts.getMember().getMemberId());
+        assertEquals(1, parts.getMembers().size());
+        assertTrue(parts.getOpinions().isEmpty());
+        assertEquals(Set.of("issue", "user", "members", "opinions"), parts.getTimings().keySet());
+    }
+}
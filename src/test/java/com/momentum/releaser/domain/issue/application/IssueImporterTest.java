@@ -0,0 +1,166 @@
+package com.momentum.releaser.domain.issue.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.domain.IssueTransferFormat;
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueImportDataDTO;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueImportProgressResponseDTO;
+import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.global.config.AppProperties;
+import com.momentum.releaser.redis.issue.IssueBoardOperation;
+import com.momentum.releaser.redis.issue.IssueRankRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class IssueImporterTest {
+
+    private IssueImporter issueImporter;
+    private IssueRepository issueRepository;
+    private ProjectMemberRepository projectMemberRepository;
+    private IssueNumAllocator issueNumAllocator;
+    private IssueRankRedisRepository issueRankRedisRepository;
+    private IssueFlowRecorder issueFlowRecorder;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Project mockProject;
+
+    @BeforeEach
+    void setUp() {
+        issueRepository = mock(IssueRepository.class);
+        projectMemberRepository = mock(ProjectMemberRepository.class);
+        issueNumAllocator = mock(IssueNumAllocator.class);
+        issueRankRedisRepository = mock(IssueRankRedisRepository.class);
+        issueFlowRecorder = mock(IssueFlowRecorder.class);
+
+        // 배치 동작을 확인하기 위해 두 건씩 저장하도록 설정
+        AppProperties appProperties = new AppProperties();
+        appProperties.getJdbc().setBatchSize(2);
+
+        issueImporter = new IssueImporter(issueRepository, projectMemberRepository, issueNumAllocator, issueRankRedisRepository,
+                issueFlowRecorder, objectMapper, appProperties, mock(PlatformTransactionManager.class));
+
+        mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        User mockUser = new User(
+                "testUserName", "member@releaser.com", null, 'Y'
+        );
+        when(projectMemberRepository.findWithUserByProject(mockProject)).thenReturn(List.of(
+                new ProjectMember(7L, 'M', 'Y', mockUser, mockProject)
+        ));
+    }
+
+    @Test
+    @DisplayName("7.11 이슈 가져오기 - CSV")
+    void testImportIssuesCsv() throws Exception {
+        String csv = "issue_num,title,content,summary,tag,end_date,life_cycle,manager_email\r\n" +
+                "1,\"로그인, 회원가입\",\"여러 줄\n설명\",,feature,2023-09-01,,member@releaser.com\r\n" +
+                "2,,내용,,FIXED,2023-09-01,DONE,\r\n" +
+                "3,\"따옴표 \"\"제목\"\"\",내용,,NEW,2023-09-02,DONE,\r\n" +
+                "4,담당자 오류,내용,,NEW,2023-09-02,,other@releaser.com\r\n" +
+                "5,마지막,내용,,CHANGED,2023-09-03,IN_PROGRESS,\r\n";
+
+        when(issueNumAllocator.allocateRange(1L, 2)).thenReturn(10L);
+        when(issueNumAllocator.allocateRange(1L, 1)).thenReturn(12L);
+        when(issueRepository.saveAllImported(eq(1L), anyList(), eq(10L))).thenReturn(List.of(101L, 102L));
+        when(issueRepository.saveAllImported(eq(1L), anyList(), eq(12L))).thenReturn(List.of(103L));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        IssueImportProgressResponseDTO result = issueImporter.importIssues(mockProject, IssueTransferFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), outputStream);
+
+        // 결과 검증
+        assertEquals(5, result.getProcessed());
+        assertEquals(3, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals('Y', result.getDoneYN());
+
+        // 검증을 통과한 행만 두 건씩 저장했는지 확인
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<IssueImportDataDTO>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(issueRepository, times(1)).saveAllImported(eq(1L), batchCaptor.capture(), eq(10L));
+        List<IssueImportDataDTO> firstBatch = batchCaptor.getValue();
+        assertEquals("로그인, 회원가입", firstBatch.get(0).getTitle());
+        assertEquals("여러 줄\n설명", firstBatch.get(0).getContent());
+        assertEquals(Tag.FEATURE, firstBatch.get(0).getTag());
+        assertEquals(LifeCycle.NOT_STARTED, firstBatch.get(0).getLifeCycle());
+        assertEquals(7L, firstBatch.get(0).getMemberId());
+        assertEquals("따옴표 \"제목\"", firstBatch.get(1).getTitle());
+        assertNull(firstBatch.get(1).getMemberId());
+
+        // 보드에는 모든 배치가 끝난 뒤 상태별로 맨 뒤에 한 번만 추가하는지 확인
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<IssueBoardOperation>> operationsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(issueRankRedisRepository, times(1)).apply(eq(1L), operationsCaptor.capture());
+        assertEquals(List.of(101L, 103L, 102L), operationsCaptor.getValue().stream()
+                .map(IssueBoardOperation::getIssueId)
+                .collect(Collectors.toList()));
+        assertTrue(operationsCaptor.getValue().stream().allMatch(operation -> operation.getIndex() == Integer.MAX_VALUE));
+
+        // 저장한 배치마다 이슈 생성이 상태 변경 기록에 남는지 확인
+        verify(issueFlowRecorder, times(2)).record(eq(1L), anyList());
+
+        // 배치마다 진행 상황을 한 줄씩 응답하고, 실패한 행 번호를 알려주는지 확인
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode progress = objectMapper.readTree(lines[0]);
+        assertEquals(2, progress.get("imported").asLong());
+        assertEquals(2, progress.get("errors").get(0).get("row").asLong());
+        assertEquals("이슈명을 입력해주세요.", progress.get("errors").get(0).get("message").asText());
+        JsonNode done = objectMapper.readTree(lines[1]);
+        assertEquals("Y", done.get("doneYN").asText());
+        assertEquals(4, done.get("errors").get(0).get("row").asLong());
+    }
+
+    @Test
+    @DisplayName("7.11 이슈 가져오기 - NDJSON 형식 오류와 저장 실패")
+    void testImportIssuesNdjsonWithFailedBatch() throws Exception {
+        String ndjson = "{\"title\":\"제목\",\"content\":\"내용\",\"tag\":\"NEW\",\"endDate\":\"2023-09-01\"}\n" +
+                "{\"title\":\"깨진 줄\"\n" +
+                "\n" +
+                "{\"title\":\"제목\",\"content\":\"내용\",\"tag\":\"UNKNOWN\",\"endDate\":\"2023-09-01\"}\n" +
+                "{\"title\":\"제목\",\"content\":\"내용\",\"tag\":\"NEW\",\"endDate\":\"09/01/2023\"}\n" +
+                "{\"title\":\"제목\",\"content\":\"내용\",\"tag\":\"FIXED\",\"endDate\":\"2023-09-02\",\"lifeCycle\":\"done\"}\n";
+
+        when(issueNumAllocator.allocateRange(1L, 2)).thenReturn(1L);
+        when(issueRepository.saveAllImported(eq(1L), anyList(), eq(1L))).thenThrow(new IllegalStateException("connection lost"));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        IssueImportProgressResponseDTO result = issueImporter.importIssues(mockProject, IssueTransferFormat.NDJSON,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), outputStream);
+
+        // 형식 오류 3건과 저장하지 못한 2건이 실패로 기록되는지 확인
+        assertEquals(5, result.getProcessed());
+        assertEquals(0, result.getImported());
+        assertEquals(5, result.getFailed());
+
+        JsonNode progress = objectMapper.readTree(outputStream.toString(StandardCharsets.UTF_8).split("\n")[0]);
+        assertEquals("JSON 형식이 올바르지 않습니다.", progress.get("errors").get(0).get("message").asText());
+        assertEquals("태그는 DEPRECATED, CHANGED, NEW, FEATURE, FIXED 중 하나여야 합니다.", progress.get("errors").get(1).get("message").asText());
+        assertEquals("마감일은 yyyy-MM-dd 형식이어야 합니다.", progress.get("errors").get(2).get("message").asText());
+        assertEquals("이슈를 저장하지 못했습니다.", progress.get("errors").get(3).get("message").asText());
+
+        // 저장한 이슈가 없으므로 보드는 바뀌지 않는다.
+        verify(issueRankRedisRepository, never()).apply(anyLong(), any());
+        verify(issueFlowRecorder, never()).record(anyLong(), anyList());
+    }
+}
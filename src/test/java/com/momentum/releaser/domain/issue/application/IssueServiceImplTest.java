@@ -4,30 +4,46 @@ import com.momentum.releaser.domain.issue.dao.IssueNumRepository;
 import com.momentum.releaser.domain.issue.dao.IssueOpinionRepository;
 import com.momentum.releaser.domain.issue.dao.IssueRepository;
 import com.momentum.releaser.domain.issue.domain.*;
+import com.momentum.releaser.domain.issue.dto.IssueDataDto.IssueTransitionDataDTO;
 import com.momentum.releaser.domain.issue.dto.IssueRequestDto.IssueInfoRequestDTO;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.AllIssueListResponseDTO;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueChangesResponseDTO;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueDetailsDTO;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueFlowResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueIdResponseDTO;
+import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueInfoResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.IssueModifyResponseDTO;
 import com.momentum.releaser.domain.issue.dto.IssueResponseDto.OpinionInfoResponseDTO;
 import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.project.event.SearchIndexEventPublisher;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetMembersDataDTO;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
 import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
 import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
 import com.momentum.releaser.global.exception.CustomException;
-import com.momentum.releaser.redis.issue.OrderIssueRedisRepository;
+import com.momentum.releaser.redis.issue.IssueBoardChanges;
+import com.momentum.releaser.redis.issue.IssueRankRedisRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.sql.Date;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static com.momentum.releaser.domain.issue.dto.IssueRequestDto.*;
@@ -48,8 +64,13 @@ class IssueServiceImplTest {
     private ProjectMemberRepository projectMemberRepository;
     private UserRepository userRepository;
     private ReleaseRepository releaseRepository;
-    private OrderIssueRedisRepository orderIssueRedisRepository;
+    private IssueRankRedisRepository issueRankRedisRepository;
+    private IssueNumAllocator issueNumAllocator;
+    private IssueImporter issueImporter;
+    private IssueExporter issueExporter;
+    private IssueFlowRecorder issueFlowRecorder;
     private NotificationEventPublisher notificationEventPublisher;
+    private SearchIndexEventPublisher searchIndexEventPublisher;
 
 
     @BeforeEach
@@ -62,9 +83,17 @@ class IssueServiceImplTest {
         userRepository = mock(UserRepository.class);
         releaseRepository = mock(ReleaseRepository.class);
         notificationEventPublisher = mock(NotificationEventPublisher.class);
-        orderIssueRedisRepository = mock(OrderIssueRedisRepository.class);
+        searchIndexEventPublisher = mock(SearchIndexEventPublisher.class);
+        issueRankRedisRepository = mock(IssueRankRedisRepository.class);
+        issueNumAllocator = mock(IssueNumAllocator.class);
+        issueImporter = mock(IssueImporter.class);
+        issueExporter = mock(IssueExporter.class);
+        issueFlowRecorder = mock(IssueFlowRecorder.class);
         issueService = new IssueServiceImpl(issueRepository, issueOpinionRepository, issueNumRepository, projectRepository,
-                projectMemberRepository, userRepository, releaseRepository, orderIssueRedisRepository, notificationEventPublisher);
+                projectMemberRepository, userRepository, releaseRepository, issueRankRedisRepository, issueNumAllocator,
+                issueImporter, issueExporter, issueFlowRecorder,
+                new IssueDetailsLoader(userRepository, projectRepository, issueRepository, Executors.newFixedThreadPool(3), mock(PlatformTransactionManager.class)),
+                notificationEventPublisher, searchIndexEventPublisher);
     }
 
 //    @Test
@@ -105,8 +134,8 @@ class IssueServiceImplTest {
 //        // projectMemberRepository.findById() 메서드가 mockProjectMember를 반환하도록 설정 (이슈 담당자 지정하기 위한 멤버 조회)
 //        when(projectMemberRepository.findById(mockMemberId)).thenReturn(Optional.of(mockProjectMember));
 //
-//        // issueRepository.getIssueNum() 메서드가 0L을 반환하도록 설정 (해당 프로젝트에 대한 최근 이슈 번호)
-//        when(issueRepository.getIssueNum(mockProject)).thenReturn(0L);
+//        // issueNumAllocator.allocate() 메서드가 1L을 반환하도록 설정 (해당 프로젝트에 대한 다음 이슈 번호)
+//        when(issueNumAllocator.allocate(mockProjectId)).thenReturn(1L);
 //
 //        // issueRepository.save() 메서드가 mockSavedIssue를 반환하도록 설정 (생성하고 싶은 이슈 정보 저장)
 //        when(issueRepository.save(any(Issue.class))).thenReturn(mockSavedIssue);
@@ -127,7 +156,7 @@ class IssueServiceImplTest {
 //        // 각 메서드가 호출됐는지 확인
 //        verify(projectRepository, times(1)).findById(mockProjectId);
 //        verify(projectMemberRepository, times(1)).findById(mockMemberId);
-//        verify(issueRepository, times(1)).getIssueNum(mockProject);
+//        verify(issueNumAllocator, times(1)).allocate(mockProjectId);
 //        verify(issueRepository, times(1)).save(any(Issue.class));
 //        verify(issueNumRepository, times(1)).save(any(IssueNum.class));
 //    }
@@ -289,7 +318,7 @@ class IssueServiceImplTest {
         when(issueRepository.findById(mockIssueId)).thenReturn(Optional.of(mockIssue));
 
         // 이슈 제거 서비스 호출
-        String result = issueService.removeIssue(mockIssueId);
+        String result = issueService.removeIssue(mockIssueId, "test@releaser.com");
 
         // 결과 검증
         assertEquals("이슈가 삭제되었습니다.", result);
@@ -298,6 +327,11 @@ class IssueServiceImplTest {
         verify(issueRepository, times(1)).findById(mockIssueId);
         verify(issueNumRepository, times(1)).deleteById(mockIssueNum.getIssueNumId());
         verify(issueRepository, times(1)).deleteById(mockIssueId);
+        verify(issueRankRedisRepository, times(1)).remove(1L, mockIssueId);
+
+        // 삭제한 이슈가 상태 변경 기록에 남는지 확인
+        verify(issueFlowRecorder, times(1)).record(eq(1L), argThat((IssueTransitionDataDTO transition) ->
+                transition.getFromLifeCycle() == LifeCycle.NOT_STARTED && transition.getToLifeCycle() == null));
     }
 
     @Test
@@ -325,7 +359,7 @@ class IssueServiceImplTest {
         String expectedExceptionMessage = String.valueOf(CONNECTED_RELEASE_EXISTS);
 
         // 테스트 실행 및 예외 검증 (연결된 릴리즈가 있는 경우 예외 발생)
-        assertThrows(CustomException.class, () -> issueService.removeIssue(mockIssueId), expectedExceptionMessage);
+        assertThrows(CustomException.class, () -> issueService.removeIssue(mockIssueId, "test@releaser.com"), expectedExceptionMessage);
 
         // 각 메서드가 호출 됐는지 확인
         verify(issueRepository, times(1)).findById(mockIssueId);
@@ -333,6 +367,70 @@ class IssueServiceImplTest {
         verify(issueRepository, never()).deleteById(anyLong());
     }
 
+    @Test
+    @DisplayName("7.4 프로젝트별 모든 이슈 조회 - 이슈마다 다시 조회하지 않고 보드 순서대로 정렬")
+    void testFindAllIssuesSortedByBoard() {
+        // 테스트를 위한 mock 이슈 보드 정보 (이슈 상태를 번갈아 가며 30개 생성, 정렬 시간은 src/jmh 의 IssueBoardBenchmark 에서 측정)
+        Long mockProjectId = 1L;
+        int mockIssueCount = 30;
+        LifeCycle[] lifeCycles = LifeCycle.values();
+
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+
+        List<IssueInfoResponseDTO> mockIssues = new ArrayList<>();
+        Map<LifeCycle, List<Long>> mockBoard = new EnumMap<>(LifeCycle.class);
+        for (LifeCycle lifeCycle : lifeCycles) {
+            mockBoard.put(lifeCycle, new ArrayList<>());
+        }
+        for (long issueId = 1; issueId <= mockIssueCount; issueId++) {
+            LifeCycle lifeCycle = lifeCycles[(int) (issueId % lifeCycles.length)];
+            // 짝수 이슈의 담당자는 프로젝트에서 나간 멤버, 5의 배수 이슈는 배포된 릴리즈에 연결
+            mockIssues.add(new IssueInfoResponseDTO(
+                    issueId, issueId, "issueTitle", "issueContent", null, issueId, "memberName", null, "FIXED", null,
+                    'N', lifeCycle.toString(), issueId % 2 == 0 ? 'N' : 'Y',
+                    issueId % 5 == 0 ? ReleaseDeployStatus.DEPLOYED : ReleaseDeployStatus.PLANNING
+            ));
+            // 보드 순서는 이슈 식별 번호의 역순이고, 각 상태의 첫 번째 이슈는 순서가 저장되지 않은 상태
+            if (issueId > lifeCycles.length) {
+                mockBoard.get(lifeCycle).add(0, issueId);
+            }
+        }
+
+        // projectRepository.findById() 메서드가 mockProject를 반환하도록 설정
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+
+        // issueRepository.getIssues() 메서드가 mockIssues를 반환하도록 설정
+        when(issueRepository.getIssues(mockProject)).thenReturn(mockIssues);
+
+        // issueRankRedisRepository.findBoardIssueIds() 메서드가 mockBoard를 반환하도록 설정
+        when(issueRankRedisRepository.findBoardIssueIds(mockProjectId)).thenReturn(mockBoard);
+
+        // 프로젝트별 모든 이슈 조회 서비스 호출
+        AllIssueListResponseDTO result = issueService.findAllIssues(mockProjectId);
+
+        // 결과 검증 (보드 순서대로 정렬되고, 순서가 없는 이슈는 맨 뒤에 위치)
+        List<List<IssueInfoResponseDTO>> columns = List.of(result.getGetNotStartedList(), result.getGetInProgressList(), result.getGetDoneList());
+        for (int i = 0; i < lifeCycles.length; i++) {
+            List<IssueInfoResponseDTO> column = columns.get(i);
+            List<Long> expectedOrder = new ArrayList<>(mockBoard.get(lifeCycles[i]));
+            expectedOrder.add(i == 0 ? (long) lifeCycles.length : i);
+
+            assertEquals(expectedOrder, column.stream().map(IssueInfoResponseDTO::getIssueId).collect(Collectors.toList()));
+            for (IssueInfoResponseDTO issue : column) {
+                assertEquals(issue.getIssueId() % 2 == 0 ? Long.valueOf(0) : issue.getIssueId(), issue.getMemberId());
+                assertEquals(issue.getIssueId() % 5 == 0 ? 'Y' : 'N', issue.getDeployYN());
+            }
+        }
+
+        // 이슈마다 이슈, 멤버를 다시 조회하지 않는지 확인
+        verify(issueRepository, times(1)).getIssues(mockProject);
+        verify(issueRepository, never()).findById(anyLong());
+        verify(projectMemberRepository, never()).findById(anyLong());
+        verify(issueRankRedisRepository, times(1)).findBoardIssueIds(mockProjectId);
+    }
+
 //    @Test
 //    @DisplayName("7.8 이슈 상태 변경 - 연결된 릴리즈가 없는 경우")
 //    void testModifyIssueLifeCycleWithoutConnectedIssue() {
@@ -351,7 +449,7 @@ class IssueServiceImplTest {
 //        when(issueRepository.findById(mockIssueId)).thenReturn(Optional.of(mockIssue));
 //
 //        // 이슈 상태 변경 서비스 호출
-//        String result = issueService.modifyIssueLifeCycle(mockIssueId, mockIndex, mockLifeCycle);
+//        String result = issueService.modifyIssueLifeCycle(mockIssueId, mockIndex, mockLifeCycle, "test@releaser.com");
 //
 //        // 결과 검증
 //        assertEquals("이슈 상태 변경이 완료되었습니다.", result);
@@ -361,6 +459,150 @@ class IssueServiceImplTest {
 //        verify(issueRepository, times(1)).save(any(Issue.class));
 //    }
 
+    @Test
+    @DisplayName("7.7 이슈별 조회 - 멤버 목록과 의견을 동시에 조회하고 멤버 목록을 재사용")
+    void testFindIssue() {
+        // 테스트를 위한 mock 이슈 조회 정보
+        Long mockIssueId = 1L;
+        String mockUserEmail = "testLeader@releaser.com";
+
+        User mockUser = mock(User.class);
+        when(mockUser.getUserId()).thenReturn(10L);
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        ProjectMember mockManager = new ProjectMember(
+                3L, 'M', 'Y', null, mockProject
+        );
+        Issue mockIssue = new Issue(
+                mockIssueId, "issueTitle", "issueContent", null, Tag.FIXED, null,
+                LifeCycle.NOT_STARTED, 'Y', 'Y', mockProject, mockManager, null, null
+        );
+        OpinionInfoResponseDTO mockMyOpinion = new OpinionInfoResponseDTO(1L, "leader", null, 1L, "my opinion");
+        OpinionInfoResponseDTO mockOtherOpinion = new OpinionInfoResponseDTO(2L, "member", null, 2L, "other opinion");
+
+        // 이슈, 사용자, 프로젝트 멤버 목록, 이슈 의견 조회 설정 (담당자 3L은 프로젝트에서 나간 멤버)
+        when(issueRepository.findById(mockIssueId)).thenReturn(Optional.of(mockIssue));
+        when(userRepository.findOneByEmail(mockUserEmail)).thenReturn(Optional.of(mockUser));
+        when(projectRepository.getMemberList(mockProject)).thenReturn(List.of(
+                new GetMembersDataDTO(1L, 10L, "leader", null, 'L'),
+                new GetMembersDataDTO(2L, 20L, "member", null, 'M')
+        ));
+        when(issueRepository.getIssueOpinion(mockIssue)).thenReturn(List.of(mockMyOpinion, mockOtherOpinion));
+
+        // 이슈별 조회 서비스 호출
+        IssueDetailsDTO result = issueService.findIssue(mockIssueId, mockUserEmail);
+
+        // 결과 검증
+        assertEquals('Y', result.getPmCheck());
+        assertEquals('N', mockIssue.getEdit());
+        assertEquals(0L, result.getIssueDetails().getManager());
+        assertEquals(2, result.getIssueDetails().getMemberList().size());
+        assertEquals('Y', mockMyOpinion.getDeleteYN());
+        assertEquals('N', mockOtherOpinion.getDeleteYN());
+
+        // 멤버 정보와 담당자 존재 여부를 멤버 목록에서 확인하여 따로 조회하지 않는지 확인
+        verifyNoInteractions(projectMemberRepository);
+        verify(projectRepository, times(1)).getMemberList(mockProject);
+    }
+
+    @Test
+    @DisplayName("7.7 이슈별 조회 - 프로젝트 멤버가 아닌 경우 예외 발생")
+    void testFindIssueByNonMember() {
+        // 테스트를 위한 mock 이슈 조회 정보
+        Long mockIssueId = 1L;
+        String mockUserEmail = "outsider@releaser.com";
+
+        User mockUser = mock(User.class);
+        when(mockUser.getUserId()).thenReturn(30L);
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        Issue mockIssue = new Issue(
+                mockIssueId, "issueTitle", "issueContent", null, Tag.FIXED, null,
+                LifeCycle.NOT_STARTED, 'Y', 'Y', mockProject, null, null, null
+        );
+
+        // 이슈, 사용자, 프로젝트 멤버 목록 조회 설정
+        when(issueRepository.findById(mockIssueId)).thenReturn(Optional.of(mockIssue));
+        when(userRepository.findOneByEmail(mockUserEmail)).thenReturn(Optional.of(mockUser));
+        when(projectRepository.getMemberList(mockProject)).thenReturn(List.of(
+                new GetMembersDataDTO(1L, 10L, "leader", null, 'L')
+        ));
+        when(issueRepository.getIssueOpinion(mockIssue)).thenReturn(List.of());
+
+        // 이슈별 조회 서비스 호출 시 예외 발생
+        CustomException exception = assertThrows(CustomException.class, () -> issueService.findIssue(mockIssueId, mockUserEmail));
+
+        // 예외 상태 검증 및 edit 상태가 바뀌지 않았는지 확인
+        assertEquals(NOT_EXISTS_PROJECT_MEMBER, exception.getExceptionStatus());
+        assertEquals('Y', mockIssue.getEdit());
+    }
+
+    @Test
+    @DisplayName("7.8 이슈 상태 변경 - 옮긴 이슈의 순서만 변경")
+    void testModifyIssueLifeCycleMovesOnlyTargetIssue() {
+        // 테스트를 위한 mock 이슈 상태 변경 정보
+        Long mockIssueId = 1L;
+        String mockLifeCycle = "in_progress";
+        int mockIndex = 1;
+
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        Issue mockIssue = new Issue(
+                mockIssueId, "issueTitle", "issueContent", null, Tag.FIXED, null,
+                LifeCycle.NOT_STARTED, 'N', 'Y', mockProject, null, null, null
+        );
+
+        // issueRepository.findById() 메서드가 mockIssue를 반환하도록 설정
+        when(issueRepository.findById(mockIssueId)).thenReturn(Optional.of(mockIssue));
+
+        // 이슈 상태 변경 서비스 호출
+        String result = issueService.modifyIssueLifeCycle(mockIssueId, mockIndex, mockLifeCycle, "test@releaser.com");
+
+        // 결과 검증
+        assertEquals("이슈 상태 변경이 완료되었습니다.", result);
+        assertEquals(LifeCycle.IN_PROGRESS, mockIssue.getLifeCycle());
+
+        // 옮긴 이슈만 새 위치로 옮기고, 다른 이슈의 순서는 다시 저장하지 않는지 확인
+        verify(issueRankRedisRepository, times(1)).move(1L, "IN_PROGRESS", mockIssueId, mockIndex);
+        verifyNoMoreInteractions(issueRankRedisRepository);
+
+        // 상태가 바뀐 시각과 함께 상태 변경 기록에 남는지 확인
+        ArgumentCaptor<IssueTransitionDataDTO> transitionCaptor = ArgumentCaptor.forClass(IssueTransitionDataDTO.class);
+        verify(issueFlowRecorder, times(1)).record(eq(1L), transitionCaptor.capture());
+        assertEquals(LifeCycle.NOT_STARTED, transitionCaptor.getValue().getFromLifeCycle());
+        assertEquals(LifeCycle.IN_PROGRESS, transitionCaptor.getValue().getToLifeCycle());
+        assertEquals(mockIssue.getLifeCycleModifiedDate(), transitionCaptor.getValue().getTransitionedDate());
+    }
+
+    @Test
+    @DisplayName("7.8 이슈 상태 변경 - 같은 상태 안에서 순서만 바꾸는 경우 기록하지 않음")
+    void testModifyIssueLifeCycleWithinSameLifeCycle() {
+        // 테스트를 위한 mock 이슈 상태 변경 정보
+        Long mockIssueId = 1L;
+
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        Issue mockIssue = new Issue(
+                mockIssueId, "issueTitle", "issueContent", null, Tag.FIXED, null,
+                LifeCycle.IN_PROGRESS, 'N', 'Y', mockProject, null, null, null
+        );
+
+        // issueRepository.findById() 메서드가 mockIssue를 반환하도록 설정
+        when(issueRepository.findById(mockIssueId)).thenReturn(Optional.of(mockIssue));
+
+        // 이슈 상태 변경 서비스 호출
+        issueService.modifyIssueLifeCycle(mockIssueId, 3, "IN_PROGRESS", "test@releaser.com");
+
+        // 순서만 바뀌었으므로 상태가 된 시각과 흐름 통계는 그대로인지 확인
+        assertNull(mockIssue.getLifeCycleModifiedDate());
+        verify(issueRankRedisRepository, times(1)).move(1L, "IN_PROGRESS", mockIssueId, 3);
+        verifyNoInteractions(issueFlowRecorder);
+    }
+
     @Test
     @DisplayName("7.8 이슈 상태 변경 - 연결된 릴리즈가 있는 경우 예외 발생")
     void testModifyIssueLifeCycleWithConnectedIssue() {
@@ -386,13 +628,314 @@ class IssueServiceImplTest {
         String expectedExceptionMessage = String.valueOf(CONNECTED_ISSUE_EXISTS);
 
         // 이슈 상태 변경 서비스 호출
-        assertThrows(CustomException.class, () -> issueService.modifyIssueLifeCycle(mockIssueId, mockIndex, mockLifeCycle), expectedExceptionMessage);
+        assertThrows(CustomException.class, () -> issueService.modifyIssueLifeCycle(mockIssueId, mockIndex, mockLifeCycle, "test@releaser.com"), expectedExceptionMessage);
 
         // 각 메서드가 호출됐는지 확인
         verify(issueRepository, times(1)).findById(mockIssueId);
         verify(issueRepository, never()).save(any(Issue.class));
     }
 
+    @Test
+    @DisplayName("7.9 이슈 보드 변경 사항 조회 - 변경 기록에 남은 이슈만 조회")
+    void testFindIssueChanges() {
+        // 테스트를 위한 mock 보드 변경 정보 (리비전 10 이후 2번 이슈 수정, 3번 이슈 삭제)
+        Long mockProjectId = 1L;
+        Long mockSinceRevision = 10L;
+
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        IssueBoardChanges mockChanges = IssueBoardChanges.builder()
+                .revision(12L)
+                .updatedIssueIds(Set.of(2L))
+                .deletedIssueIds(Set.of(3L))
+                .orderChanged(true)
+                .build();
+        List<IssueInfoResponseDTO> mockUpdatedIssues = List.of(new IssueInfoResponseDTO(
+                2L, 2L, "issueTitle", "issueContent", null, null, null, null, "FIXED", null,
+                'N', "DONE", null, null
+        ));
+        Map<LifeCycle, List<Long>> mockBoard = new EnumMap<>(LifeCycle.class);
+        mockBoard.put(LifeCycle.NOT_STARTED, List.of(1L));
+        mockBoard.put(LifeCycle.IN_PROGRESS, List.of());
+        mockBoard.put(LifeCycle.DONE, List.of(2L));
+
+        // projectRepository.findById() 메서드가 mockProject를 반환하도록 설정
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+
+        // issueRankRedisRepository.findChangesSince() 메서드가 mockChanges를 반환하도록 설정
+        when(issueRankRedisRepository.findChangesSince(mockProjectId, mockSinceRevision)).thenReturn(Optional.of(mockChanges));
+
+        // issueRepository.getIssuesByIds() 메서드가 mockUpdatedIssues를 반환하도록 설정
+        when(issueRepository.getIssuesByIds(mockProject, Set.of(2L))).thenReturn(mockUpdatedIssues);
+
+        // issueRankRedisRepository.findBoardIssueIds() 메서드가 mockBoard를 반환하도록 설정
+        when(issueRankRedisRepository.findBoardIssueIds(mockProjectId)).thenReturn(mockBoard);
+
+        // 이슈 보드 변경 사항 조회 서비스 호출
+        IssueChangesResponseDTO result = issueService.findIssueChanges(mockProjectId, mockSinceRevision);
+
+        // 결과 검증
+        assertEquals(Long.valueOf(12), result.getRevision());
+        assertEquals('N', result.getSnapshotYN());
+        assertEquals(mockUpdatedIssues, result.getUpdatedIssues());
+        assertEquals(List.of(3L), result.getDeletedIssueIds());
+        assertEquals(List.of(2L), result.getIssueOrders().get("DONE"));
+
+        // 보드 전체를 다시 조회하지 않는지 확인
+        verify(issueRepository, never()).getIssues(any(Project.class));
+    }
+
+    @Test
+    @DisplayName("7.9 이슈 보드 변경 사항 조회 - 변경 기록보다 오래된 리비전인 경우 보드 전체 조회")
+    void testFindIssueChangesWithExpiredRevision() {
+        // 테스트를 위한 mock 보드 정보 (리비전 1 이후의 변경 기록이 남아 있지 않은 상태)
+        Long mockProjectId = 1L;
+        Long mockSinceRevision = 1L;
+
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        List<IssueInfoResponseDTO> mockIssues = List.of(new IssueInfoResponseDTO(
+                1L, 1L, "issueTitle", "issueContent", null, null, null, null, "FIXED", null,
+                'N', "NOT_STARTED", null, null
+        ));
+
+        // projectRepository.findById() 메서드가 mockProject를 반환하도록 설정
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+
+        // issueRankRedisRepository.findChangesSince() 메서드가 빈 결과를 반환하도록 설정 (변경 기록이 잘린 경우)
+        when(issueRankRedisRepository.findChangesSince(mockProjectId, mockSinceRevision)).thenReturn(Optional.empty());
+        when(issueRankRedisRepository.findRevision(mockProjectId)).thenReturn(2000L);
+
+        // issueRepository.getIssues() 메서드가 mockIssues를 반환하도록 설정
+        when(issueRepository.getIssues(mockProject)).thenReturn(mockIssues);
+        when(issueRankRedisRepository.findBoardIssueIds(mockProjectId)).thenReturn(new EnumMap<>(LifeCycle.class));
+
+        // 이슈 보드 변경 사항 조회 서비스 호출
+        IssueChangesResponseDTO result = issueService.findIssueChanges(mockProjectId, mockSinceRevision);
+
+        // 결과 검증 (보드 전체와 현재 리비전 반환)
+        assertEquals(Long.valueOf(2000), result.getRevision());
+        assertEquals('Y', result.getSnapshotYN());
+        assertEquals(mockIssues, result.getUpdatedIssues());
+        assertTrue(result.getDeletedIssueIds().isEmpty());
+
+        // 변경된 이슈만 조회하지 않고 보드 전체를 조회했는지 확인
+        verify(issueRepository, times(1)).getIssues(mockProject);
+        verify(issueRepository, never()).getIssuesByIds(any(Project.class), any());
+    }
+
+    @Test
+    @DisplayName("7.10 이슈 일괄 변경")
+    void testModifyIssues() {
+        // 테스트를 위한 mock 이슈 일괄 변경 정보
+        Long mockProjectId = 1L;
+        String mockAccessUserEmail = "test@releaser.com";
+
+        User mockAccessUser = new User(
+                "accessUser", mockAccessUserEmail, null, 'Y'
+        );
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam",
+                null, "testLink", 'Y'
+        );
+        ProjectMember mockAccessMember = new ProjectMember(
+                1L, 'M', 'Y', mockAccessUser, mockProject
+        );
+        ProjectMember mockAssignMember = new ProjectMember(
+                2L, 'L', 'Y', null, mockProject
+        );
+        IssueNum mockIssueNum = new IssueNum(
+                3L, null, mockProject, 3L
+        );
+        Issue mockMoveIssue = new Issue(
+                1L, "Issue Title", "Issue Content", null,
+                Tag.FEATURE, null, LifeCycle.NOT_STARTED, 'N', 'Y',
+                mockProject, null, null, null
+        );
+        Issue mockDeleteIssue = new Issue(
+                2L, "Issue Title", "Issue Content", null,
+                Tag.FIXED, null, LifeCycle.DONE, 'N', 'Y',
+                mockProject, null, null, mockIssueNum
+        );
+        IssueBulkRequestDTO mockReqDTO = new IssueBulkRequestDTO(List.of(
+                IssueOperationRequestDTO.builder().issueId(1L).type("MOVE").lifeCycle("IN_PROGRESS").index(0).build(),
+                IssueOperationRequestDTO.builder().issueId(1L).type("ASSIGN").memberId(2L).build(),
+                IssueOperationRequestDTO.builder().issueId(2L).type("DELETE").build()
+        ));
+
+        // 프로젝트, 접근한 유저, 프로젝트 멤버 정보 조회 설정
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+        when(userRepository.findOneByEmail(mockAccessUserEmail)).thenReturn(Optional.of(mockAccessUser));
+        when(projectMemberRepository.findByUserAndProject(mockAccessUser, mockProject)).thenReturn(Optional.of(mockAccessMember));
+
+        // 작업에 필요한 이슈와 담당자를 한 번에 조회하도록 설정
+        when(issueRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(mockMoveIssue, mockDeleteIssue));
+        when(projectMemberRepository.findAllById(Set.of(2L))).thenReturn(List.of(mockAssignMember));
+
+        // 이슈 일괄 변경 서비스 호출
+        String result = issueService.modifyIssues(mockAccessUserEmail, mockProjectId, mockReqDTO);
+
+        // 결과 검증
+        assertEquals("이슈 일괄 변경이 완료되었습니다.", result);
+        assertEquals(LifeCycle.IN_PROGRESS, mockMoveIssue.getLifeCycle());
+        assertEquals(mockAssignMember, mockMoveIssue.getMember());
+        assertEquals('Y', mockMoveIssue.getEdit());
+
+        // 이슈별로 조회하지 않고, 보드 변경과 알림은 한 번씩만 수행하는지 확인
+        verify(issueRepository, never()).findById(anyLong());
+        verify(issueNumRepository, times(1)).deleteAll(List.of(mockIssueNum));
+        verify(issueRepository, times(1)).deleteAll(Set.of(mockDeleteIssue));
+        verify(issueRankRedisRepository, times(1)).apply(eq(mockProjectId), argThat(operations -> operations.size() == 3));
+        verify(notificationEventPublisher, times(1)).notifyIssue(any());
+
+        // 상태가 바뀐 이동과 삭제만 한 번에 상태 변경 기록에 남기는지 확인
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<IssueTransitionDataDTO>> transitionsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(issueFlowRecorder, times(1)).record(eq(mockProjectId), transitionsCaptor.capture());
+        List<IssueTransitionDataDTO> transitions = transitionsCaptor.getValue();
+        assertEquals(2, transitions.size());
+        assertEquals(1L, transitions.get(0).getIssueId());
+        assertEquals(LifeCycle.IN_PROGRESS, transitions.get(0).getToLifeCycle());
+        assertEquals(2L, transitions.get(1).getIssueId());
+        assertEquals(LifeCycle.DONE, transitions.get(1).getFromLifeCycle());
+        assertNull(transitions.get(1).getToLifeCycle());
+        assertTrue(transitions.stream().allMatch(transition -> transition.getMemberId() == 1L));
+    }
+
+    @Test
+    @DisplayName("7.10 이슈 일괄 변경 - 릴리즈 노트와 연결된 이슈를 삭제하는 경우")
+    void testModifyIssuesWithConnectedRelease() {
+        // 테스트를 위한 mock 이슈 일괄 변경 정보
+        Long mockProjectId = 1L;
+        String mockAccessUserEmail = "test@releaser.com";
+
+        User mockAccessUser = new User(
+                "accessUser", mockAccessUserEmail, null, 'Y'
+        );
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam",
+                null, "testLink", 'Y'
+        );
+        ProjectMember mockAccessMember = new ProjectMember(
+                1L, 'L', 'Y', mockAccessUser, mockProject
+        );
+        ReleaseNote mockRelease = new ReleaseNote(
+                1L, "releaseTitle", "releaseDescription", null, "1.0.0", null,
+                ReleaseDeployStatus.PLANNING, mockProject, 50.0, 50.0
+        );
+        Issue mockIssue = new Issue(
+                1L, "Issue Title", "Issue Content", null,
+                Tag.FEATURE, null, LifeCycle.DONE, 'N', 'Y',
+                mockProject, null, mockRelease, null
+        );
+        IssueBulkRequestDTO mockReqDTO = new IssueBulkRequestDTO(List.of(
+                IssueOperationRequestDTO.builder().issueId(1L).type("DELETE").build()
+        ));
+
+        // 프로젝트, 접근한 유저, 프로젝트 멤버, 이슈 정보 조회 설정
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+        when(userRepository.findOneByEmail(mockAccessUserEmail)).thenReturn(Optional.of(mockAccessUser));
+        when(projectMemberRepository.findByUserAndProject(mockAccessUser, mockProject)).thenReturn(Optional.of(mockAccessMember));
+        when(issueRepository.findAllById(Set.of(1L))).thenReturn(List.of(mockIssue));
+
+        // 이슈 일괄 변경 서비스 호출 시 예외 발생
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            issueService.modifyIssues(mockAccessUserEmail, mockProjectId, mockReqDTO);
+        });
+
+        // 예외 메시지 검증 및 아무것도 삭제되거나 보드에 반영되지 않았는지 확인
+        assertEquals(CONNECTED_RELEASE_EXISTS.getErrorMessage(1L), exception.getMessage());
+        verify(issueRepository, never()).deleteAll(any());
+        verify(issueRankRedisRepository, never()).apply(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("7.10 이슈 일괄 변경 - 존재하지 않는 멤버를 담당자로 지정하는 경우")
+    void testModifyIssuesWithUnknownMember() {
+        // 테스트를 위한 mock 이슈 일괄 변경 정보
+        Long mockProjectId = 1L;
+        String mockAccessUserEmail = "test@releaser.com";
+
+        User mockAccessUser = new User(
+                "accessUser", mockAccessUserEmail, null, 'Y'
+        );
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam",
+                null, "testLink", 'Y'
+        );
+        ProjectMember mockAccessMember = new ProjectMember(
+                1L, 'L', 'Y', mockAccessUser, mockProject
+        );
+        Issue mockIssue = new Issue(
+                1L, "Issue Title", "Issue Content", null,
+                Tag.FEATURE, null, LifeCycle.IN_PROGRESS, 'N', 'Y',
+                mockProject, mockAccessMember, null, null
+        );
+        IssueBulkRequestDTO mockReqDTO = new IssueBulkRequestDTO(List.of(
+                IssueOperationRequestDTO.builder().issueId(1L).type("ASSIGN").memberId(99L).build()
+        ));
+
+        // 프로젝트, 접근한 유저, 프로젝트 멤버, 이슈 정보 조회 설정 (99번 멤버는 존재하지 않는다.)
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+        when(userRepository.findOneByEmail(mockAccessUserEmail)).thenReturn(Optional.of(mockAccessUser));
+        when(projectMemberRepository.findByUserAndProject(mockAccessUser, mockProject)).thenReturn(Optional.of(mockAccessMember));
+        when(issueRepository.findAllById(Set.of(1L))).thenReturn(List.of(mockIssue));
+        when(projectMemberRepository.findAllById(Set.of(99L))).thenReturn(List.of());
+
+        // 이슈 일괄 변경 서비스 호출 시 예외 발생
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            issueService.modifyIssues(mockAccessUserEmail, mockProjectId, mockReqDTO);
+        });
+
+        // 예외 검증 및 담당자가 해제되지 않고 보드에도 반영되지 않았는지 확인
+        assertEquals(NOT_EXISTS_PROJECT_MEMBER, exception.getExceptionStatus());
+        assertSame(mockAccessMember, mockIssue.getMember());
+        verify(issueRankRedisRepository, never()).apply(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("7.13 이슈 흐름 통계 조회 - 완료된 이슈가 없는 주는 0으로 채움")
+    void testFindIssueFlow() {
+        // 테스트를 위한 mock 이슈 흐름 통계 정보
+        Long mockProjectId = 1L;
+        LocalDate thisWeek = IssueFlowRecorder.weekStart(LocalDate.now());
+
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        IssueFlowStat mockStat = IssueFlowStat.builder()
+                .projectId(mockProjectId)
+                .notStartedCount(3).inProgressCount(2).doneCount(5)
+                .inProgressSeconds(7200).inProgressExitCount(4)
+                .build();
+
+        // 프로젝트와 미리 계산해 둔 통계를 조회하도록 설정
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+        when(issueFlowRecorder.findStat(mockProjectId)).thenReturn(mockStat);
+        when(issueFlowRecorder.findThroughput(mockProjectId, thisWeek.minusWeeks(3))).thenReturn(List.of(
+                IssueThroughput.builder().projectId(mockProjectId).weekStart(thisWeek.minusWeeks(2)).doneCount(4).build(),
+                IssueThroughput.builder().projectId(mockProjectId).weekStart(thisWeek).doneCount(1).build()
+        ));
+
+        // 이슈 흐름 통계 조회 서비스 호출
+        IssueFlowResponseDTO result = issueService.findIssueFlow(mockProjectId, 4);
+
+        // 결과 검증
+        assertEquals(3, result.getNotStartedCount());
+        assertEquals(2, result.getInProgressCount());
+        assertEquals(5, result.getDoneCount());
+        assertEquals(1800L, result.getAverageInProgressSeconds());
+        assertEquals(List.of(0L, 4L, 0L, 1L), result.getThroughput().stream()
+                .map(week -> week.getDoneCount())
+                .collect(Collectors.toList()));
+        assertEquals(thisWeek.minusWeeks(3), result.getThroughput().get(0).getWeekStart());
+
+        // 이슈나 상태 변경 기록을 집계하지 않는지 확인
+        verifyNoInteractions(issueRepository);
+    }
+
     @Test
     @DisplayName("8.1 이슈 의견 추가")
     void testAddIssueOpinion() {
@@ -0,0 +1,86 @@
+package com.momentum.releaser.domain.project.application;
+
+import com.momentum.releaser.domain.project.dao.ProjectDeletionRepository;
+import com.momentum.releaser.domain.project.domain.ProjectDeletion;
+import com.momentum.releaser.domain.project.domain.ProjectDeletionStage;
+import com.momentum.releaser.global.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProjectDeletionWorkerTest {
+
+    private ProjectDeletionWorker projectDeletionWorker;
+    private ProjectDeletionRepository projectDeletionRepository;
+
+    @BeforeEach
+    void setUp() {
+        projectDeletionRepository = mock(ProjectDeletionRepository.class);
+
+        // 단계 이동을 확인하기 위해 두 행씩 정리하도록 설정
+        AppProperties appProperties = new AppProperties();
+        appProperties.getProjectDeletion().setChunkSize(2);
+
+        projectDeletionWorker = new ProjectDeletionWorker(projectDeletionRepository, Runnable::run, appProperties,
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("3.3 프로젝트 삭제 - 하위 데이터를 단계별로 나누어 정리")
+    void testStartDeletion() {
+        Long projectId = 1L;
+
+        when(projectDeletionRepository.claim(eq(projectId), anyLong())).thenReturn(1);
+        when(projectDeletionRepository.findById(projectId)).thenReturn(Optional.of(
+                ProjectDeletion.builder().projectId(projectId).stage(ProjectDeletionStage.MEMBER).doneYN('N').build()
+        ));
+        // 멤버는 세 명이므로 두 번에 나누어 정리하고, 나머지 단계는 정리할 행이 없다.
+        when(projectDeletionRepository.inactivateMembers(projectId, 2)).thenReturn(2, 1);
+
+        projectDeletionWorker.start(projectId);
+
+        // 작업을 만든 뒤 멤버 정리는 남은 행이 chunkSize 보다 적어질 때까지 반복하는지 확인
+        InOrder inOrder = inOrder(projectDeletionRepository);
+        inOrder.verify(projectDeletionRepository).insertIfAbsent(projectId, "MEMBER");
+        inOrder.verify(projectDeletionRepository).updateProgress(projectId, "MEMBER", 2, 'N');
+        inOrder.verify(projectDeletionRepository).updateProgress(projectId, "RELEASE_OPINION", 1, 'N');
+        verify(projectDeletionRepository, times(2)).inactivateMembers(projectId, 2);
+
+        // 이슈 번호는 이슈의 연결을 끊은 뒤에 삭제하고, 마지막 단계에서 작업을 끝내는지 확인
+        inOrder.verify(projectDeletionRepository).inactivateIssues(projectId, 2);
+        inOrder.verify(projectDeletionRepository).deleteIssueNums(projectId, 2);
+        inOrder.verify(projectDeletionRepository).updateProgress(projectId, "DONE", 0, 'Y');
+    }
+
+    @Test
+    @DisplayName("3.3 프로젝트 삭제 - 중단된 작업을 기록된 단계부터 이어서 진행")
+    void testResumeStaleDeletion() {
+        when(projectDeletionRepository.findResumableProjectIds(anyLong())).thenReturn(List.of(1L, 2L));
+        when(projectDeletionRepository.claim(eq(1L), anyLong())).thenReturn(1);
+        // 2번 프로젝트는 다른 서버가 먼저 가져갔다.
+        when(projectDeletionRepository.claim(eq(2L), anyLong())).thenReturn(0);
+        when(projectDeletionRepository.findById(1L)).thenReturn(Optional.of(
+                ProjectDeletion.builder().projectId(1L).stage(ProjectDeletionStage.ISSUE).processedRows(10).doneYN('N').build()
+        ));
+
+        projectDeletionWorker.resumeStale();
+
+        // 이미 끝난 단계는 다시 실행하지 않는지 확인
+        verify(projectDeletionRepository, never()).inactivateMembers(anyLong(), anyInt());
+        verify(projectDeletionRepository, never()).deleteReleaseApprovals(anyLong(), anyInt());
+        verify(projectDeletionRepository, times(1)).inactivateIssues(1L, 2);
+        verify(projectDeletionRepository, times(1)).updateProgress(1L, "DONE", 0, 'Y');
+
+        // 가져오지 못한 작업은 진행하지 않는지 확인
+        verify(projectDeletionRepository, never()).findById(2L);
+        verify(projectDeletionRepository, never()).updateProgress(eq(2L), anyString(), anyLong(), anyChar());
+    }
+}
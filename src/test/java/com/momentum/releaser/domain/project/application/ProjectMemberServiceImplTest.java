@@ -1,12 +1,15 @@
 package com.momentum.releaser.domain.project.application;
 
 
+import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.issue.event.IssueBoardEventPublisher;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.InviteProjectMemberResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectMemberResponseDto.MembersResponseDTO;
+import com.momentum.releaser.domain.project.event.ProjectListEventPublisher;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
 import com.momentum.releaser.domain.user.dao.UserRepository;
@@ -32,6 +35,9 @@ class ProjectMemberServiceImplTest {
     private UserRepository userRepository;
     private ReleaseApprovalRepository releaseApprovalRepository;
     private ReleaseRepository releaseRepository;
+    private ProjectListEventPublisher projectListEventPublisher;
+    private IssueRepository issueRepository;
+    private IssueBoardEventPublisher issueBoardEventPublisher;
 
     @BeforeEach
     void setUp() {
@@ -40,8 +46,12 @@ class ProjectMemberServiceImplTest {
         userRepository = mock(UserRepository.class);
         releaseApprovalRepository = mock(ReleaseApprovalRepository.class);
         releaseRepository = mock(ReleaseRepository.class);
+        projectListEventPublisher = mock(ProjectListEventPublisher.class);
+        issueRepository = mock(IssueRepository.class);
+        issueBoardEventPublisher = mock(IssueBoardEventPublisher.class);
         projectMemberService = new ProjectMemberServiceImpl(
-                projectMemberRepository, projectRepository, userRepository, releaseApprovalRepository, releaseRepository);
+                projectMemberRepository, projectRepository, userRepository, releaseApprovalRepository, releaseRepository, projectListEventPublisher,
+                issueRepository, issueBoardEventPublisher);
     }
 
     @Test
@@ -143,7 +153,7 @@ class ProjectMemberServiceImplTest {
         verify(projectMemberRepository, times(1)).findByUserAndProject(mockLeaderUser, mockProject);
         verify(projectMemberRepository, never()).save(any(ProjectMember.class));
         verify(releaseRepository, never()).findAllByProject(mockProject);
-        verify(releaseApprovalRepository, never()).saveAll(anyList());
+        verify(releaseApprovalRepository, never()).saveAllByMember(any(ProjectMember.class), anyList());
     }
 
     @Test
@@ -183,7 +193,7 @@ class ProjectMemberServiceImplTest {
         verify(projectMemberRepository, times(1)).findByUserAndProject(mockUser, mockProject);
         verify(projectMemberRepository, times(1)).save(any(ProjectMember.class));
         verify(releaseRepository, times(1)).findAllByProject(mockProject);
-        verify(releaseApprovalRepository, times(1)).saveAll(anyList());
+        verify(releaseApprovalRepository, times(1)).saveAllByMember(any(ProjectMember.class), anyList());
     }
 
     @Test
@@ -219,6 +229,9 @@ class ProjectMemberServiceImplTest {
         // projectMemberRepository.findByUserAndProject() 메서드가 mockLeaderMember를 반환하도록 설정
         when(projectMemberRepository.findByUserAndProject(mockAccessUser, mockProject)).thenReturn(Optional.of(mockLeaderMember));
 
+        // issueRepository.findIssueIdsByMember() 메서드가 제거할 멤버가 담당하던 이슈 식별 번호를 반환하도록 설정
+        when(issueRepository.findIssueIdsByMember(mockMember)).thenReturn(List.of(3L, 4L));
+
         // 프로젝트 멤버 제거 서비스 호출
         String result = projectMemberService.removeProjectMember(mockMemberId, mockEmail);
 
@@ -229,8 +242,15 @@ class ProjectMemberServiceImplTest {
         verify(userRepository, times(1)).findByEmail(mockEmail);
         verify(projectMemberRepository, times(1)).findById(mockMemberId);
         verify(projectMemberRepository, times(1)).findByUserAndProject(mockAccessUser, mockProject);
+        verify(releaseApprovalRepository, times(1)).subtractTalliesByMember(mockMember);
         verify(projectMemberRepository, times(1)).deleteById(mockMember.getMemberId());
         verify(releaseApprovalRepository, times(1)).deleteByReleaseApproval();
+
+        // 제거된 멤버의 프로젝트 목록 캐시를 무효화하는지 확인
+        verify(projectListEventPublisher, times(1)).publish(argThat(event -> "remove@releaser.com".equals(event.getEmail())));
+
+        // 제거된 멤버가 담당하던 이슈를 이슈 보드 변경 기록에 남기는지 확인
+        verify(issueBoardEventPublisher, times(1)).publish(argThat(event -> List.of(3L, 4L).equals(event.getIssueIds())));
     }
 
     @Test
@@ -0,0 +1,60 @@
+package com.momentum.releaser.domain.project.application;
+
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetIssueInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetReleaseInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.SearchAllDataDTO;
+import com.momentum.releaser.global.config.AppProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectSearchRunnerTest {
+
+    @Test
+    @DisplayName("10.1 프로젝트 내 통합검색 - 대기열이 가득 차 맡기지 못한 검색은 빼고 일부 결과 반환")
+    void testSearchAllWhenQueueIsFull() {
+        // 스레드 하나에 대기열이 없으므로, 이슈 검색이 실행되는 동안 릴리즈 검색은 거절된다.
+        ThreadPoolExecutor queryExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+        ProjectSearchRunner projectSearchRunner = new ProjectSearchRunner(queryExecutor, new AppProperties());
+        AtomicBoolean releaseSearched = new AtomicBoolean(false);
+
+        try {
+            SearchAllDataDTO result = projectSearchRunner.searchAll(
+                    () -> {
+                        sleep(50);
+                        return List.of(GetIssueInfoDataDTO.builder().issueId(4L).build());
+                    },
+                    () -> {
+                        releaseSearched.set(true);
+                        return List.of(GetReleaseInfoDataDTO.builder().releaseId(5L).build());
+                    });
+
+            // 맡긴 이슈 검색 결과만 반환하고, 거절된 릴리즈 검색은 요청 스레드에서도 실행하지 않는지 확인
+            assertEquals(List.of(4L), result.getIssues().stream()
+                    .map(GetIssueInfoDataDTO::getIssueId)
+                    .collect(Collectors.toList()));
+            assertTrue(result.getReleases().isEmpty());
+            assertTrue(result.isPartial());
+            assertFalse(releaseSearched.get());
+        } finally {
+            queryExecutor.shutdownNow();
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
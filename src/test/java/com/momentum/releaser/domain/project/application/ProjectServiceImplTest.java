@@ -1,5 +1,6 @@
 package com.momentum.releaser.domain.project.application;
 
+import static com.momentum.releaser.global.config.BaseResponseStatus.INVALID_SEARCH_CURSOR;
 import static com.momentum.releaser.global.config.BaseResponseStatus.NOT_PROJECT_PM;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -9,30 +10,39 @@ import java.sql.Date;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import com.momentum.releaser.redis.RedisUtil;
 import com.momentum.releaser.redis.notification.NotificationRedisRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
+import org.mockito.InOrder;
+import com.querydsl.core.types.Predicate;
 
 import com.momentum.releaser.domain.issue.dao.IssueRepository;
+import com.momentum.releaser.domain.project.dao.ProjectDeletionRepository;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
-import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetProjectDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetIssueInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetReleaseInfoDataDTO;
+import com.momentum.releaser.domain.project.dto.ProjectDataDto.GetUserProjectDataDTO;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.FilterIssueRequestDTO;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.FilterReleaseRequestDTO;
 import com.momentum.releaser.domain.project.dto.ProjectRequestDto.ProjectInfoRequestDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.GetProjectResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectInfoResponseDTO;
 import com.momentum.releaser.domain.project.dto.ProjectResponseDto.ProjectSearchResponseDTO;
-import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
+import com.momentum.releaser.domain.project.event.ProjectListEvent;
+import com.momentum.releaser.domain.project.event.ProjectListEventPublisher;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
 import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.global.config.AppProperties;
 import com.momentum.releaser.global.config.aws.S3Upload;
 import com.momentum.releaser.global.exception.CustomException;
 import org.springframework.amqp.core.AmqpAdmin;
@@ -47,8 +57,6 @@ class ProjectServiceImplTest {
     private UserRepository userRepository;
     private IssueRepository issueRepository;
     private ReleaseRepository releaseRepository;
-    private ReleaseApprovalRepository releaseApprovalRepository;
-    private ModelMapper modelMapper;
     private S3Upload s3Upload;
 
     private RedisUtil redisUtil;
@@ -56,25 +64,37 @@ class ProjectServiceImplTest {
     private AmqpAdmin rabbitAdmin;
     private DirectExchange projectDirectExchange;
     private ConnectionFactory connectionFactory;
+    private ProjectSearchIndex projectSearchIndex;
+    private AppProperties appProperties;
+    private ProjectListCache projectListCache;
+    private ProjectListEventPublisher projectListEventPublisher;
+    private ProjectDeletionRepository projectDeletionRepository;
+    private ProjectDeletionWorker projectDeletionWorker;
 
     @BeforeEach
     void setUp() {
         projectRepository = mock(ProjectRepository.class);
         issueRepository = mock(IssueRepository.class);
         releaseRepository = mock(ReleaseRepository.class);
-        releaseApprovalRepository = mock(ReleaseApprovalRepository.class);
         projectMemberRepository = mock(ProjectMemberRepository.class);
         userRepository = mock(UserRepository.class);
-        modelMapper = new ModelMapper(); // modelMapper 초기화
         s3Upload = mock(S3Upload.class);
         redisUtil = mock(RedisUtil.class);
         notificationRedisRepository = mock(NotificationRedisRepository.class);
         rabbitAdmin = mock(AmqpAdmin.class);
         projectDirectExchange = mock(DirectExchange.class);
         connectionFactory = mock(ConnectionFactory.class);
+        projectSearchIndex = mock(ProjectSearchIndex.class);
+        appProperties = new AppProperties();
+        ProjectSearchRunner projectSearchRunner = new ProjectSearchRunner(Executors.newFixedThreadPool(2), appProperties);
+        projectListCache = new ProjectListCache(appProperties);
+        projectListEventPublisher = mock(ProjectListEventPublisher.class);
+        projectDeletionRepository = mock(ProjectDeletionRepository.class);
+        projectDeletionWorker = mock(ProjectDeletionWorker.class);
         projectService = new ProjectServiceImpl(
-                projectRepository, projectMemberRepository, userRepository, issueRepository, releaseRepository, releaseApprovalRepository, modelMapper, s3Upload,
-                redisUtil, notificationRedisRepository, rabbitAdmin, projectDirectExchange, connectionFactory);
+                projectRepository, projectMemberRepository, userRepository, issueRepository, releaseRepository, s3Upload,
+                redisUtil, notificationRedisRepository, rabbitAdmin, projectDirectExchange, connectionFactory, projectSearchIndex, projectSearchRunner,
+                projectListCache, projectListEventPublisher, projectDeletionRepository, projectDeletionWorker);
     }
 
     @Test
@@ -228,9 +248,12 @@ class ProjectServiceImplTest {
 
         // 각 메서드가 호출됐는지 확인
         verify(projectRepository, times(1)).findById(mockProjectId);
-        verify(projectRepository, times(1)).deleteById(mockProject.getProjectId());
-        verify(issueRepository, times(1)).deleteByIssueNum();
-        verify(releaseApprovalRepository, times(1)).deleteByReleaseApproval();
+        verify(projectRepository, times(1)).markInactive(mockProjectId);
+        verify(projectDeletionWorker, times(1)).start(mockProjectId);
+
+        // 하위 데이터는 삭제 작업에서 정리하므로 엔티티 삭제나 전체 테이블 정리를 하지 않는지 확인
+        verify(projectRepository, never()).deleteById(anyLong());
+        verify(issueRepository, never()).deleteByIssueNum();
     }
 
     @Test
@@ -242,56 +265,66 @@ class ProjectServiceImplTest {
         User mockUser = new User(
                 "Test User", mockUserEmail, null, 'Y'
         );
-        Project mockLeaderProject = new Project(
-                1L, "test project1Title", "test project1Content", "test project1Team",
-                null, "testLink", 'Y'
-        );
-        Project mockMemberProject = new Project(
-                2L, "test project1Title", "test project1Content", "test project1Team",
-                null, "testLink", 'Y'
+        List<GetUserProjectDataDTO> mockUserProjects = List.of(
+                new GetUserProjectDataDTO(1L, "test project1Title", "test project1Content", "test project1Team", null, 'L'),
+                new GetUserProjectDataDTO(2L, "test project2Title", "test project2Content", "test project2Team", null, 'M')
         );
-        ProjectMember mockLeaderMember = new ProjectMember(
-                1L, 'L', 'Y', mockUser, mockLeaderProject
-        );
-        ProjectMember mockMember = new ProjectMember(
-                2L, 'M', 'Y', mockUser, mockMemberProject
-        );
-
-        // 프로젝트 멤버를 담을 리스트를 빈 리스트로 초기화
-        List<ProjectMember> projectMemberList = new ArrayList<>();
-
-        // 해당 유저가 참여하고 있는 프로젝트의 리스트에 멤버 정보 담기
-        projectMemberList.add(mockLeaderMember);
-        projectMemberList.add(mockMember);
 
         // userRepository.findByEmail() 메서드가 mockUser 반환하도록 설정
         when(userRepository.findByEmail(mockUserEmail)).thenReturn(Optional.of(mockUser));
 
-        // projectMemberRepository.findByUser() 메서드가 projectMemberList를 반환하도록 설정 (해당 유저의 참여 중인 프로젝트의 멤버 정보 조회)
-        when(projectMemberRepository.findByUser(mockUser)).thenReturn(projectMemberList);
+        // projectRepository.getUserProjectList() 메서드가 해당 유저가 참여 중인 프로젝트 정보를 반환하도록 설정
+        when(projectRepository.getUserProjectList(mockUser)).thenReturn(mockUserProjects);
 
         // 프로젝트 조회 서비스 호출
         GetProjectResponseDTO result = projectService.findProjects(mockUserEmail);
 
-        // 예상되는 GetProjectResponseDTO 객체 생성
-        List<GetProjectDataDTO> expectedGetCreateProjectList = new ArrayList<>();
-        List<GetProjectDataDTO> expectedGetEnterProjectList = new ArrayList<>();
-
-        expectedGetCreateProjectList.add(modelMapper.map(mockLeaderProject, GetProjectDataDTO.class));
-        expectedGetEnterProjectList.add(modelMapper.map(mockMemberProject, GetProjectDataDTO.class));
-
-        GetProjectResponseDTO expectedResponse = GetProjectResponseDTO.builder()
-                .getCreateProjectList(expectedGetCreateProjectList)
-                .getEnterProjectList(expectedGetEnterProjectList)
-                .build();
-
-        // 예상된 결과와 실제 결과 비교
-        assertEquals(expectedResponse.getGetCreateProjectList().size(), result.getGetCreateProjectList().size());
-        assertEquals(expectedResponse.getGetEnterProjectList().size(), result.getGetEnterProjectList().size());
+        // 역할에 따라 생성한 프로젝트와 참가한 프로젝트로 나뉘는지 확인
+        assertEquals(1, result.getGetCreateProjectList().size());
+        assertEquals(1L, result.getGetCreateProjectList().get(0).getProjectId());
+        assertEquals("test project1Title", result.getGetCreateProjectList().get(0).getTitle());
+        assertEquals(1, result.getGetEnterProjectList().size());
+        assertEquals(2L, result.getGetEnterProjectList().get(0).getProjectId());
+        assertEquals("test project2Team", result.getGetEnterProjectList().get(0).getTeam());
 
         // 각 메서드가 호출됐는지 확인
         verify(userRepository, times(1)).findByEmail(mockUserEmail);
-        verify(projectMemberRepository, times(1)).findByUser(mockUser);
+        verify(projectRepository, times(1)).getUserProjectList(mockUser);
+        verify(projectMemberRepository, never()).findByUser(any());
+    }
+
+    @Test
+    @DisplayName("3.4 프로젝트 조회 - 캐시에 보관한 목록을 사용하고, 프로젝트가 바뀌면 다시 조회")
+    void testFindProjectsCached() {
+        // 테스트를 위한 mock 프로젝트 조회 정보
+        String mockUserEmail = "test@releaser.com";
+
+        User mockUser = new User(
+                "Test User", mockUserEmail, null, 'Y'
+        );
+        when(userRepository.findByEmail(mockUserEmail)).thenReturn(Optional.of(mockUser));
+        when(projectRepository.getUserProjectList(mockUser)).thenReturn(List.of(
+                new GetUserProjectDataDTO(1L, "before", "content", "team", null, 'L')
+        ), List.of(
+                new GetUserProjectDataDTO(1L, "after", "content", "team", null, 'L')
+        ));
+
+        // 두 번째 조회는 데이터베이스를 조회하지 않는지 확인
+        projectService.findProjects(mockUserEmail);
+        GetProjectResponseDTO cached = projectService.findProjects(mockUserEmail);
+        assertEquals("before", cached.getGetCreateProjectList().get(0).getTitle());
+        verify(projectRepository, times(1)).getUserProjectList(mockUser);
+
+        // 다른 프로젝트가 바뀐 경우에는 캐시를 유지하는지 확인
+        projectListCache.onProjectListEvent(ProjectListEvent.toChangeProject(2L));
+        projectService.findProjects(mockUserEmail);
+        verify(projectRepository, times(1)).getUserProjectList(mockUser);
+
+        // 사용자가 참여한 프로젝트가 바뀌면 다시 조회하는지 확인
+        projectListCache.onProjectListEvent(ProjectListEvent.toChangeProject(1L));
+        GetProjectResponseDTO reloaded = projectService.findProjects(mockUserEmail);
+        assertEquals("after", reloaded.getGetCreateProjectList().get(0).getTitle());
+        verify(projectRepository, times(2)).getUserProjectList(mockUser);
     }
 
     @Test
@@ -321,7 +354,7 @@ class ProjectServiceImplTest {
         when(projectRepository.getProjectMemberPostionPM(mockProjectId)).thenReturn(mockMember);
 
         // 검색 서비스 호출
-        ProjectSearchResponseDTO result = projectService.findProjectSearch(mockProjectId, mockFilterType, mockIssueReqDTO, null);
+        ProjectSearchResponseDTO result = projectService.findProjectSearch(mockProjectId, mockFilterType, mockIssueReqDTO, null, null, 50);
 
         // 결과가 null인지 확인
         assertNotNull(result);
@@ -330,6 +363,100 @@ class ProjectServiceImplTest {
         verify(projectRepository, times(1)).getProjectMemberPostionPM(mockProjectId);
     }
 
+    @Test
+    @DisplayName("10.1 프로젝트 내 통합검색 - 이슈 검색 결과를 색인 순위대로 정렬")
+    void testFindIssueSearchOrderedByRank() {
+        // 테스트를 위한 mock 검색 정보
+        Long mockProjectId = 1L;
+        String mockFilterType = "issue";
+
+        FilterIssueRequestDTO mockIssueReqDTO = new FilterIssueRequestDTO(
+                null, null, null,
+                null, null,
+                null, "로그인"
+        );
+        Project mockProject = new Project(
+                mockProjectId, "project Title", "project Content", "project Team", null, "testLink", 'Y'
+        );
+        ProjectMember mockMember = new ProjectMember(
+                1L, 'L', 'Y', null, mockProject
+        );
+        GetIssueInfoDataDTO mockIssue1 = GetIssueInfoDataDTO.builder()
+                .issueId(1L).title("로그인 화면 디자인 수정").tag("CHANGED").build();
+        GetIssueInfoDataDTO mockIssue3 = GetIssueInfoDataDTO.builder()
+                .issueId(3L).title("로그인 오류").tag("FIXED").build();
+
+        // projectRepository.getProjectMemberPostionPM() 메서드가 mockMember를 반환하도록 설정 (해당 프로젝트의 PM 정보 조회)
+        when(projectRepository.getProjectMemberPostionPM(mockProjectId)).thenReturn(mockMember);
+
+        // projectSearchIndex.searchIssues() 메서드가 순위대로 정렬된 이슈 식별 번호를 반환하도록 설정
+        when(projectSearchIndex.searchIssues(mockProjectId, null, "로그인")).thenReturn(List.of(3L, 1L));
+
+        // issueRepository.getSearchIssues() 메서드가 식별 번호 순서로 이슈를 반환하도록 설정
+        when(issueRepository.getSearchIssues(any(Predicate.class), isNull())).thenReturn(new ArrayList<>(List.of(mockIssue1, mockIssue3)));
+
+        // 검색 서비스 호출
+        ProjectSearchResponseDTO result = projectService.findProjectSearch(mockProjectId, mockFilterType, mockIssueReqDTO, null, null, 50);
+
+        // 색인 순위대로 정렬되었는지 확인
+        assertEquals(List.of(3L, 1L), result.getGetIssueInfoList().stream()
+                .map(GetIssueInfoDataDTO::getIssueId)
+                .collect(Collectors.toList()));
+
+        assertNull(result.getNextCursor());
+        assertEquals(2L, result.getTotalCount());
+
+        // 색인 검색 결과를 한 번의 조회로 가져오는지 확인
+        verify(projectSearchIndex, times(1)).searchIssues(mockProjectId, null, "로그인");
+        verify(issueRepository, times(1)).getSearchIssues(any(Predicate.class), isNull());
+        verify(issueRepository, never()).countSearchIssues(any());
+    }
+
+    @Test
+    @DisplayName("10.1 프로젝트 내 통합검색 - 이슈 검색 결과를 키셋 페이지로 나누어 조회")
+    void testFindIssueSearchKeysetPage() {
+        // 테스트를 위한 mock 검색 정보
+        Long mockProjectId = 1L;
+        String mockFilterType = "issue";
+
+        FilterIssueRequestDTO mockIssueReqDTO = new FilterIssueRequestDTO(
+                null, null, 1L,
+                null, null,
+                null, null
+        );
+        Project mockProject = new Project(
+                mockProjectId, "project Title", "project Content", "project Team", null, "testLink", 'Y'
+        );
+        ProjectMember mockMember = new ProjectMember(
+                1L, 'L', 'Y', null, mockProject
+        );
+
+        // PM 정보 조회와, 페이지 크기보다 한 건 더 조회한 결과 설정
+        when(projectRepository.getProjectMemberPostionPM(mockProjectId)).thenReturn(mockMember);
+        when(issueRepository.getSearchIssues(any(Predicate.class), eq(3L))).thenReturn(new ArrayList<>(List.of(
+                GetIssueInfoDataDTO.builder().issueId(4L).build(),
+                GetIssueInfoDataDTO.builder().issueId(7L).build(),
+                GetIssueInfoDataDTO.builder().issueId(9L).build()
+        )));
+        when(issueRepository.countSearchIssues(any(Predicate.class))).thenReturn(5L);
+
+        // 첫 페이지 검색 서비스 호출
+        ProjectSearchResponseDTO firstPage = projectService.findProjectSearch(mockProjectId, mockFilterType, mockIssueReqDTO, null, null, 2);
+
+        // 페이지 크기만큼 잘라내고, 마지막 이슈 식별 번호를 다음 커서로 반환하는지 확인
+        assertEquals(List.of(4L, 7L), firstPage.getGetIssueInfoList().stream()
+                .map(GetIssueInfoDataDTO::getIssueId)
+                .collect(Collectors.toList()));
+        assertEquals(7L, firstPage.getNextCursor());
+        assertEquals(5L, firstPage.getTotalCount());
+
+        // 다음 페이지 검색 서비스 호출 (전체 결과 수는 다시 세지 않는다.)
+        ProjectSearchResponseDTO nextPage = projectService.findProjectSearch(mockProjectId, mockFilterType, mockIssueReqDTO, null, 7L, 2);
+        assertNull(nextPage.getTotalCount());
+        verify(issueRepository, times(1)).countSearchIssues(any(Predicate.class));
+        verify(issueRepository, never()).findAll(any(Predicate.class));
+    }
+
     @Test
     @DisplayName("10.1 프로젝트 내 통합검색 - 릴리즈 검색")
     void testFindReleaseSearch() {
@@ -355,7 +482,7 @@ class ProjectServiceImplTest {
         when(projectRepository.getProjectMemberPostionPM(mockProjectId)).thenReturn(mockMember);
 
         // 검색 서비스 호출
-        ProjectSearchResponseDTO result = projectService.findProjectSearch(mockProjectId, mockFilterType, null, mockReleaseReqDTO);
+        ProjectSearchResponseDTO result = projectService.findProjectSearch(mockProjectId, mockFilterType, null, mockReleaseReqDTO, null, 50);
 
         // 결과가 null인지 확인
         assertNotNull(result);
@@ -364,7 +491,119 @@ class ProjectServiceImplTest {
         verify(projectRepository, times(1)).getProjectMemberPostionPM(mockProjectId);
     }
 
+    @Test
+    @DisplayName("10.1 프로젝트 내 통합검색 - 이슈와 릴리즈를 함께 검색하여 관련도 순서로 합침")
+    void testFindAllSearchMergedByRelevance() {
+        // 테스트를 위한 mock 검색 정보
+        Long mockProjectId = 1L;
+        FilterIssueRequestDTO mockIssueReqDTO = new FilterIssueRequestDTO(
+                null, null, null,
+                null, null,
+                null, "로그인"
+        );
+        FilterReleaseRequestDTO mockReleaseReqDTO = new FilterReleaseRequestDTO(
+                null, null, "로그인"
+        );
+        ProjectMember mockMember = mockSearchMember(mockProjectId);
+
+        // 색인 검색 순위와, 식별 번호 순서로 조회되는 검색 결과 설정
+        when(projectRepository.getProjectMemberPostionPM(mockProjectId)).thenReturn(mockMember);
+        when(projectSearchIndex.searchIssues(mockProjectId, null, "로그인")).thenReturn(List.of(3L, 1L));
+        when(projectSearchIndex.searchReleases(mockProjectId, "로그인")).thenReturn(List.of(5L));
+        when(issueRepository.getSearchIssues(any(Predicate.class), isNull())).thenReturn(new ArrayList<>(List.of(
+                GetIssueInfoDataDTO.builder().issueId(1L).build(),
+                GetIssueInfoDataDTO.builder().issueId(3L).build()
+        )));
+        when(releaseRepository.getSearchReleases(any(Predicate.class), isNull())).thenReturn(new ArrayList<>(List.of(
+                GetReleaseInfoDataDTO.builder().releaseId(5L).build()
+        )));
+
+        // 검색 서비스 호출
+        ProjectSearchResponseDTO result = projectService.findProjectSearch(mockProjectId, "all", mockIssueReqDTO, mockReleaseReqDTO, null, 50);
+
+        // 각 결과 안의 순위가 같으면 이슈를 먼저 두고, 릴리즈에는 PM 정보를 채우는지 확인
+        assertEquals(List.of("issue:3", "release:5", "issue:1"), result.getGetSearchResultList().stream()
+                .map(searchResult -> searchResult.getType() + ":" + searchResult.getId())
+                .collect(Collectors.toList()));
+        assertEquals(List.of(3L, 1L), result.getGetIssueInfoList().stream()
+                .map(GetIssueInfoDataDTO::getIssueId)
+                .collect(Collectors.toList()));
+        assertEquals("userName", result.getGetReleaseInfoList().get(0).getPmName());
+        assertEquals('N', result.getPartialYN());
+
+        // 요청 스레드는 검색이 모두 끝난 뒤에 PM 정보를 조회하는지 확인
+        InOrder inOrder = inOrder(releaseRepository, projectRepository);
+        inOrder.verify(releaseRepository).getSearchReleases(any(Predicate.class), isNull());
+        inOrder.verify(projectRepository).getProjectMemberPostionPM(mockProjectId);
+    }
+
+    @Test
+    @DisplayName("10.1 프로젝트 내 통합검색 - 제한 시간 안에 끝나지 않은 검색은 빼고 일부 결과 반환")
+    void testFindAllSearchPartialOnTimeout() throws InterruptedException {
+        // 테스트를 위한 mock 검색 정보
+        Long mockProjectId = 1L;
+        FilterIssueRequestDTO mockIssueReqDTO = new FilterIssueRequestDTO(
+                null, null, 1L,
+                null, null,
+                null, null
+        );
+        FilterReleaseRequestDTO mockReleaseReqDTO = new FilterReleaseRequestDTO(
+                null, null, null
+        );
+        ProjectMember mockMember = mockSearchMember(mockProjectId);
+        appProperties.getSearch().setAllTimeoutMillis(100);
+
+        // 릴리즈 검색이 제한 시간보다 오래 걸리도록 설정
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        when(projectRepository.getProjectMemberPostionPM(mockProjectId)).thenReturn(mockMember);
+        when(issueRepository.getSearchIssues(any(Predicate.class), eq(51L))).thenReturn(new ArrayList<>(List.of(
+                GetIssueInfoDataDTO.builder().issueId(4L).build()
+        )));
+        when(releaseRepository.getSearchReleases(any(Predicate.class), eq(51L))).thenAnswer(invocation -> {
+            releaseLatch.await();
+            return new ArrayList<>();
+        });
+
+        try {
+            // 검색 서비스 호출
+            ProjectSearchResponseDTO result = projectService.findProjectSearch(mockProjectId, "all", mockIssueReqDTO, mockReleaseReqDTO, null, 50);
+
+            // 끝난 이슈 검색 결과만 반환하고, 일부 결과임을 알리는지 확인
+            assertEquals(List.of(4L), result.getGetIssueInfoList().stream()
+                    .map(GetIssueInfoDataDTO::getIssueId)
+                    .collect(Collectors.toList()));
+            assertTrue(result.getGetReleaseInfoList().isEmpty());
+            assertEquals(1, result.getGetSearchResultList().size());
+            assertEquals('Y', result.getPartialYN());
+        } finally {
+            releaseLatch.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("10.1 프로젝트 내 통합검색 - 이슈와 릴리즈를 함께 검색할 때 커서 사용 불가")
+    void testFindAllSearchWithCursor() {
+        // 테스트를 위한 mock 검색 정보
+        Long mockProjectId = 1L;
+        when(projectRepository.getProjectMemberPostionPM(mockProjectId)).thenReturn(mockSearchMember(mockProjectId));
+
+        // 커서와 함께 검색 서비스 호출 시 예외가 발생하는지 확인
+        CustomException exception = assertThrows(CustomException.class, () -> projectService.findProjectSearch(mockProjectId, "all",
+                new FilterIssueRequestDTO(null, null, null, null, null, null, null), new FilterReleaseRequestDTO(null, null, null), 7L, 50));
+        assertEquals(INVALID_SEARCH_CURSOR, exception.getExceptionStatus());
+    }
 
+    private ProjectMember mockSearchMember(Long projectId) {
+        User mockUser = new User(
+                "userName", "test@releaser.com", null, 'Y'
+        );
+        Project mockProject = new Project(
+                projectId, "project Title", "project Content", "project Team", null, "testLink", 'Y'
+        );
+        return new ProjectMember(
+                1L, 'L', 'Y', mockUser, mockProject
+        );
+    }
 }
 
 
@@ -0,0 +1,50 @@
+package com.momentum.releaser.domain.release.application;
+
+import com.momentum.releaser.domain.release.dao.approval.ApprovalTallyVerificationRepository;
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.global.config.AppProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.mockito.Mockito.*;
+
+class ReleaseApprovalTallyVerifierTest {
+
+    private ReleaseRepository releaseRepository;
+    private ApprovalTallyVerificationRepository approvalTallyVerificationRepository;
+    private ReleaseApprovalTallyVerifier releaseApprovalTallyVerifier;
+
+    @BeforeEach
+    void setUp() {
+        releaseRepository = mock(ReleaseRepository.class);
+        approvalTallyVerificationRepository = mock(ApprovalTallyVerificationRepository.class);
+        releaseApprovalTallyVerifier = new ReleaseApprovalTallyVerifier(releaseRepository, approvalTallyVerificationRepository,
+                new AppProperties(), mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("배포 동의 인원 수 확인 - 이번 주기의 확인 작업을 가져온 서버만 다시 셈")
+    void testVerifyWhenClaimed() {
+        // 확인 주기(600초)가 지나 이 서버가 작업을 가져오도록 설정
+        when(approvalTallyVerificationRepository.claim(600L)).thenReturn(1);
+        when(releaseRepository.repairApprovalTallies()).thenReturn(2);
+
+        releaseApprovalTallyVerifier.verify();
+
+        verify(approvalTallyVerificationRepository, times(1)).insertIfAbsent();
+        verify(releaseRepository, times(1)).repairApprovalTallies();
+    }
+
+    @Test
+    @DisplayName("배포 동의 인원 수 확인 - 다른 서버가 이미 작업을 가져간 경우 다시 세지 않음")
+    void testVerifyWhenClaimedByOtherServer() {
+        // 이번 주기에 다른 서버가 이미 작업을 가져간 경우로 설정
+        when(approvalTallyVerificationRepository.claim(600L)).thenReturn(0);
+
+        releaseApprovalTallyVerifier.verify();
+
+        verify(releaseRepository, never()).repairApprovalTallies();
+    }
+}
@@ -5,7 +5,9 @@ import com.momentum.releaser.domain.issue.domain.Issue;
 import com.momentum.releaser.domain.issue.domain.IssueNum;
 import com.momentum.releaser.domain.issue.domain.LifeCycle;
 import com.momentum.releaser.domain.issue.domain.Tag;
+import com.momentum.releaser.domain.issue.event.IssueBoardEventPublisher;
 import com.momentum.releaser.domain.notification.event.NotificationEventPublisher;
+import com.momentum.releaser.domain.project.event.SearchIndexEventPublisher;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.dao.ProjectRepository;
 import com.momentum.releaser.domain.project.domain.Project;
@@ -13,33 +15,59 @@ import com.momentum.releaser.domain.project.domain.ProjectMember;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.release.dao.opinion.ReleaseOpinionRepository;
 import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.dao.release.ReleaseSnapshotRepository;
+import com.momentum.releaser.domain.release.dao.release.ReleaseVersionHeadRepository;
 import com.momentum.releaser.domain.release.domain.ReleaseApproval;
+import com.momentum.releaser.domain.release.domain.ReleaseApprovalTally;
 import com.momentum.releaser.domain.release.domain.ReleaseEnum;
 import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDeployStatus;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseDocsExportFormat;
 import com.momentum.releaser.domain.release.domain.ReleaseNote;
 import com.momentum.releaser.domain.release.domain.ReleaseOpinion;
+import com.momentum.releaser.domain.release.domain.ReleaseVersionHead;
+import com.momentum.releaser.domain.release.domain.SemanticVersion;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.CoordinateDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseDocsIssueDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleaseOpinionsDataDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseDataDto.ReleasesDataDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseRequestDto;
 import com.momentum.releaser.domain.release.dto.ReleaseRequestDto.ReleaseApprovalRequestDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseRequestDto.ReleaseCreateRequestDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseRequestDto.ReleaseNoteCoordinateRequestDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseRequestDto.ReleaseUpdateRequestDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseRequestDto.UpdateReleaseDocsRequestDTO;
 import com.momentum.releaser.domain.release.dto.ReleaseResponseDto;
 import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleaseCreateAndUpdateResponseDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleaseInfoResponseDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleaseOpinionsPageResponseDTO;
+import com.momentum.releaser.domain.release.dto.ReleaseResponseDto.ReleasesResponseDTO;
 import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
+import com.momentum.releaser.global.config.AppProperties;
 import com.momentum.releaser.global.exception.CustomException;
+import com.momentum.releaser.redis.RedisUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mysema.commons.lang.IteratorAdapter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.security.core.parameters.P;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.momentum.releaser.global.config.BaseResponseStatus.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,7 +83,13 @@ class ReleaseServiceImplTest {
     private ReleaseOpinionRepository releaseOpinionRepository;
     private ReleaseApprovalRepository releaseApprovalRepository;
     private IssueRepository issueRepository;
+    private ReleaseVersionHeadRepository releaseVersionHeadRepository;
     private NotificationEventPublisher notificationEventPublisher;
+    private SearchIndexEventPublisher searchIndexEventPublisher;
+    private IssueBoardEventPublisher issueBoardEventPublisher;
+    private ReleaseCoordinateBuffer releaseCoordinateBuffer;
+    private RedisUtil redisUtil;
+    private ReleaseSnapshotRepository releaseSnapshotRepository;
 
     @BeforeEach
     void setUp() {
@@ -66,9 +100,19 @@ class ReleaseServiceImplTest {
         releaseOpinionRepository = mock(ReleaseOpinionRepository.class);
         releaseApprovalRepository = mock(ReleaseApprovalRepository.class);
         issueRepository = mock(IssueRepository.class);
+        releaseVersionHeadRepository = mock(ReleaseVersionHeadRepository.class);
         notificationEventPublisher = mock(NotificationEventPublisher.class);
+        searchIndexEventPublisher = mock(SearchIndexEventPublisher.class);
+        issueBoardEventPublisher = mock(IssueBoardEventPublisher.class);
+        ReleaseVersionAllocator releaseVersionAllocator = new ReleaseVersionAllocator(releaseRepository, releaseVersionHeadRepository, mock(PlatformTransactionManager.class));
+        releaseCoordinateBuffer = new ReleaseCoordinateBuffer(releaseRepository, new AppProperties());
+        redisUtil = mock(RedisUtil.class);
+        releaseSnapshotRepository = mock(ReleaseSnapshotRepository.class);
+        ReleaseSnapshotCache releaseSnapshotCache = new ReleaseSnapshotCache(releaseSnapshotRepository, redisUtil, new ObjectMapper(), new AppProperties(), mock(PlatformTransactionManager.class));
+        ReleaseDocsExporter releaseDocsExporter = new ReleaseDocsExporter(new ObjectMapper());
         releaseService = new ReleaseServiceImpl(
-                userRepository, projectRepository, projectMemberRepository, releaseRepository, releaseOpinionRepository, releaseApprovalRepository, issueRepository, notificationEventPublisher
+                userRepository, projectRepository, projectMemberRepository, releaseRepository, releaseOpinionRepository, releaseApprovalRepository, issueRepository, releaseVersionAllocator, releaseCoordinateBuffer, releaseSnapshotCache, releaseDocsExporter, notificationEventPublisher, searchIndexEventPublisher,
+                issueBoardEventPublisher
         );
     }
 
@@ -154,6 +198,59 @@ class ReleaseServiceImplTest {
 //        verify(releaseApprovalRepository, times(mockMemberList.size())).save(any(ReleaseApproval.class));
 //    }
 
+    @Test
+    @DisplayName("5.1 프로젝트별 릴리즈 노트 목록 조회 - since 이후에 변경되거나 삭제된 릴리즈 노트만 조회")
+    void testFindReleaseNotesSince() {
+        // 테스트를 위한 mock 릴리즈 노트 목록 조회 정보
+        String mockUserEmail = "testMember@releaser.com";
+        Long mockProjectId = 1L;
+        LocalDateTime mockSince = LocalDateTime.of(2023, 8, 25, 10, 0, 0);
+
+        User mockMemberUser = new User(
+                "memberUserName", mockUserEmail, null, 'Y'
+        );
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        ProjectMember mockMember = new ProjectMember(
+                1L, 'M', 'Y', mockMemberUser, mockProject
+        );
+        ReleasesDataDTO mockRelease = ReleasesDataDTO.builder()
+                .releaseId(2L)
+                .version("1.1.0")
+                .title("release Title")
+                .deployStatus(ReleaseDeployStatus.PLANNING)
+                .coordX(50.0)
+                .coordY(50.0)
+                .approvedCount(1)
+                .deniedCount(0)
+                .pendingCount(2)
+                .build();
+
+        // projectRepository.findById() 메서드가 mockProject를 반환하도록 설정
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+
+        // userRepository.findByEmail() 메서드가 mockMemberUser를 반환하도록 설정
+        when(userRepository.findByEmail(mockUserEmail)).thenReturn(Optional.of(mockMemberUser));
+
+        // projectMemberRepository.findOneByUserAndProject() 메서드가 mockMember를 반환하도록 설정
+        when(projectMemberRepository.findOneByUserAndProject(mockMemberUser, mockProject)).thenReturn(Optional.of(mockMember));
+
+        // 조회 직전에 커밋된 변경을 놓치지 않도록 since보다 조금 이른 시각부터 조회하도록 설정
+        when(releaseRepository.findReleaseGraph(mockProjectId, mockSince.minusSeconds(5))).thenReturn(new ArrayList<>(List.of(mockRelease)));
+        when(releaseRepository.findDeletedReleaseIds(mockProjectId, mockSince.minusSeconds(5))).thenReturn(List.of(3L));
+
+        // 릴리즈 노트 목록 조회 서비스 호출
+        ReleasesResponseDTO result = releaseService.findReleaseNotes(mockUserEmail, mockProjectId, mockSince);
+
+        // 결과 검증
+        assertEquals(1, result.getReleases().size());
+        assertEquals(Integer.valueOf(2), result.getReleases().get(0).getPendingCount());
+        assertEquals(List.of(3L), result.getDeletedReleaseIds());
+        assertNotNull(result.getSyncedAt());
+        assertEquals('M', result.getMember().getPosition());
+    }
+
     @Test
     @DisplayName("5.2 릴리즈 노트 생성 - 다음 버전을 알맞게 추가한 경우")
     void testAddReleaseNote_ValidVersion() {
@@ -162,21 +259,46 @@ class ReleaseServiceImplTest {
                 1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
         );
 
-        // 릴리즈 버전들이 담길 리스트를 초기화
-        List<String> mockReleaseVersions = new ArrayList<>();
-        mockReleaseVersions.add("1.0.0");
+        // 프로젝트의 최신 버전 행이 1.0.0을 가리키도록 설정
+        ReleaseVersionHead mockHead = new ReleaseVersionHead(1L, SemanticVersion.parse("1.0.0"));
 
-        // releaseRepository.findAllVersionsByProject() 메서드가 mockReleaseVersions를 반환하도록 설정 (해당 프로젝트의 릴리즈 버전 리스트)
-        when(releaseRepository.findAllVersionsByProject(mockProject)).thenReturn(mockReleaseVersions);
+        // releaseVersionHeadRepository.findByProjectIdForUpdate() 메서드가 mockHead를 반환하도록 설정
+        when(releaseVersionHeadRepository.findByProjectIdForUpdate(1L)).thenReturn(Optional.of(mockHead));
 
         // 새로운 버전 생성 서비스 호출
         String newVersion = releaseService.createReleaseVersion(mockProject, "MAJOR");
 
-        // 테스트 결과 검증
+        // 테스트 결과 검증 (발급된 버전이 최신 버전 행에도 반영되어야 한다.)
         assertEquals("2.0.0", newVersion);
+        assertEquals("2.0.0", mockHead.getVersion().toString());
 
-        // 각 메서드가 호출 됐는지 확인
-        verify(releaseRepository, times(1)).findAllVersionsByProject(mockProject);
+        // 최신 버전 행이 있는 경우 릴리즈 노트 테이블은 조회하지 않는다.
+        verify(releaseVersionHeadRepository, times(1)).findByProjectIdForUpdate(1L);
+        verify(releaseRepository, never()).findLatestVersion(mockProject);
+    }
+
+    @Test
+    @DisplayName("5.2 릴리즈 노트 생성 - 버전을 문자열이 아닌 숫자 기준으로 올리는 경우")
+    void testAddReleaseNote_NumericVersion() {
+        // 테스트를 위한 mock 릴리즈 노트 생성 정보
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+
+        // 최신 버전 행이 비어 있어 릴리즈 노트 테이블로부터 다시 계산하는 경우로 설정
+        when(releaseVersionHeadRepository.findByProjectIdForUpdate(1L)).thenReturn(Optional.of(new ReleaseVersionHead(1L, null)));
+
+        // releaseRepository.findLatestVersion() 메서드가 10.9.0을 반환하도록 설정
+        when(releaseRepository.findLatestVersion(mockProject)).thenReturn(Optional.of(SemanticVersion.parse("10.9.0")));
+
+        // 테스트 결과 검증 (10.9.0 -> 10.10.0)
+        assertEquals("10.10.0", releaseService.createReleaseVersion(mockProject, "MINOR"));
+        assertTrue(SemanticVersion.parse("10.0.0").compareTo(SemanticVersion.parse("2.0.0")) > 0);
+
+        // 최신 버전 행은 잠그기 전에 먼저 생성한다.
+        InOrder inOrder = inOrder(releaseVersionHeadRepository);
+        inOrder.verify(releaseVersionHeadRepository).insertIfAbsent(1L);
+        inOrder.verify(releaseVersionHeadRepository).findByProjectIdForUpdate(1L);
     }
 
     @Test
@@ -393,6 +515,53 @@ class ReleaseServiceImplTest {
             releaseService.removeReleaseNote(mockUserEmail, mockReleaseId), expectedExceptionMessage);
     }
 
+    @Test
+    @DisplayName("5.4 릴리즈 노트 삭제 - 연결된 이슈를 해제하고 이슈 보드 변경 기록에 남김")
+    void testRemoveReleaseNoteWithConnectedIssues() {
+        // 테스트를 위한 mock 릴리즈 노트 삭제 정보
+        String mockLeaderUserEmail = "testLeader@releaser.com";
+        Long mockReleaseId = 1L;
+
+        User mockLeaderUser = new User(
+                "leaderUserName", mockLeaderUserEmail, null, 'Y'
+        );
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        ProjectMember mockLeaderMember = new ProjectMember(
+                1L, 'L', 'Y', mockLeaderUser, mockProject
+        );
+        ReleaseNote mockRelease = new ReleaseNote(
+                mockReleaseId, "release Title", "release Content", null,
+                "1.1.0", null, ReleaseDeployStatus.PLANNING, mockProject, 50.0, 50.0
+        );
+        Issue mockIssue = new Issue(
+                3L, "issueTitle", "issueContent", null, Tag.FIXED, null,
+                LifeCycle.DONE, 'N', 'Y', mockProject, null, mockRelease, null
+        );
+        mockRelease.getIssues().add(mockIssue);
+
+        // releaseRepository.findById() 메서드가 mockRelease를 반환하도록 설정
+        when(releaseRepository.findById(mockReleaseId)).thenReturn(Optional.of(mockRelease));
+
+        // userRepository.findByEmail() 메서드가 mockLeaderUser를 반환하도록 설정
+        when(userRepository.findByEmail(mockLeaderUserEmail)).thenReturn(Optional.of(mockLeaderUser));
+
+        // projectMemberRepository.findByUserAndProject() 메서드가 mockLeaderMember를 반환하도록 설정
+        when(projectMemberRepository.findByUserAndProject(mockLeaderUser, mockProject)).thenReturn(Optional.of(mockLeaderMember));
+
+        // releaseVersionHeadRepository.findByProjectIdForUpdate() 메서드가 최신 버전 행을 반환하도록 설정
+        when(releaseVersionHeadRepository.findByProjectIdForUpdate(1L)).thenReturn(Optional.of(new ReleaseVersionHead(1L, SemanticVersion.parse("1.1.0"))));
+
+        // 릴리즈 노트 삭제 서비스 호출
+        releaseService.removeReleaseNote(mockLeaderUserEmail, mockReleaseId);
+
+        // 연결된 이슈의 릴리즈 버전이 바뀌었음을 이슈 보드 변경 기록에 남기는지 확인
+        assertNull(mockIssue.getRelease());
+        verify(issueBoardEventPublisher, times(1)).publish(argThat(event ->
+                event.getProjectId().equals(1L) && List.of(3L).equals(event.getIssueIds())));
+    }
+
     @Test
     @DisplayName("5.4 릴리즈 노트 삭제 - 배포된 릴리즈 노트일 경우 삭제 불가능")
     void testRemoveReleaseNoteWithDeployedRelease() {
@@ -432,6 +601,55 @@ class ReleaseServiceImplTest {
 
     }
 
+    @Test
+    @DisplayName("5.5 릴리즈 노트 조회 - 배포된 릴리즈 노트는 스냅샷을 만들어 두고 다음 조회부터 의견 목록만 새로 조회")
+    void testFindDeployedReleaseNoteFromSnapshot() {
+        // 테스트를 위한 mock 릴리즈 노트 조회 정보
+        String mockUserEmail = "testMember@releaser.com";
+        Long mockReleaseId = 1L;
+
+        User mockMemberUser = new User(
+                "memberUserName", mockUserEmail, null, 'Y'
+        );
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        ProjectMember mockMember = new ProjectMember(
+                1L, 'M', 'Y', mockMemberUser, mockProject
+        );
+        ReleaseNote mockRelease = new ReleaseNote(
+                mockReleaseId, "release Title", "release Content", null,
+                "1.0.0", null, ReleaseDeployStatus.DEPLOYED, mockProject, 50.0, 50.0
+        );
+
+        // releaseRepository.findById() 메서드가 mockRelease를 반환하도록 설정
+        when(releaseRepository.findById(mockReleaseId)).thenReturn(Optional.of(mockRelease));
+
+        // projectRepository.findById() 메서드가 mockProject를 반환하도록 설정
+        when(projectRepository.findById(mockProject.getProjectId())).thenReturn(Optional.of(mockProject));
+
+        // userRepository.findByEmail() 메서드가 mockMemberUser를 반환하도록 설정
+        when(userRepository.findByEmail(mockUserEmail)).thenReturn(Optional.of(mockMemberUser));
+
+        // projectMemberRepository.findByUserAndProject() 메서드가 mockMember를 반환하도록 설정
+        when(projectMemberRepository.findByUserAndProject(mockMemberUser, mockProject)).thenReturn(Optional.of(mockMember));
+
+        // 같은 릴리즈 노트를 두 번 조회
+        ReleaseInfoResponseDTO first = releaseService.findReleaseNote(mockUserEmail, mockReleaseId);
+        ReleaseInfoResponseDTO second = releaseService.findReleaseNote(mockUserEmail, mockReleaseId);
+
+        // 결과 검증 (두 번째 조회는 릴리즈 노트를 다시 불러오지 않고 스냅샷을 사용한다.)
+        assertEquals(first.getTitle(), second.getTitle());
+        assertEquals("DEPLOYED", second.getDeployStatus());
+        assertNotNull(second.getOpinions());
+        verify(releaseRepository, times(1)).findById(mockReleaseId);
+        verify(releaseOpinionRepository, times(2)).getDtosByReleaseNote(any());
+        verify(redisUtil, times(1)).setDataExpire(eq("release:snapshot:1"), anyString(), eq(604800L));
+
+        // 스냅샷은 데이터베이스에 고정되는지 확인
+        verify(releaseSnapshotRepository, times(1)).insertIfAbsent(eq(mockReleaseId), anyString());
+    }
+
     @Test
     @DisplayName("5.6 릴리즈 노트 배포 동의 여부 선택 - 프로젝트 멤버가 아닌 경우")
     void testModifyReleaseApprovalWithoutMember() {
@@ -509,6 +727,94 @@ class ReleaseServiceImplTest {
             releaseService.modifyReleaseApproval(mockMemberUserEmail, mockReleaseId, mockReqDTO), expectedExceptionMessage);
     }
 
+    @Test
+    @DisplayName("5.6 릴리즈 노트 배포 동의 여부 선택 - 대기 중인 멤버가 있으면 PM이 동의해도 배포 불가능")
+    void testModifyReleaseApprovalWithPendingMember() {
+        // 테스트를 위한 Mock 릴리즈 노트 배포 동의 여부 선택 정보
+        String mockLeaderUserEmail = "testLeader@releaser.com";
+        Long mockReleaseId = 1L;
+
+        User mockLeaderUser = new User(
+                "leaderUserName", mockLeaderUserEmail, null, 'Y'
+        );
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        ProjectMember mockLeaderMember = new ProjectMember(
+                1L, 'L', 'Y', mockLeaderUser, mockProject
+        );
+        ReleaseNote mockRelease = new ReleaseNote(
+                mockReleaseId, "release Title", "release Content", null,
+                "1.0.0", null, ReleaseDeployStatus.PLANNING, mockProject, 50.0, 50.0
+        );
+        ReleaseApproval mockApproval = new ReleaseApproval(mockLeaderMember, mockRelease);
+        mockApproval.updateApproval('P');
+        ReleaseApprovalRequestDTO mockReqDTO = new ReleaseApprovalRequestDTO(
+                "Y"
+        );
+
+        // releaseRepository.findById() 메서드가 mockRelease를 반환하도록 설정
+        when(releaseRepository.findById(mockReleaseId)).thenReturn(Optional.of(mockRelease));
+
+        // userRepository.findByEmail() 메서드가 mockLeaderUser를 반환하도록 설정
+        when(userRepository.findByEmail(mockLeaderUserEmail)).thenReturn(Optional.of(mockLeaderUser));
+
+        // projectMemberRepository.findByUserAndProject() 메서드가 mockLeaderMember를 반환하도록 설정
+        when(projectMemberRepository.findByUserAndProject(mockLeaderUser, mockProject)).thenReturn(Optional.of(mockLeaderMember));
+
+        // releaseApprovalRepository.findByMemberAndReleaseForUpdate() 메서드가 mockApproval을 반환하도록 설정
+        when(releaseApprovalRepository.findByMemberAndReleaseForUpdate(mockLeaderMember, mockRelease)).thenReturn(Optional.of(mockApproval));
+
+        // releaseRepository.findApprovalTally() 메서드가 대기 중인 멤버 한 명이 남은 인원 수를 반환하도록 설정
+        when(releaseRepository.findApprovalTally(mockReleaseId)).thenReturn(ReleaseApprovalTally.of(1, 0, 1));
+
+        // 예외 메시지 검증용
+        String expectedExceptionMessage = String.valueOf(EXISTS_DISAPPROVED_MEMBER);
+
+        // 테스트 실행 및 예외 검증 (아직 동의하지 않은 멤버가 있는 경우)
+        assertThrows(CustomException.class, () ->
+            releaseService.modifyReleaseApproval(mockLeaderUserEmail, mockReleaseId, mockReqDTO), expectedExceptionMessage);
+
+        // 대기(P) -> 동의(Y)로 바뀐 만큼만 인원 수를 맞추고, 동의 정보 전체를 다시 읽지 않는지 확인
+        verify(releaseRepository, times(1)).updateApprovalTally(mockReleaseId, 1, 0, -1);
+        verify(releaseApprovalRepository, never()).findAllByRelease(mockRelease);
+    }
+
+    @Test
+    @DisplayName("5.7 릴리즈 노트 그래프 좌표 추가 - 같은 릴리즈 노트의 좌표는 마지막 값만 한 번에 반영")
+    void testModifyReleaseCoordinate_Coalescing() {
+        // 테스트를 위한 mock 릴리즈 노트 좌표 정보 (1번 릴리즈 노트를 두 번 드래그한 경우)
+        Long mockProjectId = 1L;
+        ReleaseNoteCoordinateRequestDTO mockFirstDrag = new ReleaseNoteCoordinateRequestDTO(List.of(
+                new CoordinateDataDTO(1L, 10.0, 10.0),
+                new CoordinateDataDTO(2L, 20.0, 20.0)
+        ));
+        ReleaseNoteCoordinateRequestDTO mockSecondDrag = new ReleaseNoteCoordinateRequestDTO(List.of(
+                new CoordinateDataDTO(1L, 15.0, 30.0)
+        ));
+
+        // releaseRepository.findProjectIdsByReleaseIds() 메서드가 릴리즈 노트별 프로젝트 식별 번호를 반환하도록 설정
+        when(releaseRepository.findProjectIdsByReleaseIds(anyCollection())).thenReturn(Map.of(1L, mockProjectId, 2L, mockProjectId));
+        when(releaseRepository.findProjectIdsByReleaseIds(Set.of(1L))).thenReturn(Map.of(1L, mockProjectId));
+
+        // 릴리즈 노트 그래프 좌표 추가 서비스 호출
+        releaseService.modifyReleaseCoordinate(mockFirstDrag);
+        releaseService.modifyReleaseCoordinate(mockSecondDrag);
+
+        // 데이터베이스에 반영되기 전에도 마지막 좌표를 읽을 수 있는지 확인
+        assertEquals(15.0, releaseCoordinateBuffer.find(1L).orElseThrow().getCoordX());
+        assertEquals(30.0, releaseCoordinateBuffer.find(1L).orElseThrow().getCoordY());
+        verify(releaseRepository, never()).save(any(ReleaseNote.class));
+
+        // 버퍼를 반영하면 프로젝트별로 한 번만 UPDATE 하는지 확인
+        releaseCoordinateBuffer.flush();
+
+        verify(releaseRepository, times(1)).updateCoordinates(eq(mockProjectId), argThat(coordinates -> coordinates.size() == 2));
+        assertEquals(0, releaseCoordinateBuffer.getPendingCount());
+        assertEquals(3, releaseCoordinateBuffer.getReceivedCount());
+        assertEquals(2, releaseCoordinateBuffer.getFlushedCount());
+    }
+
     @Test
     @DisplayName("6.2 릴리즈 노트 의견 삭제 - 해당 의견 작성자가 아닌 경우 예외 발생")
     void testRemoveReleaseOpinionWithoutCommenter() {
@@ -553,7 +859,44 @@ class ReleaseServiceImplTest {
 
         // 테스트 실행 및 예외 검증 (해당 의견 작성자 아닐 경우 예외 발생)
         assertThrows(CustomException.class, () ->
-            releaseService.removeReleaseOpinion(mockUserEmail, mockOpinionId), expectedExceptionMessage);
+            releaseService.removeReleaseOpinion(mockUserEmail, mockOpinionId, null, 20), expectedExceptionMessage);
+    }
+
+    @Test
+    @DisplayName("6.3 릴리즈 노트 의견 목록 조회 - 다음 페이지가 있으면 마지막 의견 식별 번호를 커서로 반환")
+    void testFindReleaseOpinionsWithNextCursor() {
+        // 테스트를 위한 mock 릴리즈 노트 의견 목록 조회 정보
+        Long mockReleaseId = 1L;
+        Long mockCursor = 10L;
+        int mockSize = 2;
+
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+        ReleaseNote mockRelease = new ReleaseNote(
+                mockReleaseId, "release Title", "release Content", null,
+                "1.0.0", null, ReleaseDeployStatus.PLANNING, mockProject, 50.0, 50.0
+        );
+        List<ReleaseOpinionsDataDTO> mockOpinions = new ArrayList<>(List.of(
+                new ReleaseOpinionsDataDTO(9L, "opinion9", 1L, "memberName", null),
+                new ReleaseOpinionsDataDTO(7L, "opinion7", 2L, "memberName", null),
+                new ReleaseOpinionsDataDTO(4L, "opinion4", 1L, "memberName", null)
+        ));
+
+        // releaseRepository.findById() 메서드가 mockRelease를 반환하도록 설정
+        when(releaseRepository.findById(mockReleaseId)).thenReturn(Optional.of(mockRelease));
+
+        // releaseOpinionRepository.getDtosByReleaseIdBefore() 메서드가 페이지 크기보다 하나 더 많은 의견을 반환하도록 설정
+        when(releaseOpinionRepository.getDtosByReleaseIdBefore(mockReleaseId, mockCursor, mockSize + 1)).thenReturn(mockOpinions);
+
+        // 릴리즈 노트 의견 목록 조회 서비스 호출
+        ReleaseOpinionsPageResponseDTO result = releaseService.findReleaseOpinions(mockReleaseId, mockCursor, mockSize);
+
+        // 결과 검증
+        assertEquals(2, result.getOpinions().size());
+        assertEquals(9L, result.getOpinions().get(0).getOpinionId());
+        assertEquals(7L, result.getNextCursor());
+        verify(releaseOpinionRepository, never()).findAllByRelease(any(ReleaseNote.class));
     }
 
     @Test
@@ -565,56 +908,85 @@ class ReleaseServiceImplTest {
         Project mockProject = new Project(
                 mockProjectId, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
         );
-        // 릴리즈 노트 리스트 초기화
-        List<ReleaseNote> releaseNoteList = new ArrayList<>();
-        ReleaseNote mockRelease1 = new ReleaseNote(
-                1L, "release Title", "release Content", null,
-                "1.0.0", null, ReleaseDeployStatus.DEPLOYED, mockProject, 50.0, 50.0
-        );
-        ReleaseNote mockRelease2 = new ReleaseNote(
-                2L, "release Title", "release Content", null,
-                "2.0.0", null, ReleaseDeployStatus.DEPLOYED, mockProject, 50.0, 50.0
-        );
-        // 리스트에 릴리즈 추가
-        releaseNoteList.add(mockRelease1);
-        releaseNoteList.add(mockRelease2);
-        // 이슈 리스트 초기화
-        List<Issue> issueList = new ArrayList<>();
-        Issue mockIssueNew = new Issue(
-                1L, "Test Issue Title", "Test Issue Content", null,
-                Tag.NEW, Date.valueOf("2023-08-02"), LifeCycle.DONE, 'N', 'Y',
-                mockProject, null, mockRelease1, null
-        );
-        Issue mockIssueFeature = new Issue(
-                2L, "Test Issue Title", "Test Issue Content", null,
-                Tag.FEATURE, Date.valueOf("2023-08-02"), LifeCycle.DONE, 'N', 'Y',
-                mockProject, null, mockRelease2, null
-        );
-        // 리스트에 이슈 추가
-        issueList.add(mockIssueNew);
-        issueList.add(mockIssueFeature);
+        // 릴리즈 노트와 연결된 이슈 조회 결과 초기화 (버전 기준 내림차순으로 정렬된 상태)
+        List<ReleaseDocsIssueDataDTO> releaseDocsIssueList = new ArrayList<>();
+        releaseDocsIssueList.add(new ReleaseDocsIssueDataDTO(
+                2L, "10.0.0", "release Title", "release Content", 3L, "Test Issue Title", null, Tag.FEATURE
+        ));
+        releaseDocsIssueList.add(new ReleaseDocsIssueDataDTO(
+                2L, "10.0.0", "release Title", "release Content", 4L, "Test Issue Title", null, Tag.NEW
+        ));
+        releaseDocsIssueList.add(new ReleaseDocsIssueDataDTO(
+                1L, "2.0.0", "release Title", "release Content", 1L, "Test Issue Title", null, Tag.NEW
+        ));
+        releaseDocsIssueList.add(new ReleaseDocsIssueDataDTO(
+                3L, "1.0.0", "release Title", "release Content", null, null, null, null
+        ));
 
         // projectRepository.findById() 메서드가 mockProject를 반환하도록 설정
         when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
 
-        // releaseRepository.findAllByProject() 메서드가 releaseNoteList를 반환하도록 설정 (해당 프로젝트에 관련한 릴리즈 노트 정보 리스트 조회)
-        when(releaseRepository.findAllByProject(mockProject)).thenReturn(releaseNoteList);
-
-        // issueRepository.findByRelease() 메서드가 issueList를 반환하도록 설정 (해당 릴리즈 노트와 연결된 이슈 리스트 조회)
-        when(issueRepository.findByRelease(any(ReleaseNote.class))).thenReturn(issueList);
+        // releaseRepository.getReleaseDocs() 메서드가 releaseDocsIssueList를 반환하도록 설정 (해당 프로젝트의 릴리즈 노트와 연결된 이슈 목록 조회)
+        when(releaseRepository.getReleaseDocs(mockProject)).thenReturn(releaseDocsIssueList);
 
         // 릴리즈 노트 보고서 조회 서비스 호출
         List<ReleaseResponseDto.ReleaseDocsResponseDTO> result = releaseService.findReleaseDocs(mockProjectId);
 
-        // 결과 검증
+        // 결과 검증 (조회 순서대로 릴리즈를 묶고, 태그는 Tag 정의 순서로 정렬)
         assertNotNull(result);
+        assertEquals(3, result.size());
+        assertEquals("10.0.0", result.get(0).getReleaseVersion());
         assertEquals("NEW", result.get(0).getTagsList().get(0).getTag());
         assertEquals("FEATURE", result.get(0).getTagsList().get(1).getTag());
+        assertEquals("2.0.0", result.get(1).getReleaseVersion());
+        assertTrue(result.get(2).getTagsList().isEmpty());
 
-        // 각 메서드 호출됐는지 확인
+        // 릴리즈 보고서 조회는 쿼리 한 번으로 끝나야 한다. (릴리즈별 이슈 조회 N+1 방지)
         verify(projectRepository, times(1)).findById(mockProjectId);
-        verify(releaseRepository, times(1)).findAllByProject(mockProject);
-        verify(issueRepository, times(2)).findByRelease(any(ReleaseNote.class));
+        verify(releaseRepository, times(1)).getReleaseDocs(mockProject);
+        verify(releaseRepository, never()).findAllByProject(any(Project.class));
+        verifyNoInteractions(issueRepository);
+    }
+
+    @Test
+    @DisplayName("9.3 프로젝트별 릴리즈 보고서 내보내기 - CSV 형식으로 이어받기")
+    void testExportReleaseDocsAsCsv() throws IOException {
+        // 테스트를 위한 mock 프로젝트별 릴리즈 보고서 내보내기 정보
+        Long mockProjectId = 1L;
+
+        Project mockProject = new Project(
+                mockProjectId, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+
+        // 커서로 읽어 올 릴리즈 노트별 이슈 목록 (2.0.0 이하부터 이어받는 경우)
+        List<ReleaseDocsIssueDataDTO> releaseDocsIssueList = new ArrayList<>();
+        releaseDocsIssueList.add(new ReleaseDocsIssueDataDTO(
+                2L, "2.0.0", "release, Title", "release Content", 1L, "Issue \"A\"", "summary", Tag.NEW
+        ));
+        releaseDocsIssueList.add(new ReleaseDocsIssueDataDTO(
+                1L, "1.0.0", "release Title", "release Content", null, null, null, null
+        ));
+
+        // projectRepository.findById() 메서드가 mockProject를 반환하도록 설정
+        when(projectRepository.findById(mockProjectId)).thenReturn(Optional.of(mockProject));
+
+        // releaseRepository.scrollReleaseDocs() 메서드가 커서를 반환하도록 설정
+        SemanticVersion fromVersion = releaseService.findReleaseDocsExportStart(mockProjectId, "version=2.0.0-");
+        when(releaseRepository.scrollReleaseDocs(mockProject, fromVersion)).thenReturn(new IteratorAdapter<>(releaseDocsIssueList.iterator()));
+
+        // 릴리즈 보고서 내보내기 서비스 호출
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        releaseService.exportReleaseDocs(mockProjectId, ReleaseDocsExportFormat.CSV, fromVersion, outputStream);
+
+        // 결과 검증 (쉼표, 따옴표가 포함된 값은 따옴표로 감싸고, 이슈가 없는 릴리즈도 한 줄로 출력)
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("2.0.0", fromVersion.toString());
+        assertEquals(3, lines.length);
+        assertEquals("2,2.0.0,\"release, Title\",NEW,1,\"Issue \"\"A\"\"\",summary", lines[1]);
+        assertEquals("1,1.0.0,release Title,,,,", lines[2]);
+
+        // 잘못된 Range 헤더는 예외 발생
+        assertThrows(CustomException.class, () -> releaseService.findReleaseDocsExportStart(mockProjectId, "bytes=0-"));
     }
 
     @Test
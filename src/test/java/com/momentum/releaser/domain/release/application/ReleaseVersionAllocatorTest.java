@@ -0,0 +1,101 @@
+package com.momentum.releaser.domain.release.application;
+
+import com.momentum.releaser.domain.project.domain.Project;
+import com.momentum.releaser.domain.release.dao.release.ReleaseRepository;
+import com.momentum.releaser.domain.release.dao.release.ReleaseVersionHeadRepository;
+import com.momentum.releaser.domain.release.domain.ReleaseEnum.ReleaseVersionType;
+import com.momentum.releaser.domain.release.domain.ReleaseVersionHead;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReleaseVersionAllocatorTest {
+
+    @Test
+    @DisplayName("5.2 릴리즈 노트 생성 - 새 프로젝트에서 처음 생성하는 요청이 동시에 들어온 경우")
+    void testAllocateConcurrentlyInNewProject() throws Exception {
+        int requestCount = 8;
+        Project mockProject = new Project(
+                1L, "projectTitle", "projectContent", "projectTeam", null, "testLink", 'Y'
+        );
+
+        ReleaseRepository releaseRepository = mock(ReleaseRepository.class);
+        ReleaseVersionHeadRepository releaseVersionHeadRepository = mock(ReleaseVersionHeadRepository.class);
+        ReleaseVersionAllocator releaseVersionAllocator = new ReleaseVersionAllocator(
+                releaseRepository, releaseVersionHeadRepository, mock(PlatformTransactionManager.class));
+
+        // 릴리즈 노트가 하나도 없는 새 프로젝트
+        when(releaseRepository.findLatestVersion(mockProject)).thenReturn(Optional.empty());
+
+        // 최신 버전 행 테이블과 행 잠금을 흉내 낸다. 없는 행을 잠그며 읽으면 갭 잠금이 걸리므로 따로 센다.
+        Map<Long, ReleaseVersionHead> heads = new ConcurrentHashMap<>();
+        ReentrantLock rowLock = new ReentrantLock();
+        AtomicInteger gapLockReads = new AtomicInteger();
+
+        when(releaseVersionHeadRepository.insertIfAbsent(anyLong())).thenAnswer(invocation -> {
+            Long projectId = invocation.getArgument(0);
+            return heads.putIfAbsent(projectId, new ReleaseVersionHead(projectId, null)) == null ? 1 : 0;
+        });
+        when(releaseVersionHeadRepository.findByProjectIdForUpdate(anyLong())).thenAnswer(invocation -> {
+            ReleaseVersionHead head = heads.get(invocation.<Long>getArgument(0));
+            if (head == null) {
+                gapLockReads.incrementAndGet();
+                return Optional.empty();
+            }
+            rowLock.lock();
+            return Optional.of(head);
+        });
+
+        // 모든 요청을 동시에 시작하고, 발급이 끝나면 트랜잭션 커밋처럼 행 잠금을 푼다.
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < requestCount; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return releaseVersionAllocator.allocate(mockProject, ReleaseVersionType.MINOR).toString();
+                    } finally {
+                        if (rowLock.isHeldByCurrentThread()) {
+                            rowLock.unlock();
+                        }
+                    }
+                }));
+            }
+            start.countDown();
+
+            Set<String> versions = ConcurrentHashMap.newKeySet();
+            for (Future<String> future : futures) {
+                versions.add(future.get(5, TimeUnit.SECONDS));
+            }
+
+            // 없는 행을 잠그며 읽지 않고, 한 행만 생성되며, 같은 버전이 두 번 발급되지 않는지 확인
+            assertEquals(0, gapLockReads.get());
+            assertEquals(1, heads.size());
+            assertEquals(Set.of("1.0.0", "1.1.0", "1.2.0", "1.3.0", "1.4.0", "1.5.0", "1.6.0", "1.7.0"), versions);
+            verify(releaseVersionHeadRepository, times(requestCount)).insertIfAbsent(1L);
+            verify(releaseVersionHeadRepository, times(requestCount)).findByProjectIdForUpdate(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
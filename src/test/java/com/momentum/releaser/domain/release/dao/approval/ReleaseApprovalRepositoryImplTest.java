@@ -0,0 +1,145 @@
+package com.momentum.releaser.domain.release.dao.approval;
+
+import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.release.domain.ReleaseNote;
+import com.momentum.releaser.global.config.AppProperties;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.*;
+
+class ReleaseApprovalRepositoryImplTest {
+
+    private static final String INSERT_PENDING_APPROVAL_SQL =
+            "INSERT INTO release_approval (member_id, release_id, approval, created_date, modified_date) VALUES (?, ?, 'P', ?, ?)";
+    private static final String ADD_PENDING_COUNT_SQL =
+            "UPDATE release_note SET pending_count = pending_count + ?, modified_date = NOW() WHERE release_id = ?";
+
+    private PreparedStatement insertStatement;
+    private PreparedStatement pendingCountStatement;
+    private ReleaseApprovalRepositoryImpl releaseApprovalRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // 배치 쓰기를 지원하는 커넥션에서, 실행하는 SQL 마다 별도의 PreparedStatement 를 반환하도록 설정
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        insertStatement = mock(PreparedStatement.class);
+        pendingCountStatement = mock(PreparedStatement.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.supportsBatchUpdates()).thenReturn(true);
+        when(connection.prepareStatement(INSERT_PENDING_APPROVAL_SQL)).thenReturn(insertStatement);
+        when(connection.prepareStatement(ADD_PENDING_COUNT_SQL)).thenReturn(pendingCountStatement);
+        when(insertStatement.getConnection()).thenReturn(connection);
+        when(pendingCountStatement.getConnection()).thenReturn(connection);
+
+        // 한 번의 배치로 두 문장씩 전송하도록 설정
+        AppProperties appProperties = new AppProperties();
+        appProperties.getJdbc().setBatchSize(2);
+
+        releaseApprovalRepository = new ReleaseApprovalRepositoryImpl(
+                mock(JPAQueryFactory.class), new JdbcTemplate(dataSource), appProperties);
+    }
+
+    @Test
+    @DisplayName("릴리즈 노트 하나에 대한 동의 정보 일괄 생성 - 배치 크기 단위로 나누어 INSERT")
+    void testSaveAllByReleaseNote() throws SQLException {
+        // 테스트를 위한 mock 릴리즈 노트와 프로젝트 멤버 5명
+        ReleaseNote mockReleaseNote = mockReleaseNote(1L);
+        List<ProjectMember> mockMembers = LongStream.rangeClosed(11, 15)
+                .mapToObj(this::mockMember)
+                .collect(Collectors.toList());
+
+        releaseApprovalRepository.saveAllByReleaseNote(mockReleaseNote, mockMembers);
+
+        // 멤버마다 (멤버 식별 번호, 릴리즈 식별 번호, 생성 시각, 수정 시각) 순서로 값을 넣는지 확인
+        InOrder inOrder = inOrder(insertStatement);
+        for (long memberId = 11; memberId <= 15; memberId++) {
+            inOrder.verify(insertStatement).setLong(1, memberId);
+            inOrder.verify(insertStatement).setLong(2, 1L);
+            inOrder.verify(insertStatement).setTimestamp(eq(3), any(Timestamp.class));
+            inOrder.verify(insertStatement).setTimestamp(eq(4), any(Timestamp.class));
+            inOrder.verify(insertStatement).addBatch();
+        }
+
+        // 5건을 2건씩 나누어 세 번의 배치로 전송하는지 확인
+        verify(insertStatement, times(5)).addBatch();
+        verify(insertStatement, times(3)).executeBatch();
+
+        // 릴리즈 노트의 대기 인원 수는 한 번의 UPDATE 로 5명 늘리는지 확인
+        verify(pendingCountStatement).setObject(1, 5);
+        verify(pendingCountStatement).setObject(2, 1L);
+        verify(pendingCountStatement, times(1)).executeUpdate();
+        verify(pendingCountStatement, never()).executeBatch();
+    }
+
+    @Test
+    @DisplayName("프로젝트 멤버 한 명에 대한 동의 정보 일괄 생성 - 배치 크기 단위로 나누어 INSERT 및 대기 인원 수 변경")
+    void testSaveAllByMember() throws SQLException {
+        // 테스트를 위한 mock 프로젝트 멤버와 릴리즈 노트 3개
+        ProjectMember mockMember = mockMember(11L);
+        List<ReleaseNote> mockReleaseNotes = LongStream.rangeClosed(1, 3)
+                .mapToObj(this::mockReleaseNote)
+                .collect(Collectors.toList());
+
+        releaseApprovalRepository.saveAllByMember(mockMember, mockReleaseNotes);
+
+        // 릴리즈 노트마다 (멤버 식별 번호, 릴리즈 식별 번호) 순서로 값을 넣고, 3건을 2건씩 두 번의 배치로 전송하는지 확인
+        InOrder insertOrder = inOrder(insertStatement);
+        for (long releaseId = 1; releaseId <= 3; releaseId++) {
+            insertOrder.verify(insertStatement).setLong(1, 11L);
+            insertOrder.verify(insertStatement).setLong(2, releaseId);
+            insertOrder.verify(insertStatement).addBatch();
+        }
+        verify(insertStatement, times(3)).addBatch();
+        verify(insertStatement, times(2)).executeBatch();
+
+        // 릴리즈 노트마다 대기 인원 수를 한 명씩 늘리고, 같은 배치 크기로 나누어 전송하는지 확인
+        InOrder pendingCountOrder = inOrder(pendingCountStatement);
+        for (long releaseId = 1; releaseId <= 3; releaseId++) {
+            pendingCountOrder.verify(pendingCountStatement).setInt(1, 1);
+            pendingCountOrder.verify(pendingCountStatement).setLong(2, releaseId);
+            pendingCountOrder.verify(pendingCountStatement).addBatch();
+        }
+        verify(pendingCountStatement, times(2)).executeBatch();
+        verify(pendingCountStatement, never()).executeUpdate();
+    }
+
+    @Test
+    @DisplayName("동의 정보 일괄 생성 - 생성할 동의 정보가 없으면 INSERT 하지 않음")
+    void testSaveAllByReleaseNoteWithoutMembers() throws SQLException {
+        releaseApprovalRepository.saveAllByReleaseNote(mockReleaseNote(1L), List.of());
+
+        verify(insertStatement, never()).addBatch();
+        verify(insertStatement, never()).executeBatch();
+    }
+
+    private ProjectMember mockMember(long memberId) {
+        ProjectMember member = mock(ProjectMember.class);
+        when(member.getMemberId()).thenReturn(memberId);
+        return member;
+    }
+
+    private ReleaseNote mockReleaseNote(long releaseId) {
+        ReleaseNote releaseNote = mock(ReleaseNote.class);
+        when(releaseNote.getReleaseId()).thenReturn(releaseId);
+        return releaseNote;
+    }
+}
@@ -10,7 +10,7 @@ import com.momentum.releaser.redis.refreshtoken.RefreshTokenRedisRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
+import org.mockito.ArgumentCaptor;
 import org.springframework.amqp.core.AmqpAdmin;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
@@ -38,7 +38,6 @@ class AuthServiceImplTest {
     private RefreshTokenRepository refreshTokenRepository;
     private AuthenticationManagerBuilder authenticationManagerBuilder;
     private JwtTokenProvider jwtTokenProvider;
-    private ModelMapper modelMapper;
     private RedisUtil redisUtil;
     private PasswordRedisRepository passwordRedisRepository;
     private RefreshTokenRedisRepository refreshTokenRedisRepository;
@@ -51,7 +50,6 @@ class AuthServiceImplTest {
     void setUp() {
         authenticationManagerBuilder = mock(AuthenticationManagerBuilder.class);
         jwtTokenProvider = mock(JwtTokenProvider.class);
-        modelMapper = mock(ModelMapper.class);
 
         passwordEncoder = mock(PasswordEncoder.class);
         userRepository = mock(UserRepository.class);
@@ -69,7 +67,6 @@ class AuthServiceImplTest {
         authService = new AuthServiceImpl(
                 authenticationManagerBuilder,
                 jwtTokenProvider,
-                modelMapper,
                 passwordEncoder,
                 userRepository,
                 authPasswordRepository,
@@ -95,15 +92,12 @@ class AuthServiceImplTest {
         AuthPassword mockPassword = new AuthPassword(
                 mockUser, "encryptedPassword", 'Y'
         );
-        UserInfoResponseDTO userResDTO = new UserInfoResponseDTO(
-                1L, "testUser", "testUser@releaser.com"
-        );
 
         // userRepository.findByEmail() 메서드가 빈 결과를 반환하도록 설정 -> 회원이 아닌 경우
         when(userRepository.findByEmail(mockReqDTO.getEmail())).thenReturn(Optional.empty());
 
         // userRepository.save() 메서드가 mock 유저를 반환하도록 설정
-        when(userRepository.save(modelMapper.map(mockReqDTO, User.class))).thenReturn(mockUser);
+        when(userRepository.save(any(User.class))).thenReturn(mockUser);
 
         // passwordEncoder.encode() 메서드가 mock 비밀번호를 반환하도록 설정
         when(passwordEncoder.encode(mockReqDTO.getPassword())).thenReturn("encryptedPassword");
@@ -111,22 +105,24 @@ class AuthServiceImplTest {
         // authPasswordRepository.save() 메서드가 mock 비밀번호 정보를 반환하도록 설정
         when(authPasswordRepository.save(any())).thenReturn(mockPassword);
 
-        // modelMapper.map() 메서드가 mock 회원 정보를 반환하도록 설정
-        when(modelMapper.map(mockUser, UserInfoResponseDTO.class)).thenReturn(userResDTO);
-
         // 회원가입 서비스 호출
         UserInfoResponseDTO result = authService.addSignUpUser(mockReqDTO);
 
         // 예상된 결과와 실제 결과 비교
-        assertEquals(userResDTO.getName(), result.getName());
-        assertEquals(userResDTO.getEmail(), result.getEmail());
+        assertEquals(mockUser.getName(), result.getName());
+        assertEquals(mockUser.getEmail(), result.getEmail());
+
+        // 요청한 이름과 이메일로 사용자를 저장하는지 확인
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository, times(1)).save(userCaptor.capture());
+        assertEquals(mockReqDTO.getName(), userCaptor.getValue().getName());
+        assertEquals(mockReqDTO.getEmail(), userCaptor.getValue().getEmail());
+        assertNull(userCaptor.getValue().getImg());
 
         // 각 메서드가 호출됐는지 확인
         verify(userRepository, times(1)).findByEmail(mockReqDTO.getEmail());
-        verify(userRepository, times(1)).save(modelMapper.map(mockReqDTO, User.class));
         verify(passwordEncoder, times(1)).encode(mockReqDTO.getPassword());
         verify(authPasswordRepository, times(1)).save(any(AuthPassword.class));
-        verify(modelMapper, times(1)).map(mockUser, UserInfoResponseDTO.class);
     }
 
 }
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import com.momentum.releaser.domain.project.dao.ProjectMemberRepository;
 import com.momentum.releaser.domain.project.domain.Project;
 import com.momentum.releaser.domain.project.domain.ProjectMember;
+import com.momentum.releaser.domain.project.event.ProjectListEventPublisher;
 import com.momentum.releaser.domain.release.dao.approval.ReleaseApprovalRepository;
 import com.momentum.releaser.domain.user.dao.UserRepository;
 import com.momentum.releaser.domain.user.domain.User;
@@ -39,7 +40,7 @@ class UserServiceImplTest {
         releaseApprovalRepository = mock(ReleaseApprovalRepository.class);
         s3Upload = mock(S3Upload.class);
         userService = new UserServiceImpl(
-                userRepository, projectMemberRepository, releaseApprovalRepository, s3Upload
+                userRepository, projectMemberRepository, releaseApprovalRepository, s3Upload, mock(ProjectListEventPublisher.class)
         );
     }
 
@@ -0,0 +1,58 @@
+package com.momentum.releaser.global.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    @Test
+    @DisplayName("한글 부분 문자열 검색 - 검색어 비율이 높은 순서로 정렬")
+    void testSearchKoreanSubstring() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "로그인 화면 디자인 수정");
+        index.put(2L, "회원가입 오류");
+        index.put(3L, "소셜 로그인");
+        index.put(4L, "로그 수집");
+
+        assertEquals(List.of(3L, 1L), index.search("로그인", 10));
+        assertEquals(List.of(4L, 3L, 1L), index.search("로그", 10));
+        assertEquals(List.of(1L), index.search("로그인 디자인", 10));
+        assertEquals(List.of(2L), index.search("오", 10));
+        assertTrue(index.search("배포", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("이어지지 않은 n-gram만 있는 문서는 제외")
+    void testSearchRequiresContiguousWord() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "ab bc");
+        index.put(2L, "abc");
+
+        assertEquals(List.of(2L), index.search("ABC", 10));
+    }
+
+    @Test
+    @DisplayName("수정, 삭제 후 검색 및 색인 재구성")
+    void testUpdateAndRemove() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 200; id++) {
+            index.put(id, "issue " + id);
+        }
+
+        index.put(7L, "renamed");
+        for (long id = 100; id <= 200; id++) {
+            index.remove(id);
+        }
+
+        assertEquals(99, index.size());
+        assertEquals(List.of(7L), index.search("renamed", 10));
+        assertFalse(index.search("issue", 200).contains(7L));
+        assertFalse(index.search("issue", 200).contains(150L));
+        assertEquals(98, index.search("issue", 200).size());
+        assertEquals(List.of(9L, 8L), index.search("issue", 2));
+    }
+}
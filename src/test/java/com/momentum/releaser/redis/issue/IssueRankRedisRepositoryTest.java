@@ -0,0 +1,129 @@
+package com.momentum.releaser.redis.issue;
+
+import com.momentum.releaser.domain.issue.domain.LifeCycle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 Redis에 여러 사용자가 동시에 이슈를 옮기는 상황을 만들어, 이동이 유실되지 않는지 확인한다. (처리량은 src/jmh 의 IssueRankBenchmark 에서 측정한다.)
+ * Redis가 필요하므로 REDIS_STRESS_TEST=true 환경 변수를 지정한 경우에만 실행한다. (REDIS_HOST, REDIS_PORT로 접속 정보 변경)
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_STRESS_TEST", matches = "true")
+class IssueRankRedisRepositoryTest {
+
+    private static final Long PROJECT_ID = -1L;
+    private static final int ISSUE_COUNT = 30;
+    private static final int THREAD_COUNT = 8;
+    private static final int MOVES_PER_THREAD = 500;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private IssueRankRedisRepository issueRankRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+        int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        issueRankRedisRepository = new IssueRankRedisRepository(redisTemplate);
+
+        deleteBoard();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteBoard();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("7.8 이슈 상태 변경 - 동시에 옮겨도 이동이 유실되지 않음")
+    void testConcurrentMoves() throws InterruptedException {
+        // 모든 이슈를 시작 전 상태에 둔다.
+        List<Long> issueIds = LongStream.rangeClosed(1, ISSUE_COUNT).boxed().collect(Collectors.toList());
+        issueRankRedisRepository.saveAll(PROJECT_ID, "NOT_STARTED", issueIds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> revisions = ConcurrentHashMap.newKeySet();
+        LifeCycle[] lifeCycles = LifeCycle.values();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int move = 0; move < MOVES_PER_THREAD; move++) {
+                    revisions.add(issueRankRedisRepository.move(PROJECT_ID,
+                            lifeCycles[random.nextInt(lifeCycles.length)].toString(),
+                            issueIds.get(random.nextInt(ISSUE_COUNT)),
+                            random.nextInt(ISSUE_COUNT)));
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        // 모든 이동이 1부터 이동 횟수까지의 리비전을 하나씩 받았고, 최종 리비전은 이동 횟수와 같다.
+        int totalMoves = THREAD_COUNT * MOVES_PER_THREAD;
+        assertEquals(LongStream.rangeClosed(1, totalMoves).boxed().collect(Collectors.toSet()), revisions);
+        assertEquals(totalMoves, issueRankRedisRepository.findRevision(PROJECT_ID));
+
+        // 모든 이슈는 정확히 하나의 상태에 한 번씩만 존재한다.
+        List<Long> boardIssueIds = new ArrayList<>();
+        for (LifeCycle lifeCycle : lifeCycles) {
+            boardIssueIds.addAll(issueRankRedisRepository.findIssueIds(PROJECT_ID, lifeCycle.toString()));
+        }
+        assertEquals(ISSUE_COUNT, boardIssueIds.size());
+        assertEquals(new HashSet<>(issueIds), new HashSet<>(boardIssueIds));
+    }
+
+    @Test
+    @DisplayName("7.8 이슈 상태 변경 - 지정한 위치로 이동")
+    void testMoveToIndex() {
+        issueRankRedisRepository.saveAll(PROJECT_ID, "NOT_STARTED", List.of(1L, 2L, 3L));
+
+        assertEquals(Long.valueOf(1), issueRankRedisRepository.move(PROJECT_ID, "NOT_STARTED", 3L, 1));
+        assertEquals(Long.valueOf(2), issueRankRedisRepository.move(PROJECT_ID, "IN_PROGRESS", 1L, 5));
+        assertEquals(Long.valueOf(3), issueRankRedisRepository.remove(PROJECT_ID, 2L));
+
+        assertEquals(List.of(3L), issueRankRedisRepository.findIssueIds(PROJECT_ID, "NOT_STARTED"));
+        assertEquals(List.of(1L), issueRankRedisRepository.findIssueIds(PROJECT_ID, "IN_PROGRESS"));
+    }
+
+    private void deleteBoard() {
+        Set<String> keys = new HashSet<>();
+        for (LifeCycle lifeCycle : LifeCycle.values()) {
+            keys.add("issue-rank:" + PROJECT_ID + ":" + lifeCycle);
+        }
+        keys.add("issue-rank:" + PROJECT_ID + ":revision");
+        keys.add("issue-rank:" + PROJECT_ID + ":changes");
+        redisTemplate.delete(keys);
+    }
+}